@@ -0,0 +1,137 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Budget-usage style range sum and the statistics totals, answered from the columnar store versus
+// the equivalent indexed SQL against an in-memory H2 database (the cheapest possible DB round trip).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarAnalyticsBenchmark {
+    private static final long USER_ID = 1L;
+    private static final int CATEGORIES = 12;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @Param({"1000", "100000"})
+    public int transactions;
+
+    private UserTransactionColumns columns;
+    private Connection connection;
+    private PreparedStatement rangeSum;
+    private PreparedStatement totals;
+    private LocalDate budgetStart;
+    private LocalDate budgetEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        int days = Math.max(transactions / 5, 30);
+        List<TransactionFactRow> rows = new ArrayList<>(transactions);
+        for (long id = 1; id <= transactions; id++) {
+            long categoryId = 1 + random.nextInt(CATEGORIES);
+            CategoryType type = categoryId == 1 ? CategoryType.INCOME : CategoryType.EXPENSE;
+            BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(100_000), 2);
+            rows.add(new TransactionFactRow(id, categoryId, type, amount, FIRST_DAY.plusDays(random.nextInt(days))));
+        }
+        rows.sort((a, b) -> a.transactionDate().compareTo(b.transactionDate()));
+        columns = UserTransactionColumns.of(rows, "EUR");
+        budgetStart = FIRST_DAY.plusDays(days / 2);
+        budgetEnd = budgetStart.plusMonths(1);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:columnar-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS transactions");
+            ddl.execute("CREATE TABLE transactions (id BIGINT PRIMARY KEY, user_id BIGINT, category_id BIGINT, "
+                + "income BOOLEAN, amount NUMERIC(12, 2), transaction_date DATE)");
+            ddl.execute("CREATE INDEX idx_transactions_user_date ON transactions (user_id, transaction_date)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO transactions VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (TransactionFactRow row : rows) {
+                insert.setLong(1, row.id());
+                insert.setLong(2, USER_ID);
+                insert.setLong(3, row.categoryId());
+                insert.setBoolean(4, row.type() == CategoryType.INCOME);
+                insert.setBigDecimal(5, row.amount());
+                insert.setDate(6, Date.valueOf(row.transactionDate()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        rangeSum = connection.prepareStatement("SELECT SUM(amount) FROM transactions "
+            + "WHERE user_id = ? AND category_id = ? AND transaction_date BETWEEN ? AND ?");
+        totals = connection.prepareStatement("SELECT income, SUM(amount), COUNT(*) FROM transactions "
+            + "WHERE user_id = ? GROUP BY income");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long budgetSpentColumnar() {
+        return columns.sumCents(2L, budgetStart, budgetEnd);
+    }
+
+    @Benchmark
+    public BigDecimal budgetSpentDatabase() throws SQLException {
+        rangeSum.setLong(1, USER_ID);
+        rangeSum.setLong(2, 2L);
+        rangeSum.setDate(3, Date.valueOf(budgetStart));
+        rangeSum.setDate(4, Date.valueOf(budgetEnd));
+        try (ResultSet rs = rangeSum.executeQuery()) {
+            rs.next();
+            return rs.getBigDecimal(1);
+        }
+    }
+
+    @Benchmark
+    public UserTransactionColumns.TypeTotals statisticsColumnar() {
+        return columns.totals();
+    }
+
+    @Benchmark
+    public long statisticsDatabase() throws SQLException {
+        totals.setLong(1, USER_ID);
+        long count = 0;
+        try (ResultSet rs = totals.executeQuery()) {
+            while (rs.next()) {
+                count += rs.getLong(3);
+            }
+        }
+        return count;
+    }
+}
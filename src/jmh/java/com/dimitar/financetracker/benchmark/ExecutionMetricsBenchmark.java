@@ -0,0 +1,72 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.config.ExecutionMetricsAspect;
+import com.dimitar.financetracker.service.query.Query;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-call cost of ExecutionMetricsAspect: a trivial Query behind a plain Spring proxy versus the same
+// proxy carrying the metrics advice against a Prometheus registry (histogram buckets included).
+// The difference between "proxied" and "metered" is the overhead every Command and Query pays.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionMetricsBenchmark {
+
+    public static class IncrementQuery implements Query<Long, Long> {
+        @Override
+        public Long execute(Long input) {
+            return input + 1;
+        }
+    }
+
+    private final Long input = 41L;
+    private Query<Long, Long> direct;
+    private Query<Long, Long> proxied;
+    private Query<Long, Long> metered;
+
+    @Setup
+    public void setUp() {
+        direct = new IncrementQuery();
+        proxied = proxy(new AspectJProxyFactory(new IncrementQuery()));
+        AspectJProxyFactory meteredFactory = new AspectJProxyFactory(new IncrementQuery());
+        meteredFactory.addAspect(new ExecutionMetricsAspect(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+        metered = proxy(meteredFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Query<Long, Long> proxy(AspectJProxyFactory factory) {
+        return (Query<Long, Long>) factory.getProxy();
+    }
+
+    @Benchmark
+    public Long direct() {
+        return direct.execute(input);
+    }
+
+    @Benchmark
+    public Long proxied() {
+        return proxied.execute(input);
+    }
+
+    @Benchmark
+    public Long metered() {
+        return metered.execute(input);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Compares two JMH JSON reports (-rf json) benchmark by benchmark, keyed by name and @Param values,
+// and exits with status 1 when any score got worse by more than the threshold percentage.
+// Throughput scores are better when higher, every other mode (avgt, sample, ss) when lower.
+//
+// Run with: ./mvnw -Pbenchmark test-compile exec:exec@jmh-diff -Djmh.baseline=baseline.json
+//           [-Djmh.result=target/jmh-result.json] [-Djmh.regressionThreshold=10]
+public final class JmhReportDiff {
+
+    private JmhReportDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhReportDiff <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            String unit = now.path("primaryMetric").path("scoreUnit").asText();
+            double score = now.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  new (%s)%n", entry.getKey(), "-", score, "-", unit);
+                continue;
+            }
+            double previous = before.path("primaryMetric").path("score").asDouble();
+            double changePercent = previous == 0 ? 0 : (score - previous) / previous * 100;
+            boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+            double worsePercent = higherIsBetter ? -changePercent : changePercent;
+            boolean regressed = worsePercent > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), previous, score, changePercent,
+                unit, regressed ? "  REGRESSION" : "");
+        }
+        for (String removed : baseline.keySet()) {
+            if (!current.containsKey(removed)) {
+                System.out.printf("%-90s %14s %14s %9s  missing from current run%n", removed, "", "-", "-");
+            }
+        }
+
+        System.out.printf("%n%d regression(s) above %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(File report) throws IOException {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(report)) {
+            byKey.put(key(run), run);
+        }
+        return byKey;
+    }
+
+    // "Benchmark.method [mode] {param=value, ...}" so parameterized runs are compared like for like.
+    private static String key(JsonNode run) {
+        Map<String, String> params = new TreeMap<>();
+        JsonNode paramsNode = run.path("params");
+        for (Iterator<Map.Entry<String, JsonNode>> it = paramsNode.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            params.put(param.getKey(), param.getValue().asText());
+        }
+        String name = run.path("benchmark").asText().replace("com.dimitar.financetracker.benchmark.", "");
+        return name + " [" + run.path("mode").asText() + "]" + (params.isEmpty() ? "" : " " + params);
+    }
+}
@@ -0,0 +1,94 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.dto.mapper.BudgetMapper;
+import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
+import com.dimitar.financetracker.dto.response.budget.BudgetSummaryResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionSummaryResponse;
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Entity to DTO mapping done for every row of every list endpoint.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+    private final BudgetMapper budgetMapper = new BudgetMapper();
+
+    private Transaction transaction;
+    private Budget budget;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).username("john").build();
+        Category category = Category.builder().id(10L).name("Groceries").type(CategoryType.EXPENSE).color("#4CAF50").build();
+        LocalDateTime now = LocalDateTime.of(2025, 11, 18, 9, 15);
+        transaction = Transaction.builder()
+            .id(1001L)
+            .user(user)
+            .category(category)
+            .amount(new BigDecimal("42.50"))
+            .description("Weekly groceries")
+            .transactionDate(LocalDate.of(2025, 11, 18))
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        budget = Budget.builder()
+            .id(301L)
+            .user(user)
+            .category(category)
+            .amount(new BigDecimal("500.00"))
+            .startDate(LocalDate.of(2025, 11, 1))
+            .endDate(LocalDate.of(2025, 11, 30))
+            .period(BudgetPeriod.MONTHLY)
+            .isActive(true)
+            .isRecurring(false)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    @Benchmark
+    public TransactionResponse transactionToResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+
+    @Benchmark
+    public TransactionSummaryResponse transactionToSummaryResponse() {
+        return transactionMapper.toSummaryResponse(transaction);
+    }
+
+    @Benchmark
+    public BudgetResponse budgetToResponse() {
+        return budgetMapper.toResponse(budget);
+    }
+
+    @Benchmark
+    public BudgetSummaryResponse budgetToSummaryResponse() {
+        return budgetMapper.toSummaryResponse(budget);
+    }
+}
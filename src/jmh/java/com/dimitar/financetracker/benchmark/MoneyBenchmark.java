@@ -0,0 +1,70 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Summing a list of amounts and deriving the budget percentage, as BigDecimal versus Money cents.
+// Run with the gc profiler (on by default in the benchmark profile) to compare gc.alloc.rate.norm.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({"1000"})
+    public int amounts;
+
+    private BigDecimal[] decimals;
+    private long[] cents;
+    private BigDecimal budgetDecimal;
+    private Money budget;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        decimals = new BigDecimal[amounts];
+        cents = new long[amounts];
+        for (int i = 0; i < amounts; i++) {
+            cents[i] = 100 + random.nextInt(100_000);
+            decimals[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+        budgetDecimal = new BigDecimal("250000.00");
+        budget = Money.of(budgetDecimal);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSumAndPercent() {
+        BigDecimal spent = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            spent = spent.add(amount);
+        }
+        return spent.multiply(ONE_HUNDRED).divide(budgetDecimal, 2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal moneySumAndPercent() {
+        long spent = 0L;
+        for (long amount : cents) {
+            spent = Money.addCents(spent, amount);
+        }
+        return Money.ofCents(spent).percentOf(budget);
+    }
+}
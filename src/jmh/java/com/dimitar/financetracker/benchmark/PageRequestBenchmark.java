@@ -0,0 +1,47 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.dto.request.PageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+// Request paging parameters to a Spring Data Pageable, done once per paged list request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageRequestBenchmark {
+    private final PageRequest descending = PageRequest.builder()
+        .page(3)
+        .size(50)
+        .sortBy("transactionDate")
+        .sortDirection("DESC")
+        .build();
+    private final PageRequest ascending = PageRequest.builder()
+        .page(0)
+        .size(20)
+        .sortBy("amount")
+        .sortDirection("asc")
+        .build();
+
+    @Benchmark
+    public Pageable toPageableDescending() {
+        return descending.toPageable();
+    }
+
+    @Benchmark
+    public Pageable toPageableAscending() {
+        return ascending.toPageable();
+    }
+}
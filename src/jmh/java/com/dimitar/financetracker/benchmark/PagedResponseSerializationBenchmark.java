@@ -0,0 +1,98 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.dto.response.PagedResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of a transactions page, configured like the application's ObjectMapper
+// (ISO dates). Writing to a null stream measures the encoding itself; writing to a byte[] adds the
+// buffer copies a servlet response would need without streaming.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagedResponseSerializationBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int rows;
+
+    private ObjectWriter writer;
+    private PagedResponse<TransactionResponse> page;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructParametricType(PagedResponse.class, TransactionResponse.class))
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TransactionResponse> content = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            content.add(TransactionResponse.builder()
+                .id((long) i + 1)
+                .userId(1L)
+                .categoryId(1L + random.nextInt(20))
+                .categoryName("Category " + random.nextInt(20))
+                .amount(BigDecimal.valueOf(100 + random.nextInt(100_000), 2))
+                .description("Transaction " + i)
+                .transactionDate(start.plusDays(random.nextInt(730)))
+                .createdAt(created.plusMinutes(i))
+                .updatedAt(created.plusMinutes(i))
+                .build());
+        }
+        page = PagedResponse.<TransactionResponse>builder()
+            .content(content)
+            .pageNumber(0)
+            .pageSize(rows)
+            .totalElements(rows)
+            .totalPages(1)
+            .first(true)
+            .last(true)
+            .empty(rows == 0)
+            .build();
+    }
+
+    @Benchmark
+    public OutputStream serializeToStream() throws IOException {
+        writer.writeValue(sink, page);
+        return sink;
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+}
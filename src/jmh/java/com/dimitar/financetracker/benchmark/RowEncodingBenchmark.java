@@ -0,0 +1,127 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
+import com.dimitar.financetracker.service.encoding.RowStreamEncoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Encoding a transaction list as the regular JSON array of TransactionResponse objects versus the
+// streamed encodings of RowStreamEncoder, all written to a null stream so only encoding is measured.
+// The payload size of each encoding is printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowEncodingBenchmark {
+    private static final List<String> FIELDS = List.of("id", "userId", "categoryId", "categoryName", "amount",
+        "description", "transactionDate", "createdAt", "updatedAt");
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private ObjectWriter jsonArrayWriter;
+    private RowStreamEncoder encoder;
+    private List<TransactionResponse> responses;
+    private List<Object[]> values;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonArrayWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TransactionResponse.class))
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        encoder = new RowStreamEncoder(objectMapper,
+            new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), 1000);
+
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 30, 15, 123_000_000);
+        responses = new ArrayList<>(rows);
+        values = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            long categoryId = 1 + random.nextInt(12);
+            TransactionResponse response = TransactionResponse.builder()
+                .id(id)
+                .userId(42L)
+                .categoryId(categoryId)
+                .categoryName("Category " + categoryId)
+                .amount(BigDecimal.valueOf(100 + random.nextInt(100_000), 2))
+                .description("Card payment #" + id)
+                .transactionDate(start.plusDays(random.nextInt(365)))
+                .createdAt(created.plusMinutes(id))
+                .updatedAt(created.plusMinutes(id))
+                .build();
+            responses.add(response);
+            values.add(new Object[]{response.getId(), response.getUserId(), response.getCategoryId(),
+                response.getCategoryName(), response.getAmount(), response.getDescription(),
+                response.getTransactionDate(), response.getCreatedAt(), response.getUpdatedAt()});
+        }
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        jsonArrayWriter.writeValue(json, responses);
+        StringBuilder sizes = new StringBuilder(String.format("%n%d rows: json array %d bytes", rows, json.size()));
+        for (RowEncoding encoding : RowEncoding.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            encoder.write(FIELDS, values.stream(), encoding, out);
+            sizes.append(String.format(", %s %d bytes", encoding.name().toLowerCase(), out.size()));
+        }
+        System.out.println(sizes);
+    }
+
+    @Benchmark
+    public void jsonArray() throws IOException {
+        jsonArrayWriter.writeValue(sink, responses);
+    }
+
+    @Benchmark
+    public void ndjson() throws IOException {
+        encoder.write(FIELDS, values.stream(), RowEncoding.NDJSON, sink);
+    }
+
+    @Benchmark
+    public void columnar() throws IOException {
+        encoder.write(FIELDS, values.stream(), RowEncoding.COLUMNAR, sink);
+    }
+
+    @Benchmark
+    public void cbor() throws IOException {
+        encoder.write(FIELDS, values.stream(), RowEncoding.CBOR, sink);
+    }
+
+    @Benchmark
+    public void smile() throws IOException {
+        encoder.write(FIELDS, values.stream(), RowEncoding.SMILE, sink);
+    }
+}
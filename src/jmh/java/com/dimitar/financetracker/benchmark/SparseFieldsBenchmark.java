@@ -0,0 +1,154 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// A transaction list read and encoded in full (categories join, nine columns, TransactionResponse)
+// versus with fields=transactionDate,amount (two columns, no join, one map per row), against an
+// in-memory H2 database. The JSON size of both payloads is printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SparseFieldsBenchmark {
+    private static final long USER_ID = 1L;
+    private static final int CATEGORIES = 12;
+
+    @Param({"50", "1000", "100000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private Connection connection;
+    private PreparedStatement full;
+    private PreparedStatement sparse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:sparse-fields-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS transactions");
+            ddl.execute("DROP TABLE IF EXISTS categories");
+            ddl.execute("CREATE TABLE categories (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+            ddl.execute("CREATE TABLE transactions (id BIGINT PRIMARY KEY, user_id BIGINT, category_id BIGINT, "
+                + "amount NUMERIC(12, 2), description VARCHAR(255), transaction_date DATE, "
+                + "created_at TIMESTAMP, updated_at TIMESTAMP)");
+            ddl.execute("CREATE INDEX idx_transactions_user_date ON transactions (user_id, transaction_date)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO categories VALUES (?, ?)")) {
+            for (long id = 1; id <= CATEGORIES; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "Category " + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate firstDay = LocalDate.of(2020, 1, 1);
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 12, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO transactions VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= rows; id++) {
+                insert.setLong(1, id);
+                insert.setLong(2, USER_ID);
+                insert.setLong(3, 1 + random.nextInt(CATEGORIES));
+                insert.setBigDecimal(4, BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+                insert.setString(5, "Card payment #" + id);
+                insert.setDate(6, Date.valueOf(firstDay.plusDays(random.nextInt(1500))));
+                insert.setTimestamp(7, Timestamp.valueOf(created.plusMinutes(id)));
+                insert.setTimestamp(8, Timestamp.valueOf(created.plusMinutes(id)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        full = connection.prepareStatement("SELECT t.id, t.user_id, t.category_id, c.name, t.amount, t.description, "
+            + "t.transaction_date, t.created_at, t.updated_at FROM transactions t JOIN categories c ON c.id = t.category_id "
+            + "WHERE t.user_id = ? ORDER BY t.transaction_date DESC");
+        sparse = connection.prepareStatement("SELECT t.transaction_date, t.amount FROM transactions t "
+            + "WHERE t.user_id = ? ORDER BY t.transaction_date DESC");
+
+        System.out.printf("%n%d rows: full payload %d bytes, fields=transactionDate,amount payload %d bytes%n",
+            rows, fullList().length, sparseList().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public byte[] fullList() throws SQLException, IOException {
+        full.setLong(1, USER_ID);
+        List<TransactionResponse> responses = new ArrayList<>();
+        try (ResultSet rs = full.executeQuery()) {
+            while (rs.next()) {
+                responses.add(TransactionResponse.builder()
+                    .id(rs.getLong(1))
+                    .userId(rs.getLong(2))
+                    .categoryId(rs.getLong(3))
+                    .categoryName(rs.getString(4))
+                    .amount(rs.getBigDecimal(5))
+                    .description(rs.getString(6))
+                    .transactionDate(rs.getObject(7, LocalDate.class))
+                    .createdAt(rs.getObject(8, LocalDateTime.class))
+                    .updatedAt(rs.getObject(9, LocalDateTime.class))
+                    .build());
+            }
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] sparseList() throws SQLException, IOException {
+        sparse.setLong(1, USER_ID);
+        List<Map<String, Object>> responses = new ArrayList<>();
+        try (ResultSet rs = sparse.executeQuery()) {
+            while (rs.next()) {
+                Map<String, Object> row = new LinkedHashMap<>(4);
+                row.put("transactionDate", rs.getObject(1, LocalDate.class));
+                row.put("amount", rs.getBigDecimal(2));
+                responses.add(row);
+            }
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,123 @@
+package com.dimitar.financetracker.benchmark;
+
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import com.dimitar.financetracker.service.query.tag.UserTagBitmaps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// "all of trip, any of food/travel, none of refunded" over one user's transactions, answered from
+// the Roaring bitmaps versus the equivalent EXISTS query against the join table in in-memory H2.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagBitmapBenchmark {
+    private static final long USER_ID = 1L;
+    private static final long TRIP = 1L;
+    private static final long FOOD = 2L;
+    private static final long TRAVEL = 3L;
+    private static final long REFUNDED = 4L;
+    private static final int TAGS = 20;
+
+    @Param({"1000", "300000"})
+    public int transactions;
+
+    private UserTagBitmaps bitmaps;
+    private Connection connection;
+    private PreparedStatement filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Long> ids = new ArrayList<>(transactions);
+        List<TagMembershipRow> memberships = new ArrayList<>();
+        for (long id = 1; id <= transactions; id++) {
+            ids.add(id);
+            for (long tag = 1; tag <= TAGS; tag++) {
+                // Tag 1 on roughly half the transactions, tag 20 on one in forty.
+                if (random.nextInt((int) tag * 2) == 0) {
+                    memberships.add(new TagMembershipRow(tag, id));
+                }
+            }
+        }
+        bitmaps = UserTagBitmaps.of(ids, memberships);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:tag-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS transaction_tags");
+            ddl.execute("DROP TABLE IF EXISTS transactions");
+            ddl.execute("CREATE TABLE transactions (id BIGINT PRIMARY KEY, user_id BIGINT)");
+            ddl.execute("CREATE INDEX idx_transactions_user ON transactions (user_id)");
+            ddl.execute("CREATE TABLE transaction_tags (transaction_id BIGINT, tag_id BIGINT, PRIMARY KEY (transaction_id, tag_id))");
+            ddl.execute("CREATE INDEX idx_transaction_tags_tag ON transaction_tags (tag_id)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO transactions VALUES (?, ?)")) {
+            for (Long id : ids) {
+                insert.setLong(1, id);
+                insert.setLong(2, USER_ID);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO transaction_tags VALUES (?, ?)")) {
+            for (TagMembershipRow membership : memberships) {
+                insert.setLong(1, membership.transactionId());
+                insert.setLong(2, membership.tagId());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        filter = connection.prepareStatement("SELECT COUNT(*) FROM transactions t WHERE t.user_id = ? "
+            + "AND EXISTS (SELECT 1 FROM transaction_tags g WHERE g.transaction_id = t.id AND g.tag_id = ?) "
+            + "AND EXISTS (SELECT 1 FROM transaction_tags g WHERE g.transaction_id = t.id AND g.tag_id IN (?, ?)) "
+            + "AND NOT EXISTS (SELECT 1 FROM transaction_tags g WHERE g.transaction_id = t.id AND g.tag_id = ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long filterBitmaps() {
+        return bitmaps.match(Set.of(TRIP), Set.of(FOOD, TRAVEL), Set.of(REFUNDED)).getLongCardinality();
+    }
+
+    @Benchmark
+    public long filterDatabase() throws SQLException {
+        filter.setLong(1, USER_ID);
+        filter.setLong(2, TRIP);
+        filter.setLong(3, FOOD);
+        filter.setLong(4, TRAVEL);
+        filter.setLong(5, REFUNDED);
+        try (ResultSet rs = filter.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import com.dimitar.financetracker.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+// End-to-end load test: seeds a production-sized data set with SyntheticDataGenerator, starts the app
+// in-process and drives the REST API with an open-loop mix of reads and writes, spread over all seeded
+// users. Per-endpoint throughput and latency percentiles are printed and written to target/load-e2e.json.
+//
+// Run with: ./mvnw -Pbenchmark test-compile exec:exec@load-test
+//   -Dload.users=500 -Dload.transactionsPerUser=4000  2M transactions (defaults: 100 x 2000)
+//   -Dload.rate=300  requests per second, Poisson arrivals
+//   -Dload.mix=transactions:40,budgetUsage:15,statistics:15,search:20,create:10
+//   -Dload.durationSeconds=20 -Dload.warmupSeconds=5
+//   -Dload.windowSeconds=5  latency of all operations per window, printed after the per-operation table
+//   -Dload.appWarmup=true  start the app with warmup.enabled (WarmupRunner), to compare against a cold JIT:
+//        run once to seed, then with -Dload.warmupSeconds=0 and load.appWarmup false and true; compare
+//        the p99 of the first windows with the last ones
+//   -Dload.jdbcUrl=jdbc:postgresql://localhost:5432/personal-finance-tracker?reWriteBatchedInserts=true
+//        run against a local Postgres instead of the default H2 file database under target/load-e2e
+// The schema is kept between runs (ddl-auto=update) and seeding is skipped when load users already
+// exist, so repeated runs reuse the data; delete target/load-e2e or point at a fresh database to reseed.
+public final class LoadTestHarness {
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./target/load-e2e/db;MODE=PostgreSQL";
+    private static final String DEFAULT_MIX = "transactions:40,budgetUsage:15,statistics:15,search:20,create:10";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = (int) LoadTestSupport.longProperty("load.users", 100);
+        int transactionsPerUser = (int) LoadTestSupport.longProperty("load.transactionsPerUser", 2_000);
+        int historyDays = (int) LoadTestSupport.longProperty("load.historyDays", 365);
+        long seed = LoadTestSupport.longProperty("load.seed", 42);
+        double rate = Double.parseDouble(LoadTestSupport.property("load.rate", "200"));
+        int maxInFlight = (int) LoadTestSupport.longProperty("load.maxInFlight", 10_000);
+        Duration duration = Duration.ofSeconds(LoadTestSupport.longProperty("load.durationSeconds", 20));
+        Duration warmup = Duration.ofSeconds(LoadTestSupport.longProperty("load.warmupSeconds", 5));
+        Duration window = Duration.ofSeconds(LoadTestSupport.longProperty("load.windowSeconds", 5));
+        boolean appWarmup = Boolean.parseBoolean(LoadTestSupport.property("load.appWarmup", "false"));
+        Map<String, Integer> mix = parseMix(LoadTestSupport.property("load.mix", DEFAULT_MIX));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext app = LoadTestSupport.startApp(DEFAULT_JDBC_URL, Map.of(
+            "spring.jpa.hibernate.ddl-auto", "update",
+            "spring.threads.virtual.enabled", LoadTestSupport.property("load.virtualThreads", "false"),
+            "warmup.enabled", appWarmup))) {
+            DataSource dataSource = app.getBean(DataSource.class);
+            report.put("seed", seedIfEmpty(app, dataSource, users, transactionsPerUser, historyDays, seed));
+
+            List<Fixture> fixtures = fixtures(app, dataSource);
+            if (fixtures.isEmpty()) {
+                throw new IllegalStateException("No load users in the database");
+            }
+            String baseUrl = LoadTestSupport.baseUrl(app);
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient client = HttpClient.newBuilder().executor(clientThreads)
+                     .connectTimeout(Duration.ofSeconds(5)).build()) {
+                List<OpenLoopDriver.Operation> operations = new ArrayList<>();
+                mix.forEach((name, weight) -> operations.add(
+                    new OpenLoopDriver.Operation(name, weight, operation(name, baseUrl, fixtures))));
+                OpenLoopDriver driver = new OpenLoopDriver(client, operations, rate, maxInFlight, window);
+                report.put("users", fixtures.size());
+                report.put("mix", mix);
+                report.put("durationSeconds", duration.toSeconds());
+                report.put("appWarmup", appWarmup);
+                report.put("results", driver.run(warmup, duration, seed));
+                report.put("windows", driver.windows());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> results = (Map<String, Map<String, Object>>) report.get("results");
+        System.out.printf("%n%-14s %9s %10s %9s %9s %9s %9s %9s %7s%n",
+            "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        results.forEach((name, result) -> System.out.printf("%-14s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+            name, result.get("requests"), result.get("throughputPerSecond"), result.get("p50Millis"),
+            result.get("p90Millis"), result.get("p99Millis"), result.get("p999Millis"), result.get("maxMillis"),
+            result.get("errors")));
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> windows = (List<Map<String, Object>>) report.get("windows");
+        System.out.printf("%n%-14s %9s %9s %9s %9s %7s%n", "from second", "requests", "p50 ms", "p99 ms", "max ms", "errors");
+        windows.forEach(result -> System.out.printf("%-14d %9d %9.2f %9.2f %9.2f %7d%n",
+            result.get("fromSecond"), result.get("requests"), result.get("p50Millis"), result.get("p99Millis"),
+            result.get("maxMillis"), result.get("errors")));
+        Path output = Path.of(LoadTestSupport.property("load.report", "target/load-e2e.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        JSON.writeValue(output.toFile(), report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    // A seeded user with a ready token and one expense category to post new transactions into.
+    private record Fixture(String token, long expenseCategoryId) {
+    }
+
+    private static Map<String, Object> seedIfEmpty(ConfigurableApplicationContext app, DataSource dataSource,
+                                                   int users, int transactionsPerUser, int historyDays,
+                                                   long seed) throws Exception {
+        Integer existing = new JdbcTemplate(dataSource).queryForObject(
+            "SELECT COUNT(*) FROM users WHERE username LIKE ?", Integer.class,
+            SyntheticDataGenerator.USERNAME_PREFIX + "%");
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (existing != null && existing > 0) {
+            System.out.println("Reusing " + existing + " existing load users");
+            result.put("reused", true);
+            return result;
+        }
+        // One hash for every user: bcrypt is deliberately slow and the seed never logs in anyway.
+        String passwordHash = app.getBean(PasswordEncoder.class).encode(SyntheticDataGenerator.PASSWORD);
+        SyntheticDataGenerator.Summary summary = new SyntheticDataGenerator(
+            dataSource, passwordHash, users, transactionsPerUser, historyDays, seed).generate();
+        System.out.printf("Seeded %d users, %d categories, %d budgets and %d transactions in %.1f s%n",
+            summary.users(), summary.categories(), summary.budgets(), summary.transactions(),
+            summary.elapsedMillis() / 1000.0);
+        result.put("reused", false);
+        result.put("users", summary.users());
+        result.put("categories", summary.categories());
+        result.put("budgets", summary.budgets());
+        result.put("transactions", summary.transactions());
+        result.put("elapsedMillis", summary.elapsedMillis());
+        result.put("rowsPerSecond", summary.transactions() * 1000.0 / Math.max(1, summary.elapsedMillis()));
+        return result;
+    }
+
+    // Tokens are minted straight from the app's JwtUtil rather than by logging in, which would make
+    // the harness spend its first minutes on bcrypt.
+    private static List<Fixture> fixtures(ConfigurableApplicationContext app, DataSource dataSource) {
+        JwtUtil jwtUtil = app.getBean(JwtUtil.class);
+        return new JdbcTemplate(dataSource).query(
+            "SELECT u.username, MIN(c.id) FROM users u JOIN categories c ON c.user_id = u.id "
+                + "WHERE u.username LIKE ? AND c.type = 'EXPENSE' GROUP BY u.username",
+            (row, index) -> new Fixture(jwtUtil.generateToken(Map.of(), row.getString(1)), row.getLong(2)),
+            SyntheticDataGenerator.USERNAME_PREFIX + "%");
+    }
+
+    private static Function<SplittableRandom, HttpRequest> operation(String name, String baseUrl, List<Fixture> fixtures) {
+        return switch (name) {
+            case "transactions" -> random -> get(baseUrl + "/api/transactions?page=" + random.nextInt(5)
+                + "&size=20&sortBy=transactionDate&sortDirection=desc", pickUser(random, fixtures));
+            case "budgetUsage" -> random -> get(baseUrl + "/api/budgets/usage", pickUser(random, fixtures));
+            case "statistics" -> random -> get(baseUrl + "/api/users/me/statistics", pickUser(random, fixtures));
+            case "search" -> random -> get(baseUrl + "/api/transactions/search?q="
+                + SyntheticDataGenerator.MERCHANT_WORDS.get(random.nextInt(SyntheticDataGenerator.MERCHANT_WORDS.size())),
+                pickUser(random, fixtures));
+            case "recent" -> random -> get(baseUrl + "/api/transactions/recent?limit=20", pickUser(random, fixtures));
+            case "create" -> random -> {
+                Fixture fixture = pickUser(random, fixtures);
+                String body = "{\"categoryId\":" + fixture.expenseCategoryId()
+                    + ",\"amount\":" + (1 + random.nextInt(200)) + ".50"
+                    + ",\"description\":\"load coffee\",\"transactionDate\":\"" + LocalDate.now() + "\"}";
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions"))
+                    .header("Authorization", "Bearer " + fixture.token())
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            };
+            default -> throw new IllegalArgumentException("Unknown load.mix operation: " + name
+                + " (expected transactions, budgetUsage, statistics, search, recent or create)");
+        };
+    }
+
+    private static Fixture pickUser(SplittableRandom random, List<Fixture> fixtures) {
+        return fixtures.get(random.nextInt(fixtures.size()));
+    }
+
+    private static HttpRequest get(String url, Fixture fixture) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .header("Authorization", "Bearer " + fixture.token())
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no operation with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,76 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import com.dimitar.financetracker.PersonalFinanceTrackerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Shared plumbing of the load tools: system-property access and an in-process app on a random port.
+final class LoadTestSupport {
+
+    private LoadTestSupport() {
+    }
+
+    // The Maven profile always passes every load.* property, so an empty value means "not set".
+    static String property(String name) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    static String property(String name, String defaultValue) {
+        String value = property(name);
+        return value != null ? value : defaultValue;
+    }
+
+    static long longProperty(String name, long defaultValue) {
+        String value = property(name);
+        return value != null ? Long.parseLong(value.trim()) : defaultValue;
+    }
+
+    // Starts the app against load.jdbcUrl (a local Postgres or an H2 file database) or, when that is
+    // unset, the given fallback URL, with rate limiting and the nightly jobs switched off.
+    static ConfigurableApplicationContext startApp(String fallbackH2Url, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        String jdbcUrl = property("load.jdbcUrl");
+        if (jdbcUrl != null && !jdbcUrl.startsWith("jdbc:h2:")) {
+            properties.put("spring.datasource.url", jdbcUrl);
+            properties.put("spring.datasource.username", property("load.jdbcUser", "personal_finance_tracker_user"));
+            properties.put("spring.datasource.password", property("load.jdbcPassword", "demo_password_123"));
+        } else {
+            properties.put("spring.datasource.url", jdbcUrl != null ? jdbcUrl : fallbackH2Url);
+            properties.put("spring.datasource.driverClassName", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        }
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.accept-count", 1000);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("bucket4j.enabled", false);
+        properties.put("budget.rollover.cron", "-");
+        properties.put("recurring.transactions.cron", "-");
+        properties.putAll(overrides);
+
+        // Command-line arguments, unlike default properties, take precedence over application.properties.
+        String[] args = properties.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(PersonalFinanceTrackerApplication.class).run(args);
+    }
+
+    static String baseUrl(ConfigurableApplicationContext app) {
+        return "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+    }
+
+    static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+    }
+}
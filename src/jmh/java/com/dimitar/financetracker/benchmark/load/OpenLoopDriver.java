@@ -0,0 +1,206 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Open-loop load: requests arrive on a Poisson schedule at a fixed rate whether or not earlier ones have
+// finished, each on its own virtual thread. Latency is measured from the moment a request was scheduled
+// to start, not from when it was actually sent, so a stalled server shows up in the percentiles instead
+// of silently slowing the clients down (coordinated omission). Besides the per-operation totals, all
+// operations together are summarized per fixed time window, which shows how latency settles after a
+// cold start.
+final class OpenLoopDriver {
+
+    record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private final HttpClient client;
+    private final List<Operation> operations;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final Duration window;
+    private final int totalWeight;
+    private final List<Map<String, Object>> windows = new ArrayList<>();
+
+    OpenLoopDriver(HttpClient client, List<Operation> operations, double ratePerSecond, int maxInFlight,
+                   Duration window) {
+        this.client = client;
+        this.operations = operations;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.window = window;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    Map<String, Map<String, Object>> run(Duration warmup, Duration duration, long seed) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        operations.forEach(operation -> recorders.put(operation.name(), new Recorder()));
+        AtomicInteger inFlight = new AtomicInteger();
+        LongAdder dropped = new LongAdder();
+        SplittableRandom random = new SplittableRandom(seed);
+        Recorder[] windowRecorders = new Recorder[(int) Math.max(1,
+            (duration.toNanos() + window.toNanos() - 1) / window.toNanos())];
+        Arrays.setAll(windowRecorders, index -> new Recorder());
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        double meanGapNanos = 1_000_000_000.0 / ratePerSecond;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+            while (intended < measureUntil) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = pick(random);
+                HttpRequest request = operation.request().apply(random);
+                boolean measured = intended >= measureFrom;
+                Recorder recorder = recorders.get(operation.name());
+                Recorder windowRecorder = windowRecorders[(int) Math.min(windowRecorders.length - 1,
+                    Math.max(0, intended - measureFrom) / window.toNanos())];
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    // The client itself is saturated; count it rather than queue unboundedly.
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        dropped.increment();
+                        recorder.errors.increment();
+                        windowRecorder.errors.increment();
+                    }
+                } else {
+                    long scheduledAt = intended;
+                    requests.submit(() -> {
+                        try {
+                            int status = send(request);
+                            if (measured) {
+                                long latency = System.nanoTime() - scheduledAt;
+                                boolean ok = status >= 200 && status < 300;
+                                recorder.record(latency, ok);
+                                windowRecorder.record(latency, ok);
+                            }
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                intended += (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos);
+            }
+            requests.shutdown();
+            requests.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        long[] all = recorders.values().stream().flatMapToLong(r -> Arrays.stream(r.snapshot())).sorted().toArray();
+        long allErrors = recorders.values().stream().mapToLong(r -> r.errors.sum()).sum();
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            long[] latencies = entry.getValue().snapshot();
+            Arrays.sort(latencies);
+            results.put(entry.getKey(), summarize(latencies, entry.getValue().errors.sum(), duration));
+        }
+        Map<String, Object> total = summarize(all, allErrors, duration);
+        total.put("targetRatePerSecond", ratePerSecond);
+        total.put("droppedByClient", dropped.sum());
+        results.put("total", total);
+
+        windows.clear();
+        for (int index = 0; index < windowRecorders.length; index++) {
+            long[] latencies = windowRecorders[index].snapshot();
+            Arrays.sort(latencies);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("fromSecond", index * window.toSeconds());
+            summary.putAll(summarize(latencies, windowRecorders[index].errors.sum(), window));
+            windows.add(summary);
+        }
+        return results;
+    }
+
+    // All operations per window of the last run, in order, starting when measuring started
+    List<Map<String, Object>> windows() {
+        return windows;
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.getLast();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static Map<String, Object> summarize(long[] sortedNanos, long errors, Duration duration) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", sortedNanos.length);
+        result.put("errors", errors);
+        result.put("throughputPerSecond", sortedNanos.length / (double) duration.toSeconds());
+        result.put("p50Millis", LoadTestSupport.percentileMillis(sortedNanos, 0.50));
+        result.put("p90Millis", LoadTestSupport.percentileMillis(sortedNanos, 0.90));
+        result.put("p99Millis", LoadTestSupport.percentileMillis(sortedNanos, 0.99));
+        result.put("p999Millis", LoadTestSupport.percentileMillis(sortedNanos, 0.999));
+        result.put("maxMillis", LoadTestSupport.percentileMillis(sortedNanos, 1.0));
+        return result;
+    }
+
+    // Successful latencies of one operation; failed requests are only counted.
+    private static final class Recorder {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongAdder errors = new LongAdder();
+        private long[] latencies = new long[1024];
+        private int count;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors.increment();
+                return;
+            }
+            lock.lock();
+            try {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = nanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long[] snapshot() {
+            lock.lock();
+            try {
+                return Arrays.copyOf(latencies, count);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Time from process start to the first 200 response, for the standard and the startup-optimized
+// (AOT + AppCDS) images built from the Dockerfile. Each variant is started startup.runs times in a
+// fresh container; the app is polled every 25 ms until it answers. Results land in target/startup.json.
+//
+// Build the images first:
+//   docker build --target standard -t finance-tracker:standard .
+//   docker build -t finance-tracker:optimized .
+// and start the database (docker compose up -d postgres). Then run:
+//   ./mvnw -Pbenchmark test-compile exec:exec@startup-benchmark
+//   -Dstartup.images=finance-tracker:standard,finance-tracker:optimized  images to compare
+//   -Dstartup.runs=5 -Dstartup.path=/actuator/health -Dstartup.timeoutSeconds=180
+//   -Dstartup.jdbcUrl=jdbc:postgresql://localhost:5432/personal-finance-tracker  (containers use the host network)
+//   -Dstartup.commands="jar=java -jar target/personal-finance-tracker-0.0.1-SNAPSHOT.jar;aot=java -Dspring.aot.enabled=true -jar target/personal-finance-tracker-0.0.1-SNAPSHOT.jar"
+//        time arbitrary label=command pairs instead of images (arguments are split on whitespace)
+public final class StartupTimeBenchmark {
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private StartupTimeBenchmark() {
+    }
+
+    private record Variant(String label, List<String> command, String containerName) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = (int) LoadTestSupport.longProperty("startup.runs", 5);
+        int port = (int) LoadTestSupport.longProperty("startup.port", 8080);
+        String path = LoadTestSupport.property("startup.path", "/actuator/health");
+        Duration timeout = Duration.ofSeconds(LoadTestSupport.longProperty("startup.timeoutSeconds", 180));
+        URI uri = URI.create("http://localhost:" + port + path);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (Variant variant : variants(port)) {
+            List<Long> millis = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                long elapsed = timeToFirstSuccess(variant, uri, timeout);
+                System.out.printf("%s run %d: %d ms%n", variant.label(), run, elapsed);
+                millis.add(elapsed);
+            }
+            long[] sorted = millis.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("variant", variant.label());
+            result.put("runs", millis);
+            result.put("minMillis", sorted[0]);
+            result.put("medianMillis", sorted[sorted.length / 2]);
+            result.put("maxMillis", sorted[sorted.length - 1]);
+            results.add(result);
+        }
+
+        System.out.printf("%n%-40s %10s %10s %10s%n", "variant", "min ms", "median ms", "max ms");
+        for (Map<String, Object> result : results) {
+            System.out.printf("%-40s %10d %10d %10d%n", result.get("variant"), result.get("minMillis"),
+                result.get("medianMillis"), result.get("maxMillis"));
+        }
+        Path report = Path.of(LoadTestSupport.property("startup.report", "target/startup.json"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        JSON.writeValue(report.toFile(), results);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static List<Variant> variants(int port) {
+        String commands = LoadTestSupport.property("startup.commands");
+        List<Variant> variants = new ArrayList<>();
+        if (commands != null) {
+            for (String entry : commands.split(";")) {
+                int separator = entry.indexOf('=');
+                if (separator < 1) {
+                    throw new IllegalArgumentException("startup.commands entries must be label=command: " + entry);
+                }
+                variants.add(new Variant(entry.substring(0, separator).trim(),
+                    Arrays.asList(entry.substring(separator + 1).trim().split("\\s+")), null));
+            }
+            return variants;
+        }
+
+        String jdbcUrl = LoadTestSupport.property("startup.jdbcUrl", "jdbc:postgresql://localhost:5432/personal-finance-tracker");
+        String images = LoadTestSupport.property("startup.images", "finance-tracker:standard,finance-tracker:optimized");
+        for (String image : images.split(",")) {
+            String containerName = "finance-tracker-startup-" + Math.abs(image.trim().hashCode());
+            variants.add(new Variant(image.trim(), List.of(
+                "docker", "run", "--rm", "--name", containerName, "--network", "host",
+                "-e", "SERVER_PORT=" + port,
+                "-e", "SPRING_DATASOURCE_URL=" + jdbcUrl,
+                "-e", "SPRING_DATASOURCE_USERNAME=" + LoadTestSupport.property("startup.jdbcUser", "personal_finance_tracker_user"),
+                "-e", "SPRING_DATASOURCE_PASSWORD=" + LoadTestSupport.property("startup.jdbcPassword", "demo_password_123"),
+                // Never drop the schema of a shared database on shutdown
+                "-e", "SPRING_JPA_HIBERNATE_DDL_AUTO=update",
+                image.trim()), containerName));
+        }
+        return variants;
+    }
+
+    private static long timeToFirstSuccess(Variant variant, URI uri, Duration timeout)
+        throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(250)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(variant.command())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            long deadline = started + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.label() + " exited with " + process.exitValue()
+                        + " before answering " + uri);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (IOException notListeningYet) {
+                    // connection refused until the web server is up
+                }
+                Thread.sleep(25);
+            }
+            throw new IllegalStateException(variant.label() + " did not answer " + uri + " within " + timeout);
+        } finally {
+            stop(variant, process);
+        }
+    }
+
+    private static void stop(Variant variant, Process process) throws IOException, InterruptedException {
+        if (variant.containerName() != null) {
+            new ProcessBuilder("docker", "rm", "-f", variant.containerName())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor(30, TimeUnit.SECONDS);
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.service.template.CategoryTemplate;
+import com.dimitar.financetracker.service.template.DefaultCategoryTemplateService;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Seeds users, categories, budgets and transactions with plain JDBC batches, bypassing JPA so that
+// millions of rows take seconds rather than minutes. The shapes are meant to look like real books:
+// a handful of categories dominate spending (Zipf), amounts are log-normal per category, salaries
+// land monthly, weekends are busier and budgets sit a little above the usual monthly spend.
+// On Postgres add reWriteBatchedInserts=true to the JDBC URL so batches become multi-row inserts.
+public class SyntheticDataGenerator {
+
+    static final String USERNAME_PREFIX = "load_user_";
+    static final String PASSWORD = "LoadTest123!";
+
+    // Words the descriptions are built from, so that search requests have something to find.
+    static final List<String> MERCHANT_WORDS = List.of(
+        "coffee", "market", "fuel", "pharmacy", "cinema", "bakery", "taxi", "books",
+        "hardware", "restaurant", "streaming", "gym", "electric", "water", "parking", "airline");
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_EVERY = 10_000;
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    // Median amount in cents per expense category; anything unlisted uses the default.
+    private static final Map<String, Long> MEDIAN_CENTS = Map.ofEntries(
+        Map.entry("Food & Dining", 2_400L), Map.entry("Groceries", 5_500L),
+        Map.entry("Transportation", 1_800L), Map.entry("Utilities", 9_000L),
+        Map.entry("Housing", 95_000L), Map.entry("Healthcare", 6_000L),
+        Map.entry("Entertainment", 3_000L), Map.entry("Shopping", 4_500L),
+        Map.entry("Education", 15_000L), Map.entry("Insurance", 12_000L),
+        Map.entry("Travel", 35_000L), Map.entry("Subscriptions", 1_300L),
+        Map.entry("Fees & Charges", 500L));
+    private static final long DEFAULT_MEDIAN_CENTS = 3_000L;
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+    private final int users;
+    private final int transactionsPerUser;
+    private final int historyDays;
+    private final SplittableRandom random;
+    private final List<CategoryTemplate> templates = new DefaultCategoryTemplateService().getAllDefaultCategories();
+
+    public SyntheticDataGenerator(DataSource dataSource, String passwordHash, int users,
+                                  int transactionsPerUser, int historyDays, long seed) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+        this.users = users;
+        this.transactionsPerUser = transactionsPerUser;
+        this.historyDays = historyDays;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public record Summary(int users, long categories, long budgets, long transactions, long elapsedMillis) {
+    }
+
+    private record SeededCategory(long id, String name, CategoryType type) {
+    }
+
+    public Summary generate() throws SQLException {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            Map<String, Long> userIds = insertUsers(connection, now);
+            Map<Long, List<SeededCategory>> categories = insertCategories(connection, userIds.values(), now);
+            long budgets = insertBudgets(connection, categories, today, now);
+            long transactions = insertTransactions(connection, categories, today);
+            connection.commit();
+            // Both H2 and Postgres plan from table statistics, which are stale right after a bulk load.
+            try (Statement analyze = connection.createStatement()) {
+                analyze.execute("ANALYZE");
+            }
+            connection.commit();
+            long categoryCount = categories.values().stream().mapToLong(List::size).sum();
+            return new Summary(userIds.size(), categoryCount, budgets, transactions,
+                (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private Map<String, Long> insertUsers(Connection connection, LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO users (username, email, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < users; i++) {
+                insert.setString(1, USERNAME_PREFIX + i);
+                insert.setString(2, USERNAME_PREFIX + i + "@load.test");
+                insert.setString(3, passwordHash);
+                insert.setTimestamp(4, timestamp);
+                insert.setTimestamp(5, timestamp);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        // Read the generated keys back by name; batched getGeneratedKeys is not portable across drivers.
+        Map<String, Long> ids = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+            "SELECT id, username FROM users WHERE username LIKE ?")) {
+            select.setString(1, USERNAME_PREFIX + "%");
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    ids.put(rows.getString(2), rows.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Map<Long, List<SeededCategory>> insertCategories(Connection connection, Iterable<Long> userIds,
+                                                             LocalDateTime now) throws SQLException {
+        List<CategoryTemplate> income = templates.stream().filter(t -> t.getType() == CategoryType.INCOME).toList();
+        List<CategoryTemplate> expense = templates.stream().filter(t -> t.getType() == CategoryType.EXPENSE).toList();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int pending = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO categories (user_id, name, type, color, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (Long userId : userIds) {
+                // Everyone has a salary; some have a second income. Between 8 and all 16 expense categories.
+                List<CategoryTemplate> chosen = new ArrayList<>();
+                chosen.add(income.get(0));
+                if (random.nextInt(3) == 0) {
+                    chosen.add(income.get(1 + random.nextInt(income.size() - 1)));
+                }
+                chosen.addAll(pick(expense, 8 + random.nextInt(expense.size() - 7)));
+                for (CategoryTemplate template : chosen) {
+                    insert.setLong(1, userId);
+                    insert.setString(2, template.getName());
+                    insert.setString(3, template.getType().name());
+                    insert.setString(4, template.getColor());
+                    insert.setTimestamp(5, timestamp);
+                    insert.setTimestamp(6, timestamp);
+                    insert.addBatch();
+                    if (++pending % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        Map<Long, List<SeededCategory>> byUser = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+            "SELECT c.id, c.user_id, c.name, c.type FROM categories c JOIN users u ON u.id = c.user_id "
+                + "WHERE u.username LIKE ? ORDER BY c.id")) {
+            select.setString(1, USERNAME_PREFIX + "%");
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    byUser.computeIfAbsent(rows.getLong(2), id -> new ArrayList<>())
+                        .add(new SeededCategory(rows.getLong(1), rows.getString(3), CategoryType.valueOf(rows.getString(4))));
+                }
+            }
+        }
+        // Shuffle per user so that the Zipf head is a different category for different people.
+        byUser.values().forEach(list -> shuffle(list));
+        return byUser;
+    }
+
+    private long insertBudgets(Connection connection, Map<Long, List<SeededCategory>> categories,
+                               LocalDate today, LocalDateTime now) throws SQLException {
+        LocalDate start = today.withDayOfMonth(1);
+        LocalDate end = BudgetPeriod.MONTHLY.endFrom(start);
+        double monthlyShare = 30.0 / Math.max(historyDays, 30);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        long count = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO budgets (user_id, category_id, amount, start_date, end_date, period, is_active, "
+                + "is_recurring, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (Map.Entry<Long, List<SeededCategory>> entry : categories.entrySet()) {
+                List<SeededCategory> expenses = expenses(entry.getValue());
+                double[] weights = zipfWeights(expenses.size());
+                // Budget the heaviest few categories, each a little above its expected monthly spend.
+                int budgeted = Math.min(expenses.size(), 3 + random.nextInt(4));
+                for (int i = 0; i < budgeted; i++) {
+                    SeededCategory category = expenses.get(i);
+                    double expectedMonthly = transactionsPerUser * 0.9 * weights[i] * monthlyShare
+                        * meanCents(category.name());
+                    long amountCents = Math.max(1_000L, Math.round(expectedMonthly * (1.0 + random.nextDouble(0.4))));
+                    insert.setLong(1, entry.getKey());
+                    insert.setLong(2, category.id());
+                    insert.setBigDecimal(3, BigDecimal.valueOf(amountCents, 2));
+                    insert.setDate(4, Date.valueOf(start));
+                    insert.setDate(5, Date.valueOf(end));
+                    insert.setString(6, BudgetPeriod.MONTHLY.name());
+                    insert.setBoolean(7, true);
+                    insert.setBoolean(8, random.nextBoolean());
+                    insert.setTimestamp(9, timestamp);
+                    insert.setTimestamp(10, timestamp);
+                    insert.addBatch();
+                    if (++count % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return count;
+    }
+
+    private long insertTransactions(Connection connection, Map<Long, List<SeededCategory>> categories,
+                                    LocalDate today) throws SQLException {
+        long count = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO transactions (user_id, category_id, amount, description, transaction_date, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (Map.Entry<Long, List<SeededCategory>> entry : categories.entrySet()) {
+                long userId = entry.getKey();
+                List<SeededCategory> expenses = expenses(entry.getValue());
+                double[] cumulative = cumulative(zipfWeights(expenses.size()));
+                List<SeededCategory> income = entry.getValue().stream()
+                    .filter(c -> c.type() == CategoryType.INCOME).toList();
+
+                // Salary on the 25th of every month in the window, the rest of the income is occasional.
+                for (LocalDate month = today.minusDays(historyDays).withDayOfMonth(25); !month.isAfter(today);
+                     month = month.plusMonths(1)) {
+                    if (month.isBefore(today.minusDays(historyDays))) {
+                        continue;
+                    }
+                    count = add(insert, count, userId, income.get(0).id(), logNormalCents(350_000L, 0.15),
+                        "Salary", month);
+                }
+
+                // Activity per user is itself skewed: some people log five times as much as others.
+                long target = Math.max(1, Math.round(transactionsPerUser * Math.exp(random.nextGaussian() * 0.5 - 0.125)));
+                for (long i = 0; i < target; i++) {
+                    LocalDate date = randomDate(today);
+                    if (income.size() > 1 && random.nextInt(50) == 0) {
+                        SeededCategory extra = income.get(1 + random.nextInt(income.size() - 1));
+                        count = add(insert, count, userId, extra.id(), logNormalCents(40_000L, 0.6),
+                            extra.name() + " payment", date);
+                        continue;
+                    }
+                    SeededCategory category = expenses.get(sample(cumulative));
+                    String merchant = MERCHANT_WORDS.get(random.nextInt(MERCHANT_WORDS.size()));
+                    count = add(insert, count, userId, category.id(),
+                        logNormalCents(MEDIAN_CENTS.getOrDefault(category.name(), DEFAULT_MEDIAN_CENTS), 0.6),
+                        merchant + " " + category.name().toLowerCase(), date);
+                }
+            }
+            insert.executeBatch();
+        }
+        return count;
+    }
+
+    private long add(PreparedStatement insert, long count, long userId, long categoryId, long cents,
+                     String description, LocalDate date) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(date.atTime(12, 0));
+        insert.setLong(1, userId);
+        insert.setLong(2, categoryId);
+        insert.setBigDecimal(3, BigDecimal.valueOf(cents, 2));
+        insert.setString(4, description);
+        insert.setDate(5, Date.valueOf(date));
+        insert.setTimestamp(6, timestamp);
+        insert.setTimestamp(7, timestamp);
+        insert.addBatch();
+        count++;
+        if (count % BATCH_SIZE == 0) {
+            insert.executeBatch();
+        }
+        if (count % COMMIT_EVERY == 0) {
+            insert.getConnection().commit();
+        }
+        return count;
+    }
+
+    // Recent days are denser than old ones (people started tracking at different times) and
+    // weekend days carry more purchases than weekdays.
+    private LocalDate randomDate(LocalDate today) {
+        while (true) {
+            int daysAgo = (int) Math.min(historyDays - 1, Math.floor(Math.pow(random.nextDouble(), 1.3) * historyDays));
+            LocalDate date = today.minusDays(daysAgo);
+            DayOfWeek day = date.getDayOfWeek();
+            boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+            if (weekend || random.nextDouble() < 0.7) {
+                return date;
+            }
+        }
+    }
+
+    private long logNormalCents(long medianCents, double sigma) {
+        return Math.max(1L, Math.round(medianCents * Math.exp(random.nextGaussian() * sigma)));
+    }
+
+    private static double meanCents(String categoryName) {
+        // Mean of a log-normal with sigma 0.6 is median * e^(sigma^2 / 2).
+        return MEDIAN_CENTS.getOrDefault(categoryName, DEFAULT_MEDIAN_CENTS) * Math.exp(0.18);
+    }
+
+    private static List<SeededCategory> expenses(List<SeededCategory> categories) {
+        return categories.stream().filter(c -> c.type() == CategoryType.EXPENSE).toList();
+    }
+
+    private static double[] zipfWeights(int size) {
+        double[] weights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+            total += weights[i];
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= total;
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private int sample(double[] cumulative) {
+        double r = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private <T> List<T> pick(List<T> from, int count) {
+        List<T> copy = new ArrayList<>(from);
+        shuffle(copy);
+        return copy.subList(0, count);
+    }
+
+    private <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.dimitar.financetracker.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+// Closed-loop HTTP load comparing Tomcat on platform threads with spring.threads.virtual.enabled.
+// For every thread model the app is started in-process on a random port, a user with a few hundred
+// transactions is seeded, and then 50, 500 and 5000 concurrent clients each loop on one endpoint.
+// Throughput and latency percentiles land in target/load-thread-model.json.
+//
+// Run with: ./mvnw -Pbenchmark test-compile exec:exec@thread-model-load
+//   -Dload.jdbcUrl=jdbc:postgresql://localhost:5432/personal-finance-tracker  benchmark against the
+//        docker-compose Postgres instead of in-memory H2 (H2 never blocks on I/O, so it understates
+//        what virtual threads buy; Postgres is the realistic comparison)
+//   -Dload.baseUrl=http://localhost:8080  skip the in-process app and load an already running one
+//   -Dload.clients=50,500,5000 -Dload.durationSeconds=20 -Dload.warmupSeconds=5
+//   -Dload.path=/api/transactions/recent?limit=20
+// 5000 clients need a matching open-file limit (ulimit -n 16384).
+public final class ThreadModelLoadBenchmark {
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String PASSWORD = "load-test-password";
+
+    private ThreadModelLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] clientCounts = Arrays.stream(System.getProperty("load.clients", "50,500,5000").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.durationSeconds", 20));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5));
+        String path = System.getProperty("load.path", "/api/transactions/recent?limit=20");
+        String externalBaseUrl = LoadTestSupport.property("load.baseUrl");
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        if (externalBaseUrl != null) {
+            String token = seed(externalBaseUrl);
+            String label = System.getProperty("load.label", "external");
+            for (int clients : clientCounts) {
+                results.add(run(label, externalBaseUrl, path, token, clients, warmup, duration));
+            }
+        } else {
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                String label = virtualThreads ? "virtual" : "platform";
+                try (ConfigurableApplicationContext app = startApp(virtualThreads)) {
+                    String baseUrl = LoadTestSupport.baseUrl(app);
+                    String token = seed(baseUrl);
+                    for (int clients : clientCounts) {
+                        results.add(run(label, baseUrl, path, token, clients, warmup, duration));
+                    }
+                }
+            }
+        }
+
+        System.out.printf("%n%-10s %8s %12s %10s %10s %10s %8s%n", "threads", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Map<String, Object> result : results) {
+            System.out.printf("%-10s %8d %12.1f %10.2f %10.2f %10.2f %8d%n",
+                result.get("threads"), result.get("clients"), result.get("throughputPerSecond"),
+                result.get("p50Millis"), result.get("p99Millis"), result.get("maxMillis"), result.get("errors"));
+        }
+        Path report = Path.of(System.getProperty("load.report", "target/load-thread-model.json"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        JSON.writeValue(report.toFile(), results);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext startApp(boolean virtualThreads) {
+        return LoadTestSupport.startApp("jdbc:h2:mem:load-" + virtualThreads + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+            Map.of("spring.threads.virtual.enabled", virtualThreads));
+    }
+
+    // Registers a fresh user with one expense category and load.seedTransactions transactions; returns its JWT.
+    private static String seed(String baseUrl) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        String username = "load_" + System.nanoTime();
+        JsonNode auth = post(client, baseUrl + "/api/auth/register", null, Map.of(
+            "username", username, "email", username + "@example.com", "password", PASSWORD));
+        String token = auth.get("token").asText();
+
+        JsonNode category = post(client, baseUrl + "/api/categories", token, Map.of(
+            "name", "Groceries", "type", "EXPENSE", "color", "#4CAF50"));
+        long categoryId = category.get("id").asLong();
+
+        int transactions = Integer.getInteger("load.seedTransactions", 500);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < transactions; i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("categoryId", categoryId);
+            body.put("amount", String.valueOf(5 + (i % 95)) + ".50");
+            body.put("description", "Seeded #" + i);
+            body.put("transactionDate", today.minusDays(i % 365).toString());
+            post(client, baseUrl + "/api/transactions", token, body);
+        }
+        return token;
+    }
+
+    private static JsonNode post(HttpClient client, String url, String token, Map<String, ?> body)
+        throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding " + url + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+
+    private static Map<String, Object> run(String label, String baseUrl, String path, String token, int clients,
+                                           Duration warmup, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+        LongAdder errors = new LongAdder();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        List<long[]> perClient;
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(clientThreads).build()) {
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                futures.add(clientThreads.submit(() -> loop(client, request, measureFrom, measureUntil, errors)));
+            }
+            perClient = new ArrayList<>(clients);
+            for (Future<long[]> future : futures) {
+                perClient.add(future.get());
+            }
+        }
+
+        long[] latencies = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", label);
+        result.put("clients", clients);
+        result.put("path", path);
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("requests", latencies.length);
+        result.put("errors", errors.sum());
+        result.put("throughputPerSecond", latencies.length / (double) duration.toSeconds());
+        result.put("p50Millis", LoadTestSupport.percentileMillis(latencies, 0.50));
+        result.put("p99Millis", LoadTestSupport.percentileMillis(latencies, 0.99));
+        result.put("maxMillis", LoadTestSupport.percentileMillis(latencies, 1.0));
+        return result;
+    }
+
+    // One closed-loop client: send, wait for the response, repeat. Only requests that start inside the
+    // measurement window are recorded, so warm-up traffic does not skew the percentiles.
+    private static long[] loop(HttpClient client, HttpRequest request, long measureFrom, long measureUntil, LongAdder errors) {
+        long[] latencies = new long[256];
+        int count = 0;
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long elapsed = System.nanoTime() - now;
+            if (now < measureFrom) {
+                continue;
+            }
+            if (!ok) {
+                errors.increment();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsed;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+}
@@ -2,13 +2,18 @@ package com.dimitar.financetracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class PersonalFinanceTrackerApplication {
 
+	// Startup steps kept for /actuator/startup; a full start records roughly 2000
+	static final int STARTUP_STEP_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(PersonalFinanceTrackerApplication.class, args);
+		SpringApplication application = new SpringApplication(PersonalFinanceTrackerApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,88 @@
+package com.dimitar.financetracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Every Command and Query execution records, per implementation class:
+//   cqrs.execution         timer (invocation count and latency histogram), tags type and name
+//   cqrs.execution.errors  counter, additionally tagged with the exception class
+//   cqrs.jdbc.statements   distribution of JDBC statements created by the execution
+// Meters are resolved once per class and cached, so the hot path is a map lookup, two clock reads and
+// a histogram update. The aspect runs outside the transaction advice so commit time is included.
+// Statements are counted on the calling thread only: work a query fans out to other threads (the
+// dashboard) is attributed to the sub-queries that run there.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ExecutionMetricsAspect {
+    static final String EXECUTION_METRIC = "cqrs.execution";
+    static final String ERROR_METRIC = "cqrs.execution.errors";
+    static final String STATEMENT_METRIC = "cqrs.jdbc.statements";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, ExecutionMeters> meters = new ConcurrentHashMap<>();
+
+    public ExecutionMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.dimitar.financetracker.service.command.Command+.execute(..))")
+    public Object aroundCommand(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "command");
+    }
+
+    @Around("execution(* com.dimitar.financetracker.service.query.Query+.execute(..))")
+    public Object aroundQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "query");
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, String type) throws Throwable {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        ExecutionMeters executionMeters = meters.get(targetClass);
+        if (executionMeters == null) {
+            executionMeters = meters.computeIfAbsent(targetClass, key -> register(key, type));
+        }
+        long statementsBefore = StatementCountingDataSource.statementCount();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            registry.counter(ERROR_METRIC, "type", type, "name", executionMeters.name(),
+                "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            executionMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            executionMeters.statements().record(StatementCountingDataSource.statementCount() - statementsBefore);
+        }
+    }
+
+    private ExecutionMeters register(Class<?> targetClass, String type) {
+        String name = ClassUtils.getUserClass(targetClass).getSimpleName();
+        Timer timer = Timer.builder(EXECUTION_METRIC)
+            .description("Command and Query execution time")
+            .tags("type", type, "name", name)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(50_000))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(registry);
+        DistributionSummary statements = DistributionSummary.builder(STATEMENT_METRIC)
+            .description("JDBC statements created per Command and Query execution")
+            .tags("type", type, "name", name)
+            .register(registry);
+        return new ExecutionMeters(name, timer, statements);
+    }
+
+    private record ExecutionMeters(String name, Timer timer, DistributionSummary statements) {
+    }
+}
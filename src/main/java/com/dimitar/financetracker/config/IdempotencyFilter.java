@@ -0,0 +1,187 @@
+package com.dimitar.financetracker.config;
+
+import com.dimitar.financetracker.entity.IdempotencyRecord;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyInUseException;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyMismatchException;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.idempotency.IdempotencyService;
+import com.dimitar.financetracker.service.idempotency.IdempotencyService.Outcome;
+import com.dimitar.financetracker.service.idempotency.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+// Makes POSTs to the configured paths safe to retry: a request carrying an Idempotency-Key runs once per
+// user and key, and retries get the first response back (marked Idempotent-Replayed: true).
+// Registered as a plain servlet filter, so it runs after the security chain and sees the JWT principal;
+// requests without the header, or without an authenticated user, pass straight through.
+@Component
+@ConditionalOnProperty(name = "idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyService idempotencyService;
+    private final AuthenticationFacade authenticationFacade;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final Set<String> paths;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService,
+                             AuthenticationFacade authenticationFacade,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+                             @Value("${idempotency.paths:/api/transactions,/api/budgets}") List<String> paths) {
+        this.idempotencyService = idempotencyService;
+        this.authenticationFacade = authenticationFacade;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.paths = Set.copyOf(paths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+            || !paths.contains(pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = authenticationFacade.getPrincipalUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        try {
+            if (key.isBlank() || key.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException(
+                    "Idempotency-Key must be 1 to " + IdempotencyRecord.MAX_KEY_LENGTH + " characters");
+            }
+            CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+            String requestHash = fingerprint(cachedRequest);
+
+            ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+            Outcome outcome = idempotencyService.execute(userId, key, requestHash, () -> {
+                filterChain.doFilter(cachedRequest, cachingResponse);
+                return new StoredResponse(requestHash, cachingResponse.getStatus(),
+                    cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+            });
+
+            if (outcome.replayed()) {
+                writeReplay(response, outcome.response());
+            } else {
+                cachingResponse.copyBodyToResponse();
+            }
+        } catch (IllegalArgumentException | IdempotencyKeyInUseException | IdempotencyKeyMismatchException e) {
+            // Raised outside any handler, so hand them to GlobalExceptionHandler explicitly.
+            handlerExceptionResolver.resolveException(request, response, null, e);
+        }
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static void writeReplay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(pathWithinApplication(request).getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // The body is needed for the fingerprint before the controller reads it, so it is read up front
+    // and served from memory.
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
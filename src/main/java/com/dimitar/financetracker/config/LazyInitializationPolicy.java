@@ -0,0 +1,72 @@
+package com.dimitar.financetracker.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Marks the beans of subsystems no request needs at startup (API docs, server-side templates, the
+// rate limiter's cache configuration) lazy, so they are created on first use instead of on the
+// critical path. A bean is deferred when its class, or the class declaring its @Bean method, is in
+// one of the configured packages and it does not state @Lazy itself. Unlike
+// spring.main.lazy-initialization the rest of the context stays eager, so wiring errors in the core
+// still fail the start rather than the first request.
+public class LazyInitializationPolicy implements BeanFactoryPostProcessor {
+    private static final Log log = LogFactory.getLog(LazyInitializationPolicy.class);
+
+    private final List<String> packages;
+    private final List<String> deferredBeanNames = new ArrayList<>();
+
+    public LazyInitializationPolicy(List<String> packages) {
+        this.packages = packages.stream()
+            .map(String::trim)
+            .filter(prefix -> !prefix.isEmpty())
+            .map(prefix -> prefix.endsWith(".") ? prefix : prefix + ".")
+            .toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AbstractBeanDefinition bean && !bean.isLazyInit() && isDeferred(bean)) {
+                bean.setLazyInit(true);
+                deferredBeanNames.add(beanName);
+            }
+        }
+        log.info("Deferred initialization of " + deferredBeanNames.size() + " beans in " + packages);
+    }
+
+    public List<String> getDeferredBeanNames() {
+        return List.copyOf(deferredBeanNames);
+    }
+
+    private boolean isDeferred(AbstractBeanDefinition bean) {
+        if (inPackages(bean.getBeanClassName())) {
+            return true;
+        }
+        MethodMetadata factoryMethod = bean instanceof AnnotatedBeanDefinition annotated
+            ? annotated.getFactoryMethodMetadata()
+            : null;
+        return factoryMethod != null && inPackages(factoryMethod.getDeclaringClassName());
+    }
+
+    private boolean inPackages(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : packages) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.dimitar.financetracker.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "startup.lazy-init.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupConfig {
+
+    // Static and bound from the Environment directly: bean factory post-processors run before
+    // @Value injection and @ConfigurationProperties binding are available.
+    @Bean
+    public static LazyInitializationPolicy lazyInitializationPolicy(Environment environment) {
+        List<String> packages = Binder.get(environment)
+            .bind("startup.lazy-init.packages", Bindable.listOf(String.class))
+            .orElse(List.of());
+        return new LazyInitializationPolicy(packages);
+    }
+}
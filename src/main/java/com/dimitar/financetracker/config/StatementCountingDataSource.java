@@ -0,0 +1,66 @@
+package com.dimitar.financetracker.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Counts the JDBC statements each thread creates, so ExecutionMetricsAspect can attribute them to the
+// Command or Query that ran. Wrapping the DataSource rather than hooking Hibernate also covers the
+// JdbcTemplate writers. A Connection is proxied only to intercept the statement factories; every other
+// call goes straight through. Being a DelegatingDataSource keeps it unwrappable for the pool metrics.
+public class StatementCountingDataSource extends DelegatingDataSource {
+    // A mutable cell per thread; a boxed Long would allocate on every statement.
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    // Statements created so far on the current thread; callers take the difference around a unit of work.
+    public static long statementCount() {
+        return STATEMENTS.get()[0];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new CountingHandler(connection));
+    }
+
+    private record CountingHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "createStatement", "prepareStatement", "prepareCall" -> STATEMENTS.get()[0]++;
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
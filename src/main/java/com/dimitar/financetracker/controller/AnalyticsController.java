@@ -0,0 +1,50 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Server-side aggregations for charts and dashboards")
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    @Operation(
+            summary = "Get cash flow over time",
+            description = "Returns income, expense and net totals per day, week, month or year between 'from' and 'to' " +
+                         "(inclusive), optionally broken down by category. Buckets are computed in the database."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cash flow successfully computed"),
+            @ApiResponse(responseCode = "400", description = "Missing dates or unsupported granularity/groupBy value"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/cashflow")
+    public ResponseEntity<CashFlowResponse> getCashFlow(
+            @RequestParam("from") LocalDate from,
+            @RequestParam("to") LocalDate to,
+            @RequestParam(value = "granularity", defaultValue = "month") String granularity,
+            @RequestParam(value = "groupBy", defaultValue = "type") String groupBy) {
+        CashFlowResponse response = analyticsService.getCashFlow(
+                from,
+                to,
+                CashFlowGranularity.fromValue(granularity),
+                CashFlowGrouping.fromValue(groupBy));
+        return ResponseEntity.ok(response);
+    }
+}
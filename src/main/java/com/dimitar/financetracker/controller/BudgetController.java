@@ -1,17 +1,25 @@
 package com.dimitar.financetracker.controller;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
 import com.dimitar.financetracker.dto.request.budget.UpdateBudgetRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
 import com.dimitar.financetracker.service.BudgetService;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,10 +27,14 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/budgets")
@@ -33,13 +45,16 @@ public class BudgetController {
 
     @Operation(
             summary = "Create a budget",
-            description = "Creates a new budget for a category or grouping with defined limits and period."
+            description = "Creates a new budget for a category or grouping with defined limits and period.",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Optional client-generated key; retries with the same key replay the first response")
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Budget successfully created"),
             @ApiResponse(responseCode = "400", description = "Validation failed for supplied budget data"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
-            @ApiResponse(responseCode = "409", description = "Conflict - overlapping or duplicate budget exists")
+            @ApiResponse(responseCode = "409", description = "Conflict - overlapping or duplicate budget exists"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request")
     })
     @PostMapping
     public ResponseEntity<BudgetResponse> createBudget(@Valid @RequestBody CreateBudgetRequest request) {
@@ -116,18 +131,62 @@ public class BudgetController {
 
     @Operation(
             summary = "List all budgets",
-            description = "Retrieves all budgets owned by the authenticated user (active and inactive)."
+            description = "Retrieves one page of the budgets owned by the authenticated user (active and inactive), in id order. " +
+                         "Pass nextCursor back as 'cursor' for the following page; the streamed variant returns every budget."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Budgets successfully retrieved"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
     })
     @GetMapping
-    public ResponseEntity<List<BudgetResponse>> getAllBudgets() {
-        List<BudgetResponse> budgets = budgetService.getAllBudgets();
+    public ResponseEntity<CursorPagedResponse<BudgetResponse>> getAllBudgets(
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size, at most 100")
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPagedResponse<BudgetResponse> budgets = budgetService.getAllBudgets(
+                CursorPageRequest.builder().cursor(cursor).limit(limit).build());
         return ResponseEntity.ok(budgets);
     }
 
+    @Operation(
+            summary = "List selected fields of all budgets",
+            description = "Like the budget list, but only the comma-separated fields are read and returned. Allowed fields: id, userId, categoryId, categoryName, amount, startDate, endDate, period, isActive, isRecurring, createdAt, updatedAt."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Map<String, Object>>> getAllBudgetFields(@RequestParam("fields") String fields) {
+        List<Map<String, Object>> budgets = budgetService.getAllBudgetFields(fields);
+        return ResponseEntity.ok(budgets);
+    }
+
+    @Operation(
+            summary = "Stream all budgets",
+            description = "Streams every budget of the user in id order when the Accept header asks for application/x-ndjson, " +
+                         "application/vnd.financetracker.columnar+json, application/cbor or application/x-jackson-smile. " +
+                         "'fields' optionally limits the fields as in the JSON list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Budgets streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllBudgets(
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return ResponseEntity.ok()
+                .contentType(encoding.mediaType())
+                .header("X-Accel-Buffering", "no")
+                .body(budgetService.streamAllBudgets(fields, encoding));
+    }
+
     @Operation(
             summary = "List active budgets",
             description = "Retrieves only budgets currently active."
@@ -142,6 +201,21 @@ public class BudgetController {
         return ResponseEntity.ok(budgets);
     }
 
+    @Operation(
+            summary = "List selected fields of active budgets",
+            description = "Like the active budget list, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/active", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getActiveBudgetFields(@RequestParam("fields") String fields) {
+        List<Map<String, Object>> budgets = budgetService.getActiveBudgetFields(fields);
+        return ResponseEntity.ok(budgets);
+    }
+
     @Operation(
             summary = "Get budget by ID",
             description = "Retrieves a single budget by its ID."
@@ -172,6 +246,22 @@ public class BudgetController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "List selected fields of budgets by category",
+            description = "Like the by-category budget list, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/category/{categoryId}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getBudgetFieldsByCategory(@PathVariable Long categoryId,
+                                                                                @RequestParam("fields") String fields) {
+        List<Map<String, Object>> responses = budgetService.getBudgetFieldsByCategory(categoryId, fields);
+        return ResponseEntity.ok(responses);
+    }
+
     @Operation(
             summary = "Get budget usage",
             description = "Retrieves current usage metrics (e.g., spent vs. limit) for the specified budget."
@@ -201,4 +291,18 @@ public class BudgetController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "List budget alerts",
+            description = "Retrieves alerts raised when spending within a budget crossed a configured threshold (80% and 100% by default), newest first."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Budget alerts successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/alerts")
+    public ResponseEntity<List<BudgetAlertResponse>> getBudgetAlerts() {
+        List<BudgetAlertResponse> responses = budgetService.getBudgetAlerts();
+        return ResponseEntity.ok(responses);
+    }
+
 }
@@ -26,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -131,6 +132,21 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    @Operation(
+            summary = "List selected fields of all categories",
+            description = "Like the category list, but only the comma-separated fields are read and returned. Allowed fields: id, name, type, color, createdAt, updatedAt."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllCategoryFields(@RequestParam("fields") String fields) {
+        List<Map<String, Object>> categories = categoryService.getAllCategoryFields(fields);
+        return ResponseEntity.ok(categories);
+    }
+
     @Operation(
             summary = "Get category by ID",
             description = "Retrieves a single category by its ID if it belongs to the authenticated user."
@@ -161,6 +177,22 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    @Operation(
+            summary = "List selected fields of categories by type",
+            description = "Like the by-type category list, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/type/{type}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getCategoryFieldsByType(@PathVariable CategoryType type,
+                                                                              @RequestParam("fields") String fields) {
+        List<Map<String, Object>> categories = categoryService.getCategoryFieldsByType(type, fields);
+        return ResponseEntity.ok(categories);
+    }
+
     @Operation(
             summary = "Search categories by name",
             description = "Performs a case-insensitive search for categories whose names contain the query substring."
@@ -176,4 +208,20 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    @Operation(
+            summary = "Search selected fields of categories by name",
+            description = "Like the category name search, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> searchCategoryFieldsByName(@RequestParam("q") String q,
+                                                                                 @RequestParam("fields") String fields) {
+        List<Map<String, Object>> categories = categoryService.searchCategoryFieldsByName(q, fields);
+        return ResponseEntity.ok(categories);
+    }
+
 }
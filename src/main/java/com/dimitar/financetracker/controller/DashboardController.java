@@ -0,0 +1,40 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Composite payload for the dashboard page")
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    @Operation(
+            summary = "Get dashboard",
+            description = "Returns statistics, recent transactions, budget usage and categories in one payload. The parts " +
+                         "are computed concurrently under a shared deadline; parts that miss it are null and listed in " +
+                         "'unavailableSections'."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard successfully computed, possibly partially"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Parameter(description = "Number of recent transactions (default 10, max 100)")
+            @RequestParam(value = "recentLimit", required = false) Integer recentLimit) {
+        return ResponseEntity.ok(dashboardService.getDashboard(recentLimit));
+    }
+}
@@ -0,0 +1,55 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.request.currency.ReplaceExchangeRatesRequest;
+import com.dimitar.financetracker.dto.response.currency.ExchangeRatesResponse;
+import com.dimitar.financetracker.service.CurrencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Exchange Rates", description = "Supported currencies and the rates amounts are converted with")
+public class ExchangeRateController {
+    private final CurrencyService currencyService;
+
+    @Operation(
+            summary = "Get supported currencies",
+            description = "Lists the currencies with loaded rates and the dates they cover. Amounts are converted " +
+                         "with the rate of their own date, clamped to this range."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Currencies successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/exchange-rates")
+    public ResponseEntity<ExchangeRatesResponse> getExchangeRates() {
+        return ResponseEntity.ok(currencyService.getExchangeRates());
+    }
+
+    @Operation(
+            summary = "Replace exchange rates",
+            description = "Replaces every stored rate (units per 1 EUR) and reloads the in-memory snapshot. " +
+                         "Cached totals are recomputed with the new rates. Requires ROLE_ADMIN."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rates successfully replaced"),
+            @ApiResponse(responseCode = "400", description = "Invalid quotes, or a currency in use has no rates"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - admin role required")
+    })
+    @PutMapping("/admin/exchange-rates")
+    public ResponseEntity<ExchangeRatesResponse> replaceExchangeRates(@Valid @RequestBody ReplaceExchangeRatesRequest request) {
+        return ResponseEntity.ok(currencyService.replaceExchangeRates(request));
+    }
+}
@@ -0,0 +1,37 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.service.InsightsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/insights")
+@RequiredArgsConstructor
+@Tag(name = "Insights", description = "Predictive insights derived from spending history")
+public class InsightsController {
+    private final InsightsService insightsService;
+
+    @Operation(
+            summary = "Forecast active budgets",
+            description = "Projects end-of-period spend for every currently active budget from per-category " +
+                         "exponentially smoothed spending, maintained incrementally as transactions are written."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Forecasts successfully computed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/forecast")
+    public ResponseEntity<List<BudgetForecastResponse>> getBudgetForecasts() {
+        return ResponseEntity.ok(insightsService.getBudgetForecasts());
+    }
+}
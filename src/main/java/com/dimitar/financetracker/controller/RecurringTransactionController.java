@@ -0,0 +1,75 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.service.RecurringTransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recurring-transactions")
+@RequiredArgsConstructor
+@Tag(name = "Recurring Transactions", description = "Rules that post a transaction automatically on every occurrence (rent, salary, subscriptions)")
+public class RecurringTransactionController {
+    private final RecurringTransactionService recurringTransactionService;
+
+    @Operation(
+            summary = "Create a recurring transaction",
+            description = "Creates a rule that posts a transaction on every occurrence of its schedule. Occurrences between the start date and today are backfilled by the next scheduler run."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Recurring transaction successfully created"),
+            @ApiResponse(responseCode = "400", description = "Validation failed or invalid schedule"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> createRecurringTransaction(
+            @Valid @RequestBody CreateRecurringTransactionRequest request) {
+        RecurringTransactionResponse response = recurringTransactionService.createRecurringTransaction(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(
+            summary = "List recurring transactions",
+            description = "Retrieves the authenticated user's recurring transaction rules ordered by next occurrence."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recurring transactions successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping
+    public ResponseEntity<List<RecurringTransactionResponse>> getRecurringTransactions() {
+        return ResponseEntity.ok(recurringTransactionService.getRecurringTransactions());
+    }
+
+    @Operation(
+            summary = "Delete a recurring transaction",
+            description = "Deletes the rule. Transactions it already posted are kept."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Recurring transaction successfully deleted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "404", description = "Recurring transaction not found")
+    })
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<Void> deleteRecurringTransaction(@PathVariable Long ruleId) {
+        recurringTransactionService.deleteRecurringTransaction(ruleId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.service.StreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+@Tag(name = "Streams", description = "Server-Sent Event streams of changes to the user's data")
+public class StreamController {
+    private final StreamService streamService;
+
+    @Operation(
+            summary = "Stream updates",
+            description = "Opens a Server-Sent Events stream that pushes an 'update' event with a small delta whenever a " +
+                         "transaction, category or budget command commits for the authenticated user. Comment heartbeats " +
+                         "keep the connection alive. Reconnecting with the Last-Event-ID header replays missed events, or " +
+                         "sends a RESYNC event when they are no longer available."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUpdates(
+            @Parameter(description = "Id of the last event received, sent by EventSource on reconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(streamService.subscribeToUpdates(lastEventId));
+    }
+}
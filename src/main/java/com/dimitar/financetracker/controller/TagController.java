@@ -0,0 +1,135 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.request.tag.SetTransactionTagsRequest;
+import com.dimitar.financetracker.dto.response.PagedResponse;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.dto.response.tag.TagSummaryResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Tags", description = "Free-form transaction labels and tag-filtered transaction queries")
+public class TagController {
+    private final TagService tagService;
+
+    @Operation(
+            summary = "Get all tags",
+            description = "Lists the user's tags by name, each with the number of transactions carrying it."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tags successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/tags")
+    public ResponseEntity<List<TagResponse>> getTags() {
+        return ResponseEntity.ok(tagService.getTags());
+    }
+
+    @Operation(
+            summary = "Delete a tag",
+            description = "Deletes a tag and removes it from every transaction. The transactions themselves are kept."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Tag successfully deleted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "404", description = "Tag not found")
+    })
+    @DeleteMapping("/tags/{tagId}")
+    public ResponseEntity<Void> deleteTag(@PathVariable Long tagId) {
+        tagService.deleteTag(tagId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @Operation(
+            summary = "Get transactions by tags",
+            description = "Returns the transactions carrying every tag in all, at least one tag in any and no tag " +
+                         "in none, newest first. Each parameter takes comma-separated names; omitted ones do not filter."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/tags/transactions")
+    public ResponseEntity<PagedResponse<TransactionResponse>> getTaggedTransactions(
+            @Parameter(description = "Tags that must all be present", example = "reimbursable,trip-2026")
+            @RequestParam(required = false) List<String> all,
+            @Parameter(description = "Tags of which at least one must be present", example = "travel,food")
+            @RequestParam(required = false) List<String> any,
+            @Parameter(description = "Tags that must be absent", example = "refunded")
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(tagService.getTaggedTransactions(all, any, none, page, size));
+    }
+
+    @Operation(
+            summary = "Get totals by tags",
+            description = "Income, expense and net totals of the transactions matching the same all/any/none filter, " +
+                         "in the user's base currency."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Totals successfully calculated"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/tags/summary")
+    public ResponseEntity<TagSummaryResponse> getTagSummary(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none) {
+        return ResponseEntity.ok(tagService.getTagSummary(all, any, none));
+    }
+
+    @Operation(
+            summary = "Get a transaction's tags",
+            description = "Lists the tags of a single transaction by name."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tags successfully retrieved"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "404", description = "Transaction not found")
+    })
+    @GetMapping("/transactions/{transactionId}/tags")
+    public ResponseEntity<List<TagResponse>> getTransactionTags(@PathVariable Long transactionId) {
+        return ResponseEntity.ok(tagService.getTransactionTags(transactionId));
+    }
+
+    @Operation(
+            summary = "Replace a transaction's tags",
+            description = "Sets the tags of a transaction to the given names, creating tags that do not exist yet. " +
+                         "Names are trimmed and lowercased."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tags successfully replaced"),
+            @ApiResponse(responseCode = "400", description = "Invalid tag names or too many tags"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "404", description = "Transaction not found")
+    })
+    @PutMapping("/transactions/{transactionId}/tags")
+    public ResponseEntity<List<TagResponse>> setTransactionTags(@PathVariable Long transactionId,
+                                                                @Valid @RequestBody SetTransactionTagsRequest request) {
+        request.setTransactionId(transactionId);
+        return ResponseEntity.ok(tagService.setTransactionTags(request));
+    }
+}
@@ -1,14 +1,21 @@
 package com.dimitar.financetracker.controller;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.PageRequest;
 import com.dimitar.financetracker.dto.request.transaction.CreateTransactionRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
 import com.dimitar.financetracker.dto.request.transaction.UpdateTransactionRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.PagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.service.TransactionService;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,15 +23,20 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,13 +50,16 @@ public class TransactionController {
 
     @Operation(
             summary = "Create a transaction",
-            description = "Creates a new financial transaction (income or expense) for the authenticated user."
+            description = "Creates a new financial transaction (income or expense) for the authenticated user.",
+            parameters = @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key",
+                    description = "Optional client-generated key; retries with the same key replay the first response")
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Transaction successfully created"),
             @ApiResponse(responseCode = "400", description = "Validation failed for supplied transaction data"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
-            @ApiResponse(responseCode = "404", description = "Referenced resource (e.g., category) not found")
+            @ApiResponse(responseCode = "404", description = "Referenced resource (e.g., category) not found"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used for a different request")
     })
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(@Valid @RequestBody CreateTransactionRequest request) {
@@ -114,6 +129,41 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    @Operation(
+            summary = "List selected fields of all transactions (non-paginated)",
+            description = "Like the non-paginated list, but only the comma-separated fields are read and returned. Allowed fields: id, userId, categoryId, categoryName, amount, description, transactionDate, createdAt, updatedAt."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Map<String, Object>>> getAllTransactionFields(@RequestParam("fields") String fields) {
+        List<Map<String, Object>> transactions = transactionService.getAllTransactionFields(fields);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @Operation(
+            summary = "Stream all transactions",
+            description = "Streams every transaction of the user, newest first, when the Accept header asks for application/x-ndjson (one object per line), " +
+                         "application/vnd.financetracker.columnar+json (blocks of per-field arrays), application/cbor or application/x-jackson-smile. " +
+                         "Rows are encoded as they are read from the database. 'fields' optionally limits the fields as in the JSON list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllTransactions(
+        @RequestHeader(HttpHeaders.ACCEPT) String accept,
+        @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return streamed(encoding, transactionService.streamAllTransactions(fields, encoding));
+    }
+
     @Operation(
             summary = "List all transactions with pagination",
             description = "Retrieves all transactions for the authenticated user with pagination and sorting support. " +
@@ -141,6 +191,87 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    @Operation(
+            summary = "List selected fields of all transactions with pagination",
+            description = "Like the paginated list, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(params = {"page", "size", "fields"})
+    public ResponseEntity<PagedResponse<Map<String, Object>>> getAllTransactionFields(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "transactionDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam("fields") String fields) {
+
+        PageRequest pageRequest = PageRequest.builder()
+                .page(page)
+                .size(size)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+
+        PagedResponse<Map<String, Object>> transactions = transactionService.getAllTransactionFields(pageRequest, fields);
+        return ResponseEntity.ok(transactions);
+    }
+
+    @Operation(
+            summary = "Query transactions by combined filters",
+            description = "Retrieves transactions matching every given filter: date range, categories, amount range, " +
+                         "category type, description text and tags. Pages are read by keyset: pass nextCursor " +
+                         "back as cursor, keeping the same filters and sort."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid sortBy, limit or cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping("/query")
+    public ResponseEntity<CursorPagedResponse<TransactionResponse>> queryTransactions(
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @Parameter(description = "Comma-separated category ids, any of which matches", example = "10,12")
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) CategoryType type,
+            @Parameter(description = "Case-insensitive substring of the description", example = "coffee")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Tags that must all be present", example = "trip-2026")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "Tags of which at least one must be present", example = "food,travel")
+            @RequestParam(required = false) List<String> anyTags,
+            @Parameter(description = "Tags that must be absent", example = "refunded")
+            @RequestParam(required = false) List<String> excludeTags,
+            @RequestParam(defaultValue = "transactionDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        TransactionQueryRequest request = TransactionQueryRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .categoryIds(categoryIds)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .type(type)
+                .q(q)
+                .tags(tags)
+                .anyTags(anyTags)
+                .excludeTags(excludeTags)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+
+        return ResponseEntity.ok(transactionService.queryTransactions(request));
+    }
+
     @Operation(
             summary = "Get transaction by ID",
             description = "Retrieves a single transaction by its ID."
@@ -158,7 +289,8 @@ public class TransactionController {
 
     @Operation(
             summary = "List transactions within a date range",
-            description = "Retrieves transactions whose date falls between the provided startDate and endDate (inclusive)."
+            description = "Retrieves one page of the transactions whose date falls between the provided startDate and endDate (inclusive), newest first. " +
+                         "Pass nextCursor back as 'cursor' for the following page; the streamed variant returns every row."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transactions successfully retrieved"),
@@ -166,16 +298,64 @@ public class TransactionController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
     })
     @GetMapping("/date-range")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsInDateRange(
+    public ResponseEntity<CursorPagedResponse<TransactionResponse>> getTransactionsInDateRange(
         @RequestParam("startDate") LocalDate startDate,
-        @RequestParam("endDate") LocalDate endDate) {
-        List<TransactionResponse> responses = transactionService.getTransactionsInDateRange(startDate, endDate);
+        @RequestParam("endDate") LocalDate endDate,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPagedResponse<TransactionResponse> responses = transactionService.getTransactionsInDateRange(
+            startDate, endDate, CursorPageRequest.builder().cursor(cursor).limit(limit).build());
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "List selected fields of transactions within a date range",
+            description = "Like the date-range list, but only the comma-separated fields are read and returned; paged by the same cursor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields', or an invalid cursor or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/date-range", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPagedResponse<Map<String, Object>>> getTransactionFieldsInDateRange(
+        @RequestParam("startDate") LocalDate startDate,
+        @RequestParam("endDate") LocalDate endDate,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit,
+        @RequestParam("fields") String fields) {
+        CursorPagedResponse<Map<String, Object>> responses = transactionService.getTransactionFieldsInDateRange(
+            startDate, endDate, CursorPageRequest.builder().cursor(cursor).limit(limit).build(), fields);
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(
+            summary = "Stream transactions within a date range",
+            description = "Streamed variant of the date-range list, negotiated by the Accept header like the streamed transaction list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/date-range", produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamTransactionsInDateRange(
+        @RequestHeader(HttpHeaders.ACCEPT) String accept,
+        @RequestParam("startDate") LocalDate startDate,
+        @RequestParam("endDate") LocalDate endDate,
+        @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return streamed(encoding, transactionService.streamTransactionsInDateRange(startDate, endDate, fields, encoding));
+    }
+
     @Operation(
             summary = "List transactions by category",
-            description = "Retrieves all transactions associated with a specific category ID."
+            description = "Retrieves one page of the transactions associated with a specific category ID, newest first, paged by cursor like the date-range list."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transactions successfully retrieved"),
@@ -183,14 +363,61 @@ public class TransactionController {
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByCategory(@PathVariable Long categoryId) {
-        List<TransactionResponse> responses = transactionService.getTransactionsByCategory(categoryId);
+    public ResponseEntity<CursorPagedResponse<TransactionResponse>> getTransactionsByCategory(
+        @PathVariable Long categoryId,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPagedResponse<TransactionResponse> responses = transactionService.getTransactionsByCategory(
+            categoryId, CursorPageRequest.builder().cursor(cursor).limit(limit).build());
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(
+            summary = "List selected fields of transactions by category",
+            description = "Like the by-category list, but only the comma-separated fields are read and returned; paged by the same cursor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields', or an invalid cursor or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/category/{categoryId}", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPagedResponse<Map<String, Object>>> getTransactionFieldsByCategory(
+        @PathVariable Long categoryId,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit,
+        @RequestParam("fields") String fields) {
+        CursorPagedResponse<Map<String, Object>> responses = transactionService.getTransactionFieldsByCategory(
+            categoryId, CursorPageRequest.builder().cursor(cursor).limit(limit).build(), fields);
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "Stream transactions by category",
+            description = "Streamed variant of the by-category list, negotiated by the Accept header like the streamed transaction list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/category/{categoryId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamTransactionsByCategory(
+        @RequestHeader(HttpHeaders.ACCEPT) String accept,
+        @PathVariable Long categoryId,
+        @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return streamed(encoding, transactionService.streamTransactionsByCategory(categoryId, fields, encoding));
+    }
+
     @Operation(
             summary = "List transactions by amount range",
-            description = "Retrieves transactions with amounts within the specified (optional) inclusive min/max bounds."
+            description = "Retrieves one page of the transactions with amounts within the specified (optional) inclusive min/max bounds, newest first, paged by cursor like the date-range list."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Transactions successfully retrieved"),
@@ -198,16 +425,65 @@ public class TransactionController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
     })
     @GetMapping("/amount-range")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByAmountRange(
+    public ResponseEntity<CursorPagedResponse<TransactionResponse>> getTransactionsByAmountRange(
         @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
-        @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount) {
-        List<TransactionResponse> responses = transactionService.getTransactionsByAmountRange(minAmount, maxAmount);
+        @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPagedResponse<TransactionResponse> responses = transactionService.getTransactionsByAmountRange(
+            minAmount, maxAmount, CursorPageRequest.builder().cursor(cursor).limit(limit).build());
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "List selected fields of transactions by amount range",
+            description = "Like the amount-range list, but only the comma-separated fields are read and returned; paged by the same cursor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields', or an invalid cursor or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/amount-range", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPagedResponse<Map<String, Object>>> getTransactionFieldsByAmountRange(
+        @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
+        @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit,
+        @RequestParam("fields") String fields) {
+        CursorPagedResponse<Map<String, Object>> responses = transactionService.getTransactionFieldsByAmountRange(
+            minAmount, maxAmount, CursorPageRequest.builder().cursor(cursor).limit(limit).build(), fields);
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(
+            summary = "Stream transactions by amount range",
+            description = "Streamed variant of the amount-range list, negotiated by the Accept header like the streamed transaction list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/amount-range", produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamTransactionsByAmountRange(
+        @RequestHeader(HttpHeaders.ACCEPT) String accept,
+        @RequestParam(value = "minAmount", required = false) BigDecimal minAmount,
+        @RequestParam(value = "maxAmount", required = false) BigDecimal maxAmount,
+        @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return streamed(encoding, transactionService.streamTransactionsByAmountRange(minAmount, maxAmount, fields, encoding));
+    }
+
     @Operation(
             summary = "Search transactions by description",
-            description = "Performs a case-insensitive search for transactions whose description contains the provided query substring."
+            description = "Performs a case-insensitive search for transactions whose description contains the provided query substring. " +
+                         "Returns one page, newest first, paged by cursor like the date-range list."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Search results returned"),
@@ -215,12 +491,58 @@ public class TransactionController {
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
     })
     @GetMapping("/search")
-    public ResponseEntity<List<TransactionResponse>> searchTransactions(
-        @RequestParam("q") String q) {
-        List<TransactionResponse> responses = transactionService.searchTransactionsByDescription(q);
+    public ResponseEntity<CursorPagedResponse<TransactionResponse>> searchTransactions(
+        @RequestParam("q") String q,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        CursorPagedResponse<TransactionResponse> responses = transactionService.searchTransactionsByDescription(
+            q, CursorPageRequest.builder().cursor(cursor).limit(limit).build());
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "Search selected fields of transactions by description",
+            description = "Like the description search, but only the comma-separated fields are read and returned; paged by the same cursor."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields', or an invalid cursor or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/search", params = "fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPagedResponse<Map<String, Object>>> searchTransactionFields(
+        @RequestParam("q") String q,
+        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size, at most 100")
+        @RequestParam(value = "limit", defaultValue = "20") int limit,
+        @RequestParam("fields") String fields) {
+        CursorPagedResponse<Map<String, Object>> responses = transactionService.searchTransactionFieldsByDescription(
+            q, CursorPageRequest.builder().cursor(cursor).limit(limit).build(), fields);
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(
+            summary = "Stream transactions by description",
+            description = "Streamed variant of the description search, negotiated by the Accept header like the streamed transaction list."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions streamed in the negotiated encoding"),
+            @ApiResponse(responseCode = "400", description = "Missing 'q' or unknown field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_NDJSON_VALUE, RowEncoding.COLUMNAR_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, RowEncoding.SMILE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamTransactionsByDescription(
+        @RequestHeader(HttpHeaders.ACCEPT) String accept,
+        @RequestParam("q") String q,
+        @RequestParam(value = "fields", required = false) String fields) {
+        RowEncoding encoding = RowEncoding.negotiate(accept);
+        return streamed(encoding, transactionService.streamTransactionsByDescription(q, fields, encoding));
+    }
+
     @Operation(
             summary = "List recent transactions",
             description = "Retrieves the most recent transactions limited by the optional 'limit' parameter (default may be applied)."
@@ -236,4 +558,28 @@ public class TransactionController {
         List<TransactionResponse> responses = transactionService.getRecentTransactions(limit);
         return ResponseEntity.ok(responses);
     }
+
+    @Operation(
+            summary = "List selected fields of recent transactions",
+            description = "Like the recent list, but only the comma-separated fields are read and returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Selected fields successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Unknown or empty field in 'fields'"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required")
+    })
+    @GetMapping(value = "/recent", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getRecentTransactionFields(
+        @RequestParam(value = "limit", required = false) Integer limit,
+        @RequestParam("fields") String fields) {
+        List<Map<String, Object>> responses = transactionService.getRecentTransactionFields(limit, fields);
+        return ResponseEntity.ok(responses);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streamed(RowEncoding encoding, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(encoding.mediaType())
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
 }
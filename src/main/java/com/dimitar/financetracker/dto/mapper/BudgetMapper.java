@@ -21,10 +21,12 @@ public class BudgetMapper {
             .user(user)
             .category(category)
             .amount(request.getAmount())
+            .currency(request.getCurrency())
             .startDate(request.getStartDate())
             .endDate(request.getEndDate())
             .period(request.getPeriod())
             .isActive(true)
+            .isRecurring(Boolean.TRUE.equals(request.getIsRecurring()))
             .build();
     }
 
@@ -38,10 +40,12 @@ public class BudgetMapper {
             .categoryId(budget.getCategory().getId())
             .categoryName(budget.getCategory().getName())
             .amount(budget.getAmount())
+            .currency(budget.getCurrency())
             .startDate(budget.getStartDate())
             .endDate(budget.getEndDate())
             .period(budget.getPeriod())
             .isActive(budget.getIsActive())
+            .isRecurring(budget.getIsRecurring())
             .createdAt(budget.getCreatedAt())
             .updatedAt(budget.getUpdatedAt())
             .build();
@@ -57,6 +61,7 @@ public class BudgetMapper {
             .categoryId(budget.getCategory().getId())
             .categoryName(budget.getCategory().getName())
             .amount(budget.getAmount())
+            .currency(budget.getCurrency())
             .startDate(budget.getStartDate())
             .endDate(budget.getEndDate())
             .period(budget.getPeriod())
@@ -77,6 +82,10 @@ public class BudgetMapper {
             budget.setAmount(request.getAmount());
         }
 
+        if (request.getCurrency() != null) {
+            budget.setCurrency(request.getCurrency());
+        }
+
         if (request.getPeriod() != null) {
             budget.setPeriod(request.getPeriod());
         }
@@ -88,5 +97,9 @@ public class BudgetMapper {
         if (request.getEndDate() != null) {
             budget.setEndDate(request.getEndDate());
         }
+
+        if (request.getIsRecurring() != null) {
+            budget.setIsRecurring(request.getIsRecurring());
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.dimitar.financetracker.dto.mapper;
+
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.entity.User;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RecurringTransactionMapper {
+    public RecurringTransaction toEntity(CreateRecurringTransactionRequest request, User user, Category category) {
+        if (request == null) {
+            return null;
+        }
+        return RecurringTransaction.builder()
+            .user(user)
+            .category(category)
+            .amount(request.getAmount())
+            .currency(request.getCurrency())
+            .description(request.getDescription())
+            .frequency(request.getFrequency())
+            .cronExpression(request.getCronExpression())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .isActive(true)
+            .build();
+    }
+
+    public RecurringTransactionResponse toResponse(RecurringTransaction rule) {
+        if (rule == null) {
+            return null;
+        }
+        return RecurringTransactionResponse.builder()
+            .id(rule.getId())
+            .categoryId(rule.getCategory().getId())
+            .categoryName(rule.getCategory().getName())
+            .amount(rule.getAmount())
+            .currency(rule.getCurrency())
+            .description(rule.getDescription())
+            .frequency(rule.getFrequency())
+            .cronExpression(rule.getCronExpression())
+            .startDate(rule.getStartDate())
+            .endDate(rule.getEndDate())
+            .nextRunDate(rule.getNextRunDate())
+            .isActive(rule.getIsActive())
+            .createdAt(rule.getCreatedAt())
+            .build();
+    }
+}
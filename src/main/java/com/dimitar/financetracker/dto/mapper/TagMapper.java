@@ -0,0 +1,24 @@
+package com.dimitar.financetracker.dto.mapper;
+
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.entity.Tag;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TagMapper {
+
+    public TagResponse toResponse(Tag tag) {
+        return toResponse(tag, null);
+    }
+
+    public TagResponse toResponse(Tag tag, Long transactionCount) {
+        if (tag == null) {
+            return null;
+        }
+        return TagResponse.builder()
+            .id(tag.getId())
+            .name(tag.getName())
+            .transactionCount(transactionCount)
+            .build();
+    }
+}
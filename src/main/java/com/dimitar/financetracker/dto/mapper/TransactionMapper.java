@@ -22,6 +22,7 @@ public class TransactionMapper {
             .user(user)
             .category(category)
             .amount(request.getAmount())
+            .currency(request.getCurrency())
             .description(request.getDescription() != null ? request.getDescription().trim() : null)
             .transactionDate(request.getTransactionDate())
             .build();
@@ -37,6 +38,7 @@ public class TransactionMapper {
             .categoryId(transaction.getCategory() != null ? transaction.getCategory().getId() : null)
             .categoryName(transaction.getCategory() != null ? transaction.getCategory().getName() : null)
             .amount(transaction.getAmount())
+            .currency(transaction.getCurrency())
             .description(transaction.getDescription())
             .transactionDate(transaction.getTransactionDate())
             .createdAt(transaction.getCreatedAt())
@@ -54,6 +56,7 @@ public class TransactionMapper {
             .categoryId(transaction.getCategory() != null ? transaction.getCategory().getId() : null)
             .categoryName(transaction.getCategory() != null ? transaction.getCategory().getName() : null)
             .amount(transaction.getAmount())
+            .currency(transaction.getCurrency())
             .description(transaction.getDescription())
             .transactionDate(transaction.getTransactionDate())
             .build();
@@ -72,6 +75,10 @@ public class TransactionMapper {
             transaction.setAmount(request.getAmount());
         }
 
+        if (request.getCurrency() != null) {
+            transaction.setCurrency(request.getCurrency());
+        }
+
         if (request.getDescription() != null) {
             String trimmedDescription = request.getDescription().trim();
             transaction.setDescription(trimmedDescription.isEmpty() ? null : trimmedDescription);
@@ -30,6 +30,7 @@ public class UserMapper {
             .id(user.getId())
             .username(user.getUsername())
             .email(user.getEmail())
+            .baseCurrency(user.getBaseCurrency())
             .createdAt(user.getCreatedAt())
             .updatedAt(user.getUpdatedAt())
             .build();
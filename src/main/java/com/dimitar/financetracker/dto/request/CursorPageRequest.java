@@ -0,0 +1,23 @@
+package com.dimitar.financetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Keyset pagination parameters for list queries")
+public class CursorPageRequest {
+    public static final int MAX_LIMIT = 100;
+
+    @Schema(description = "nextCursor of the previous page; omit for the first page", example = "dHJhbnNhY3Rpb25EYXRlLERFU0MsMjAyNi0wMy0wMSw0Mg")
+    private String cursor;
+
+    @Schema(description = "Number of items per page (1-100)", example = "20", defaultValue = "20")
+    @Builder.Default
+    private int limit = 20;
+}
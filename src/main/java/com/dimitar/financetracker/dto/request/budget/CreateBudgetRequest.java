@@ -4,6 +4,7 @@ import com.dimitar.financetracker.model.BudgetPeriod;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +17,7 @@ import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_AMOUNT_MIN;
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_PERIOD_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.START_DATE_REQUIRED;
 
 @Data
@@ -33,6 +35,10 @@ public class CreateBudgetRequest {
     @Schema(description = "Monetary budget limit (must be >= 0.01)", example = "500.00")
     private BigDecimal amount;
 
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "ISO 4217 currency of the limit; usage is converted into it (optional, defaults to the user's base currency)", example = "USD")
+    private String currency;
+
     @NotNull(message = BUDGET_PERIOD_REQUIRED)
     @Schema(description = "Budget recurrence period", example = "MONTHLY")
     private BudgetPeriod period;
@@ -43,4 +49,7 @@ public class CreateBudgetRequest {
 
     @Schema(description = "Optional end date (inclusive). If omitted, derived from period or considered open-ended.", example = "2026-04-30")
     private LocalDate endDate;
+
+    @Schema(description = "Roll the budget into a new one of the same period and amount when it ends (ignored for CUSTOM)", example = "true")
+    private Boolean isRecurring;
 }
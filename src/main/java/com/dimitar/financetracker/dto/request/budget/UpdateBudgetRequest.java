@@ -2,6 +2,7 @@ package com.dimitar.financetracker.dto.request.budget;
 
 import com.dimitar.financetracker.model.BudgetPeriod;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_AMOUNT_MIN;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 
 @Data
 @NoArgsConstructor
@@ -29,6 +31,10 @@ public class UpdateBudgetRequest {
     @Schema(description = "Updated monetary limit (optional, must be >= 0.01)", example = "650.00")
     private BigDecimal amount;
 
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "Updated ISO 4217 currency of the limit (optional)", example = "USD")
+    private String currency;
+
     @Schema(description = "Updated recurrence period (optional)", example = "MONTHLY")
     private BudgetPeriod period;
 
@@ -37,4 +43,7 @@ public class UpdateBudgetRequest {
 
     @Schema(description = "Updated end date (optional, ISO-8601)", example = "2026-04-30")
     private LocalDate endDate;
+
+    @Schema(description = "Updated recurrence flag (optional)", example = "false")
+    private Boolean isRecurring;
 }
@@ -0,0 +1,37 @@
+package com.dimitar.financetracker.dto.request.currency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One exchange-rate quote: units of the currency per 1 EUR on a date.")
+public class ExchangeRateRequest {
+
+    @NotNull(message = CURRENCY_INVALID)
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "ISO 4217 currency code", example = "USD")
+    private String currency;
+
+    @NotNull(message = "Rate date is required")
+    @Schema(description = "Date the rate applies from (ISO-8601); later days without a quote reuse it", example = "2025-01-02")
+    private LocalDate date;
+
+    @NotNull(message = "Rate is required")
+    @DecimalMin(value = "0", inclusive = false, message = "Rate must be positive")
+    @Schema(description = "Units of the currency per 1 EUR", example = "1.0321")
+    private BigDecimal rate;
+}
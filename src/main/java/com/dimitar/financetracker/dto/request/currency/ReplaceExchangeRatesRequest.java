@@ -0,0 +1,24 @@
+package com.dimitar.financetracker.dto.request.currency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Payload replacing every stored exchange rate. Currencies still in use must keep at least one quote.")
+public class ReplaceExchangeRatesRequest {
+
+    @NotEmpty(message = "Rates cannot be empty")
+    @Valid
+    @Schema(description = "Quotes against EUR, the reference currency")
+    private List<ExchangeRateRequest> rates;
+}
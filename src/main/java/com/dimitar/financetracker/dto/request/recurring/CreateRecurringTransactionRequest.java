@@ -0,0 +1,65 @@
+package com.dimitar.financetracker.dto.request.recurring;
+
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.CRON_EXPRESSION_MAX_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DESCRIPTION_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_MIN;
+import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
+import static com.dimitar.financetracker.util.ErrorMessages.DESCRIPTION_TOO_LONG;
+import static com.dimitar.financetracker.util.ErrorMessages.RECURRENCE_FREQUENCY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.START_DATE_REQUIRED;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Payload to create a recurring transaction rule that is posted automatically on every occurrence.")
+public class CreateRecurringTransactionRequest {
+
+    @NotNull(message = CATEGORY_REQUIRED)
+    @Schema(description = "ID of the category the generated transactions belong to", example = "101")
+    private Long categoryId;
+
+    @NotNull(message = AMOUNT_REQUIRED)
+    @DecimalMin(value = "0.01", message = AMOUNT_MIN)
+    @Schema(description = "Amount of every generated transaction", example = "1200.00")
+    private BigDecimal amount;
+
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "ISO 4217 currency of every generated transaction (optional, defaults to the user's base currency)", example = "USD")
+    private String currency;
+
+    @Size(max = DESCRIPTION_MAX_LENGTH, message = DESCRIPTION_TOO_LONG)
+    @Schema(description = "Description copied to every generated transaction", example = "Rent")
+    private String description;
+
+    @NotNull(message = RECURRENCE_FREQUENCY_REQUIRED)
+    @Schema(description = "How often the transaction repeats", example = "MONTHLY")
+    private RecurrenceFrequency frequency;
+
+    @Size(max = CRON_EXPRESSION_MAX_LENGTH)
+    @Schema(description = "Six-field cron expression (second minute hour day month weekday), required when frequency is CRON", example = "0 0 0 1,15 * *")
+    private String cronExpression;
+
+    @NotNull(message = START_DATE_REQUIRED)
+    @Schema(description = "Date of the first occurrence (ISO-8601); past dates are backfilled", example = "2025-11-01")
+    private LocalDate startDate;
+
+    @Schema(description = "Optional last date (inclusive) on which an occurrence may fall", example = "2026-10-31")
+    private LocalDate endDate;
+}
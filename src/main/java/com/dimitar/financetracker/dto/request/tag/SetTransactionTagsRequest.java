@@ -0,0 +1,40 @@
+package com.dimitar.financetracker.dto.request.tag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.MAX_TAGS_PER_TRANSACTION;
+import static com.dimitar.financetracker.util.DatabaseConstants.TAG_NAME_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.TAGS_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.TAGS_TOO_MANY;
+import static com.dimitar.financetracker.util.ErrorMessages.TAG_NAME_INVALID;
+import static com.dimitar.financetracker.util.ErrorMessages.TAG_NAME_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.TAG_NAME_TOO_LONG;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Replaces the tags of a transaction. Unknown names create new tags; an empty list removes every tag.")
+public class SetTransactionTagsRequest {
+    @Schema(description = "ID of the transaction being tagged (from path, not body)", example = "5501", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long transactionId;
+
+    @NotNull(message = TAGS_REQUIRED)
+    @Size(max = MAX_TAGS_PER_TRANSACTION, message = TAGS_TOO_MANY)
+    @Schema(description = "Tag names, case-insensitive", example = "[\"reimbursable\", \"trip-2026\"]")
+    private List<
+        @NotBlank(message = TAG_NAME_REQUIRED)
+        @Size(max = TAG_NAME_MAX_LENGTH, message = TAG_NAME_TOO_LONG)
+        @Pattern(regexp = "\\s*[\\p{L}\\p{N}][\\p{L}\\p{N} ._-]*\\s*", message = TAG_NAME_INVALID)
+        String> tags;
+}
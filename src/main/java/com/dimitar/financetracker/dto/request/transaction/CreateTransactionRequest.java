@@ -2,6 +2,7 @@ package com.dimitar.financetracker.dto.request.transaction;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import static com.dimitar.financetracker.util.DatabaseConstants.DESCRIPTION_MAX_
 import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_MIN;
 import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.DESCRIPTION_TOO_LONG;
 import static com.dimitar.financetracker.util.ErrorMessages.TRANSACTION_DATE_REQUIRED;
 
@@ -35,6 +37,10 @@ public class CreateTransactionRequest {
     @Schema(description = "Positive monetary amount (two decimal precision typical)", example = "123.45")
     private BigDecimal amount;
 
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "ISO 4217 currency of the amount (optional, defaults to the user's base currency)", example = "USD")
+    private String currency;
+
     @Size(max = DESCRIPTION_MAX_LENGTH, message = DESCRIPTION_TOO_LONG)
     @Schema(description = "Optional free-text description", example = "Weekly groceries at local market")
     private String description;
@@ -0,0 +1,65 @@
+package com.dimitar.financetracker.dto.request.transaction;
+
+import com.dimitar.financetracker.model.CategoryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Combinable transaction filters with keyset pagination. Omitted filters do not restrict the result.")
+public class TransactionQueryRequest {
+
+    @Schema(description = "Earliest transaction date (inclusive)", example = "2026-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "Latest transaction date (inclusive)", example = "2026-03-31")
+    private LocalDate endDate;
+
+    @Schema(description = "Categories of which the transaction must be in one", example = "[10, 12]")
+    private List<Long> categoryIds;
+
+    @Schema(description = "Minimum amount (inclusive)", example = "5.00")
+    private BigDecimal minAmount;
+
+    @Schema(description = "Maximum amount (inclusive)", example = "250.00")
+    private BigDecimal maxAmount;
+
+    @Schema(description = "Category type of the transaction", example = "EXPENSE")
+    private CategoryType type;
+
+    @Schema(description = "Case-insensitive substring of the description", example = "coffee")
+    private String q;
+
+    @Schema(description = "Tags that must all be present", example = "[\"trip-2026\"]")
+    private List<String> tags;
+
+    @Schema(description = "Tags of which at least one must be present", example = "[\"food\", \"travel\"]")
+    private List<String> anyTags;
+
+    @Schema(description = "Tags that must be absent", example = "[\"refunded\"]")
+    private List<String> excludeTags;
+
+    @Schema(description = "Field to sort by: transactionDate or amount", example = "transactionDate", defaultValue = "transactionDate")
+    @Builder.Default
+    private String sortBy = "transactionDate";
+
+    @Schema(description = "Sort direction (ASC or DESC)", example = "DESC", defaultValue = "DESC")
+    @Builder.Default
+    private String sortDirection = "DESC";
+
+    @Schema(description = "nextCursor of the previous page; omitted for the first page")
+    private String cursor;
+
+    @Schema(description = "Number of items per page (1-100)", example = "20", defaultValue = "20")
+    @Builder.Default
+    private int limit = 20;
+}
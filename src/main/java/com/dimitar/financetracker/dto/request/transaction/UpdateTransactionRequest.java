@@ -2,6 +2,7 @@ package com.dimitar.financetracker.dto.request.transaction;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_MIN;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.DESCRIPTION_TOO_LONG;
 import static com.dimitar.financetracker.util.DatabaseConstants.DESCRIPTION_MAX_LENGTH;
 
@@ -31,6 +33,10 @@ public class UpdateTransactionRequest {
     @Schema(description = "Updated amount (optional, must be >= 0.01 if provided)", example = "89.99")
     private BigDecimal amount;
 
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "Updated ISO 4217 currency of the amount (optional)", example = "USD")
+    private String currency;
+
     @Size(max = DESCRIPTION_MAX_LENGTH, message = DESCRIPTION_TOO_LONG)
     @Schema(description = "Updated description (optional)", example = "Adjusted grocery purchase after discount")
     private String description;
@@ -2,6 +2,7 @@ package com.dimitar.financetracker.dto.request.user;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 
 import static com.dimitar.financetracker.util.DatabaseConstants.EMAIL_MAX_LENGTH;
 import static com.dimitar.financetracker.util.DatabaseConstants.USERNAME_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.EMAIL_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.EMAIL_TOO_LONG;
 import static com.dimitar.financetracker.util.ErrorMessages.USERNAME_TOO_LONG;
@@ -28,4 +30,8 @@ public class UserUpdateRequest {
     @Email(message = EMAIL_INVALID)
     @Schema(description = "New email address (optional)", example = "new.email@example.com")
     private String email;
+
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    @Schema(description = "New base currency that statistics, cash flow and forecasts are reported in (optional)", example = "EUR")
+    private String baseCurrency;
 }
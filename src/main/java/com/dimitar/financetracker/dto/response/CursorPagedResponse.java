@@ -0,0 +1,29 @@
+package com.dimitar.financetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Keyset-paginated response wrapper: pass nextCursor back as cursor to read the following page")
+public class CursorPagedResponse<T> {
+
+    @Schema(description = "List of items for the current page", example = "[...]")
+    private List<T> content;
+
+    @Schema(description = "Maximum number of items per page", example = "20")
+    private int limit;
+
+    @Schema(description = "Cursor of the next page, or null on the last page", example = "dHJhbnNhY3Rpb25EYXRlLERFU0MsMjAyNi0wMy0wMSw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page follows", example = "true")
+    private boolean hasNext;
+}
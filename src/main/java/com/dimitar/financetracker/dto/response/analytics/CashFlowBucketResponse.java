@@ -0,0 +1,31 @@
+package com.dimitar.financetracker.dto.response.analytics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cash-flow totals for a single time bucket.")
+public class CashFlowBucketResponse {
+    @Schema(description = "First day of the bucket", example = "2025-03-01", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate periodStart;
+    @Schema(description = "Last day of the bucket", example = "2025-03-31", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate periodEnd;
+    @Schema(description = "Total income in the bucket", example = "3200.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal income;
+    @Schema(description = "Total expenses in the bucket", example = "2150.40", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal expense;
+    @Schema(description = "Net = income - expense", example = "1049.60", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal net;
+    @Schema(description = "Per-category totals, present only when grouped by category", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<CashFlowCategoryResponse> categories;
+}
@@ -0,0 +1,26 @@
+package com.dimitar.financetracker.dto.response.analytics;
+
+import com.dimitar.financetracker.model.CategoryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Total of a single category inside a cash-flow bucket.")
+public class CashFlowCategoryResponse {
+    @Schema(description = "Category ID", example = "45", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long categoryId;
+    @Schema(description = "Category name", example = "Groceries", accessMode = Schema.AccessMode.READ_ONLY)
+    private String categoryName;
+    @Schema(description = "Category type", example = "EXPENSE", accessMode = Schema.AccessMode.READ_ONLY)
+    private CategoryType type;
+    @Schema(description = "Sum of the category's transactions in the bucket", example = "420.15", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal total;
+}
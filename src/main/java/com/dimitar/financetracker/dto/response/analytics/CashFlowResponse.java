@@ -0,0 +1,32 @@
+package com.dimitar.financetracker.dto.response.analytics;
+
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Income, expense and net totals bucketed over a date range.")
+public class CashFlowResponse {
+    @Schema(description = "Start of the requested range (inclusive)", example = "2025-01-01", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate from;
+    @Schema(description = "End of the requested range (inclusive)", example = "2025-12-31", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate to;
+    @Schema(description = "Bucket size", example = "MONTH", accessMode = Schema.AccessMode.READ_ONLY)
+    private CashFlowGranularity granularity;
+    @Schema(description = "Breakdown inside every bucket", example = "TYPE", accessMode = Schema.AccessMode.READ_ONLY)
+    private CashFlowGrouping groupBy;
+    @Schema(description = "ISO 4217 currency every total is converted into (the user's base currency)", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
+    @Schema(description = "Buckets in chronological order; buckets without transactions are omitted", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<CashFlowBucketResponse> buckets;
+}
@@ -0,0 +1,33 @@
+package com.dimitar.financetracker.dto.response.budget;
+
+import com.dimitar.financetracker.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Alert raised when spending within a budget crossed a configured threshold.")
+public class BudgetAlertResponse {
+    @Schema(description = "Alert identifier", example = "12", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+    @Schema(description = "Budget identifier", example = "301", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long budgetId;
+    @Schema(description = "Category ID", example = "45", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long categoryId;
+    @Schema(description = "Threshold that was crossed, in percent of the budget amount", example = "80", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer thresholdPercent;
+    @Schema(description = "Budget limit amount at the time of the alert", example = "500.00", implementation = BigDecimal.class, accessMode = Schema.AccessMode.READ_ONLY)
+    private Money budgetAmount;
+    @Schema(description = "Amount spent when the threshold was crossed", example = "412.30", implementation = BigDecimal.class, accessMode = Schema.AccessMode.READ_ONLY)
+    private Money spentAmount;
+    @Schema(description = "When the alert was raised", example = "2025-11-18T09:15:00", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime triggeredAt;
+}
@@ -27,6 +27,8 @@ public class BudgetResponse {
     private String categoryName;
     @Schema(description = "Budget amount limit", example = "500.00", accessMode = Schema.AccessMode.READ_ONLY)
     private BigDecimal amount;
+    @Schema(description = "ISO 4217 currency of the limit", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
     @Schema(description = "Start date (inclusive)", example = "2025-11-01", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDate startDate;
     @Schema(description = "End date (inclusive) if finite", example = "2026-04-30", accessMode = Schema.AccessMode.READ_ONLY)
@@ -35,6 +37,8 @@ public class BudgetResponse {
     private BudgetPeriod period;
     @Schema(description = "Whether the budget is currently active", example = "true", accessMode = Schema.AccessMode.READ_ONLY)
     private Boolean isActive;
+    @Schema(description = "Whether a next-period budget is created automatically when this one ends", example = "true", accessMode = Schema.AccessMode.READ_ONLY)
+    private Boolean isRecurring;
     @Schema(description = "Creation timestamp (UTC)", example = "2025-10-01T12:34:56", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime createdAt;
     @Schema(description = "Last update timestamp (UTC)", example = "2025-10-07T09:20:15", accessMode = Schema.AccessMode.READ_ONLY)
@@ -19,6 +19,7 @@ public class BudgetSummaryResponse {
     private Long categoryId;
     private String categoryName;
     private BigDecimal amount;
+    private String currency;
     private LocalDate startDate;
     private LocalDate endDate;
     private BudgetPeriod period;
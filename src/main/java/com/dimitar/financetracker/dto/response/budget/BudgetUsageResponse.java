@@ -1,6 +1,7 @@
 package com.dimitar.financetracker.dto.response.budget;
 
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,14 +27,16 @@ public class BudgetUsageResponse {
     @Schema(description = "Category name", example = "Groceries", accessMode = Schema.AccessMode.READ_ONLY)
     private String categoryName;
 
-    @Schema(description = "Budget limit amount", example = "500.00", accessMode = Schema.AccessMode.READ_ONLY)
-    private BigDecimal amount;
-    @Schema(description = "Amount already spent within this budget period", example = "275.25", accessMode = Schema.AccessMode.READ_ONLY)
-    private BigDecimal spent;
-    @Schema(description = "Remaining amount before reaching the limit", example = "224.75", accessMode = Schema.AccessMode.READ_ONLY)
-    private BigDecimal remaining;
+    @Schema(description = "Budget limit amount", example = "500.00", implementation = BigDecimal.class, accessMode = Schema.AccessMode.READ_ONLY)
+    private Money amount;
+    @Schema(description = "Amount already spent within this budget period", example = "275.25", implementation = BigDecimal.class, accessMode = Schema.AccessMode.READ_ONLY)
+    private Money spent;
+    @Schema(description = "Remaining amount before reaching the limit", example = "224.75", implementation = BigDecimal.class, accessMode = Schema.AccessMode.READ_ONLY)
+    private Money remaining;
     @Schema(description = "Percent used (0-100)", example = "55.05", accessMode = Schema.AccessMode.READ_ONLY)
     private BigDecimal percentUsed;
+    @Schema(description = "ISO 4217 currency of amount, spent and remaining; spending in other currencies is converted", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
 
     @Schema(description = "Start date (inclusive)", example = "2025-11-01", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDate startDate;
@@ -0,0 +1,30 @@
+package com.dimitar.financetracker.dto.response.currency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Currencies that amounts can be recorded and reported in, and the dates the loaded rates cover.")
+public class ExchangeRatesResponse {
+
+    @Schema(description = "Currency every rate is quoted against", example = "EUR")
+    private String referenceCurrency;
+
+    @Schema(description = "Supported ISO 4217 currency codes", example = "[\"EUR\", \"USD\"]")
+    private Set<String> currencies;
+
+    @Schema(description = "First date with rates; earlier dates use it", example = "2025-01-02")
+    private LocalDate ratesFrom;
+
+    @Schema(description = "Last date with rates; later dates use it", example = "2025-12-31")
+    private LocalDate ratesTo;
+}
@@ -0,0 +1,32 @@
+package com.dimitar.financetracker.dto.response.dashboard;
+
+import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
+import com.dimitar.financetracker.dto.response.category.CategoryResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
+import com.dimitar.financetracker.model.DashboardSection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Everything the dashboard shows, computed in one request.")
+public class DashboardResponse {
+    @Schema(description = "User statistics; null when unavailable", accessMode = Schema.AccessMode.READ_ONLY)
+    private UserStatisticsResponse statistics;
+    @Schema(description = "Most recent transactions; null when unavailable", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<TransactionResponse> recentTransactions;
+    @Schema(description = "Usage of every budget; null when unavailable", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<BudgetUsageResponse> budgetUsage;
+    @Schema(description = "All categories; null when unavailable", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<CategoryResponse> categories;
+    @Schema(description = "Sections that did not finish before the deadline and should be fetched separately", example = "[\"BUDGET_USAGE\"]", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<DashboardSection> unavailableSections;
+}
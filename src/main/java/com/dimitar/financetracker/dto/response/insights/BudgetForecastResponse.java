@@ -0,0 +1,45 @@
+package com.dimitar.financetracker.dto.response.insights;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Projected end-of-period spend for an active budget.")
+public class BudgetForecastResponse {
+    @Schema(description = "Budget identifier", example = "301", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long budgetId;
+    @Schema(description = "Category ID", example = "45", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long categoryId;
+    @Schema(description = "Category name", example = "Groceries", accessMode = Schema.AccessMode.READ_ONLY)
+    private String categoryName;
+
+    @Schema(description = "Budget limit amount", example = "500.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal amount;
+
+    @Schema(description = "ISO 4217 currency of every amount in this forecast", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
+    @Schema(description = "Start date (inclusive)", example = "2025-11-01", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate startDate;
+    @Schema(description = "End date (inclusive)", example = "2025-11-30", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate endDate;
+
+    @Schema(description = "Amount spent from the start date up to today", example = "275.25", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal spentToDate;
+    @Schema(description = "Expected spend for the remaining days of the period", example = "190.40", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal projectedRemaining;
+    @Schema(description = "Spent to date plus expected remaining spend", example = "465.65", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal projectedTotal;
+    @Schema(description = "Projected total as a percent of the budget amount", example = "93.13", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal projectedPercentUsed;
+    @Schema(description = "Whether the projected total exceeds the budget amount", example = "false", accessMode = Schema.AccessMode.READ_ONLY)
+    private Boolean projectedOverBudget;
+}
@@ -0,0 +1,46 @@
+package com.dimitar.financetracker.dto.response.recurring;
+
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Recurring transaction rule and its schedule.")
+public class RecurringTransactionResponse {
+    @Schema(description = "Rule identifier", example = "12", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+    @Schema(description = "Category ID", example = "101", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long categoryId;
+    @Schema(description = "Category name", example = "Housing", accessMode = Schema.AccessMode.READ_ONLY)
+    private String categoryName;
+    @Schema(description = "Amount of every generated transaction", example = "1200.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal amount;
+    @Schema(description = "ISO 4217 currency of every generated transaction", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
+    @Schema(description = "Description copied to generated transactions", example = "Rent", accessMode = Schema.AccessMode.READ_ONLY)
+    private String description;
+    @Schema(description = "Recurrence frequency", example = "MONTHLY", accessMode = Schema.AccessMode.READ_ONLY)
+    private RecurrenceFrequency frequency;
+    @Schema(description = "Cron expression when frequency is CRON", example = "0 0 0 1,15 * *", accessMode = Schema.AccessMode.READ_ONLY)
+    private String cronExpression;
+    @Schema(description = "First occurrence date", example = "2025-11-01", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate startDate;
+    @Schema(description = "Last allowed occurrence date, if any", example = "2026-10-31", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate endDate;
+    @Schema(description = "Date of the next occurrence to be posted", example = "2025-12-01", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate nextRunDate;
+    @Schema(description = "Whether the rule still generates transactions", example = "true", accessMode = Schema.AccessMode.READ_ONLY)
+    private Boolean isActive;
+    @Schema(description = "Creation timestamp (UTC)", example = "2025-10-01T12:34:56", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.dimitar.financetracker.dto.response.stream;
+
+import com.dimitar.financetracker.model.CategoryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Change of the amount booked to a category on a given day, to patch budget usage in place.")
+public class CategoryAmountDeltaResponse {
+    @Schema(description = "Category ID", example = "45", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long categoryId;
+    @Schema(description = "Category type", example = "EXPENSE", accessMode = Schema.AccessMode.READ_ONLY)
+    private CategoryType type;
+    @Schema(description = "Day the amount is booked on", example = "2025-11-18", accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDate transactionDate;
+    @Schema(description = "Signed change of the booked amount", example = "-42.50", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal amountDelta;
+}
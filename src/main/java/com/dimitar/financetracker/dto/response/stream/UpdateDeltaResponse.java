@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.dto.response.stream;
+
+import com.dimitar.financetracker.model.UpdateScope;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Change pushed on the update stream after a command committed for the user.")
+public class UpdateDeltaResponse {
+    @Schema(description = "Part of the user's data that changed", example = "TRANSACTIONS", accessMode = Schema.AccessMode.READ_ONLY)
+    private UpdateScope scope;
+    @Schema(description = "True when the change cannot be expressed as a delta and the scope should be refetched", example = "false", accessMode = Schema.AccessMode.READ_ONLY)
+    private boolean refresh;
+    @Schema(description = "Transaction that was written, for single-transaction changes", example = "1001", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long transactionId;
+    @Schema(description = "Change of the transaction count", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer transactionCountDelta;
+    @Schema(description = "Change of total income", example = "0.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal incomeDelta;
+    @Schema(description = "Change of total expenses", example = "42.50", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal expenseDelta;
+    @Schema(description = "Change of the net balance (income minus expenses)", example = "-42.50", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal balanceDelta;
+    @Schema(description = "Per-category, per-day amount changes", accessMode = Schema.AccessMode.READ_ONLY)
+    private List<CategoryAmountDeltaResponse> categoryDeltas;
+}
@@ -0,0 +1,21 @@
+package com.dimitar.financetracker.dto.response.tag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Tag details returned to clients.")
+public class TagResponse {
+    @Schema(description = "Tag identifier", example = "12", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+    @Schema(description = "Tag name, lowercase", example = "trip-2026", accessMode = Schema.AccessMode.READ_ONLY)
+    private String name;
+    @Schema(description = "Number of transactions carrying the tag; null in the tags of a single transaction", example = "37", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long transactionCount;
+}
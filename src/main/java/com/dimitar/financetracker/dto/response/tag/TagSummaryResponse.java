@@ -0,0 +1,27 @@
+package com.dimitar.financetracker.dto.response.tag;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Totals over the transactions matching a tag filter.")
+public class TagSummaryResponse {
+    @Schema(description = "ISO 4217 currency every amount is converted into (the user's base currency)", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
+    @Schema(description = "Count of matching transactions", example = "37", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long totalTransactions;
+    @Schema(description = "Total income of the matching transactions", example = "420.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal totalIncome;
+    @Schema(description = "Total expenses of the matching transactions", example = "1385.40", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal totalExpenses;
+    @Schema(description = "Net balance = totalIncome - totalExpenses", example = "-965.40", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal netBalance;
+}
@@ -26,6 +26,8 @@ public class TransactionResponse {
     private String categoryName;
     @Schema(description = "Transaction amount", example = "89.99", accessMode = Schema.AccessMode.READ_ONLY)
     private BigDecimal amount;
+    @Schema(description = "ISO 4217 currency of the amount", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
     @Schema(description = "Optional description", example = "Weekly grocery run", accessMode = Schema.AccessMode.READ_ONLY)
     private String description;
     @Schema(description = "Date of the transaction (ISO-8601)", example = "2025-10-07", accessMode = Schema.AccessMode.READ_ONLY)
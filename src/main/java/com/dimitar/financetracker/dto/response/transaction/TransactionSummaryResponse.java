@@ -18,6 +18,7 @@ public class TransactionSummaryResponse {
     private Long categoryId;
     private String categoryName;
     private BigDecimal amount;
+    private String currency;
     private String description;
     private LocalDate transactionDate;
 }
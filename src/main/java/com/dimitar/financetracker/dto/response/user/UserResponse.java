@@ -20,6 +20,8 @@ public class UserResponse {
     private String username;
     @Schema(description = "User's email address", example = "john.doe@example.com", accessMode = Schema.AccessMode.READ_ONLY)
     private String email;
+    @Schema(description = "Currency statistics, cash flow and forecasts are reported in", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String baseCurrency;
     @Schema(description = "Timestamp when the user was created (UTC)", example = "2025-10-01T12:34:56", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime createdAt;
     @Schema(description = "Timestamp when the user was last updated (UTC)", example = "2025-10-07T08:15:30", accessMode = Schema.AccessMode.READ_ONLY)
@@ -14,6 +14,8 @@ import java.math.BigDecimal;
 @Builder
 @Schema(description = "Aggregated financial statistics for the authenticated user.")
 public class UserStatisticsResponse {
+    @Schema(description = "ISO 4217 currency every amount is converted into (the user's base currency)", example = "EUR", accessMode = Schema.AccessMode.READ_ONLY)
+    private String currency;
     @Schema(description = "Total income across all time (or defined aggregation scope)", example = "12500.75", accessMode = Schema.AccessMode.READ_ONLY)
     private BigDecimal totalIncome;
     @Schema(description = "Total expenses across all time (or defined aggregation scope)", example = "8420.10", accessMode = Schema.AccessMode.READ_ONLY)
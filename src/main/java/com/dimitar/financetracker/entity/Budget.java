@@ -9,19 +9,23 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -30,17 +34,24 @@ import java.time.LocalDateTime;
 import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_PRECISION;
 import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
 import static com.dimitar.financetracker.util.DatabaseConstants.BUDGET_PERIOD_MAX_LENGTH;
-import static com.dimitar.financetracker.util.DatabaseConstants.QUARTERLY_MONTHS;
+import static com.dimitar.financetracker.util.DatabaseConstants.CURRENCY_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DEFAULT_CURRENCY;
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_AMOUNT_MIN;
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_AMOUNT_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.BUDGET_PERIOD_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.END_DATE_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.START_DATE_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.USER_REQUIRED;
 
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets", indexes = {
+    @Index(name = "idx_budgets_recurring_end_date", columnList = "is_recurring, end_date"),
+    @Index(name = "idx_budgets_user_id", columnList = "user_id, id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budgets_source_budget", columnNames = {"source_budget_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -70,6 +81,12 @@ public class Budget {
     @DecimalMin(value = "0.01", message = BUDGET_AMOUNT_MIN)
     private BigDecimal amount;
 
+    // ISO 4217 code of the amount; usage is reported in this currency.
+    @Column(nullable = false, length = CURRENCY_LENGTH)
+    @ColumnDefault("'" + DEFAULT_CURRENCY + "'")
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    private String currency;
+
     @Column(name = "start_date", nullable = false)
     @NotNull(message = START_DATE_REQUIRED)
     private LocalDate startDate;
@@ -86,6 +103,15 @@ public class Budget {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    // Recurring budgets are rolled into a next-period budget by BudgetRolloverJob once they end.
+    @Column(name = "is_recurring")
+    @Builder.Default
+    private Boolean isRecurring = false;
+
+    // Budget this one was rolled over from; unique so a rollover can never be applied twice.
+    @Column(name = "source_budget_id")
+    private Long sourceBudgetId;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -96,6 +122,9 @@ public class Budget {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        }
 
         if (endDate == null && period != null && startDate != null && period != BudgetPeriod.CUSTOM) {
             this.endDate = calculateEndDate();
@@ -108,13 +137,7 @@ public class Budget {
     }
 
     private LocalDate calculateEndDate() {
-        return switch (period) {
-            case WEEKLY -> startDate.plusWeeks(1);
-            case MONTHLY -> startDate.plusMonths(1);
-            case QUARTERLY -> startDate.plusMonths(QUARTERLY_MONTHS);
-            case YEARLY -> startDate.plusYears(1);
-            case CUSTOM -> endDate; // For custom, endDate must be provided
-        };
+        return period.endFrom(startDate);
     }
 
     public boolean isCurrentlyActive() {
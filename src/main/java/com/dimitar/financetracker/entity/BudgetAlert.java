@@ -0,0 +1,70 @@
+package com.dimitar.financetracker.entity;
+
+import com.dimitar.financetracker.entity.converter.MoneyConverter;
+import com.dimitar.financetracker.model.Money;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_PRECISION;
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
+
+// Raised once per budget and threshold when a transaction write pushes spending across it.
+// Plain ids keep alerts as history that survives deleting the budget or category.
+@Entity
+@Table(name = "budget_alerts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_budget_alert_threshold", columnNames = {"budget_id", "threshold_percent"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "threshold_percent", nullable = false)
+    private int thresholdPercent;
+
+    // Computed from cents by BudgetSpendIndex, so kept as Money down to the column.
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "budget_amount", nullable = false, precision = AMOUNT_PRECISION, scale = AMOUNT_SCALE)
+    private Money budgetAmount;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "spent_amount", nullable = false, precision = AMOUNT_PRECISION, scale = AMOUNT_SCALE)
+    private Money spentAmount;
+
+    @Column(name = "triggered_at")
+    private LocalDateTime triggeredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (triggeredAt == null) {
+            triggeredAt = LocalDateTime.now();
+        }
+    }
+}
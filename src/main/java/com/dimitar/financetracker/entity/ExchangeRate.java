@@ -0,0 +1,47 @@
+package com.dimitar.financetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.CURRENCY_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.EXCHANGE_RATE_PRECISION;
+import static com.dimitar.financetracker.util.DatabaseConstants.EXCHANGE_RATE_SCALE;
+
+// Units of a currency per one unit of the reference currency on one day. The table is dense: every
+// loaded currency has a row for every day of the loaded window (gaps carried forward), so aggregate
+// queries convert with a plain equi-join on (currency, date) instead of a latest-rate subquery.
+@Entity
+@Table(name = "exchange_rates", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_exchange_rates_currency_date", columnNames = {"currency", "rate_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExchangeRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = CURRENCY_LENGTH)
+    private String currency;
+
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    @Column(nullable = false, precision = EXCHANGE_RATE_PRECISION, scale = EXCHANGE_RATE_SCALE)
+    private BigDecimal rate;
+}
@@ -0,0 +1,166 @@
+package com.dimitar.financetracker.entity;
+
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.scheduling.support.CronExpression;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_PRECISION;
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
+import static com.dimitar.financetracker.util.DatabaseConstants.CURRENCY_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DEFAULT_CURRENCY;
+import static com.dimitar.financetracker.util.DatabaseConstants.CRON_EXPRESSION_MAX_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DESCRIPTION_MAX_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.RECURRENCE_FREQUENCY_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_MIN;
+import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
+import static com.dimitar.financetracker.util.ErrorMessages.DESCRIPTION_TOO_LONG;
+import static com.dimitar.financetracker.util.ErrorMessages.NEXT_RUN_DATE_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.RECURRENCE_FREQUENCY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.START_DATE_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.USER_REQUIRED;
+
+// Template for a transaction that repeats (rent, salary). RecurringTransactionJob posts one
+// Transaction per occurrence up to today and moves nextRunDate forward.
+@Entity
+@Table(name = "recurring_transactions", indexes = {
+    @Index(name = "idx_recurring_transactions_due", columnList = "is_active, next_run_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @NotNull(message = USER_REQUIRED)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @NotNull(message = CATEGORY_REQUIRED)
+    private Category category;
+
+    @Column(nullable = false, precision = AMOUNT_PRECISION, scale = AMOUNT_SCALE)
+    @NotNull(message = AMOUNT_REQUIRED)
+    @DecimalMin(value = "0.01", message = AMOUNT_MIN)
+    private BigDecimal amount;
+
+    // ISO 4217 code of the amount; copied onto every posted transaction.
+    @Column(nullable = false, length = CURRENCY_LENGTH)
+    @ColumnDefault("'" + DEFAULT_CURRENCY + "'")
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    private String currency;
+
+    @Column
+    @Size(max = DESCRIPTION_MAX_LENGTH, message = DESCRIPTION_TOO_LONG)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = RECURRENCE_FREQUENCY_MAX_LENGTH)
+    @NotNull(message = RECURRENCE_FREQUENCY_REQUIRED)
+    private RecurrenceFrequency frequency;
+
+    // Spring six-field cron expression, only used with RecurrenceFrequency.CRON.
+    @Column(name = "cron_expression", length = CRON_EXPRESSION_MAX_LENGTH)
+    private String cronExpression;
+
+    @Column(name = "start_date", nullable = false)
+    @NotNull(message = START_DATE_REQUIRED)
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "next_run_date", nullable = false)
+    @NotNull(message = NEXT_RUN_DATE_REQUIRED)
+    private LocalDate nextRunDate;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private long occurrenceCount;
+
+    @Column(name = "is_active")
+    @Builder.Default
+    private Boolean isActive = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        }
+
+        if (nextRunDate == null && startDate != null && frequency != null) {
+            nextRunDate = frequency == RecurrenceFrequency.CRON
+                ? nextCronDate(startDate.minusDays(1))
+                : startDate;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Moves nextRunDate to the following occurrence and deactivates the rule once it passes endDate.
+    public void advance() {
+        occurrenceCount++;
+        nextRunDate = frequency == RecurrenceFrequency.CRON
+            ? nextCronDate(nextRunDate)
+            : frequency.occurrence(startDate, occurrenceCount);
+        if (nextRunDate == null || (endDate != null && nextRunDate.isAfter(endDate))) {
+            isActive = false;
+        }
+    }
+
+    private LocalDate nextCronDate(LocalDate after) {
+        LocalDateTime next = CronExpression.parse(cronExpression).next(after.atTime(LocalTime.MAX));
+        return next == null ? null : next.toLocalDate();
+    }
+}
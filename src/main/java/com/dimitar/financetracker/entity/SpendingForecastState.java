@@ -0,0 +1,70 @@
+package com.dimitar.financetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Exponential smoothing state of one user's daily spend in one category. Holds only the smoothed
+// components and the still-open day, so it is updated per transaction write and never needs the
+// transaction history again. Plain ids keep the row small and do not block category deletes.
+@Entity
+@Table(name = "spending_forecast_states", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_forecast_user_category", columnNames = {"user_id", "category_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class SpendingForecastState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    // Epoch day still collecting transactions; every earlier day is folded into level/trend/seasonal.
+    @Column(name = "open_day", nullable = false)
+    private long openDay;
+
+    @Column(name = "open_day_cents", nullable = false)
+    private long openDayCents;
+
+    @Column(nullable = false)
+    private double level;
+
+    @Column(nullable = false)
+    private double trend;
+
+    // Seasonal offsets packed as 4-byte floats, one per slot of the configured seasonality.
+    @Column(length = 124)
+    private byte[] seasonal;
+
+    @Column(name = "observed_days", nullable = false)
+    private int observedDays;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,70 @@
+package com.dimitar.financetracker.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.TAG_NAME_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.TAG_NAME_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.TAG_NAME_TOO_LONG;
+import static com.dimitar.financetracker.util.ErrorMessages.USER_REQUIRED;
+
+// Free-form label a user attaches to any number of transactions, next to their single category.
+// Names are stored normalized (see normalize), so "Trip-2026" and " trip-2026" are the same tag.
+@Entity
+@Table(name = "tags", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tags_user_name", columnNames = {"user_id", "name"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @NotNull(message = USER_REQUIRED)
+    private User user;
+
+    @Column(nullable = false, length = TAG_NAME_MAX_LENGTH)
+    @NotBlank(message = TAG_NAME_REQUIRED)
+    @Size(max = TAG_NAME_MAX_LENGTH, message = TAG_NAME_TOO_LONG)
+    private String name;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public static String normalize(String name) {
+        return name == null ? null : name.strip().toLowerCase(Locale.ROOT);
+    }
+}
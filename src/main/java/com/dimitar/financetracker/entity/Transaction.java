@@ -6,13 +6,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,22 +26,35 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_PRECISION;
 import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
+import static com.dimitar.financetracker.util.DatabaseConstants.CURRENCY_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DEFAULT_CURRENCY;
 import static com.dimitar.financetracker.util.DatabaseConstants.DESCRIPTION_MAX_LENGTH;
 import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_MIN;
 import static com.dimitar.financetracker.util.ErrorMessages.AMOUNT_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.CATEGORY_REQUIRED;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.DESCRIPTION_TOO_LONG;
 import static com.dimitar.financetracker.util.ErrorMessages.TRANSACTION_DATE_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.USER_REQUIRED;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_user_date", columnList = "user_id, transaction_date"),
+    @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, transaction_date"),
+    @Index(name = "idx_transactions_user_amount", columnList = "user_id, amount")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_transactions_recurring_date", columnNames = {"recurring_transaction_id", "transaction_date"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,6 +84,12 @@ public class Transaction {
     @DecimalMin(value = "0.01", message = AMOUNT_MIN)
     private BigDecimal amount;
 
+    // ISO 4217 code the amount is denominated in.
+    @Column(nullable = false, length = CURRENCY_LENGTH)
+    @ColumnDefault("'" + DEFAULT_CURRENCY + "'")
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    private String currency;
+
     @Column
     @Size(max = DESCRIPTION_MAX_LENGTH, message = DESCRIPTION_TOO_LONG)
     private String description;
@@ -74,6 +98,21 @@ public class Transaction {
     @NotNull(message = TRANSACTION_DATE_REQUIRED)
     private LocalDate transactionDate;
 
+    // Rule this transaction was materialized from; unique per date so an occurrence is posted once.
+    @Column(name = "recurring_transaction_id")
+    private Long recurringTransactionId;
+
+    // Labels in addition to the category. Owned here, so deleting a transaction drops its join rows.
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "transaction_tags",
+        joinColumns = @JoinColumn(name = "transaction_id"),
+        inverseJoinColumns = @JoinColumn(name = "tag_id"),
+        indexes = @Index(name = "idx_transaction_tags_tag", columnList = "tag_id"))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    private Set<Tag> tags = new HashSet<>();
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -84,6 +123,9 @@ public class Transaction {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (currency == null) {
+            currency = DEFAULT_CURRENCY;
+        }
     }
 
     @PreUpdate
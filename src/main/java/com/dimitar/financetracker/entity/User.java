@@ -13,6 +13,7 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,13 +21,17 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.dimitar.financetracker.util.DatabaseConstants.CURRENCY_LENGTH;
+import static com.dimitar.financetracker.util.DatabaseConstants.DEFAULT_CURRENCY;
 import static com.dimitar.financetracker.util.DatabaseConstants.EMAIL_MAX_LENGTH;
 import static com.dimitar.financetracker.util.DatabaseConstants.PASSWORD_MIN_LENGTH;
 import static com.dimitar.financetracker.util.DatabaseConstants.USERNAME_MAX_LENGTH;
+import static com.dimitar.financetracker.util.ErrorMessages.CURRENCY_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.EMAIL_INVALID;
 import static com.dimitar.financetracker.util.ErrorMessages.EMAIL_REQUIRED;
 import static com.dimitar.financetracker.util.ErrorMessages.EMAIL_TOO_LONG;
@@ -63,6 +68,12 @@ public class User {
     @Size(min = PASSWORD_MIN_LENGTH, message = PASSWORD_TOO_SHORT)
     private String password;
 
+    // Currency statistics, cash flow and forecasts are reported in.
+    @Column(name = "base_currency", nullable = false, length = CURRENCY_LENGTH)
+    @ColumnDefault("'" + DEFAULT_CURRENCY + "'")
+    @Pattern(regexp = "[A-Z]{3}", message = CURRENCY_INVALID)
+    private String baseCurrency;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -84,10 +95,23 @@ public class User {
     @EqualsAndHashCode.Exclude
     private List<Budget> budgets;
 
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<RecurringTransaction> recurringTransactions;
+
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<Tag> tags;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (baseCurrency == null) {
+            baseCurrency = DEFAULT_CURRENCY;
+        }
     }
 
     @PreUpdate
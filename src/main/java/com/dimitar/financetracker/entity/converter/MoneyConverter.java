@@ -0,0 +1,22 @@
+package com.dimitar.financetracker.entity.converter;
+
+import com.dimitar.financetracker.model.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+// Maps Money onto the existing NUMERIC(AMOUNT_PRECISION, AMOUNT_SCALE) amount columns.
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
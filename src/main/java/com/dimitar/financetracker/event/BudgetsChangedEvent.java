@@ -0,0 +1,6 @@
+package com.dimitar.financetracker.event;
+
+// Published by every command that creates, edits, (de)activates or deletes a budget so listeners
+// holding per-user budget data can drop it and reload on next use.
+public record BudgetsChangedEvent(Long userId) {
+}
@@ -0,0 +1,6 @@
+package com.dimitar.financetracker.event;
+
+// Published by category commands that change a user's category set without touching transactions
+// (create, import defaults). Updates, deletes and merges already publish a bulk TransactionsChangedEvent.
+public record CategoriesChangedEvent(Long userId) {
+}
@@ -0,0 +1,9 @@
+package com.dimitar.financetracker.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// Published after the exchange-rate table was replaced. Rates are shared by every user, so listeners
+// holding converted per-user data drop all of it instead of one user's share.
+public record ExchangeRatesChangedEvent(Set<String> currencies, LocalDate from, LocalDate to) {
+}
@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.event;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.model.CategoryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// The fields of a transaction that derived aggregates depend on, captured at the moment of a write
+// so listeners can apply the change without reloading it. The amount is in the transaction's own
+// currency; listeners keeping totals in another currency convert it with ExchangeRateService.
+public record TransactionSnapshot(Long id,
+                                  Long categoryId,
+                                  CategoryType type,
+                                  BigDecimal amount,
+                                  LocalDate transactionDate,
+                                  String currency) {
+
+    public static TransactionSnapshot of(Transaction transaction) {
+        Category category = transaction.getCategory();
+        return new TransactionSnapshot(
+            transaction.getId(),
+            category != null ? category.getId() : null,
+            category != null ? category.getType() : null,
+            transaction.getAmount(),
+            transaction.getTransactionDate(),
+            transaction.getCurrency()
+        );
+    }
+
+    public TransactionSnapshot withAmount(BigDecimal amount, String currency) {
+        return new TransactionSnapshot(id, categoryId, type, amount, transactionDate, currency);
+    }
+}
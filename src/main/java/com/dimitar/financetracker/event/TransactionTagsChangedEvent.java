@@ -0,0 +1,16 @@
+package com.dimitar.financetracker.event;
+
+import java.util.Set;
+
+// Published when tags are attached to or detached from a transaction. Deleting a tag outright
+// carries no transaction id and lists the deleted tag in removedTagIds.
+public record TransactionTagsChangedEvent(Long userId, Long transactionId, Set<Long> removedTagIds, Set<Long> addedTagIds) {
+
+    public static TransactionTagsChangedEvent tagsDeleted(Long userId, Set<Long> tagIds) {
+        return new TransactionTagsChangedEvent(userId, null, tagIds, Set.of());
+    }
+
+    public boolean isTagDeletion() {
+        return transactionId == null;
+    }
+}
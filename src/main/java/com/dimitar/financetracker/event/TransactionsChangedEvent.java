@@ -0,0 +1,28 @@
+package com.dimitar.financetracker.event;
+
+// Published by every command that adds, removes or re-labels a user's transactions.
+// Listeners holding derived per-user data (aggregates, caches) use it to invalidate.
+// Single-transaction writes carry the before/after snapshots so listeners can update in place;
+// bulk writes (category merges, re-typing, deletes) carry neither and mean "rebuild everything".
+public record TransactionsChangedEvent(Long userId, TransactionSnapshot before, TransactionSnapshot after) {
+
+    public TransactionsChangedEvent(Long userId) {
+        this(userId, null, null);
+    }
+
+    public static TransactionsChangedEvent created(Long userId, TransactionSnapshot after) {
+        return new TransactionsChangedEvent(userId, null, after);
+    }
+
+    public static TransactionsChangedEvent updated(Long userId, TransactionSnapshot before, TransactionSnapshot after) {
+        return new TransactionsChangedEvent(userId, before, after);
+    }
+
+    public static TransactionsChangedEvent deleted(Long userId, TransactionSnapshot before) {
+        return new TransactionsChangedEvent(userId, before, null);
+    }
+
+    public boolean isBulk() {
+        return before == null && after == null;
+    }
+}
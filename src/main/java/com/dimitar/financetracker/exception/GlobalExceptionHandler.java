@@ -10,15 +10,23 @@ import com.dimitar.financetracker.exception.user.UserAlreadyExistsException;
 import com.dimitar.financetracker.exception.user.UserDoesNotExistException;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
+import com.dimitar.financetracker.exception.recurring.RecurringTransactionDoesNotExistException;
+import com.dimitar.financetracker.exception.tag.TagDoesNotExistException;
 import com.dimitar.financetracker.exception.budget.OverlappingBudgetException;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyInUseException;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyMismatchException;
+import com.dimitar.financetracker.exception.stream.TooManyStreamsException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -53,7 +61,7 @@ public class GlobalExceptionHandler {
             errors
         );
 
-        return ResponseEntity.badRequest().body(response);
+        return jsonStatus(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -65,14 +73,15 @@ public class GlobalExceptionHandler {
             ex.getMessage(),
             request.getRequestURI()
         );
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return jsonStatus(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler({
         DuplicateUsernameException.class,
         DuplicateEmailException.class,
         UserAlreadyExistsException.class,
-        OverlappingBudgetException.class
+        OverlappingBudgetException.class,
+        IdempotencyKeyInUseException.class
     })
     public ResponseEntity<ErrorResponse> handleDuplicateExceptions(
         RuntimeException ex, HttpServletRequest request) {
@@ -84,14 +93,29 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        return jsonStatus(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(
+        IdempotencyKeyMismatchException ex, HttpServletRequest request) {
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.UNPROCESSABLE_ENTITY.value(),
+            "Unprocessable Entity",
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return jsonStatus(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
     }
 
     @ExceptionHandler({
         UserDoesNotExistException.class,
         CategoryDoesNotExistException.class,
         TransactionDoesNotExistException.class,
-        BudgetDoesNotExistException.class
+        BudgetDoesNotExistException.class,
+        RecurringTransactionDoesNotExistException.class,
+        TagDoesNotExistException.class
     })
     public ResponseEntity<ErrorResponse> handleNonExistExceptions(
         RuntimeException ex, HttpServletRequest request) {
@@ -103,7 +127,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return jsonStatus(HttpStatus.NOT_FOUND).body(response);
     }
 
     @ExceptionHandler({
@@ -124,7 +148,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        return jsonStatus(HttpStatus.UNAUTHORIZED).body(response);
     }
 
     @ExceptionHandler(AuthenticationException.class)
@@ -137,7 +161,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        return jsonStatus(HttpStatus.UNAUTHORIZED).body(response);
     }
 
     @ExceptionHandler(AccessDeniedException.class)
@@ -150,7 +174,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        return jsonStatus(HttpStatus.FORBIDDEN).body(response);
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
@@ -164,7 +188,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(response);
+        return jsonStatus(HttpStatus.METHOD_NOT_ALLOWED).body(response);
     }
 
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
@@ -178,7 +202,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
+        return jsonStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -204,7 +228,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return jsonStatus(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
@@ -217,7 +241,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return jsonStatus(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -238,7 +262,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return jsonStatus(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler(NoHandlerFoundException.class)
@@ -251,7 +275,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return jsonStatus(HttpStatus.NOT_FOUND).body(response);
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -278,7 +302,29 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        return jsonStatus(HttpStatus.CONFLICT).body(response);
+    }
+
+    // No database connection could be obtained within the pool's connection timeout. With virtual
+    // threads the pool, not the request thread count, bounds concurrency, so this is backpressure.
+    // Streamed downloads over their own cap get the same answer.
+    @ExceptionHandler({
+        CannotCreateTransactionException.class,
+        DataAccessResourceFailureException.class,
+        TooManyStreamsException.class
+    })
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(
+        RuntimeException ex, HttpServletRequest request) {
+        ErrorResponse response = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "The service is busy. Please retry shortly.",
+            request.getRequestURI()
+        );
+
+        return jsonStatus(HttpStatus.SERVICE_UNAVAILABLE)
+            .header("Retry-After", "1")
+            .body(response);
     }
 
     @ExceptionHandler(NullPointerException.class)
@@ -293,7 +339,7 @@ public class GlobalExceptionHandler {
 
         ex.printStackTrace();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return jsonStatus(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
     @ExceptionHandler(Exception.class)
@@ -309,6 +355,12 @@ public class GlobalExceptionHandler {
         System.err.println("Unhandled exception: " + ex.getClass().getName());
         ex.printStackTrace();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return jsonStatus(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+    }
+
+    // Errors are always written as JSON, also when the request asked for an encoding an ErrorResponse
+    // cannot be written in, such as the NDJSON or columnar transaction streams.
+    private static ResponseEntity.BodyBuilder jsonStatus(HttpStatus status) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.dimitar.financetracker.exception.currency;
+
+// An IllegalArgumentException so GlobalExceptionHandler answers 400 like any other invalid input.
+public class UnsupportedCurrencyException extends IllegalArgumentException {
+    public UnsupportedCurrencyException(String message) {
+        super(message);
+    }
+}
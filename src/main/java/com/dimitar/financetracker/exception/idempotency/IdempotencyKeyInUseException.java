@@ -0,0 +1,7 @@
+package com.dimitar.financetracker.exception.idempotency;
+
+public class IdempotencyKeyInUseException extends RuntimeException {
+    public IdempotencyKeyInUseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dimitar.financetracker.exception.recurring;
+
+public class RecurringTransactionDoesNotExistException extends RuntimeException {
+    public RecurringTransactionDoesNotExistException(String message) {
+        super(message);
+    }
+}
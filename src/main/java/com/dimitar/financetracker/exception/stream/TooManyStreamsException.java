@@ -0,0 +1,7 @@
+package com.dimitar.financetracker.exception.stream;
+
+public class TooManyStreamsException extends RuntimeException {
+    public TooManyStreamsException(String message) {
+        super(message);
+    }
+}
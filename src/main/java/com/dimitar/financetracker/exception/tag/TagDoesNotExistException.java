@@ -0,0 +1,7 @@
+package com.dimitar.financetracker.exception.tag;
+
+public class TagDoesNotExistException extends RuntimeException {
+    public TagDoesNotExistException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.dimitar.financetracker.model;
+
+// Per-user slices of data that cached query results depend on. Queries declare the ones they read
+// (@CachedQuery), commands the ones they write (@WritesAggregates).
+public enum Aggregate {
+    USER,
+    CATEGORIES,
+    TRANSACTIONS,
+    BUDGETS,
+    RECURRING_TRANSACTIONS
+}
@@ -1,9 +1,24 @@
 package com.dimitar.financetracker.model;
 
+import java.time.LocalDate;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.QUARTERLY_MONTHS;
+
 public enum BudgetPeriod {
     WEEKLY,
     MONTHLY,
     QUARTERLY,
     YEARLY,
-    CUSTOM
+    CUSTOM;
+
+    // End date of one period beginning at start; CUSTOM has no inherent length and returns null.
+    public LocalDate endFrom(LocalDate start) {
+        return switch (this) {
+            case WEEKLY -> start.plusWeeks(1);
+            case MONTHLY -> start.plusMonths(1);
+            case QUARTERLY -> start.plusMonths(QUARTERLY_MONTHS);
+            case YEARLY -> start.plusYears(1);
+            case CUSTOM -> null;
+        };
+    }
 }
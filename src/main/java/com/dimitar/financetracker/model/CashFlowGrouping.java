@@ -0,0 +1,19 @@
+package com.dimitar.financetracker.model;
+
+import java.util.Locale;
+
+public enum CashFlowGrouping {
+    TYPE,
+    CATEGORY;
+
+    public static CashFlowGrouping fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return TYPE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("groupBy must be one of type, category");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.dimitar.financetracker.model;
+
+import java.time.LocalDate;
+
+// Currency an aggregate query converts into, plus the window of the loaded rate table. Transaction
+// dates outside the window are clamped to its edges so they join the first or last known rate.
+public record ConversionTarget(String currency, LocalDate ratesFrom, LocalDate ratesTo) {
+}
@@ -0,0 +1,9 @@
+package com.dimitar.financetracker.model;
+
+// Independently computed parts of the dashboard payload; a section that misses the deadline is left out.
+public enum DashboardSection {
+    STATISTICS,
+    RECENT_TRANSACTIONS,
+    BUDGET_USAGE,
+    CATEGORIES
+}
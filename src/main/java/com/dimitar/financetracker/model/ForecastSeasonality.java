@@ -0,0 +1,40 @@
+package com.dimitar.financetracker.model;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+public enum ForecastSeasonality {
+    NONE(1),
+    WEEKLY(7),
+    MONTHLY(31);
+
+    private final int period;
+
+    ForecastSeasonality(int period) {
+        this.period = period;
+    }
+
+    public static ForecastSeasonality fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("seasonality must be one of none, weekly, monthly");
+        }
+    }
+
+    public int period() {
+        return period;
+    }
+
+    // Slot of the seasonal component that a given epoch day falls into (Monday = 0 for WEEKLY).
+    public int index(long epochDay) {
+        return switch (this) {
+            case NONE -> 0;
+            case WEEKLY -> (int) Math.floorMod(epochDay + 3, 7L);
+            case MONTHLY -> LocalDate.ofEpochDay(epochDay).getDayOfMonth() - 1;
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.dimitar.financetracker.model;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,140 @@
+package com.dimitar.financetracker.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
+
+// Immutable monetary amount held as a long count of the smallest unit (AMOUNT_SCALE = 2, i.e. cents).
+// Arithmetic is overflow-checked and throws ArithmeticException instead of wrapping. The static
+// *Cents helpers work on raw longs for loops that must not allocate at all.
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    private static final long UNIT = 100L;
+    private static final long PERCENT_HUNDREDTHS = 100L * UNIT;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+
+    // Values with more than two decimals are rounded HALF_UP, as the NUMERIC(10, 2) columns do.
+    public static Money of(BigDecimal amount) {
+        return ofCents(toCents(amount));
+    }
+
+    public static Money ofNullable(BigDecimal amount) {
+        return amount == null ? ZERO : of(amount);
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, AMOUNT_SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    // Average share of this amount over count items, rounded HALF_UP to the cent.
+    public Money dividedBy(long count) {
+        return ofCents(divideHalfUp(cents, count));
+    }
+
+    // This amount as a percentage of whole with two decimals (HALF_UP); zero when whole is not positive.
+    public BigDecimal percentOf(Money whole) {
+        return BigDecimal.valueOf(percentHundredths(cents, whole.cents), 2);
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isZero() {
+        return cents == 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && cents == other.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, AMOUNT_SCALE);
+    }
+
+    public static long addCents(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtractCents(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    // Integer division rounding half away from zero, matching RoundingMode.HALF_UP.
+    public static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = Math.absExact(dividend % divisor);
+        long absDivisor = Math.absExact(divisor);
+        if (remainder >= absDivisor - remainder) {
+            quotient = (dividend < 0) == (divisor < 0)
+                ? Math.addExact(quotient, 1L)
+                : Math.subtractExact(quotient, 1L);
+        }
+        return quotient;
+    }
+
+    // part / whole * 100 in hundredths of a percent (HALF_UP); 0 when whole is not positive.
+    public static long percentHundredths(long part, long whole) {
+        if (whole <= 0L) {
+            return 0L;
+        }
+        try {
+            return divideHalfUp(Math.multiplyExact(part, PERCENT_HUNDREDTHS), whole);
+        } catch (ArithmeticException overflow) {
+            return BigDecimal.valueOf(part)
+                .multiply(BigDecimal.valueOf(PERCENT_HUNDREDTHS))
+                .divide(BigDecimal.valueOf(whole), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+        }
+    }
+}
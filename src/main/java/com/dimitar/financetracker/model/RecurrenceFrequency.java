@@ -0,0 +1,28 @@
+package com.dimitar.financetracker.model;
+
+import java.time.LocalDate;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.QUARTERLY_MONTHS;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    QUARTERLY,
+    YEARLY,
+    CRON;
+
+    // The index-th occurrence counted from start (index 0 is start itself). Computed from the anchor
+    // rather than the previous occurrence so a rule starting on the 31st keeps returning to month end.
+    // CRON schedules are evaluated by the rule itself and return null here.
+    public LocalDate occurrence(LocalDate start, long index) {
+        return switch (this) {
+            case DAILY -> start.plusDays(index);
+            case WEEKLY -> start.plusWeeks(index);
+            case MONTHLY -> start.plusMonths(index);
+            case QUARTERLY -> start.plusMonths(QUARTERLY_MONTHS * index);
+            case YEARLY -> start.plusYears(index);
+            case CRON -> null;
+        };
+    }
+}
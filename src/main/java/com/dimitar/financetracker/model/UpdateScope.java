@@ -0,0 +1,10 @@
+package com.dimitar.financetracker.model;
+
+// Part of a user's data an update pushed on /api/stream/updates refers to.
+// RESYNC tells the client its replay position was lost and everything should be refetched.
+public enum UpdateScope {
+    TRANSACTIONS,
+    BUDGETS,
+    CATEGORIES,
+    RESYNC
+}
@@ -0,0 +1,13 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.BudgetAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface BudgetAlertRepository extends JpaRepository<BudgetAlert, Long> {
+
+    List<BudgetAlert> findByUserIdOrderByTriggeredAtDesc(Long userId);
+
+    boolean existsByBudgetIdAndThresholdPercent(Long budgetId, int thresholdPercent);
+}
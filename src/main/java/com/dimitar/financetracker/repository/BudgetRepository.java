@@ -2,6 +2,10 @@ package com.dimitar.financetracker.repository;
 
 import com.dimitar.financetracker.entity.Budget;
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.repository.projection.BudgetRolloverRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +20,10 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
     List<Budget> findByUserId(Long userId);
 
+    // Keyset page of a user's budgets in id order, read from idx_budgets_user_id; afterId 0 starts at the first.
+    @EntityGraph(attributePaths = {"category", "user"})
+    List<Budget> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+
     List<Budget> findByUserIdAndIsActiveTrue(Long userId);
 
     List<Budget> findByUserIdAndCategoryId(Long userId, Long categoryId);
@@ -45,4 +53,22 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     ) {
         return findOverlappingActiveBudgets(userId, categoryId, startDate, endDate, -1L);
     }
+
+    // Ended recurring budgets that have not been rolled over yet, in id order for keyset paging.
+    // Served by idx_budgets_recurring_end_date; the NOT EXISTS probe uses the unique source_budget_id index.
+    @Query("SELECT new com.dimitar.financetracker.repository.projection.BudgetRolloverRow(" +
+           "b.id, b.user.id, b.category.id, b.amount, b.currency, b.endDate, b.period) " +
+           "FROM Budget b " +
+           "WHERE b.isRecurring = true " +
+           "AND b.endDate <= :today " +
+           "AND b.isActive = true " +
+           "AND b.period <> com.dimitar.financetracker.model.BudgetPeriod.CUSTOM " +
+           "AND b.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM Budget n WHERE n.sourceBudgetId = b.id) " +
+           "ORDER BY b.id")
+    List<BudgetRolloverRow> findRolloverCandidates(
+        @Param("today") LocalDate today,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,23 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.ExchangeRate;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+    @Query("SELECT new com.dimitar.financetracker.repository.projection.ExchangeRateRow(" +
+        "r.currency, r.rateDate, r.rate) " +
+        "FROM ExchangeRate r")
+    List<ExchangeRateRow> findAllRows();
+
+    @Query(value = "SELECT currency FROM transactions " +
+                   "UNION SELECT currency FROM budgets " +
+                   "UNION SELECT currency FROM recurring_transactions " +
+                   "UNION SELECT base_currency FROM users",
+           nativeQuery = true)
+    List<String> findCurrenciesInUse();
+}
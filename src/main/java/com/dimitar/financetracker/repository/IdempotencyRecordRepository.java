@@ -0,0 +1,44 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.IdempotencyRecord;
+import com.dimitar.financetracker.model.IdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // Updates nothing, returning 0, once the claim was taken over: the row is gone or no longer in progress.
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.responseStatus = :responseStatus, "
+        + "r.contentType = :contentType, r.responseBody = :responseBody "
+        + "WHERE r.id = :id AND r.status = com.dimitar.financetracker.model.IdempotencyStatus.IN_PROGRESS")
+    int complete(@Param("id") Long id,
+                 @Param("status") IdempotencyStatus status,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") byte[] responseBody);
+
+    // Deletes the row only while it is still expired or abandoned, so a record completed since it was
+    // read is kept.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND (r.expiresAt < :now "
+        + "OR (r.status = com.dimitar.financetracker.model.IdempotencyStatus.IN_PROGRESS AND r.createdAt < :abandonedBefore))")
+    int deleteIfStale(@Param("id") Long id,
+                      @Param("now") LocalDateTime now,
+                      @Param("abandonedBefore") LocalDateTime abandonedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
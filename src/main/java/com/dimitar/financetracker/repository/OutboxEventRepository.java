@@ -0,0 +1,43 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest undelivered events, row-locked, at most perUser of them per user so that one user whose
+    // subscriber keeps failing cannot fill every batch and stall the others. Without SKIP LOCKED a
+    // second dispatcher waits for the first instead of taking later events of the same user out of
+    // order; dispatched_at is repeated outside the subquery so the waiter drops rows delivered meanwhile.
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE dispatched_at IS NULL AND id IN (" +
+                   "  SELECT id FROM (" +
+                   "    SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id) AS user_rank " +
+                   "    FROM outbox_events WHERE dispatched_at IS NULL" +
+                   "  ) ranked WHERE user_rank <= :perUser) " +
+                   "ORDER BY id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE",
+           nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("limit") int limit, @Param("perUser") int perUser);
+
+    Optional<OutboxEvent> findFirstByDispatchedAtIsNullOrderByIdAsc();
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :now WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,27 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+
+    Optional<RecurringTransaction> findByIdAndUserId(Long id, Long userId);
+
+    List<RecurringTransaction> findByUserIdOrderByNextRunDateAsc(Long userId);
+
+    // Locks up to `limit` due rules for the calling transaction. Rows another node already holds are
+    // skipped rather than waited for, so concurrent schedulers split the backlog without double-posting.
+    @Query(value = "SELECT * FROM recurring_transactions " +
+                   "WHERE is_active = TRUE AND next_run_date <= :today " +
+                   "ORDER BY next_run_date, id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<RecurringTransaction> claimDue(@Param("today") LocalDate today, @Param("limit") int limit);
+}
@@ -0,0 +1,107 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.service.query.fields.SparseField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Reads only the requested fields of an entity as a tuple query and returns each row as an ordered
+// field-name-to-value map, which serializes to the same JSON as the full response DTO restricted to
+// those fields. No entities are loaded, so nothing enters the persistence context.
+@Repository
+public class SparseFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<Map<String, Object>> findFields(Class<T> entityType,
+                                                    List<? extends SparseField<T>> fields,
+                                                    Specification<T> where,
+                                                    Pageable pageable) {
+        TypedQuery<Tuple> typedQuery = tupleQuery(entityType, fields, where, pageable.getSort());
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Tuple> tuples = typedQuery.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(fields.get(i).fieldName(), tuple.get(i));
+            }
+            rows.add(Collections.unmodifiableMap(row));
+        }
+        return rows;
+    }
+
+    // Same projection as findFields, read through a JDBC cursor instead of materialized: each row is
+    // an array of the field values in field order. Must be consumed and closed inside a transaction;
+    // on PostgreSQL the fetch size only takes effect with autocommit off.
+    public <T> Stream<Object[]> streamFields(Class<T> entityType,
+                                             List<? extends SparseField<T>> fields,
+                                             Specification<T> where,
+                                             Sort sort,
+                                             int fetchSize) {
+        return tupleQuery(entityType, fields, where, sort)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .map(Tuple::toArray);
+    }
+
+    private <T> TypedQuery<Tuple> tupleQuery(Class<T> entityType,
+                                             List<? extends SparseField<T>> fields,
+                                             Specification<T> where,
+                                             Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (SparseField<T> field : fields) {
+            selections.add(field.path(root));
+        }
+        query.multiselect(selections);
+        Predicate predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    public <T> long count(Class<T> entityType, Specification<T> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate predicate = where.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,50 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SpendingForecastStateRepository extends JpaRepository<SpendingForecastState, Long> {
+
+    List<SpendingForecastState> findByUserId(Long userId);
+
+    boolean existsByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SpendingForecastState s WHERE s.userId = :userId AND s.categoryId = :categoryId")
+    Optional<SpendingForecastState> findForUpdate(
+        @Param("userId") Long userId,
+        @Param("categoryId") Long categoryId);
+
+    // Creates the empty state unless one exists; waits for a concurrent insert of the same pair to
+    // finish instead of failing on uk_forecast_user_category. Returns the number of rows inserted.
+    @Modifying
+    @Query(value = "INSERT INTO spending_forecast_states "
+                 + "(user_id, category_id, open_day, open_day_cents, level, trend, seasonal, observed_days, updated_at) "
+                 + "VALUES (:userId, :categoryId, :openDay, 0, 0, 0, :seasonal, 0, CURRENT_TIMESTAMP) "
+                 + "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(
+        @Param("userId") Long userId,
+        @Param("categoryId") Long categoryId,
+        @Param("openDay") long openDay,
+        @Param("seasonal") byte[] seasonal);
+
+    // Users with transactions but no forecast state yet, in id order after afterId.
+    @Query("SELECT DISTINCT t.user.id FROM Transaction t WHERE t.user.id > :afterId "
+         + "AND NOT EXISTS (SELECT 1 FROM SpendingForecastState s WHERE s.userId = t.user.id) "
+         + "ORDER BY t.user.id")
+    List<Long> findUserIdsWithoutStates(@Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM SpendingForecastState s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
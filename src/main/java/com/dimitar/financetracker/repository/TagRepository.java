@@ -0,0 +1,36 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByUserIdOrderByNameAsc(Long userId);
+
+    List<Tag> findByUserIdAndNameIn(Long userId, Collection<String> names);
+
+    Optional<Tag> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT new com.dimitar.financetracker.repository.projection.TagMembershipRow(g.id, t.id) " +
+        "FROM Transaction t JOIN t.tags g " +
+        "WHERE t.user.id = :userId")
+    List<TagMembershipRow> findMembershipsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT g FROM Transaction t JOIN t.tags g " +
+        "WHERE t.id = :transactionId " +
+        "ORDER BY g.name")
+    List<Tag> findByTransactionId(@Param("transactionId") Long transactionId);
+
+    // The join rows are owned by Transaction.tags; removing them in bulk avoids loading every tagged transaction.
+    @Modifying
+    @Query(value = "DELETE FROM transaction_tags WHERE tag_id = :tagId", nativeQuery = true)
+    int deleteMemberships(@Param("tagId") Long tagId);
+}
@@ -0,0 +1,46 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.projection.CashFlowRow;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+// Aggregates over a user's transactions with every amount converted into target.currency().
+public interface TransactionAnalyticsRepository {
+
+    List<TypeTotalsRow> sumByType(Long userId,
+                                  LocalDate periodFrom,
+                                  LocalDate periodTo,
+                                  ConversionTarget target);
+
+    BigDecimal sumAmountByUserAndCategoryAndDateRange(Long userId,
+                                                      Long categoryId,
+                                                      LocalDate startDate,
+                                                      LocalDate endDate,
+                                                      ConversionTarget target);
+
+    List<CashFlowRow> sumCashFlow(Long userId,
+                                  LocalDate from,
+                                  LocalDate to,
+                                  CashFlowGranularity granularity,
+                                  CashFlowGrouping grouping,
+                                  ConversionTarget target);
+
+    // Totals per category type of the transactions carrying every tag in allTagIds, at least one in
+    // anyTagIds (when not empty) and none in noneTagIds. There is no period: periodTotal equals total.
+    List<TypeTotalsRow> sumByTypeForTags(Long userId,
+                                         Set<Long> allTagIds,
+                                         Set<Long> anyTagIds,
+                                         Set<Long> noneTagIds,
+                                         ConversionTarget target);
+
+    // Ordered by transaction date, then id.
+    List<TransactionFactRow> findFactsByUserId(Long userId, ConversionTarget target);
+}
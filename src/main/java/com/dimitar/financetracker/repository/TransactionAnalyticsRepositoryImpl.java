@@ -0,0 +1,227 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.projection.CashFlowRow;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+// Buckets are computed in the database with trunc(), which Hibernate renders as date_trunc
+// on PostgreSQL and H2. The unit has to be a literal in HQL, so the statement is assembled
+// from the enum value; user input never reaches the query string.
+// Week starts differ between databases (PostgreSQL: Monday, H2: Sunday), so weekly requests
+// are grouped per day here and folded into ISO weeks by the caller.
+// Currency conversion happens in the same statement: exchange_rates is dense per day, so each row
+// joins the rate of its own currency and of the target currency on its (clamped) date and the
+// database sums converted amounts, instead of Java converting row by row.
+public class TransactionAnalyticsRepositoryImpl implements TransactionAnalyticsRepository {
+    private static final String RATE_DATE = "least(greatest(t.transactionDate, :ratesFrom), :ratesTo)";
+    private static final String RATE_JOINS =
+        "LEFT JOIN ExchangeRate rf ON rf.currency = t.currency AND rf.rateDate = " + RATE_DATE + " " +
+        "LEFT JOIN ExchangeRate rt ON rt.currency = :currency AND rt.rateDate = " + RATE_DATE + " ";
+    // Amounts already in the target currency never depend on the rate table.
+    private static final String CONVERTED_AMOUNT =
+        "CASE WHEN t.currency = :currency THEN t.amount ELSE t.amount * rt.rate / rf.rate END";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TypeTotalsRow> sumByType(Long userId,
+                                         LocalDate periodFrom,
+                                         LocalDate periodTo,
+                                         ConversionTarget target) {
+        String hql = "SELECT c.type, COUNT(t), SUM(" + CONVERTED_AMOUNT + "), " +
+            "SUM(CASE WHEN t.transactionDate BETWEEN :periodFrom AND :periodTo " +
+            "THEN " + CONVERTED_AMOUNT + " ELSE 0 END) " +
+            "FROM Transaction t JOIN t.category c " + RATE_JOINS +
+            "WHERE t.user.id = :userId " +
+            "GROUP BY c.type";
+
+        List<Object[]> rows = converted(hql, Object[].class, target)
+            .setParameter("userId", userId)
+            .setParameter("periodFrom", periodFrom)
+            .setParameter("periodTo", periodTo)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new TypeTotalsRow(
+                (CategoryType) row[0],
+                ((Number) row[1]).longValue(),
+                toBigDecimal(row[2]),
+                toBigDecimal(row[3])))
+            .toList();
+    }
+
+    @Override
+    public BigDecimal sumAmountByUserAndCategoryAndDateRange(Long userId,
+                                                             Long categoryId,
+                                                             LocalDate startDate,
+                                                             LocalDate endDate,
+                                                             ConversionTarget target) {
+        String hql = "SELECT SUM(" + CONVERTED_AMOUNT + ") " +
+            "FROM Transaction t " + RATE_JOINS +
+            "WHERE t.user.id = :userId " +
+            "AND t.category.id = :categoryId " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate";
+
+        Object total = converted(hql, Object.class, target)
+            .setParameter("userId", userId)
+            .setParameter("categoryId", categoryId)
+            .setParameter("startDate", startDate)
+            .setParameter("endDate", endDate)
+            .getSingleResult();
+        return toBigDecimal(total);
+    }
+
+    @Override
+    public List<CashFlowRow> sumCashFlow(Long userId,
+                                         LocalDate from,
+                                         LocalDate to,
+                                         CashFlowGranularity granularity,
+                                         CashFlowGrouping grouping,
+                                         ConversionTarget target) {
+        String unit = granularity == CashFlowGranularity.WEEK ? "day" : granularity.name().toLowerCase();
+        String bucket = "trunc(t.transactionDate, " + unit + ")";
+        String groupColumns = grouping == CashFlowGrouping.CATEGORY
+            ? bucket + ", c.type, c.id, c.name"
+            : bucket + ", c.type";
+        String categoryColumns = grouping == CashFlowGrouping.CATEGORY
+            ? "c.id, c.name"
+            : "cast(null as Long), cast(null as String)";
+
+        String hql = "SELECT " + bucket + ", c.type, " + categoryColumns + ", SUM(" + CONVERTED_AMOUNT + ") " +
+            "FROM Transaction t JOIN t.category c " + RATE_JOINS +
+            "WHERE t.user.id = :userId " +
+            "AND t.transactionDate BETWEEN :from AND :to " +
+            "GROUP BY " + groupColumns + " " +
+            "ORDER BY " + bucket;
+
+        List<Object[]> rows = converted(hql, Object[].class, target)
+            .setParameter("userId", userId)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new CashFlowRow(
+                toLocalDate(row[0]),
+                (CategoryType) row[1],
+                (Long) row[2],
+                (String) row[3],
+                toBigDecimal(row[4])))
+            .toList();
+    }
+
+    // Filtering happens on transaction_tags through its (transaction_id, tag_id) key; only the
+    // conditions that are present are added, since an empty IN list is not valid SQL.
+    @Override
+    public List<TypeTotalsRow> sumByTypeForTags(Long userId,
+                                                Set<Long> allTagIds,
+                                                Set<Long> anyTagIds,
+                                                Set<Long> noneTagIds,
+                                                ConversionTarget target) {
+        StringBuilder hql = new StringBuilder("SELECT c.type, COUNT(t), SUM(" + CONVERTED_AMOUNT + ") " +
+            "FROM Transaction t JOIN t.category c " + RATE_JOINS +
+            "WHERE t.user.id = :userId ");
+        if (!allTagIds.isEmpty()) {
+            hql.append("AND (SELECT COUNT(g) FROM Transaction ta JOIN ta.tags g " +
+                "WHERE ta.id = t.id AND g.id IN :allTagIds) = :allTagCount ");
+        }
+        if (!anyTagIds.isEmpty()) {
+            hql.append("AND EXISTS (SELECT 1 FROM Transaction tn JOIN tn.tags g " +
+                "WHERE tn.id = t.id AND g.id IN :anyTagIds) ");
+        }
+        if (!noneTagIds.isEmpty()) {
+            hql.append("AND NOT EXISTS (SELECT 1 FROM Transaction tx JOIN tx.tags g " +
+                "WHERE tx.id = t.id AND g.id IN :noneTagIds) ");
+        }
+        hql.append("GROUP BY c.type");
+
+        TypedQuery<Object[]> query = converted(hql.toString(), Object[].class, target)
+            .setParameter("userId", userId);
+        if (!allTagIds.isEmpty()) {
+            query.setParameter("allTagIds", allTagIds)
+                .setParameter("allTagCount", (long) allTagIds.size());
+        }
+        if (!anyTagIds.isEmpty()) {
+            query.setParameter("anyTagIds", anyTagIds);
+        }
+        if (!noneTagIds.isEmpty()) {
+            query.setParameter("noneTagIds", noneTagIds);
+        }
+
+        return query.getResultList().stream()
+            .map(row -> new TypeTotalsRow(
+                (CategoryType) row[0],
+                ((Number) row[1]).longValue(),
+                toBigDecimal(row[2]),
+                toBigDecimal(row[2])))
+            .toList();
+    }
+
+    @Override
+    public List<TransactionFactRow> findFactsByUserId(Long userId, ConversionTarget target) {
+        String hql = "SELECT t.id, c.id, c.type, " + CONVERTED_AMOUNT + ", t.transactionDate " +
+            "FROM Transaction t JOIN t.category c " + RATE_JOINS +
+            "WHERE t.user.id = :userId " +
+            "ORDER BY t.transactionDate, t.id";
+
+        List<Object[]> rows = converted(hql, Object[].class, target)
+            .setParameter("userId", userId)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> new TransactionFactRow(
+                (Long) row[0],
+                (Long) row[1],
+                (CategoryType) row[2],
+                toBigDecimal(row[3]),
+                (LocalDate) row[4]))
+            .toList();
+    }
+
+    private <T> TypedQuery<T> converted(String hql, Class<T> resultType, ConversionTarget target) {
+        return entityManager.createQuery(hql, resultType)
+            .setParameter("currency", target.currency())
+            .setParameter("ratesFrom", target.ratesFrom())
+            .setParameter("ratesTo", target.ratesTo());
+    }
+
+    // Products and quotients can come back with more decimals than the amount column; callers
+    // round to cents through Money.
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        throw new IllegalStateException("Unexpected bucket type: " + value);
+    }
+}
@@ -1,9 +1,9 @@
 package com.dimitar.financetracker.repository;
 
 import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.model.CategoryType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
@@ -11,10 +11,12 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+    TransactionAnalyticsRepository {
 
     @EntityGraph(attributePaths = {"category", "user"})
     Optional<Transaction> findByIdAndUserId(Long id, Long userId);
@@ -51,49 +53,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @EntityGraph(attributePaths = {"category", "user"})
     List<Transaction> findByUserIdAndDescriptionContainingIgnoreCase(Long userId, String searchTerm);
 
-    @Query("SELECT SUM(t.amount) FROM Transaction t " +
-        "WHERE t.user.id = :userId " +
-        "AND t.category.type = :type")
-    BigDecimal sumAmountByUserAndType(
-        @Param("userId") Long userId,
-        @Param("type") CategoryType type);
-
-    @Query("SELECT SUM(t.amount) FROM Transaction t " +
-        "WHERE t.user.id = :userId " +
-        "AND t.category.type = :type " +
-        "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    BigDecimal sumAmountByUserAndTypeAndDateRange(
-        @Param("userId") Long userId,
-        @Param("type") CategoryType type,
-        @Param("startDate") LocalDate startDate,
-        @Param("endDate") LocalDate endDate);
-
-    @Query("SELECT SUM(t.amount) FROM Transaction t " +
-        "WHERE t.user.id = :userId " +
-        "AND t.category.id = :categoryId " +
-        "AND t.transactionDate BETWEEN :startDate AND :endDate")
-    BigDecimal sumAmountByUserAndCategoryAndDateRange(
-        @Param("userId") Long userId,
-        @Param("categoryId") Long categoryId,
-        @Param("startDate") LocalDate startDate,
-        @Param("endDate") LocalDate endDate);
-
-    @Query("SELECT COUNT(t) FROM Transaction t " +
-        "WHERE t.user.id = :userId " +
-        "AND t.category.type = :type")
-    Long countByUserAndType(
-        @Param("userId") Long userId,
-        @Param("type") CategoryType type);
-
     @Query("SELECT COUNT(t) FROM Transaction t " +
         "WHERE t.user.id = :userId")
     Long countByUser(@Param("userId") Long userId);
 
-    @Query("SELECT AVG(t.amount) FROM Transaction t " +
-        "WHERE t.user.id = :userId " +
-        "AND t.category.type = :type")
-    BigDecimal avgAmountByUserAndType(
-        @Param("userId") Long userId,
-        @Param("type") CategoryType type);
+    @Query("SELECT t.id FROM Transaction t " +
+        "WHERE t.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = {"category", "user"})
+    List<Transaction> findByIdIn(Collection<Long> ids);
 }
@@ -2,6 +2,8 @@ package com.dimitar.financetracker.repository;
 
 import com.dimitar.financetracker.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -17,4 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByEmail(String email);
 
+    @Query("SELECT u.baseCurrency FROM User u WHERE u.id = :id")
+    Optional<String> findBaseCurrencyById(@Param("id") Long id);
+
 }
@@ -0,0 +1,15 @@
+package com.dimitar.financetracker.repository.projection;
+
+import com.dimitar.financetracker.model.BudgetPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record BudgetRolloverRow(Long id,
+                                Long userId,
+                                Long categoryId,
+                                BigDecimal amount,
+                                String currency,
+                                LocalDate endDate,
+                                BudgetPeriod period) {
+}
@@ -0,0 +1,14 @@
+package com.dimitar.financetracker.repository.projection;
+
+import com.dimitar.financetracker.model.CategoryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// One aggregated row of the cash-flow query. categoryId/categoryName are null when grouped by type.
+public record CashFlowRow(LocalDate bucketStart,
+                          CategoryType type,
+                          Long categoryId,
+                          String categoryName,
+                          BigDecimal total) {
+}
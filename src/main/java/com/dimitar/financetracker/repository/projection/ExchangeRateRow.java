@@ -0,0 +1,8 @@
+package com.dimitar.financetracker.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// One quote: units of currency per one unit of the reference currency on rateDate.
+public record ExchangeRateRow(String currency, LocalDate rateDate, BigDecimal rate) {
+}
@@ -0,0 +1,4 @@
+package com.dimitar.financetracker.repository.projection;
+
+public record TagMembershipRow(Long tagId, Long transactionId) {
+}
@@ -0,0 +1,13 @@
+package com.dimitar.financetracker.repository.projection;
+
+import com.dimitar.financetracker.model.CategoryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionFactRow(Long id,
+                                 Long categoryId,
+                                 CategoryType type,
+                                 BigDecimal amount,
+                                 LocalDate transactionDate) {
+}
@@ -0,0 +1,9 @@
+package com.dimitar.financetracker.repository.projection;
+
+import com.dimitar.financetracker.model.CategoryType;
+
+import java.math.BigDecimal;
+
+// Count and converted totals of one category type: overall and within the requested period.
+public record TypeTotalsRow(CategoryType type, long count, BigDecimal total, BigDecimal periodTotal) {
+}
@@ -0,0 +1,23 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.service.query.analytics.GetCashFlowQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+    private final GetCashFlowQuery getCashFlowQuery;
+
+    public CashFlowResponse getCashFlow(LocalDate from,
+                                        LocalDate to,
+                                        CashFlowGranularity granularity,
+                                        CashFlowGrouping groupBy) {
+        return getCashFlowQuery.execute(new GetCashFlowQuery.CashFlowCriteria(from, to, granularity, groupBy));
+    }
+}
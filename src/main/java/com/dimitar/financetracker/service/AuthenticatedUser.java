@@ -0,0 +1,22 @@
+package com.dimitar.financetracker.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// The principal JwtAuthenticationFilter places in the SecurityContext. Carrying the database id lets
+// AuthenticationFacade answer getAuthenticatedUserId() without a user lookup on every call.
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class AuthenticatedUser extends User {
+    private final Long id;
+
+    public AuthenticatedUser(Long id, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+}
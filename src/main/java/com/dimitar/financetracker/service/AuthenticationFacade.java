@@ -35,6 +35,18 @@ public class AuthenticationFacade { //facade = wrapper around Spring Security’
     }
 
     public Long getAuthenticatedUserId() {
-        return getAuthenticatedUser().getId();
+        Long principalUserId = getPrincipalUserId();
+        return principalUserId != null ? principalUserId : getAuthenticatedUser().getId();
+    }
+
+    // Id carried by the JWT principal, or null when there is none (scheduled jobs, other principal types).
+    // Never touches the database.
+    public Long getPrincipalUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+            && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
     }
 }
@@ -1,7 +1,10 @@
 package com.dimitar.financetracker.service;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
 import com.dimitar.financetracker.dto.request.budget.UpdateBudgetRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
 import com.dimitar.financetracker.service.command.budget.CreateBudgetCommand;
@@ -9,16 +12,22 @@ import com.dimitar.financetracker.service.command.budget.UpdateBudgetCommand;
 import com.dimitar.financetracker.service.command.budget.DeleteBudgetCommand;
 import com.dimitar.financetracker.service.command.budget.DeactivateBudgetCommand;
 import com.dimitar.financetracker.service.command.budget.ActivateBudgetCommand;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
 import com.dimitar.financetracker.service.query.budget.GetAllBudgetsQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetByIdQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetsByCategoryQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetUsageQuery;
 import com.dimitar.financetracker.service.query.budget.GetAllBudgetsUsageQuery;
 import com.dimitar.financetracker.service.query.budget.GetActiveBudgetsQuery;
+import com.dimitar.financetracker.service.query.budget.GetBudgetAlertsQuery;
+import com.dimitar.financetracker.service.query.budget.GetBudgetFieldsQuery;
+import com.dimitar.financetracker.service.query.budget.StreamBudgetsQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -34,13 +43,16 @@ public class BudgetService {
     private final GetBudgetUsageQuery getBudgetUsageQuery;
     private final GetAllBudgetsUsageQuery getAllBudgetsUsageQuery;
     private final GetActiveBudgetsQuery getActiveBudgetsQuery;
+    private final GetBudgetAlertsQuery getBudgetAlertsQuery;
+    private final GetBudgetFieldsQuery getBudgetFieldsQuery;
+    private final StreamBudgetsQuery streamBudgetsQuery;
 
     public BudgetResponse createBudget(CreateBudgetRequest request) {
         return createBudgetCommand.execute(request);
     }
 
-    public List<BudgetResponse> getAllBudgets() {
-        return getAllBudgetsQuery.execute(null);
+    public CursorPagedResponse<BudgetResponse> getAllBudgets(CursorPageRequest page) {
+        return getAllBudgetsQuery.execute(page);
     }
 
     public BudgetResponse updateBudget(UpdateBudgetRequest request) {
@@ -78,4 +90,24 @@ public class BudgetService {
     public List<BudgetResponse> getActiveBudgets() {
         return getActiveBudgetsQuery.execute(null);
     }
+
+    public List<Map<String, Object>> getAllBudgetFields(String fields) {
+        return getBudgetFieldsQuery.execute(GetBudgetFieldsQuery.Input.all(fields));
+    }
+
+    public StreamingResponseBody streamAllBudgets(String fields, RowEncoding encoding) {
+        return streamBudgetsQuery.execute(new StreamBudgetsQuery.Input(fields, encoding));
+    }
+
+    public List<Map<String, Object>> getActiveBudgetFields(String fields) {
+        return getBudgetFieldsQuery.execute(GetBudgetFieldsQuery.Input.active(fields));
+    }
+
+    public List<Map<String, Object>> getBudgetFieldsByCategory(Long categoryId, String fields) {
+        return getBudgetFieldsQuery.execute(GetBudgetFieldsQuery.Input.category(fields, categoryId));
+    }
+
+    public List<BudgetAlertResponse> getBudgetAlerts() {
+        return getBudgetAlertsQuery.execute(null);
+    }
 }
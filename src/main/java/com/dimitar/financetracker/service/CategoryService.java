@@ -15,11 +15,13 @@ import com.dimitar.financetracker.service.command.category.UpdateCategoryCommand
 import com.dimitar.financetracker.service.query.category.GetAllCategoriesQuery;
 import com.dimitar.financetracker.service.query.category.GetCategoryByIdQuery;
 import com.dimitar.financetracker.service.query.category.GetCategoryByTypeQuery;
+import com.dimitar.financetracker.service.query.category.GetCategoryFieldsQuery;
 import com.dimitar.financetracker.service.query.category.SearchCategoryByNameQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +35,7 @@ public class CategoryService {
     private final MergeCategoriesCommand mergeCategoriesCommand;
     private final ImportDefaultCategoriesCommand importDefaultCategoriesCommand;
     private final SearchCategoryByNameQuery searchCategoryByNameQuery;
+    private final GetCategoryFieldsQuery getCategoryFieldsQuery;
 
     public CategoryResponse createCategory(CreateCategoryRequest request) {
         return createCategoryCommand.execute(request);
@@ -95,4 +98,16 @@ public class CategoryService {
     public List<CategoryResponse> searchCategoriesByName(String name) {
         return searchCategoryByNameQuery.execute(name);
     }
+
+    public List<Map<String, Object>> getAllCategoryFields(String fields) {
+        return getCategoryFieldsQuery.execute(GetCategoryFieldsQuery.Input.all(fields));
+    }
+
+    public List<Map<String, Object>> getCategoryFieldsByType(CategoryType type, String fields) {
+        return getCategoryFieldsQuery.execute(GetCategoryFieldsQuery.Input.type(fields, type));
+    }
+
+    public List<Map<String, Object>> searchCategoryFieldsByName(String name, String fields) {
+        return getCategoryFieldsQuery.execute(GetCategoryFieldsQuery.Input.search(fields, name));
+    }
 }
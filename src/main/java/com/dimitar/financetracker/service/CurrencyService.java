@@ -0,0 +1,34 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.request.currency.ReplaceExchangeRatesRequest;
+import com.dimitar.financetracker.dto.response.currency.ExchangeRatesResponse;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.currency.ExchangeRateSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CurrencyService {
+    private final ExchangeRateService exchangeRateService;
+
+    public ExchangeRatesResponse getExchangeRates() {
+        return toResponse(exchangeRateService.snapshot());
+    }
+
+    public ExchangeRatesResponse replaceExchangeRates(ReplaceExchangeRatesRequest request) {
+        return toResponse(exchangeRateService.replaceRates(request.getRates().stream()
+            .map(rate -> new ExchangeRateRow(rate.getCurrency(), rate.getDate(), rate.getRate()))
+            .toList()));
+    }
+
+    private ExchangeRatesResponse toResponse(ExchangeRateSnapshot snapshot) {
+        return ExchangeRatesResponse.builder()
+            .referenceCurrency(snapshot.referenceCurrency())
+            .currencies(snapshot.currencies())
+            .ratesFrom(snapshot.from())
+            .ratesTo(snapshot.to())
+            .build();
+    }
+}
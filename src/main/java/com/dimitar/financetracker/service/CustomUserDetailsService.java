@@ -2,29 +2,45 @@ package com.dimitar.financetracker.service;
 
 import com.dimitar.financetracker.entity.User;
 import com.dimitar.financetracker.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
+    static final String ROLE_ADMIN = "ROLE_ADMIN";
 
     private final UserRepository userRepository;
+    // Usernames granted ROLE_ADMIN (e.g. for /api/admin/exchange-rates).
+    private final Set<String> adminUsernames;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.admin-usernames:}") List<String> adminUsernames) {
+        this.userRepository = userRepository;
+        this.adminUsernames = Set.copyOf(adminUsernames.stream().map(String::strip).filter(name -> !name.isEmpty()).toList());
+    }
 
     @Override
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         User user = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username or email: " + usernameOrEmail));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(new ArrayList<>()) // Will add roles/authorities here if needed
-                .build();
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        if (adminUsernames.contains(user.getUsername())) {
+            authorities.add(new SimpleGrantedAuthority(ROLE_ADMIN));
+        }
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername(),
+                user.getPassword(),
+                authorities
+        );
     }
 }
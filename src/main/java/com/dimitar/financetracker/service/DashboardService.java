@@ -0,0 +1,16 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.service.query.dashboard.GetDashboardQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private final GetDashboardQuery getDashboardQuery;
+
+    public DashboardResponse getDashboard(Integer recentLimit) {
+        return getDashboardQuery.execute(recentLimit);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.service.query.insights.GetBudgetForecastsQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class InsightsService {
+    private final GetBudgetForecastsQuery getBudgetForecastsQuery;
+
+    public List<BudgetForecastResponse> getBudgetForecasts() {
+        return getBudgetForecastsQuery.execute(null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.service.command.recurring.CreateRecurringTransactionCommand;
+import com.dimitar.financetracker.service.command.recurring.DeleteRecurringTransactionCommand;
+import com.dimitar.financetracker.service.query.recurring.GetRecurringTransactionsQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RecurringTransactionService {
+    private final CreateRecurringTransactionCommand createRecurringTransactionCommand;
+    private final DeleteRecurringTransactionCommand deleteRecurringTransactionCommand;
+    private final GetRecurringTransactionsQuery getRecurringTransactionsQuery;
+
+    public RecurringTransactionResponse createRecurringTransaction(CreateRecurringTransactionRequest request) {
+        return createRecurringTransactionCommand.execute(request);
+    }
+
+    public void deleteRecurringTransaction(Long ruleId) {
+        deleteRecurringTransactionCommand.execute(ruleId);
+    }
+
+    public List<RecurringTransactionResponse> getRecurringTransactions() {
+        return getRecurringTransactionsQuery.execute(null);
+    }
+}
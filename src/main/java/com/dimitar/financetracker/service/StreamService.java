@@ -0,0 +1,17 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.service.stream.UpdateStreamBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+public class StreamService {
+    private final AuthenticationFacade authenticationFacade;
+    private final UpdateStreamBroker updateStreamBroker;
+
+    public SseEmitter subscribeToUpdates(String lastEventId) {
+        return updateStreamBroker.subscribe(authenticationFacade.getAuthenticatedUserId(), lastEventId);
+    }
+}
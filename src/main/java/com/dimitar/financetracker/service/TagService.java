@@ -0,0 +1,55 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.request.tag.SetTransactionTagsRequest;
+import com.dimitar.financetracker.dto.response.PagedResponse;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.dto.response.tag.TagSummaryResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.service.command.tag.DeleteTagCommand;
+import com.dimitar.financetracker.service.command.tag.SetTransactionTagsCommand;
+import com.dimitar.financetracker.service.query.tag.GetTagSummaryQuery;
+import com.dimitar.financetracker.service.query.tag.GetTaggedTransactionsQuery;
+import com.dimitar.financetracker.service.query.tag.GetTagsQuery;
+import com.dimitar.financetracker.service.query.tag.GetTransactionTagsQuery;
+import com.dimitar.financetracker.service.query.tag.TagFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TagService {
+    private final GetTagsQuery getTagsQuery;
+    private final GetTransactionTagsQuery getTransactionTagsQuery;
+    private final GetTaggedTransactionsQuery getTaggedTransactionsQuery;
+    private final GetTagSummaryQuery getTagSummaryQuery;
+    private final SetTransactionTagsCommand setTransactionTagsCommand;
+    private final DeleteTagCommand deleteTagCommand;
+
+    public List<TagResponse> getTags() {
+        return getTagsQuery.execute(null);
+    }
+
+    public void deleteTag(Long tagId) {
+        deleteTagCommand.execute(tagId);
+    }
+
+    public List<TagResponse> getTransactionTags(Long transactionId) {
+        return getTransactionTagsQuery.execute(transactionId);
+    }
+
+    public List<TagResponse> setTransactionTags(SetTransactionTagsRequest request) {
+        return setTransactionTagsCommand.execute(request);
+    }
+
+    public PagedResponse<TransactionResponse> getTaggedTransactions(List<String> all, List<String> any, List<String> none,
+                                                                    int page, int size) {
+        return getTaggedTransactionsQuery.execute(
+            new GetTaggedTransactionsQuery.Input(TagFilter.of(all, any, none), page, size));
+    }
+
+    public TagSummaryResponse getTagSummary(List<String> all, List<String> any, List<String> none) {
+        return getTagSummaryQuery.execute(TagFilter.of(all, any, none));
+    }
+}
@@ -1,27 +1,39 @@
 package com.dimitar.financetracker.service;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.PageRequest;
 import com.dimitar.financetracker.dto.request.transaction.CreateTransactionRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
 import com.dimitar.financetracker.dto.request.transaction.UpdateTransactionRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.PagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.service.command.transaction.CreateTransactionCommand;
 import com.dimitar.financetracker.service.command.transaction.DeleteTransactionCommand;
 import com.dimitar.financetracker.service.command.transaction.DuplicateTransactionCommand;
 import com.dimitar.financetracker.service.command.transaction.UpdateTransactionCommand;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
 import com.dimitar.financetracker.service.query.transaction.GetAllTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetRecentTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionByIdQuery;
+import com.dimitar.financetracker.service.query.transaction.GetTransactionFieldsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsByAmountRangeQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsByCategoryQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsInDateRangeQuery;
+import com.dimitar.financetracker.service.query.transaction.QueryTransactionFieldsQuery;
+import com.dimitar.financetracker.service.query.transaction.QueryTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.SearchTransactionsByDescriptionQuery;
+import com.dimitar.financetracker.service.query.transaction.StreamTransactionsQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +49,10 @@ public class TransactionService {
     private final GetTransactionsByAmountRangeQuery getTransactionsByAmountRangeQuery;
     private final SearchTransactionsByDescriptionQuery searchTransactionsByDescriptionQuery;
     private final GetRecentTransactionsQuery getRecentTransactionsQuery;
+    private final GetTransactionFieldsQuery getTransactionFieldsQuery;
+    private final StreamTransactionsQuery streamTransactionsQuery;
+    private final QueryTransactionsQuery queryTransactionsQuery;
+    private final QueryTransactionFieldsQuery queryTransactionFieldsQuery;
 
     public TransactionResponse createTransaction(CreateTransactionRequest request) {
         return createTransactionCommand.execute(request);
@@ -53,13 +69,18 @@ public class TransactionService {
         return page.getContent();
     }
 
+    public CursorPagedResponse<TransactionResponse> queryTransactions(TransactionQueryRequest request) {
+        return queryTransactionsQuery.execute(request);
+    }
+
     public TransactionResponse getTransactionById(Long transactionId) {
         return getTransactionByIdQuery.execute(transactionId);
     }
 
-    public List<TransactionResponse> getTransactionsInDateRange(LocalDate startDate, LocalDate endDate) {
+    public CursorPagedResponse<TransactionResponse> getTransactionsInDateRange(LocalDate startDate, LocalDate endDate,
+                                                                              CursorPageRequest page) {
         return getTransactionsInDateRangeQuery.execute(
-            new GetTransactionsInDateRangeQuery.DateRange(startDate, endDate));
+            new GetTransactionsInDateRangeQuery.DateRange(startDate, endDate, page));
     }
 
     public TransactionResponse updateTransaction(UpdateTransactionRequest request) {
@@ -74,21 +95,93 @@ public class TransactionService {
         return duplicateTransactionCommand.execute(transactionId);
     }
 
-    public List<TransactionResponse> getTransactionsByCategory(Long categoryId) {
-        return getTransactionsByCategoryQuery.execute(categoryId);
+    public CursorPagedResponse<TransactionResponse> getTransactionsByCategory(Long categoryId, CursorPageRequest page) {
+        return getTransactionsByCategoryQuery.execute(new GetTransactionsByCategoryQuery.ByCategory(categoryId, page));
     }
 
-    public List<TransactionResponse> getTransactionsByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+    public CursorPagedResponse<TransactionResponse> getTransactionsByAmountRange(BigDecimal minAmount, BigDecimal maxAmount,
+                                                                                CursorPageRequest page) {
         return getTransactionsByAmountRangeQuery.execute(
-            new GetTransactionsByAmountRangeQuery.AmountRange(minAmount, maxAmount)
+            new GetTransactionsByAmountRangeQuery.AmountRange(minAmount, maxAmount, page)
         );
     }
 
-    public List<TransactionResponse> searchTransactionsByDescription(String q) {
-        return searchTransactionsByDescriptionQuery.execute(q);
+    public CursorPagedResponse<TransactionResponse> searchTransactionsByDescription(String q, CursorPageRequest page) {
+        return searchTransactionsByDescriptionQuery.execute(new SearchTransactionsByDescriptionQuery.Search(q, page));
     }
 
     public List<TransactionResponse> getRecentTransactions(Integer limit) {
         return getRecentTransactionsQuery.execute(limit);
     }
+
+    public List<Map<String, Object>> getAllTransactionFields(String fields) {
+        return listFields(fields, GetTransactionFieldsQuery.Filter.none(),
+            PageRequest.builder().page(0).size(50).sortBy("transactionDate").sortDirection("DESC").build().toPageable());
+    }
+
+    public PagedResponse<Map<String, Object>> getAllTransactionFields(PageRequest pageRequest, String fields) {
+        return getTransactionFieldsQuery.execute(new GetTransactionFieldsQuery.Input(
+            fields, GetTransactionFieldsQuery.Filter.none(), pageRequest.toPageable(), true));
+    }
+
+    public CursorPagedResponse<Map<String, Object>> getTransactionFieldsInDateRange(LocalDate startDate, LocalDate endDate,
+                                                                                   CursorPageRequest page, String fields) {
+        return queryFields(new GetTransactionsInDateRangeQuery.DateRange(startDate, endDate, page).toRequest(), fields);
+    }
+
+    public CursorPagedResponse<Map<String, Object>> getTransactionFieldsByCategory(Long categoryId, CursorPageRequest page,
+                                                                                  String fields) {
+        return queryFields(new GetTransactionsByCategoryQuery.ByCategory(categoryId, page).toRequest(), fields);
+    }
+
+    public CursorPagedResponse<Map<String, Object>> getTransactionFieldsByAmountRange(BigDecimal minAmount, BigDecimal maxAmount,
+                                                                                     CursorPageRequest page, String fields) {
+        return queryFields(new GetTransactionsByAmountRangeQuery.AmountRange(minAmount, maxAmount, page).toRequest(), fields);
+    }
+
+    public CursorPagedResponse<Map<String, Object>> searchTransactionFieldsByDescription(String q, CursorPageRequest page,
+                                                                                        String fields) {
+        return queryFields(new SearchTransactionsByDescriptionQuery.Search(q, page).toRequest(), fields);
+    }
+
+    public List<Map<String, Object>> getRecentTransactionFields(Integer limit, String fields) {
+        return listFields(fields, GetTransactionFieldsQuery.Filter.none(), GetRecentTransactionsQuery.pageable(limit));
+    }
+
+    public StreamingResponseBody streamAllTransactions(String fields, RowEncoding encoding) {
+        return streamTransactionsQuery.execute(new StreamTransactionsQuery.Input(fields,
+            GetTransactionFieldsQuery.Filter.none(),
+            Sort.by(Sort.Direction.DESC, "transactionDate", "id"), encoding));
+    }
+
+    public StreamingResponseBody streamTransactionsInDateRange(LocalDate startDate, LocalDate endDate, String fields,
+                                                               RowEncoding encoding) {
+        return streamTransactionsQuery.execute(new StreamTransactionsQuery.Input(fields,
+            GetTransactionFieldsQuery.Filter.dateRange(startDate, endDate), Sort.by("id"), encoding));
+    }
+
+    public StreamingResponseBody streamTransactionsByCategory(Long categoryId, String fields, RowEncoding encoding) {
+        return streamTransactionsQuery.execute(new StreamTransactionsQuery.Input(fields,
+            GetTransactionFieldsQuery.Filter.category(categoryId), Sort.by("id"), encoding));
+    }
+
+    public StreamingResponseBody streamTransactionsByAmountRange(BigDecimal minAmount, BigDecimal maxAmount, String fields,
+                                                                 RowEncoding encoding) {
+        return streamTransactionsQuery.execute(new StreamTransactionsQuery.Input(fields,
+            GetTransactionFieldsQuery.Filter.amountRange(minAmount, maxAmount), Sort.by("id"), encoding));
+    }
+
+    public StreamingResponseBody streamTransactionsByDescription(String q, String fields, RowEncoding encoding) {
+        return streamTransactionsQuery.execute(new StreamTransactionsQuery.Input(fields,
+            GetTransactionFieldsQuery.Filter.description(q), Sort.by("id"), encoding));
+    }
+
+    private List<Map<String, Object>> listFields(String fields, GetTransactionFieldsQuery.Filter filter, Pageable pageable) {
+        return getTransactionFieldsQuery.execute(new GetTransactionFieldsQuery.Input(fields, filter, pageable, false))
+            .getContent();
+    }
+
+    private CursorPagedResponse<Map<String, Object>> queryFields(TransactionQueryRequest request, String fields) {
+        return queryTransactionFieldsQuery.execute(new QueryTransactionFieldsQuery.Input(request, fields));
+    }
 }
@@ -0,0 +1,79 @@
+package com.dimitar.financetracker.service.alert;
+
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.repository.BudgetAlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Feeds committed transaction writes into BudgetSpendIndex and stores the alerts it raises.
+// Budget changes and bulk transaction changes drop the user's index so it reloads on next write;
+// a rate replacement drops every user's.
+@Component
+@RequiredArgsConstructor
+public class BudgetAlertListener {
+    private final BudgetSpendIndex budgetSpendIndex;
+    private final BudgetAlertRepository budgetAlertRepository;
+
+    // Marks the write in flight from before its commit until onTransactionsChanged (or a rollback),
+    // so BudgetSpendIndex knows when a load may already include a write it has not applied yet.
+    // Ordered first so that without a transaction it still runs before onTransactionsChanged.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void beforeTransactionsCommit(TransactionsChangedEvent event) {
+        Long userId = event.userId();
+        if (userId == null || event.isBulk()) {
+            return;
+        }
+        budgetSpendIndex.startCommit(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        budgetSpendIndex.abandonCommit(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        if (event.isBulk()) {
+            budgetSpendIndex.evict(event.userId());
+            return;
+        }
+
+        for (BudgetAlert alert : budgetSpendIndex.apply(event.userId(), event.before(), event.after())) {
+            // A budget that dips below a threshold and crosses it again keeps its first alert.
+            if (!budgetAlertRepository.existsByBudgetIdAndThresholdPercent(alert.getBudgetId(), alert.getThresholdPercent())) {
+                budgetAlertRepository.save(alert);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        budgetSpendIndex.evict(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRatesChanged(ExchangeRatesChangedEvent event) {
+        budgetSpendIndex.clear();
+    }
+}
@@ -0,0 +1,59 @@
+package com.dimitar.financetracker.service.alert;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Static interval tree over budget date ranges: budgets sorted by start day form an implicit
+// balanced BST, and every node keeps the largest end day of its subtree so a point query skips
+// whole subtrees that ended earlier. Finding the budgets covering a day costs O(log n + matches).
+// Rebuilt, not updated, when budgets change since that is rare compared to transaction writes.
+final class BudgetIntervalTree {
+    private final TrackedBudget[] byStart;
+    private final long[] maxEnd;
+
+    BudgetIntervalTree(List<TrackedBudget> budgets) {
+        this.byStart = budgets.stream()
+            .sorted(Comparator.comparingLong(TrackedBudget::startDay))
+            .toArray(TrackedBudget[]::new);
+        this.maxEnd = new long[byStart.length];
+        build(0, byStart.length - 1);
+    }
+
+    int size() {
+        return byStart.length;
+    }
+
+    void forEachCovering(long day, Consumer<TrackedBudget> action) {
+        forEachCovering(0, byStart.length - 1, day, action);
+    }
+
+    private long build(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(byStart[mid].endDay(), Math.max(build(lo, mid - 1), build(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void forEachCovering(int lo, int hi, long day, Consumer<TrackedBudget> action) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] < day) {
+            return;
+        }
+        forEachCovering(lo, mid - 1, day, action);
+        TrackedBudget budget = byStart[mid];
+        if (budget.startDay() > day) {
+            return;
+        }
+        if (budget.endDay() >= day) {
+            action.accept(budget);
+        }
+        forEachCovering(mid + 1, hi, day, action);
+    }
+}
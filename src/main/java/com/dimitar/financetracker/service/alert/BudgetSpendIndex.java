@@ -0,0 +1,178 @@
+package com.dimitar.financetracker.service.alert;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Running spent totals of every active budget, indexed per user by category and then by date
+// range. A user's budgets are loaded once (one sum per budget) and afterwards each transaction
+// write only touches the budgets whose interval covers its date, so alert evaluation stays
+// O(log budgets) per write instead of recomputing usage for all of them. Totals are kept in each
+// budget's own currency; a transaction in another currency is converted at its date's rate.
+// A load can run while other writes of the user are committed but not yet applied; it may already
+// include them, so such a load only serves its own write and is not kept.
+@Component
+public class BudgetSpendIndex {
+    private final BudgetRepository budgetRepository;
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final int[] thresholds;
+
+    private final Map<Long, UserBudgets> budgetsByUser = new ConcurrentHashMap<>();
+    // Writes per user between their commit starting and apply; survives evict and clear.
+    private final Map<Long, AtomicInteger> inFlightByUser = new ConcurrentHashMap<>();
+
+    public BudgetSpendIndex(BudgetRepository budgetRepository,
+                            TransactionRepository transactionRepository,
+                            ExchangeRateService exchangeRateService,
+                            @Value("${budget.alerts.thresholds:80,100}") int[] thresholds) {
+        this.budgetRepository = budgetRepository;
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.thresholds = Arrays.stream(thresholds).filter(t -> t > 0).sorted().distinct().toArray();
+    }
+
+    // Applies one committed transaction change (before removed, after added) and returns an unsaved
+    // alert for every threshold a covering budget crossed upwards.
+    public List<BudgetAlert> apply(Long userId, TransactionSnapshot before, TransactionSnapshot after) {
+        List<BudgetAlert> alerts = new ArrayList<>();
+        UserBudgets budgets = budgetsByUser.computeIfAbsent(userId, id -> new UserBudgets());
+        // A lock rather than a monitor: the first call loads from the database while holding it,
+        // which would pin a virtual thread to its carrier.
+        budgets.lock.lock();
+        try {
+            // Under the lock, so a load running here still counts a write whose apply is waiting.
+            finishCommit(userId);
+            // A fresh load already reflects this commit, so the deltas only drive the crossing check.
+            boolean loaded = budgets.ensureLoaded(userId);
+            if (before != null) {
+                apply(userId, budgets, before, -1, !loaded, alerts);
+            }
+            if (after != null) {
+                apply(userId, budgets, after, 1, !loaded, alerts);
+            }
+            // Another write committed (or about to) while loading may be in the totals already, and
+            // its own apply would add it again; the next write reloads instead.
+            if (loaded && inFlight(userId).get() > 0) {
+                budgets.byCategory = null;
+            }
+        } finally {
+            budgets.lock.unlock();
+        }
+        return alerts;
+    }
+
+    // A single-transaction write of the user is about to commit; its apply, or abandonCommit if it
+    // rolls back instead, follows.
+    public void startCommit(Long userId) {
+        inFlight(userId).incrementAndGet();
+    }
+
+    public void abandonCommit(Long userId) {
+        finishCommit(userId);
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            budgetsByUser.remove(userId);
+        }
+    }
+
+    // Totals were summed with the previous rates, so every user reloads on next write.
+    public void clear() {
+        budgetsByUser.clear();
+    }
+
+    int[] thresholds() {
+        return thresholds.clone();
+    }
+
+    boolean isLoaded(Long userId) {
+        UserBudgets budgets = budgetsByUser.get(userId);
+        return budgets != null && budgets.byCategory != null;
+    }
+
+    private AtomicInteger inFlight(Long userId) {
+        return inFlightByUser.computeIfAbsent(userId, id -> new AtomicInteger());
+    }
+
+    // Never below zero: writes applied without a transaction were not counted when they started.
+    private void finishCommit(Long userId) {
+        inFlight(userId).updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    private void apply(Long userId, UserBudgets budgets, TransactionSnapshot snapshot, int sign,
+                       boolean update, List<BudgetAlert> alerts) {
+        if (snapshot.categoryId() == null || snapshot.amount() == null || snapshot.transactionDate() == null) {
+            return;
+        }
+        BudgetIntervalTree tree = budgets.byCategory.get(snapshot.categoryId());
+        if (tree == null) {
+            return;
+        }
+        tree.forEachCovering(snapshot.transactionDate().toEpochDay(), budget -> {
+            long delta = sign * Money.toCents(amountIn(snapshot, budget.currency()));
+            if (update) {
+                budget.addSpent(delta);
+            }
+            long spentAfter = budget.spentCents();
+            long spentBefore = spentAfter - delta;
+            for (int threshold : thresholds) {
+                if (!budget.reached(spentBefore, threshold) && budget.reached(spentAfter, threshold)) {
+                    alerts.add(BudgetAlert.builder()
+                        .userId(userId)
+                        .budgetId(budget.budgetId())
+                        .categoryId(budget.categoryId())
+                        .thresholdPercent(threshold)
+                        .budgetAmount(Money.ofCents(budget.amountCents()))
+                        .spentAmount(Money.ofCents(spentAfter))
+                        .build());
+                }
+            }
+        });
+    }
+
+    private BigDecimal amountIn(TransactionSnapshot snapshot, String currency) {
+        return exchangeRateService.convert(snapshot, currency).amount();
+    }
+
+    private final class UserBudgets {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, BudgetIntervalTree> byCategory;
+
+        // Returns true when this call loaded the budgets from the database.
+        boolean ensureLoaded(Long userId) {
+            if (byCategory != null) {
+                return false;
+            }
+            Map<Long, List<TrackedBudget>> grouped = new HashMap<>();
+            for (Budget budget : budgetRepository.findByUserIdAndIsActiveTrue(userId)) {
+                long spent = Money.ofNullable(transactionRepository.sumAmountByUserAndCategoryAndDateRange(
+                    userId, budget.getCategory().getId(), budget.getStartDate(), budget.getEndDate(),
+                    exchangeRateService.targetFor(budget.getCurrency()))).cents();
+                grouped.computeIfAbsent(budget.getCategory().getId(), id -> new ArrayList<>())
+                    .add(TrackedBudget.of(budget, spent));
+            }
+            byCategory = grouped.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new BudgetIntervalTree(e.getValue())));
+            return true;
+        }
+    }
+}
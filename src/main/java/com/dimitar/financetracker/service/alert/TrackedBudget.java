@@ -0,0 +1,76 @@
+package com.dimitar.financetracker.service.alert;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.model.Money;
+
+// In-memory view of one active budget with its running spent total. Mutated only while the
+// owning user's budgets are locked in BudgetSpendIndex.
+public final class TrackedBudget {
+    private final Long budgetId;
+    private final Long categoryId;
+    private final long startDay;
+    private final long endDay;
+    private final long amountCents;
+    private final String currency;
+    private long spentCents;
+
+    TrackedBudget(Long budgetId, Long categoryId, long startDay, long endDay, long amountCents, String currency,
+                  long spentCents) {
+        this.budgetId = budgetId;
+        this.categoryId = categoryId;
+        this.startDay = startDay;
+        this.endDay = endDay;
+        this.amountCents = amountCents;
+        this.currency = currency;
+        this.spentCents = spentCents;
+    }
+
+    static TrackedBudget of(Budget budget, long spentCents) {
+        return new TrackedBudget(
+            budget.getId(),
+            budget.getCategory().getId(),
+            budget.getStartDate().toEpochDay(),
+            budget.getEndDate().toEpochDay(),
+            Money.toCents(budget.getAmount()),
+            budget.getCurrency(),
+            spentCents);
+    }
+
+    public Long budgetId() {
+        return budgetId;
+    }
+
+    public Long categoryId() {
+        return categoryId;
+    }
+
+    public long startDay() {
+        return startDay;
+    }
+
+    public long endDay() {
+        return endDay;
+    }
+
+    public long amountCents() {
+        return amountCents;
+    }
+
+    // Currency of amountCents and spentCents.
+    public String currency() {
+        return currency;
+    }
+
+    public long spentCents() {
+        return spentCents;
+    }
+
+    void addSpent(long deltaCents) {
+        spentCents += deltaCents;
+    }
+
+    // Compared in cents without rounding; amounts are bounded by the column precision so this cannot overflow.
+    boolean reached(long spent, int percent) {
+        return amountCents > 0 && spent * 100 >= (long) percent * amountCents;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.model.Aggregate;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Caches a Query's results per authenticated user, input and day until one of the aggregates it reads
+// is written. The input must have value equality, and results are shared between callers, so they must
+// not be mutated.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedQuery {
+    Aggregate[] reads();
+}
@@ -0,0 +1,87 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Serves @CachedQuery results from QueryResultCache and invalidates them for @WritesAggregates commands.
+// Runs inside ExecutionMetricsAspect, so hits show up as fast executions, and outside the transaction
+// advice, so a hit never opens a transaction. Only calls with a JWT principal are cached, and never
+// inside an already running transaction, whose uncommitted writes must not leak to other requests.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "query.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCacheAspect {
+    static final String REQUEST_METRIC = "query.cache.requests";
+
+    private final QueryResultCache cache;
+    private final AuthenticationFacade authenticationFacade;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+
+    public QueryCacheAspect(QueryResultCache cache, AuthenticationFacade authenticationFacade,
+                            MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.authenticationFacade = authenticationFacade;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.dimitar.financetracker.service.query.Query+.execute(..)) && @within(cachedQuery)")
+    public Object aroundQuery(ProceedingJoinPoint joinPoint, CachedQuery cachedQuery) throws Throwable {
+        Long userId = authenticationFacade.getPrincipalUserId();
+        if (userId == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Class<?> queryClass = joinPoint.getTarget().getClass();
+        Counters queryCounters = counters.computeIfAbsent(queryClass, this::register);
+        QueryResultCache.Key key = new QueryResultCache.Key(queryClass, userId, joinPoint.getArgs()[0], LocalDate.now());
+        long[] versions = cache.versions(userId, cachedQuery.reads());
+
+        QueryResultCache.Entry entry = cache.get(key, cachedQuery.reads(), versions);
+        if (entry != null) {
+            queryCounters.hits().increment();
+            return entry.value();
+        }
+        queryCounters.misses().increment();
+        Object result = joinPoint.proceed();
+        cache.put(key, result, versions);
+        return result;
+    }
+
+    @Around("execution(* com.dimitar.financetracker.service.command.Command+.execute(..)) && @within(writes)")
+    public Object aroundCommand(ProceedingJoinPoint joinPoint, WritesAggregates writes) throws Throwable {
+        Long userId = authenticationFacade.getPrincipalUserId();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // Also on failure: an enclosing transaction may still commit part of the work.
+            if (userId != null) {
+                cache.invalidateAfterCommit(userId, writes.value());
+            }
+        }
+    }
+
+    private Counters register(Class<?> queryClass) {
+        String name = ClassUtils.getUserClass(queryClass).getSimpleName();
+        return new Counters(
+            meterRegistry.counter(REQUEST_METRIC, "name", name, "result", "hit"),
+            meterRegistry.counter(REQUEST_METRIC, "name", name, "result", "miss"));
+    }
+
+    private record Counters(Counter hits, Counter misses) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.Aggregate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded store of Query results. Invalidation never scans entries: every (user, aggregate) pair has a
+// version counter, each entry remembers the versions of the aggregates it read as they were *before*
+// the query ran, and a lookup whose versions moved on is a miss. A result computed concurrently with a
+// write therefore can never outlive it, and invalidating is a single increment.
+// Results are keyed by day as well, since several queries are relative to today; the TTL is a safety
+// net for writers that neither run as commands nor publish change events. Exchange rates are shared
+// by all users, so their version is one global counter appended to every entry's versions.
+@Component
+@ConditionalOnProperty(name = "query.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryResultCache {
+    private static final Aggregate[] AGGREGATES = Aggregate.values();
+
+    private final Cache<Key, Entry> entries;
+    private final Map<Long, AtomicLongArray> versions = new ConcurrentHashMap<>();
+    private final AtomicLong exchangeRatesVersion = new AtomicLong();
+
+    public QueryResultCache(@Value("${query.cache.max-entries:10000}") long maxEntries,
+                            @Value("${query.cache.ttl:PT10M}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "queryResults");
+    }
+
+    public record Key(Class<?> query, Long userId, Object input, LocalDate day) {
+    }
+
+    // value may be null: a cached null result is still a hit.
+    public record Entry(Object value, long[] versions) {
+    }
+
+    public long[] versions(Long userId, Aggregate[] reads) {
+        AtomicLongArray current = versionsOf(userId);
+        long[] snapshot = new long[reads.length + 1];
+        for (int i = 0; i < reads.length; i++) {
+            snapshot[i] = current.get(reads[i].ordinal());
+        }
+        snapshot[reads.length] = exchangeRatesVersion.get();
+        return snapshot;
+    }
+
+    // Returns the entry when present and still current, null otherwise; stale entries are dropped.
+    public Entry get(Key key, Aggregate[] reads, long[] currentVersions) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        for (int i = 0; i < currentVersions.length; i++) {
+            if (entry.versions()[i] != currentVersions[i]) {
+                entries.asMap().remove(key, entry);
+                return null;
+            }
+        }
+        return entry;
+    }
+
+    public void put(Key key, Object value, long[] versionsBeforeLoad) {
+        entries.put(key, new Entry(value, versionsBeforeLoad));
+    }
+
+    public void invalidate(Long userId, Aggregate... aggregates) {
+        AtomicLongArray current = versionsOf(userId);
+        for (Aggregate aggregate : aggregates) {
+            current.incrementAndGet(aggregate.ordinal());
+        }
+    }
+
+    // Inside a transaction the write is not visible to other readers yet: invalidate now, so nothing
+    // cached before it survives, and again after commit, so nothing computed from the pre-commit
+    // state in between survives either.
+    public void invalidateAfterCommit(Long userId, Aggregate... aggregates) {
+        invalidate(userId, aggregates);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId, aggregates);
+                }
+            });
+        }
+    }
+
+    // Writers that are not commands (the recurring-transaction and budget-rollover jobs) publish these.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        invalidate(event.userId(), Aggregate.TRANSACTIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        invalidate(event.userId(), Aggregate.BUDGETS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        invalidate(event.userId(), Aggregate.CATEGORIES);
+    }
+
+    // Every converted amount may have moved; the entries are dropped only to free their memory early.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRatesChanged(ExchangeRatesChangedEvent event) {
+        exchangeRatesVersion.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private AtomicLongArray versionsOf(Long userId) {
+        return versions.computeIfAbsent(userId, id -> new AtomicLongArray(AGGREGATES.length));
+    }
+}
@@ -0,0 +1,18 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.model.Aggregate;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Aggregates of the authenticated user a Command may change; cached query results reading any of them
+// are invalidated once the command's transaction commits.
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WritesAggregates {
+    Aggregate[] value();
+}
@@ -4,16 +4,21 @@ import com.dimitar.financetracker.dto.mapper.BudgetMapper;
 import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
 import com.dimitar.financetracker.exception.budget.OverlappingBudgetException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,11 +26,14 @@ import java.util.List;
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.BUDGETS)
 public class CreateBudgetCommand implements Command<CreateBudgetRequest, BudgetResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final BudgetRepository budgetRepository;
     private final BudgetMapper budgetMapper;
+    private final ExchangeRateService exchangeRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BudgetResponse execute(CreateBudgetRequest request) {
@@ -35,10 +43,12 @@ public class CreateBudgetCommand implements Command<CreateBudgetRequest, BudgetR
             .orElseThrow(() -> new CategoryDoesNotExistException("Access denied or category with this id does not exist: " + request.getCategoryId()));
 
         Budget budget = budgetMapper.toEntity(request, user, category);
+        budget.setCurrency(exchangeRateService.resolve(request.getCurrency(), user.getBaseCurrency()));
 
         validateNoOverlappingBudgets(user.getId(), category.getId(), budget.getStartDate(), budget.getEndDate());
 
         Budget savedBudget = budgetRepository.save(budget);
+        eventPublisher.publishEvent(new BudgetsChangedEvent(user.getId()));
 
         return budgetMapper.toResponse(savedBudget);
     }
@@ -3,21 +3,27 @@ package com.dimitar.financetracker.service.command.budget;
 import com.dimitar.financetracker.dto.mapper.BudgetMapper;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.BUDGETS)
 public class DeactivateBudgetCommand implements Command<Long, BudgetResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final BudgetRepository budgetRepository;
     private final BudgetMapper budgetMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BudgetResponse execute(Long budgetId) {
@@ -30,6 +36,7 @@ public class DeactivateBudgetCommand implements Command<Long, BudgetResponse> {
         if (active == null || active) {
             budget.setIsActive(false);
             budget = budgetRepository.save(budget);
+            eventPublisher.publishEvent(new BudgetsChangedEvent(authenticatedUserId));
         }
 
         return budgetMapper.toResponse(budget);
@@ -1,20 +1,26 @@
 package com.dimitar.financetracker.service.command.budget;
 
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.BUDGETS)
 public class DeleteBudgetCommand implements Command<Long, Void> {
     private final AuthenticationFacade authenticationFacade;
     private final BudgetRepository budgetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Void execute(Long budgetId) {
@@ -24,6 +30,7 @@ public class DeleteBudgetCommand implements Command<Long, Void> {
             .orElseThrow(() -> new BudgetDoesNotExistException("Budget not found or access denied!"));
 
         budgetRepository.delete(budget);
+        eventPublisher.publishEvent(new BudgetsChangedEvent(authenticatedUserId));
         return null;
     }
 }
@@ -4,16 +4,21 @@ import com.dimitar.financetracker.dto.mapper.BudgetMapper;
 import com.dimitar.financetracker.dto.request.budget.UpdateBudgetRequest;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
 import com.dimitar.financetracker.exception.budget.OverlappingBudgetException;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -22,11 +27,14 @@ import java.util.List;
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.BUDGETS)
 public class UpdateBudgetCommand implements Command<UpdateBudgetRequest, BudgetResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final BudgetRepository budgetRepository;
     private final BudgetMapper budgetMapper;
+    private final ExchangeRateService exchangeRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public BudgetResponse execute(UpdateBudgetRequest request) {
@@ -58,9 +66,14 @@ public class UpdateBudgetCommand implements Command<UpdateBudgetRequest, BudgetR
             );
         }
 
+        if (request.getCurrency() != null) {
+            exchangeRateService.requireSupported(request.getCurrency());
+        }
+
         budgetMapper.updateEntity(budget, request, category);
 
         Budget savedBudget = budgetRepository.save(budget);
+        eventPublisher.publishEvent(new BudgetsChangedEvent(authenticatedUserId));
         return budgetMapper.toResponse(savedBudget);
     }
 
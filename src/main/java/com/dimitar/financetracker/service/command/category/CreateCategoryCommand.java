@@ -5,21 +5,27 @@ import com.dimitar.financetracker.dto.request.category.CreateCategoryRequest;
 import com.dimitar.financetracker.dto.response.category.CategoryResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.CATEGORIES)
 public class CreateCategoryCommand implements Command<CreateCategoryRequest, CategoryResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryResponse execute(CreateCategoryRequest request) {
@@ -28,6 +34,7 @@ public class CreateCategoryCommand implements Command<CreateCategoryRequest, Cat
         Category category = categoryMapper.toEntity(request, user);
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(user.getId()));
         return categoryMapper.toResponse(savedCategory);
     }
 }
@@ -1,20 +1,26 @@
 package com.dimitar.financetracker.service.command.category;
 
 import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates({Aggregate.CATEGORIES, Aggregate.TRANSACTIONS, Aggregate.BUDGETS, Aggregate.RECURRING_TRANSACTIONS})
 public class DeleteCategoryCommand implements Command<Long, Void> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Void execute(Long categoryId) {
@@ -23,6 +29,7 @@ public class DeleteCategoryCommand implements Command<Long, Void> {
             .orElseThrow(() -> new CategoryDoesNotExistException("Category not found or access denied!"));
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(authenticatedUserId));
         return null;
     }
 }
@@ -2,13 +2,17 @@ package com.dimitar.financetracker.service.command.category;
 
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import com.dimitar.financetracker.service.template.DefaultCategoryTemplateService;
 import com.dimitar.financetracker.exception.user.UserDoesNotExistException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,11 +22,13 @@ import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.CATEGORIES)
 public class ImportDefaultCategoriesCommand implements Command<Void, List<Category>> {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final AuthenticationFacade authenticationFacade;
     private final DefaultCategoryTemplateService templateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +55,8 @@ public class ImportDefaultCategoriesCommand implements Command<Void, List<Catego
             return List.of();
         }
 
-        return categoryRepository.saveAll(categoriesToImport);
+        List<Category> imported = categoryRepository.saveAll(categoriesToImport);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(userId));
+        return imported;
     }
 }
@@ -3,12 +3,16 @@ package com.dimitar.financetracker.service.command.category;
 import com.dimitar.financetracker.dto.request.category.MergeCategoriesRequest;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +20,12 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@WritesAggregates({Aggregate.CATEGORIES, Aggregate.TRANSACTIONS, Aggregate.BUDGETS, Aggregate.RECURRING_TRANSACTIONS})
 public class MergeCategoriesCommand implements Command<MergeCategoriesRequest, Void> {
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
     private final AuthenticationFacade authenticationFacade;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,6 +40,7 @@ public class MergeCategoriesCommand implements Command<MergeCategoriesRequest, V
         transferTransactions(sourceCategories, targetCategory, userId);
 
         categoryRepository.deleteAll(sourceCategories);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
 
         return null;
     }
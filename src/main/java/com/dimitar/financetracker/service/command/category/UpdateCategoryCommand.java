@@ -4,21 +4,27 @@ import com.dimitar.financetracker.dto.mapper.CategoryMapper;
 import com.dimitar.financetracker.dto.request.category.UpdateCategoryRequest;
 import com.dimitar.financetracker.dto.response.category.CategoryResponse;
 import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.CATEGORIES)
 public class UpdateCategoryCommand implements Command<UpdateCategoryRequest, CategoryResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryResponse execute(UpdateCategoryRequest request) {
@@ -29,6 +35,7 @@ public class UpdateCategoryCommand implements Command<UpdateCategoryRequest, Cat
         categoryMapper.updateEntity(category, request);
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(authenticatedUserId));
         return categoryMapper.toResponse(savedCategory);
     }
 }
@@ -0,0 +1,57 @@
+package com.dimitar.financetracker.service.command.recurring;
+
+import com.dimitar.financetracker.dto.mapper.RecurringTransactionMapper;
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
+import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+@WritesAggregates(Aggregate.RECURRING_TRANSACTIONS)
+public class CreateRecurringTransactionCommand implements Command<CreateRecurringTransactionRequest, RecurringTransactionResponse> {
+    private final AuthenticationFacade authenticationFacade;
+    private final CategoryRepository categoryRepository;
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final RecurringTransactionMapper recurringTransactionMapper;
+    private final ExchangeRateService exchangeRateService;
+
+    @Override
+    public RecurringTransactionResponse execute(CreateRecurringTransactionRequest request) {
+        validateSchedule(request);
+        User user = authenticationFacade.getAuthenticatedUser();
+
+        Category category = categoryRepository.findByIdAndUserId(request.getCategoryId(), user.getId())
+            .orElseThrow(() -> new CategoryDoesNotExistException("Access denied or category with this id does not exist: " + request.getCategoryId()));
+
+        RecurringTransaction rule = recurringTransactionMapper.toEntity(request, user, category);
+        rule.setCurrency(exchangeRateService.resolve(request.getCurrency(), user.getBaseCurrency()));
+        RecurringTransaction savedRule = recurringTransactionRepository.save(rule);
+        return recurringTransactionMapper.toResponse(savedRule);
+    }
+
+    private void validateSchedule(CreateRecurringTransactionRequest request) {
+        if (request.getFrequency() == RecurrenceFrequency.CRON
+            && (request.getCronExpression() == null || !CronExpression.isValidExpression(request.getCronExpression()))) {
+            throw new IllegalArgumentException("A valid six-field cron expression is required for CRON frequency");
+        }
+        if (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+    }
+}
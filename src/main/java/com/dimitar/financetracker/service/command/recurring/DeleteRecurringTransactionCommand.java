@@ -0,0 +1,33 @@
+package com.dimitar.financetracker.service.command.recurring;
+
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.exception.recurring.RecurringTransactionDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
+import com.dimitar.financetracker.service.command.Command;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Removes the rule only; transactions it already posted stay as regular transactions.
+@Component
+@Transactional
+@RequiredArgsConstructor
+@WritesAggregates(Aggregate.RECURRING_TRANSACTIONS)
+public class DeleteRecurringTransactionCommand implements Command<Long, Void> {
+    private final AuthenticationFacade authenticationFacade;
+    private final RecurringTransactionRepository recurringTransactionRepository;
+
+    @Override
+    public Void execute(Long ruleId) {
+        Long authenticatedUserId = authenticationFacade.getAuthenticatedUserId();
+
+        RecurringTransaction rule = recurringTransactionRepository.findByIdAndUserId(ruleId, authenticatedUserId)
+            .orElseThrow(() -> new RecurringTransactionDoesNotExistException("Recurring transaction not found or access denied!"));
+
+        recurringTransactionRepository.delete(rule);
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.service.command.tag;
+
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.exception.tag.TagDoesNotExistException;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.command.Command;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class DeleteTagCommand implements Command<Long, Void> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Void execute(Long tagId) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Tag tag = tagRepository.findByIdAndUserId(tagId, userId)
+            .orElseThrow(() -> new TagDoesNotExistException("Tag not found or access denied!"));
+
+        tagRepository.deleteMemberships(tag.getId());
+        tagRepository.delete(tag);
+        eventPublisher.publishEvent(TransactionTagsChangedEvent.tagsDeleted(userId, Set.of(tag.getId())));
+        return null;
+    }
+}
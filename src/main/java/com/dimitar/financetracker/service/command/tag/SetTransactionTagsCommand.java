@@ -0,0 +1,89 @@
+package com.dimitar.financetracker.service.command.tag;
+
+import com.dimitar.financetracker.dto.mapper.TagMapper;
+import com.dimitar.financetracker.dto.request.tag.SetTransactionTagsRequest;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.command.Command;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Replaces a transaction's tags, creating the user's missing tags on the way. No cached query reads
+// tags, so nothing is invalidated; TagBitmapIndex is patched from the published event.
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class SetTransactionTagsCommand implements Command<SetTransactionTagsRequest, List<TagResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TransactionRepository transactionRepository;
+    private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public List<TagResponse> execute(SetTransactionTagsRequest request) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Transaction transaction = transactionRepository.findByIdAndUserId(request.getTransactionId(), userId)
+            .orElseThrow(() -> new TransactionDoesNotExistException("Transaction not found or access denied!"));
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : request.getTags()) {
+            names.add(Tag.normalize(name));
+        }
+        Map<String, Tag> existing = new HashMap<>();
+        if (!names.isEmpty()) {
+            for (Tag tag : tagRepository.findByUserIdAndNameIn(userId, names)) {
+                existing.put(tag.getName(), tag);
+            }
+        }
+        Set<Tag> tags = new HashSet<>();
+        for (String name : names) {
+            Tag tag = existing.get(name);
+            if (tag == null) {
+                tag = tagRepository.save(Tag.builder().user(transaction.getUser()).name(name).build());
+            }
+            tags.add(tag);
+        }
+
+        Set<Long> before = idsOf(transaction.getTags());
+        Set<Long> after = idsOf(tags);
+        transaction.getTags().clear();
+        transaction.getTags().addAll(tags);
+
+        Set<Long> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<Long> added = new HashSet<>(after);
+        added.removeAll(before);
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            eventPublisher.publishEvent(new TransactionTagsChangedEvent(userId, transaction.getId(), removed, added));
+        }
+        return tags.stream()
+            .sorted(Comparator.comparing(Tag::getName))
+            .map(tagMapper::toResponse)
+            .toList();
+    }
+
+    private static Set<Long> idsOf(Set<Tag> tags) {
+        Set<Long> ids = new HashSet<>();
+        for (Tag tag : tags) {
+            ids.add(tag.getId());
+        }
+        return ids;
+    }
+}
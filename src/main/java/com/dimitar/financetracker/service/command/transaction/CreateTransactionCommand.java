@@ -6,24 +6,33 @@ import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.Transaction;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.TRANSACTIONS)
 public class CreateTransactionCommand implements Command<CreateTransactionRequest, TransactionResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final ExchangeRateService exchangeRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TransactionResponse execute(CreateTransactionRequest request) {
@@ -33,8 +42,10 @@ public class CreateTransactionCommand implements Command<CreateTransactionReques
             .orElseThrow(() -> new CategoryDoesNotExistException("Access denied or category with this id does not exist: " + request.getCategoryId()));
 
         Transaction transaction = transactionMapper.toEntity(request, user, category);
+        transaction.setCurrency(exchangeRateService.resolve(request.getCurrency(), user.getBaseCurrency()));
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.created(user.getId(), TransactionSnapshot.of(savedTransaction)));
         return transactionMapper.toResponse(savedTransaction);
     }
 }
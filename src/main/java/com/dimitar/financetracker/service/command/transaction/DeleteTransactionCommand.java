@@ -1,20 +1,27 @@
 package com.dimitar.financetracker.service.command.transaction;
 
 import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.TRANSACTIONS)
 public class DeleteTransactionCommand implements Command<Long, Void> {
     private final AuthenticationFacade authenticationFacade;
     private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Void execute(Long transactionId) {
@@ -23,7 +30,9 @@ public class DeleteTransactionCommand implements Command<Long, Void> {
         Transaction transaction = transactionRepository.findByIdAndUserId(transactionId, authenticatedUserId)
             .orElseThrow(() -> new TransactionDoesNotExistException("Transaction not found or access denied!"));
 
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
         transactionRepository.delete(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.deleted(authenticatedUserId, before));
         return null;
     }
 }
@@ -6,21 +6,28 @@ import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.Transaction;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.TRANSACTIONS)
 public class DuplicateTransactionCommand implements Command<Long, TransactionResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TransactionResponse execute(Long transactionId) {
@@ -35,12 +42,14 @@ public class DuplicateTransactionCommand implements Command<Long, TransactionRes
         CreateTransactionRequest request = CreateTransactionRequest.builder()
             .categoryId(category != null ? category.getId() : null)
             .amount(source.getAmount())
+            .currency(source.getCurrency())
             .description(source.getDescription())
             .transactionDate(source.getTransactionDate())
             .build();
 
         Transaction duplicate = transactionMapper.toEntity(request, user, category);
         Transaction saved = transactionRepository.save(duplicate);
+        eventPublisher.publishEvent(TransactionsChangedEvent.created(authenticatedUserId, TransactionSnapshot.of(saved)));
         return transactionMapper.toResponse(saved);
     }
 }
@@ -5,24 +5,33 @@ import com.dimitar.financetracker.dto.request.transaction.UpdateTransactionReque
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.TRANSACTIONS)
 public class UpdateTransactionCommand implements Command<UpdateTransactionRequest, TransactionResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final ExchangeRateService exchangeRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TransactionResponse execute(UpdateTransactionRequest input) {
@@ -38,9 +47,16 @@ public class UpdateTransactionCommand implements Command<UpdateTransactionReques
                 ));
         }
 
+        if (input.getCurrency() != null) {
+            exchangeRateService.requireSupported(input.getCurrency());
+        }
+
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
         transactionMapper.updateEntity(transaction, input, category);
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.updated(
+            authenticatedUserId, before, TransactionSnapshot.of(savedTransaction)));
         return transactionMapper.toResponse(savedTransaction);
 
     }
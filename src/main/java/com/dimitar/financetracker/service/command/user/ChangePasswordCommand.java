@@ -5,8 +5,10 @@ import com.dimitar.financetracker.dto.request.user.PasswordChangeRequest;
 import com.dimitar.financetracker.dto.response.user.UserResponse;
 import com.dimitar.financetracker.entity.User;
 import com.dimitar.financetracker.exception.user.IncorrectPasswordException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Component;
 @Component
 @Transactional
 @RequiredArgsConstructor
+@WritesAggregates(Aggregate.USER)
 public class ChangePasswordCommand implements Command<PasswordChangeRequest, UserResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final UserRepository userRepository;
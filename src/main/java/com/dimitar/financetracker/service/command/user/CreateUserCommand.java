@@ -5,8 +5,10 @@ import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
 import com.dimitar.financetracker.dto.response.user.UserResponse;
 import com.dimitar.financetracker.exception.user.DuplicateEmailException;
 import com.dimitar.financetracker.exception.user.DuplicateUsernameException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
+@WritesAggregates(Aggregate.USER)
 public class CreateUserCommand implements Command<UserRegistrationRequest, UserResponse> {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
@@ -1,14 +1,17 @@
 package com.dimitar.financetracker.service.command.user;
 
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
+@WritesAggregates({Aggregate.USER, Aggregate.CATEGORIES, Aggregate.TRANSACTIONS, Aggregate.BUDGETS, Aggregate.RECURRING_TRANSACTIONS})
 public class DeleteUserCommand implements Command<Void, Void> {
     private final AuthenticationFacade authenticationFacade;
     private final UserRepository userRepository;
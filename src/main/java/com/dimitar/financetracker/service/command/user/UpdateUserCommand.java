@@ -4,27 +4,39 @@ import com.dimitar.financetracker.dto.mapper.UserMapper;
 import com.dimitar.financetracker.dto.request.user.UserUpdateRequest;
 import com.dimitar.financetracker.dto.response.user.UserResponse;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.user.DuplicateEmailException;
 import com.dimitar.financetracker.exception.user.DuplicateUsernameException;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.WritesAggregates;
 import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
 @Transactional
+@WritesAggregates(Aggregate.USER)
 public class UpdateUserCommand implements Command<UserUpdateRequest, UserResponse> {
     private final AuthenticationFacade authenticationFacade;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ExchangeRateService exchangeRateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UpdateUserCommand(AuthenticationFacade authenticationFacade,
                              UserRepository userRepository,
-                             UserMapper userMapper) {
+                             UserMapper userMapper,
+                             ExchangeRateService exchangeRateService,
+                             ApplicationEventPublisher eventPublisher) {
         this.authenticationFacade = authenticationFacade;
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.exchangeRateService = exchangeRateService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -45,7 +57,18 @@ public class UpdateUserCommand implements Command<UserUpdateRequest, UserRespons
             user.setEmail(request.getEmail());
         }
 
+        boolean baseCurrencyChanged = request.getBaseCurrency() != null
+            && !request.getBaseCurrency().equals(user.getBaseCurrency());
+        if (baseCurrencyChanged) {
+            exchangeRateService.requireSupported(request.getBaseCurrency());
+            user.setBaseCurrency(request.getBaseCurrency());
+        }
+
         User updatedUser = userRepository.save(user);
+        if (baseCurrencyChanged) {
+            // Every converted total of this user (statistics, cash flow, forecasts) changes currency.
+            eventPublisher.publishEvent(new TransactionsChangedEvent(updatedUser.getId()));
+        }
         return userMapper.toResponse(updatedUser);
     }
 }
@@ -0,0 +1,197 @@
+package com.dimitar.financetracker.service.currency;
+
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.ExchangeRateRepository;
+import com.dimitar.financetracker.repository.UserRepository;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.DEFAULT_CURRENCY;
+
+// Owns the exchange_rates table and the ExchangeRateSnapshot every conversion reads. The snapshot is
+// preloaded by the first application runner, from currency.rates.file when set (which also replaces
+// the table) or from the table otherwise, and is swapped as a whole after each replacement, so readers
+// never lock and never see a half-loaded table. DEFAULT_CURRENCY is the reference currency.
+// Loading after the context refresh rather than during it keeps the refresh free of database access
+// (the AppCDS training run of the optimized image has none), and runners still complete before
+// readiness and before the warm-up runner.
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ExchangeRateService implements ApplicationRunner {
+    private static final Log log = LogFactory.getLog(ExchangeRateService.class);
+    private static final String INSERT_RATE =
+        "INSERT INTO exchange_rates (currency, rate_date, rate) VALUES (?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final ExchangeRateRepository exchangeRateRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String ratesFile;
+
+    // Replacements are serialized so the table and the published snapshot cannot disagree.
+    private final Lock replaceLock = new ReentrantLock();
+    private volatile ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.empty(DEFAULT_CURRENCY);
+
+    public ExchangeRateService(ExchangeRateRepository exchangeRateRepository,
+                               UserRepository userRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${currency.rates.file:}") String ratesFile) {
+        this.exchangeRateRepository = exchangeRateRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.ratesFile = ratesFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        preload();
+    }
+
+    public void preload() {
+        if (ratesFile != null && !ratesFile.isBlank()) {
+            replaceRates(readRatesFile(Path.of(ratesFile)));
+        } else {
+            snapshot = ExchangeRateSnapshot.of(DEFAULT_CURRENCY, exchangeRateRepository.findAllRows());
+        }
+        if (log.isInfoEnabled()) {
+            log.info("Exchange rates loaded for " + snapshot.currencies() + " from " + snapshot.from() + " to " + snapshot.to());
+        }
+    }
+
+    public ExchangeRateSnapshot snapshot() {
+        return snapshot;
+    }
+
+    // Replaces the whole table with quotes. Refused when a currency still used by a transaction,
+    // budget, recurring rule or base currency would lose its rates, as those rows could no longer
+    // be converted.
+    public ExchangeRateSnapshot replaceRates(List<ExchangeRateRow> quotes) {
+        ExchangeRateSnapshot replacement = ExchangeRateSnapshot.of(DEFAULT_CURRENCY, quotes);
+        replaceLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> missing = new TreeSet<>(exchangeRateRepository.findCurrenciesInUse());
+                missing.removeAll(replacement.currencies());
+                if (!missing.isEmpty()) {
+                    throw new UnsupportedCurrencyException("Exchange rates are required for currencies in use: " + missing);
+                }
+                exchangeRateRepository.deleteAllInBatch();
+                jdbcTemplate.batchUpdate(INSERT_RATE, replacement.rows(), INSERT_BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row.currency());
+                    ps.setDate(2, Date.valueOf(row.rateDate()));
+                    ps.setBigDecimal(3, row.rate());
+                });
+            });
+            snapshot = replacement;
+        } finally {
+            replaceLock.unlock();
+        }
+        eventPublisher.publishEvent(new ExchangeRatesChangedEvent(
+            replacement.currencies(), replacement.from(), replacement.to()));
+        return replacement;
+    }
+
+    public void requireSupported(String currency) {
+        if (!snapshot.supports(currency)) {
+            throw new UnsupportedCurrencyException("No exchange rates loaded for currency: " + currency);
+        }
+    }
+
+    // The currency a write should use: the requested one when given, fallback otherwise.
+    public String resolve(String requested, String fallback) {
+        String currency = requested != null ? requested : fallback;
+        requireSupported(currency);
+        return currency;
+    }
+
+    public String baseCurrencyOf(Long userId) {
+        return userRepository.findBaseCurrencyById(userId).orElse(DEFAULT_CURRENCY);
+    }
+
+    public ConversionTarget targetFor(String currency) {
+        return snapshot.target(currency);
+    }
+
+    public ConversionTarget baseTargetOf(Long userId) {
+        return targetFor(baseCurrencyOf(userId));
+    }
+
+    // The snapshot with its amount in currency, converted with the rates of its transaction date.
+    public TransactionSnapshot convert(TransactionSnapshot transaction, String currency) {
+        if (transaction == null || transaction.amount() == null || transaction.transactionDate() == null
+            || transaction.currency() == null || transaction.currency().equals(currency)) {
+            return transaction;
+        }
+        BigDecimal converted = snapshot.convert(
+            transaction.amount(), transaction.currency(), currency, transaction.transactionDate());
+        return transaction.withAmount(converted, currency);
+    }
+
+    // CSV lines of date,currency,rate (e.g. 2025-01-02,USD,1.0321); blank lines, lines starting
+    // with '#' and a leading header line are skipped.
+    static List<ExchangeRateRow> parse(List<String> lines) {
+        List<ExchangeRateRow> rows = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#") || (rows.isEmpty() && line.toLowerCase().startsWith("date"))) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": expected date,currency,rate");
+            }
+            try {
+                rows.add(new ExchangeRateRow(
+                    fields[1].strip().toUpperCase(),
+                    LocalDate.parse(fields[0].strip()),
+                    new BigDecimal(fields[2].strip())));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return rows;
+    }
+
+    private static List<ExchangeRateRow> readRatesFile(Path file) {
+        try {
+            return parse(Files.readAllLines(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read exchange rates from " + file, e);
+        }
+    }
+}
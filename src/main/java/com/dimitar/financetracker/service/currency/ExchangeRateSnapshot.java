@@ -0,0 +1,173 @@
+package com.dimitar.financetracker.service.currency;
+
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.dimitar.financetracker.util.DatabaseConstants.AMOUNT_SCALE;
+
+// Immutable, dense copy of the exchange-rate table. Every currency holds one rate per day of the
+// window in an array indexed by (epochDay - firstDay), so a lookup is a map get plus an array read.
+// Days without a quote carry the previous quote forward; dates outside the window are clamped to
+// its first or last day, the same way the aggregate queries clamp before joining exchange_rates.
+// Rates are units of the currency per one unit of the reference currency, which is always 1.
+public final class ExchangeRateSnapshot {
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    private final String referenceCurrency;
+    private final long firstDay;
+    private final int days;
+    private final Map<String, BigDecimal[]> ratesByCurrency;
+
+    private ExchangeRateSnapshot(String referenceCurrency, long firstDay, int days,
+                                 Map<String, BigDecimal[]> ratesByCurrency) {
+        this.referenceCurrency = referenceCurrency;
+        this.firstDay = firstDay;
+        this.days = days;
+        this.ratesByCurrency = ratesByCurrency;
+    }
+
+    public static ExchangeRateSnapshot empty(String referenceCurrency) {
+        return new ExchangeRateSnapshot(referenceCurrency, 0L, 0, Map.of());
+    }
+
+    // Quotes may be sparse and unordered; quotes for the reference currency are ignored.
+    public static ExchangeRateSnapshot of(String referenceCurrency, Collection<ExchangeRateRow> quotes) {
+        Map<String, NavigableMap<Long, BigDecimal>> byCurrency = new HashMap<>();
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (ExchangeRateRow quote : quotes) {
+            if (quote.currency() == null || !quote.currency().matches("[A-Z]{3}")) {
+                throw new IllegalArgumentException("Invalid currency code: " + quote.currency());
+            }
+            if (quote.rateDate() == null) {
+                throw new IllegalArgumentException("Rate date is required for " + quote.currency());
+            }
+            if (quote.rate() == null || quote.rate().signum() <= 0) {
+                throw new IllegalArgumentException("Rate must be positive for " + quote.currency() + " on " + quote.rateDate());
+            }
+            if (quote.currency().equals(referenceCurrency)) {
+                continue;
+            }
+            long day = quote.rateDate().toEpochDay();
+            byCurrency.computeIfAbsent(quote.currency(), c -> new TreeMap<>()).put(day, quote.rate());
+            min = Math.min(min, day);
+            max = Math.max(max, day);
+        }
+        if (byCurrency.isEmpty()) {
+            return empty(referenceCurrency);
+        }
+
+        int days = Math.toIntExact(max - min + 1);
+        Map<String, BigDecimal[]> dense = new HashMap<>(byCurrency.size() * 2);
+        for (Map.Entry<String, NavigableMap<Long, BigDecimal>> entry : byCurrency.entrySet()) {
+            dense.put(entry.getKey(), densify(entry.getValue(), min, days));
+        }
+        return new ExchangeRateSnapshot(referenceCurrency, min, days, Collections.unmodifiableMap(dense));
+    }
+
+    private static BigDecimal[] densify(NavigableMap<Long, BigDecimal> quotes, long firstDay, int days) {
+        BigDecimal[] rates = new BigDecimal[days];
+        Iterator<Map.Entry<Long, BigDecimal>> next = quotes.entrySet().iterator();
+        Map.Entry<Long, BigDecimal> pending = next.next();
+        // Days before the first quote take the first quote.
+        BigDecimal current = pending.getValue();
+        for (int i = 0; i < days; i++) {
+            while (pending != null && pending.getKey() <= firstDay + i) {
+                current = pending.getValue();
+                pending = next.hasNext() ? next.next() : null;
+            }
+            rates[i] = current;
+        }
+        return rates;
+    }
+
+    public String referenceCurrency() {
+        return referenceCurrency;
+    }
+
+    public boolean isEmpty() {
+        return days == 0;
+    }
+
+    // First and last day of the window; null when no rates are loaded.
+    public LocalDate from() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate to() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstDay + days - 1);
+    }
+
+    public Set<String> currencies() {
+        Set<String> currencies = new TreeSet<>(ratesByCurrency.keySet());
+        currencies.add(referenceCurrency);
+        return Collections.unmodifiableSet(currencies);
+    }
+
+    public boolean supports(String currency) {
+        return referenceCurrency.equals(currency) || ratesByCurrency.containsKey(currency);
+    }
+
+    public BigDecimal rate(String currency, LocalDate date) {
+        if (referenceCurrency.equals(currency)) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal[] rates = ratesByCurrency.get(currency);
+        if (rates == null) {
+            throw new UnsupportedCurrencyException("No exchange rates loaded for currency: " + currency);
+        }
+        long offset = date.toEpochDay() - firstDay;
+        return rates[(int) Math.max(0L, Math.min(offset, days - 1L))];
+    }
+
+    // Converts with the rates of date and rounds HALF_UP to the amount scale.
+    public BigDecimal convert(BigDecimal amount, String from, String to, LocalDate date) {
+        if (amount == null || from.equals(to)) {
+            return amount;
+        }
+        return amount.multiply(rate(to, date))
+            .divide(rate(from, date), PRECISION)
+            .setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public ConversionTarget target(String currency) {
+        if (!supports(currency)) {
+            throw new UnsupportedCurrencyException("No exchange rates loaded for currency: " + currency);
+        }
+        // With nothing loaded the join finds no rows, which only matters for foreign amounts
+        // and those cannot be written while their currency is unsupported.
+        LocalDate from = isEmpty() ? LocalDate.EPOCH : from();
+        LocalDate to = isEmpty() ? LocalDate.EPOCH : to();
+        return new ConversionTarget(currency, from, to);
+    }
+
+    // The dense rows, reference currency included, as they are stored in exchange_rates.
+    public List<ExchangeRateRow> rows() {
+        List<ExchangeRateRow> rows = new ArrayList<>((ratesByCurrency.size() + 1) * days);
+        for (int i = 0; i < days; i++) {
+            LocalDate date = LocalDate.ofEpochDay(firstDay + i);
+            rows.add(new ExchangeRateRow(referenceCurrency, date, BigDecimal.ONE));
+            for (Map.Entry<String, BigDecimal[]> entry : ratesByCurrency.entrySet()) {
+                rows.add(new ExchangeRateRow(entry.getKey(), date, entry.getValue()[i]));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,49 @@
+package com.dimitar.financetracker.service.encoding;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Streamed alternatives to a JSON array of objects for long lists. NDJSON writes one object per line,
+// COLUMNAR writes blocks of per-field arrays so field names appear once, and CBOR and Smile are the
+// binary Jackson encodings of the JSON array.
+public enum RowEncoding {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    COLUMNAR(MediaType.parseMediaType(RowEncoding.COLUMNAR_JSON_VALUE)),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType(RowEncoding.SMILE_VALUE));
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.financetracker.columnar+json";
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    RowEncoding(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    // Picks the encoding for an Accept header, honouring quality values and specificity; wildcards
+    // only match when nothing more specific does, and then select NDJSON.
+    public static RowEncoding negotiate(String accept) {
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        accepted.sort((a, b) -> Double.compare(b.getQualityValue(), a.getQualityValue()));
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (RowEncoding encoding : values()) {
+                if (type.includes(encoding.mediaType)) {
+                    return encoding;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Accept header does not name a streamed encoding: " + accept);
+    }
+}
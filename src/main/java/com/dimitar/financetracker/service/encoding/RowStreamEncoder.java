@@ -0,0 +1,166 @@
+package com.dimitar.financetracker.service.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Writes rows of field values (as read by SparseFieldRepository.streamFields) straight from the cursor
+// to the response, one row at a time, so memory stays flat however many rows there are. Values are
+// written with the application's Jackson configuration, so each row object has exactly the shape of
+// the regular JSON response. Output is flushed every block-size rows.
+//
+// COLUMNAR shape: {"fields":["id","amount"],"blocks":[{"rows":2,"columns":[[1,2],[9.99,12.50]]}]}
+@Component
+public class RowStreamEncoder {
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final int blockSize;
+
+    public RowStreamEncoder(ObjectMapper objectMapper,
+                            Jackson2ObjectMapperBuilder objectMapperBuilder,
+                            @Value("${transactions.stream.block-size:1000}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("transactions.stream.block-size must be positive");
+        }
+        this.jsonMapper = objectMapper;
+        this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        this.blockSize = blockSize;
+    }
+
+    public void write(List<String> fieldNames, Stream<Object[]> rows, RowEncoding encoding, OutputStream out)
+        throws IOException {
+        ObjectMapper mapper = switch (encoding) {
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+            case NDJSON, COLUMNAR -> jsonMapper;
+        };
+        try (JsonGenerator gen = mapper.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            ValueWriter values = new ValueWriter(gen, mapper.getSerializerProviderInstance());
+            Iterator<Object[]> iterator = rows.iterator();
+            switch (encoding) {
+                case NDJSON -> writeLines(values, fieldNames, iterator);
+                case COLUMNAR -> writeColumns(values, fieldNames, iterator);
+                case CBOR, SMILE -> writeArray(values, fieldNames, iterator);
+            }
+        }
+    }
+
+    private void writeLines(ValueWriter values, List<String> fieldNames, Iterator<Object[]> rows) throws IOException {
+        JsonGenerator gen = values.gen;
+        gen.setRootValueSeparator(null);
+        int pending = 0;
+        while (rows.hasNext()) {
+            values.writeRow(fieldNames, rows.next());
+            gen.writeRaw('\n');
+            if (++pending == blockSize) {
+                gen.flush();
+                pending = 0;
+            }
+        }
+    }
+
+    private void writeArray(ValueWriter values, List<String> fieldNames, Iterator<Object[]> rows) throws IOException {
+        JsonGenerator gen = values.gen;
+        gen.writeStartArray();
+        int pending = 0;
+        while (rows.hasNext()) {
+            values.writeRow(fieldNames, rows.next());
+            if (++pending == blockSize) {
+                gen.flush();
+                pending = 0;
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeColumns(ValueWriter values, List<String> fieldNames, Iterator<Object[]> rows) throws IOException {
+        JsonGenerator gen = values.gen;
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("fields");
+        for (String name : fieldNames) {
+            gen.writeString(name);
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("blocks");
+        Object[][] block = new Object[blockSize][];
+        int size = 0;
+        while (rows.hasNext()) {
+            block[size++] = rows.next();
+            if (size == blockSize) {
+                values.writeBlock(fieldNames.size(), block, size);
+                gen.flush();
+                size = 0;
+            }
+        }
+        if (size > 0) {
+            values.writeBlock(fieldNames.size(), block, size);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    // Common column types are written directly; anything else (dates, enums) goes through the
+    // mapper's serializer for its class (cached by the provider), so it is formatted like the rest of
+    // the API.
+    private static final class ValueWriter {
+        private final JsonGenerator gen;
+        private final SerializerProvider provider;
+
+        private ValueWriter(JsonGenerator gen, SerializerProvider provider) {
+            this.gen = gen;
+            this.provider = provider;
+        }
+
+        private void writeBlock(int width, Object[][] block, int size) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("rows", size);
+            gen.writeArrayFieldStart("columns");
+            for (int column = 0; column < width; column++) {
+                gen.writeStartArray();
+                for (int row = 0; row < size; row++) {
+                    writeValue(block[row][column]);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private void writeRow(List<String> fieldNames, Object[] row) throws IOException {
+            gen.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                gen.writeFieldName(fieldNames.get(i));
+                writeValue(row[i]);
+            }
+            gen.writeEndObject();
+        }
+
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> gen.writeNull();
+                case String s -> gen.writeString(s);
+                case Long l -> gen.writeNumber(l);
+                case Integer i -> gen.writeNumber(i);
+                case BigDecimal d -> gen.writeNumber(d);
+                case Boolean b -> gen.writeBoolean(b);
+                default -> provider.findTypedValueSerializer(value.getClass(), true, null)
+                    .serialize(value, gen, provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dimitar.financetracker.service.encoding;
+
+import com.dimitar.financetracker.exception.stream.TooManyStreamsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// A streamed list holds a pooled connection for the whole download, at the client's pace. Streams
+// are capped below the pool size so that downloads can never take every connection and time out
+// the regular requests; one over the cap is turned away with 503 instead of waiting.
+@Component
+public class StreamLimiter {
+    private final Semaphore slots;
+
+    public StreamLimiter(@Value("${transactions.stream.max-concurrent:4}") int maxConcurrent) {
+        this.slots = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    // Takes the slot on the request thread, so a full limiter is a regular error response, and
+    // frees it when the body has been written or failed.
+    public StreamingResponseBody bounded(StreamingResponseBody body) {
+        if (!slots.tryAcquire()) {
+            throw new TooManyStreamsException("Too many downloads in progress. Please retry shortly.");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    slots.release();
+                }
+            }
+        };
+    }
+
+    int available() {
+        return slots.availablePermits();
+    }
+}
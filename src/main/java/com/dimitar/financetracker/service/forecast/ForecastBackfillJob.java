@@ -0,0 +1,58 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Builds forecast states for users whose history was recorded before forecasting existed. Once a
+// user has states, ForecastStateUpdater keeps them current, so after the first pass this only finds
+// nothing. Each user is rebuilt in its own transaction, off the request path.
+@Component
+public class ForecastBackfillJob {
+    private final SpendingForecastStateRepository stateRepository;
+    private final ForecastStateUpdater forecastStateUpdater;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ForecastBackfillJob(SpendingForecastStateRepository stateRepository,
+                               ForecastStateUpdater forecastStateUpdater,
+                               @Value("${forecast.backfill.chunk-size:100}") int chunkSize) {
+        this.stateRepository = stateRepository;
+        this.forecastStateUpdater = forecastStateUpdater;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${forecast.backfill.cron:0 */10 * * * *}")
+    public void scheduledRun() {
+        run();
+    }
+
+    // Returns how many users were rebuilt; 0 if a backfill is already running in this instance.
+    public int run() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int rebuilt = 0;
+            long afterId = 0L;
+            List<Long> userIds;
+            do {
+                userIds = stateRepository.findUserIdsWithoutStates(afterId, Limit.of(chunkSize));
+                for (Long userId : userIds) {
+                    forecastStateUpdater.rebuild(userId);
+                    rebuilt++;
+                    afterId = userId;
+                }
+            } while (userIds.size() == chunkSize);
+            return rebuilt;
+        } finally {
+            running.set(false);
+        }
+    }
+}
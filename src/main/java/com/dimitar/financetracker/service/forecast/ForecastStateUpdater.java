@@ -0,0 +1,96 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Keeps SpendingForecastState in step with committed transaction writes. Single writes update the
+// affected (user, category) rows in place; bulk changes (category merge, re-typing, delete) rebuild
+// that user's states from history, which is the only time transactions are replayed. States are
+// kept in the user's base currency, converted at each transaction's date.
+@Component
+@RequiredArgsConstructor
+public class ForecastStateUpdater {
+    private final SpendingForecastStateRepository stateRepository;
+    private final TransactionRepository transactionRepository;
+    private final SpendingForecastEngine engine;
+    private final ExchangeRateService exchangeRateService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.userId();
+        if (userId == null) {
+            return;
+        }
+        if (event.isBulk()) {
+            rebuild(userId);
+            return;
+        }
+
+        long today = LocalDate.now().toEpochDay();
+        String baseCurrency = exchangeRateService.baseCurrencyOf(userId);
+        if (event.before() != null) {
+            apply(userId, exchangeRateService.convert(event.before(), baseCurrency), -1, today);
+        }
+        if (event.after() != null) {
+            apply(userId, exchangeRateService.convert(event.after(), baseCurrency), 1, today);
+        }
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        stateRepository.deleteByUserId(userId);
+        stateRepository.flush();
+
+        long today = LocalDate.now().toEpochDay();
+        Map<Long, SpendingForecastState> states = new HashMap<>();
+        for (TransactionFactRow row : transactionRepository.findFactsByUserId(
+                userId, exchangeRateService.baseTargetOf(userId))) {
+            long day = row.transactionDate().toEpochDay();
+            SpendingForecastState state = states.computeIfAbsent(row.categoryId(),
+                categoryId -> engine.newState(userId, categoryId, Math.min(day, today)));
+            engine.observe(state, day, Money.toCents(row.amount()), today);
+        }
+        stateRepository.saveAll(states.values());
+    }
+
+    // The (user, category) state, locked for this transaction. The first write of a pair inserts it
+    // with ON CONFLICT DO NOTHING, so two commits creating it at once both end up updating one row
+    // rather than one of them failing on the unique constraint after its request has committed.
+    private SpendingForecastState lockState(Long userId, Long categoryId, long openDay) {
+        Optional<SpendingForecastState> existing = stateRepository.findForUpdate(userId, categoryId);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        SpendingForecastState empty = engine.newState(userId, categoryId, openDay);
+        stateRepository.insertIfAbsent(userId, categoryId, empty.getOpenDay(), empty.getSeasonal());
+        return stateRepository.findForUpdate(userId, categoryId)
+            .orElseThrow(() -> new IllegalStateException("Forecast state missing after insert"));
+    }
+
+    private void apply(Long userId, TransactionSnapshot snapshot, int sign, long today) {
+        if (snapshot.categoryId() == null || snapshot.amount() == null || snapshot.transactionDate() == null) {
+            return;
+        }
+        long day = snapshot.transactionDate().toEpochDay();
+        SpendingForecastState state = lockState(userId, snapshot.categoryId(), Math.min(day, today));
+        engine.observe(state, day, sign * Money.toCents(snapshot.amount()), today);
+        stateRepository.save(state);
+    }
+}
@@ -0,0 +1,128 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.model.ForecastSeasonality;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+// Additive Holt-Winters smoothing over daily spend, in cents. Each write touches one state in O(1):
+// amounts for the open day accumulate, a later day closes the open one (plus any empty days in
+// between), and a back-dated amount nudges the level by the weight that day would have had.
+@Component
+public class SpendingForecastEngine {
+    // Gaps longer than this are not replayed day by day; the state has decayed to its trend by then.
+    static final int MAX_REPLAY_DAYS = 366;
+
+    private final double alpha;
+    private final double beta;
+    private final double gamma;
+    private final ForecastSeasonality seasonality;
+
+    public SpendingForecastEngine(@Value("${forecast.alpha:0.3}") double alpha,
+                                  @Value("${forecast.beta:0.05}") double beta,
+                                  @Value("${forecast.gamma:0.1}") double gamma,
+                                  @Value("${forecast.seasonality:weekly}") String seasonality) {
+        this.alpha = alpha;
+        this.beta = beta;
+        this.gamma = gamma;
+        this.seasonality = ForecastSeasonality.fromValue(seasonality);
+    }
+
+    public SpendingForecastState newState(Long userId, Long categoryId, long openDay) {
+        return SpendingForecastState.builder()
+            .userId(userId)
+            .categoryId(categoryId)
+            .openDay(openDay)
+            .seasonal(encode(new float[seasonality.period()]))
+            .build();
+    }
+
+    // Adds (or, negative, removes) an amount spent on the given day. Days after today count as today.
+    public void observe(SpendingForecastState state, long day, long deltaCents, long today) {
+        long effectiveDay = Math.min(day, today);
+        if (effectiveDay > state.getOpenDay()) {
+            advanceTo(state, effectiveDay);
+        }
+        // Nothing is folded in yet, so an earlier day can simply join the open one.
+        if (effectiveDay == state.getOpenDay() || state.getObservedDays() == 0) {
+            state.setOpenDayCents(state.getOpenDayCents() + deltaCents);
+            return;
+        }
+
+        // Under simple smoothing an observation closed k days ago contributed alpha * (1 - alpha)^(k - 1)
+        // to the current level, so that is the share of a late correction that is applied now.
+        long age = state.getOpenDay() - effectiveDay;
+        if (age <= MAX_REPLAY_DAYS) {
+            state.setLevel(state.getLevel() + alpha * Math.pow(1 - alpha, age - 1) * deltaCents);
+        }
+    }
+
+    // Expected spend, in cents, for the days after today up to and including lastDay.
+    public long projectCents(SpendingForecastState state, long today, long lastDay) {
+        if (lastDay <= today || (state.getObservedDays() == 0 && state.getOpenDay() >= today)) {
+            return 0L;
+        }
+        SpendingForecastState projected = state.toBuilder().build();
+        if (projected.getOpenDay() < today) {
+            advanceTo(projected, today);
+        }
+
+        float[] seasonal = decode(projected.getSeasonal());
+        double total = 0;
+        long lastClosedDay = today - 1;
+        for (long day = today + 1; day <= lastDay; day++) {
+            double expected = projected.getLevel()
+                + (day - lastClosedDay) * projected.getTrend()
+                + seasonal[seasonality.index(day)];
+            total += Math.max(expected, 0);
+        }
+        return Math.round(total);
+    }
+
+    private void advanceTo(SpendingForecastState state, long day) {
+        float[] seasonal = decode(state.getSeasonal());
+        step(state, seasonal, state.getOpenDay(), state.getOpenDayCents());
+        long firstEmpty = Math.max(state.getOpenDay() + 1, day - MAX_REPLAY_DAYS);
+        for (long empty = firstEmpty; empty < day; empty++) {
+            step(state, seasonal, empty, 0L);
+        }
+        state.setSeasonal(encode(seasonal));
+        state.setOpenDay(day);
+        state.setOpenDayCents(0L);
+    }
+
+    private void step(SpendingForecastState state, float[] seasonal, long day, long observedCents) {
+        int slot = seasonality.index(day);
+        if (state.getObservedDays() == 0) {
+            state.setLevel(observedCents);
+            state.setTrend(0);
+        } else {
+            double previousLevel = state.getLevel();
+            double level = alpha * (observedCents - seasonal[slot])
+                + (1 - alpha) * (previousLevel + state.getTrend());
+            state.setTrend(beta * (level - previousLevel) + (1 - beta) * state.getTrend());
+            state.setLevel(level);
+            if (seasonality != ForecastSeasonality.NONE) {
+                seasonal[slot] = (float) (gamma * (observedCents - level) + (1 - gamma) * seasonal[slot]);
+            }
+        }
+        state.setObservedDays(state.getObservedDays() + 1);
+    }
+
+    private float[] decode(byte[] packed) {
+        float[] seasonal = new float[seasonality.period()];
+        // A state written under a different seasonality setting starts its seasonal component over.
+        if (packed != null && packed.length == seasonal.length * Float.BYTES) {
+            ByteBuffer.wrap(packed).asFloatBuffer().get(seasonal);
+        }
+        return seasonal;
+    }
+
+    private static byte[] encode(float[] seasonal) {
+        ByteBuffer buffer = ByteBuffer.allocate(seasonal.length * Float.BYTES);
+        buffer.asFloatBuffer().put(seasonal);
+        return buffer.array();
+    }
+}
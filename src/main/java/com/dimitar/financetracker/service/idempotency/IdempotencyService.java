@@ -0,0 +1,255 @@
+package com.dimitar.financetracker.service.idempotency;
+
+import com.dimitar.financetracker.entity.IdempotencyRecord;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyInUseException;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyMismatchException;
+import com.dimitar.financetracker.model.IdempotencyStatus;
+import com.dimitar.financetracker.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.ServletException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Runs a request at most once per (user, Idempotency-Key) and hands the stored response to retries.
+// Three layers, cheapest first: a Caffeine cache of completed responses, a map of executions in flight
+// on this instance (duplicates block on the same future instead of racing), and the idempotency_keys
+// table, whose unique key arbitrates between instances. A claim that loses the insert polls the row
+// until the winner completes it.
+// Only successful responses are stored. An error response or an exception releases the key, so the
+// client can retry (or correct a rejected request) under the same key.
+// A claim still in progress after in-progress-timeout counts as abandoned and is taken over, so the
+// timeout must exceed the longest request. An owner that finishes after losing its claim cannot
+// store its response; that is logged and counted in idempotency.claims.lost, since the request may
+// then have run twice.
+@Component
+public class IdempotencyService {
+    private static final Log log = LogFactory.getLog(IdempotencyService.class);
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration inProgressTimeout;
+    private final Cache<Key, StoredResponse> completed;
+    private final Map<Key, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter lostClaims;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                              @Value("${idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+                              @Value("${idempotency.front-cache.max-entries:10000}") long frontCacheMaxEntries,
+                              @Value("${idempotency.front-cache.ttl:PT10M}") Duration frontCacheTtl,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.inProgressTimeout = inProgressTimeout;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(frontCacheMaxEntries)
+            .expireAfterWrite(frontCacheTtl.compareTo(ttl) < 0 ? frontCacheTtl : ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotentResponses");
+        this.lostClaims = Counter.builder("idempotency.claims.lost")
+            .description("Requests whose key was taken over before they could store their response")
+            .register(meterRegistry);
+    }
+
+    public record Key(Long userId, String idempotencyKey) {
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+
+    public record Outcome(StoredResponse response, boolean replayed) {
+    }
+
+    @FunctionalInterface
+    public interface Execution {
+        StoredResponse run() throws IOException, ServletException;
+    }
+
+    private record Claim(Long recordId, StoredResponse completed) {
+    }
+
+    public Outcome execute(Long userId, String idempotencyKey, String requestHash,
+                           Execution execution) throws IOException, ServletException {
+        Key key = new Key(userId, idempotencyKey);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            StoredResponse cached = completed.getIfPresent(key);
+            if (cached != null) {
+                return replay(cached, requestHash);
+            }
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                StoredResponse response = await(running, deadline);
+                if (response != null) {
+                    return replay(response, requestHash);
+                }
+                // The first attempt failed and released the key: try again ourselves.
+                continue;
+            }
+            try {
+                return executeOwned(key, requestHash, execution, mine, deadline);
+            } finally {
+                mine.complete(null);
+                inFlight.remove(key, mine);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${idempotency.purge.cron:0 30 * * * *}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged " + purged + " expired idempotency keys");
+        }
+    }
+
+    private Outcome executeOwned(Key key, String requestHash, Execution execution,
+                                 CompletableFuture<StoredResponse> mine,
+                                 long deadline) throws IOException, ServletException {
+        Claim claim = claim(key, requestHash, deadline);
+        if (claim.completed() != null) {
+            completed.put(key, claim.completed());
+            mine.complete(claim.completed());
+            return replay(claim.completed(), requestHash);
+        }
+
+        StoredResponse response;
+        try {
+            response = execution.run();
+        } catch (Throwable e) {
+            release(claim.recordId());
+            throw e;
+        }
+
+        if (!isStorable(response)) {
+            release(claim.recordId());
+            return new Outcome(response, false);
+        }
+        int stored = repository.complete(claim.recordId(), IdempotencyStatus.COMPLETED, response.status(),
+            response.contentType(), response.body());
+        if (stored == 0) {
+            // The key now belongs to the request that took it over; its response is the one to replay.
+            lostClaims.increment();
+            log.error("Idempotency-Key claim of user " + key.userId() + " was taken over after "
+                + inProgressTimeout + " while its request ran; the request may have been executed twice");
+            return new Outcome(response, false);
+        }
+        completed.put(key, response);
+        mine.complete(response);
+        return new Outcome(response, false);
+    }
+
+    private Claim claim(Key key, String requestHash, long deadline) {
+        while (true) {
+            Optional<IdempotencyRecord> existing =
+                repository.findByUserIdAndIdempotencyKey(key.userId(), key.idempotencyKey());
+            if (existing.isEmpty()) {
+                try {
+                    LocalDateTime now = LocalDateTime.now();
+                    IdempotencyRecord record = repository.saveAndFlush(IdempotencyRecord.builder()
+                        .userId(key.userId())
+                        .idempotencyKey(key.idempotencyKey())
+                        .requestHash(requestHash)
+                        .status(IdempotencyStatus.IN_PROGRESS)
+                        .createdAt(now)
+                        .expiresAt(now.plus(ttl))
+                        .build());
+                    return new Claim(record.getId(), null);
+                } catch (DataIntegrityViolationException e) {
+                    // Another instance claimed the key between our read and insert.
+                    continue;
+                }
+            }
+
+            IdempotencyRecord record = existing.get();
+            LocalDateTime now = LocalDateTime.now();
+            if (record.getExpiresAt().isBefore(now)
+                || (record.getStatus() == IdempotencyStatus.IN_PROGRESS
+                    && record.getCreatedAt().plus(inProgressTimeout).isBefore(now))) {
+                // Expired, or abandoned by an instance that died mid-request. Deleted only if it still is,
+                // then read again either way.
+                repository.deleteIfStale(record.getId(), now, now.minus(inProgressTimeout));
+                continue;
+            }
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                return new Claim(record.getId(), new StoredResponse(record.getRequestHash(),
+                    record.getResponseStatus(), record.getContentType(), record.getResponseBody()));
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IdempotencyKeyInUseException(
+                    "A request with this Idempotency-Key is still being processed");
+            }
+            sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInUseException("A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException("Interrupted while waiting for the original request");
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private Outcome replay(StoredResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(
+                "Idempotency-Key was already used for a different request");
+        }
+        return new Outcome(response, true);
+    }
+
+    private static boolean isStorable(StoredResponse response) {
+        return response.status() < 400
+            && (response.body() == null || response.body().length <= IdempotencyRecord.MAX_BODY_BYTES);
+    }
+
+    private void release(Long recordId) {
+        try {
+            repository.deleteById(recordId);
+        } catch (RuntimeException e) {
+            // Left as IN_PROGRESS it is taken over once in-progress-timeout passes.
+            log.warn("Could not release idempotency key " + recordId, e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException("Interrupted while waiting for the original request");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.entity.OutboxEvent;
+import com.dimitar.financetracker.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Delivers one batch of outbox events in a single transaction: the rows are locked, handed to every
+// subscriber in id order, and the delivered ones marked in one UPDATE. When a subscriber throws, the
+// rest of that user's events in the batch are held back so they are never seen out of order; the
+// failed event is redelivered (to every subscriber) on the next poll.
+// Subscribers run inside this transaction; ones that write should use REQUIRES_NEW, as the existing
+// change-event listeners do.
+@Component
+public class OutboxBatchDelivery {
+    private static final Log log = LogFactory.getLog(OutboxBatchDelivery.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCodec codec;
+    private final ObjectProvider<OutboxSubscriber> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final Timer deliveryLag;
+    private final Counter delivered;
+
+    public OutboxBatchDelivery(OutboxEventRepository outboxEventRepository,
+                               OutboxCodec codec,
+                               ObjectProvider<OutboxSubscriber> subscribers,
+                               MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.codec = codec;
+        this.subscribers = subscribers;
+        this.meterRegistry = meterRegistry;
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+            .description("Time from the write committing an event to its delivery")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.delivered = Counter.builder("outbox.delivered").register(meterRegistry);
+    }
+
+    public record Result(int claimed, int delivered) {
+    }
+
+    // Fewer claimed than limit means the outbox was drained, or only capped users' events are left.
+    @Transactional
+    public Result deliverBatch(int limit, int perUser) {
+        List<OutboxEvent> events = outboxEventRepository.claimPending(limit, perUser);
+        if (events.isEmpty()) {
+            return new Result(0, 0);
+        }
+        List<OutboxSubscriber> targets = subscribers.orderedStream().toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> deliveredIds = new ArrayList<>(events.size());
+        Set<Long> blockedUsers = new HashSet<>();
+        for (OutboxEvent event : events) {
+            if (blockedUsers.contains(event.getUserId())) {
+                continue;
+            }
+            if (deliver(event, targets)) {
+                deliveredIds.add(event.getId());
+                deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } else {
+                blockedUsers.add(event.getUserId());
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            outboxEventRepository.markDispatched(deliveredIds, now);
+            delivered.increment(deliveredIds.size());
+        }
+        return new Result(events.size(), deliveredIds.size());
+    }
+
+    private boolean deliver(OutboxEvent event, List<OutboxSubscriber> targets) {
+        OutboxMessage message;
+        try {
+            message = new OutboxMessage(event.getId(), event.getUserId(),
+                codec.decode(event.getEventType(), event.getPayload()), event.getCreatedAt());
+        } catch (RuntimeException e) {
+            // Unreadable rows would block their user forever; count and skip them instead.
+            log.error("Skipping undecodable outbox event " + event.getId(), e);
+            failed("codec", e);
+            return true;
+        }
+
+        for (OutboxSubscriber subscriber : targets) {
+            try {
+                subscriber.onMessage(message);
+            } catch (RuntimeException e) {
+                log.warn("Outbox subscriber " + subscriber.getClass().getSimpleName()
+                    + " failed on event " + event.getId() + "; will redeliver", e);
+                failed(subscriber.getClass().getSimpleName(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void failed(String subscriber, RuntimeException e) {
+        meterRegistry.counter("outbox.delivery.errors",
+            "subscriber", subscriber,
+            "exception", e.getClass().getSimpleName()).increment();
+    }
+}
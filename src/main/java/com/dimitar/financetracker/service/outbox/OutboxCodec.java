@@ -0,0 +1,61 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Maps the change events to (event_type, JSON payload) and back. Types are stored by a stable name
+// rather than the class name so events can be moved or renamed without orphaning pending rows.
+@Component
+@RequiredArgsConstructor
+public class OutboxCodec {
+    private static final Map<String, Class<?>> TYPES = Map.of(
+        "TransactionsChanged", TransactionsChangedEvent.class,
+        "BudgetsChanged", BudgetsChangedEvent.class,
+        "CategoriesChanged", CategoriesChangedEvent.class,
+        "TransactionTagsChanged", TransactionTagsChangedEvent.class
+    );
+    private static final Map<Class<?>, String> NAMES = Map.of(
+        TransactionsChangedEvent.class, "TransactionsChanged",
+        BudgetsChangedEvent.class, "BudgetsChanged",
+        CategoriesChangedEvent.class, "CategoriesChanged",
+        TransactionTagsChangedEvent.class, "TransactionTagsChanged"
+    );
+
+    private final ObjectMapper objectMapper;
+
+    public String typeOf(Object event) {
+        String type = NAMES.get(event.getClass());
+        if (type == null) {
+            throw new IllegalArgumentException("Not an outbox event: " + event.getClass().getName());
+        }
+        return type;
+    }
+
+    public String encode(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    public Object decode(String type, String payload) {
+        Class<?> eventClass = TYPES.get(type);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Unknown outbox event type: " + type);
+        }
+        try {
+            return objectMapper.readValue(payload, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read " + type + " payload", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.entity.OutboxEvent;
+import com.dimitar.financetracker.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Polls outbox_events and hands pending events to the OutboxSubscriber beans, batch by batch until the
+// outbox is drained. outbox.lag.seconds is the age of the oldest event still waiting after a poll,
+// so a stuck subscriber or a slow dispatcher shows up as a growing lag rather than silently.
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+public class OutboxDispatcher {
+    private static final Log log = LogFactory.getLog(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxBatchDelivery outboxBatchDelivery;
+    private final int batchSize;
+    private final int maxPerUser;
+    private final boolean pollingEnabled;
+    private final Duration retention;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxBatchDelivery outboxBatchDelivery,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.dispatch.batch-size:500}") int batchSize,
+                            @Value("${outbox.dispatch.max-per-user:50}") int maxPerUser,
+                            @Value("${outbox.dispatch.enabled:true}") boolean pollingEnabled,
+                            @Value("${outbox.retention:PT24H}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxBatchDelivery = outboxBatchDelivery;
+        this.batchSize = batchSize;
+        this.maxPerUser = maxPerUser;
+        this.pollingEnabled = pollingEnabled;
+        this.retention = retention;
+        Gauge.builder("outbox.lag.seconds", this, OutboxDispatcher::lagSeconds)
+            .description("Age of the oldest undelivered outbox event")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.interval-ms:500}")
+    public void poll() {
+        if (pollingEnabled) {
+            dispatchPending();
+        }
+    }
+
+    // Returns how many events were delivered; 0 if a dispatch is already running in this instance.
+    public int dispatchPending() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int delivered = 0;
+            OutboxBatchDelivery.Result batch;
+            do {
+                batch = outboxBatchDelivery.deliverBatch(batchSize, maxPerUser);
+                delivered += batch.delivered();
+                // A full batch with nothing delivered means every claimed user is blocked; wait for the next poll.
+            } while (batch.claimed() == batchSize && batch.delivered() > 0);
+            return delivered;
+        } catch (RuntimeException e) {
+            log.error("Outbox dispatch failed; pending events are retried on the next poll", e);
+            return 0;
+        } finally {
+            oldestPending.set(outboxEventRepository.findFirstByDispatchedAtIsNullOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null));
+            running.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge.cron:0 45 * * * *}")
+    public void purgeDispatched() {
+        int purged = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged " + purged + " dispatched outbox events");
+        }
+    }
+
+    double lagSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+}
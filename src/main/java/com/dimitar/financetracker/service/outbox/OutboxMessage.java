@@ -0,0 +1,9 @@
+package com.dimitar.financetracker.service.outbox;
+
+import java.time.LocalDateTime;
+
+// An outbox row as handed to subscribers. event is the original event record
+// (TransactionsChangedEvent, BudgetsChangedEvent, CategoriesChangedEvent); id increases with every
+// write and may be used to skip redeliveries.
+public record OutboxMessage(long id, Long userId, Object event, LocalDateTime createdAt) {
+}
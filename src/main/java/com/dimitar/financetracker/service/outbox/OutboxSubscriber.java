@@ -0,0 +1,10 @@
+package com.dimitar.financetracker.service.outbox;
+
+// In-process consumer of the outbox. Every bean implementing this is called by OutboxDispatcher, in
+// order for each user, after the write has committed and outside the write's transaction.
+// Delivery is at-least-once: a message is redelivered to every subscriber if any of them throws, so
+// implementations must tolerate seeing the same message twice.
+public interface OutboxSubscriber {
+
+    void onMessage(OutboxMessage message);
+}
@@ -0,0 +1,116 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Appends the change events commands already publish to outbox_events, inside the publishing
+// transaction. Events are buffered per transaction and written as one JDBC batch just before commit,
+// so a command pays a single extra batched INSERT however many events it raises, and the rows commit
+// or roll back together with the write itself. Outside a transaction (the rollover job publishes
+// after each chunk commits) the events are written straight away.
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+public class OutboxWriter {
+    private static final String INSERT_EVENT =
+        "INSERT INTO outbox_events (user_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxCodec codec;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, OutboxCodec codec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.codec = codec;
+    }
+
+    record PendingEvent(Long userId, String type, String payload, LocalDateTime createdAt) {
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        append(event.userId(), event);
+    }
+
+    @EventListener
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        append(event.userId(), event);
+    }
+
+    @EventListener
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        append(event.userId(), event);
+    }
+
+    @EventListener
+    public void onTransactionTagsChanged(TransactionTagsChangedEvent event) {
+        append(event.userId(), event);
+    }
+
+    void append(Long userId, Object event) {
+        PendingEvent pending = new PendingEvent(userId, codec.typeOf(event), codec.encode(event), LocalDateTime.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            write(List.of(pending));
+            return;
+        }
+
+        // Looked up among the synchronizations rather than bound as a resource, so a REQUIRES_NEW
+        // transaction started meanwhile (which suspends the synchronizations) gets its own buffer.
+        Buffer buffer = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Buffer existing && existing.owner == this) {
+                buffer = existing;
+                break;
+            }
+        }
+        if (buffer == null) {
+            buffer = new Buffer(this);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.events.add(pending);
+    }
+
+    // Identity equality on purpose: Spring keeps synchronizations in a set, and the list keeps growing.
+    private static final class Buffer implements TransactionSynchronization {
+        private final OutboxWriter owner;
+        private final List<PendingEvent> events = new ArrayList<>();
+
+        private Buffer(OutboxWriter owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            owner.write(events);
+        }
+    }
+
+    private void write(List<PendingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+            if (event.userId() != null) {
+                ps.setLong(1, event.userId());
+            } else {
+                ps.setNull(1, Types.BIGINT);
+            }
+            ps.setString(2, event.type());
+            ps.setString(3, event.payload());
+            ps.setTimestamp(4, Timestamp.valueOf(event.createdAt()));
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.dimitar.financetracker.service.query;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Position after the last row of a page: its sort value and id, plus the sort it was read with so a
+// cursor cannot be replayed against a different ordering. Opaque to clients (URL-safe Base64).
+public record KeysetCursor(String sortBy, Sort.Direction direction, String value, long id) {
+    private static final String SEPARATOR = ",";
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed Base64, unknown directions and non-numeric ids.
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
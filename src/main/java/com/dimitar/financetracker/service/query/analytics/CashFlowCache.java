@@ -0,0 +1,63 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowBucketResponse;
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Holds cash-flow buckets of periods that are already over. A closed period only changes when a
+// transaction in it is written (back-dated entries, edits, category merges), so entries live until
+// the owning user's next TransactionsChangedEvent. Totals are converted with the current exchange
+// rates, so a rate replacement clears every user.
+@Component
+public class CashFlowCache {
+    static final int MAX_ENTRIES_PER_USER = 64;
+
+    private final Map<Long, Map<Key, List<CashFlowBucketResponse>>> entries = new ConcurrentHashMap<>();
+
+    public record Key(LocalDate from, LocalDate to, CashFlowGranularity granularity, CashFlowGrouping grouping,
+                      String currency) {
+    }
+
+    public List<CashFlowBucketResponse> get(Long userId, Key key, Supplier<List<CashFlowBucketResponse>> loader) {
+        Map<Key, List<CashFlowBucketResponse>> userEntries =
+            entries.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+
+        List<CashFlowBucketResponse> cached = userEntries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<CashFlowBucketResponse> loaded = List.copyOf(loader.get());
+        if (userEntries.size() >= MAX_ENTRIES_PER_USER) {
+            userEntries.clear();
+        }
+        userEntries.put(key, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        evict(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRatesChanged(ExchangeRatesChangedEvent event) {
+        entries.clear();
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            entries.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-user columnar copies of the transaction table for the aggregate queries (statistics, budget
+// usage). A user's columns are loaded on first use, patched in place from TransactionsChangedEvent
+// after each commit and evicted least-recently-used once the configured memory cap is exceeded.
+// When disabled, or when a user does not fit, columnsFor is empty and callers use the repository.
+// Amounts are converted to the user's base currency: in the load query, and per event through the
+// exchange-rate snapshot. A rate replacement drops every user.
+@Component
+public class ColumnarAnalyticsStore {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final boolean enabled;
+    private final long maxMemoryBytes;
+
+    private final Lock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, UserTransactionColumns> columnsByUser = new LinkedHashMap<>(16, 0.75f, true);
+    // Bumped on every write so a load racing with a commit is discarded instead of cached stale. A load
+    // that reads after a commit but before its listener bumps is kept; the listener's apply is
+    // idempotent per transaction id, so replaying the change on it does not count the row twice.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private long usedBytes;
+
+    public ColumnarAnalyticsStore(TransactionRepository transactionRepository,
+                                  ExchangeRateService exchangeRateService,
+                                  @Value("${analytics.columnar.enabled:false}") boolean enabled,
+                                  @Value("${analytics.columnar.max-memory-bytes:67108864}") long maxMemoryBytes) {
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.enabled = enabled;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public Optional<UserTransactionColumns> columnsFor(Long userId) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+
+        lock.lock();
+        try {
+            UserTransactionColumns cached = columnsByUser.get(userId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        ConversionTarget target = exchangeRateService.baseTargetOf(userId);
+        UserTransactionColumns loaded = UserTransactionColumns.of(
+            transactionRepository.findFactsByUserId(userId, target), target.currency());
+        if (loaded.estimatedBytes() > maxMemoryBytes) {
+            return Optional.empty();
+        }
+
+        lock.lock();
+        try {
+            if (generations.get(stripe) != generation) {
+                return Optional.empty();
+            }
+            UserTransactionColumns previous = columnsByUser.put(userId, loaded);
+            if (previous != null) {
+                usedBytes -= previous.estimatedBytes();
+            }
+            usedBytes += loaded.estimatedBytes();
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+        return Optional.of(loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.userId();
+        if (!enabled || userId == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(userId));
+
+        lock.lock();
+        try {
+            UserTransactionColumns columns = columnsByUser.get(userId);
+            if (columns == null) {
+                return;
+            }
+            long bytesBefore = columns.estimatedBytes();
+            if (event.isBulk() || !apply(columns, event)) {
+                columnsByUser.remove(userId);
+                usedBytes -= bytesBefore;
+                return;
+            }
+            usedBytes += columns.estimatedBytes() - bytesBefore;
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExchangeRatesChanged(ExchangeRatesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        lock.lock();
+        try {
+            columnsByUser.clear();
+            usedBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(Long userId) {
+        lock.lock();
+        try {
+            UserTransactionColumns removed = columnsByUser.remove(userId);
+            if (removed != null) {
+                usedBytes -= removed.estimatedBytes();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isLoaded(Long userId) {
+        lock.lock();
+        try {
+            return columnsByUser.containsKey(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean apply(UserTransactionColumns columns, TransactionsChangedEvent event) {
+        try {
+            return columns.apply(
+                exchangeRateService.convert(event.before(), columns.currency()),
+                exchangeRateService.convert(event.after(), columns.currency()));
+        } catch (UnsupportedCurrencyException e) {
+            return false;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, UserTransactionColumns>> eldest = columnsByUser.entrySet().iterator();
+        while (usedBytes > maxMemoryBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,160 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowBucketResponse;
+import com.dimitar.financetracker.dto.response.analytics.CashFlowCategoryResponse;
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.CashFlowRow;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class GetCashFlowQuery implements Query<GetCashFlowQuery.CashFlowCriteria, CashFlowResponse> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TransactionRepository transactionRepository;
+    private final CashFlowCache cashFlowCache;
+    private final ExchangeRateService exchangeRateService;
+
+    public record CashFlowCriteria(LocalDate from,
+                                   LocalDate to,
+                                   CashFlowGranularity granularity,
+                                   CashFlowGrouping groupBy) {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CashFlowResponse execute(CashFlowCriteria input) {
+        if (input == null || input.from() == null || input.to() == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        LocalDate from = input.from();
+        LocalDate to = input.to();
+        if (from.isAfter(to)) {
+            LocalDate tmp = from;
+            from = to;
+            to = tmp;
+        }
+        CashFlowGranularity granularity = input.granularity() != null ? input.granularity() : CashFlowGranularity.MONTH;
+        CashFlowGrouping grouping = input.groupBy() != null ? input.groupBy() : CashFlowGrouping.TYPE;
+
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        ConversionTarget target = exchangeRateService.baseTargetOf(userId);
+
+        // Everything before the current bucket is closed and served from the cache;
+        // only the open bucket is always recomputed.
+        LocalDate openStart = granularity.truncate(LocalDate.now());
+        List<CashFlowBucketResponse> buckets = new ArrayList<>();
+
+        if (from.isBefore(openStart)) {
+            LocalDate closedFrom = from;
+            LocalDate closedTo = to.isBefore(openStart) ? to : openStart.minusDays(1);
+            CashFlowCache.Key key = new CashFlowCache.Key(closedFrom, closedTo, granularity, grouping, target.currency());
+            buckets.addAll(cashFlowCache.get(userId, key,
+                () -> loadBuckets(userId, closedFrom, closedTo, granularity, grouping, target)));
+        }
+        if (!to.isBefore(openStart)) {
+            LocalDate openFrom = from.isBefore(openStart) ? openStart : from;
+            buckets.addAll(loadBuckets(userId, openFrom, to, granularity, grouping, target));
+        }
+
+        return CashFlowResponse.builder()
+            .from(from)
+            .to(to)
+            .granularity(granularity)
+            .groupBy(grouping)
+            .currency(target.currency())
+            .buckets(buckets)
+            .build();
+    }
+
+    private List<CashFlowBucketResponse> loadBuckets(Long userId,
+                                                     LocalDate from,
+                                                     LocalDate to,
+                                                     CashFlowGranularity granularity,
+                                                     CashFlowGrouping grouping,
+                                                     ConversionTarget target) {
+        List<CashFlowRow> rows = transactionRepository.sumCashFlow(userId, from, to, granularity, grouping, target);
+
+        // Rows may arrive at a finer grain than the bucket (weeks are summed per day),
+        // so both the bucket and its categories are merged by key, accumulating in cents.
+        Map<LocalDate, BucketTotals> buckets = new LinkedHashMap<>();
+        for (CashFlowRow row : rows) {
+            LocalDate bucketStart = granularity.truncate(row.bucketStart());
+            BucketTotals bucket = buckets.computeIfAbsent(bucketStart, start -> new BucketTotals());
+
+            long total = row.total() != null ? Money.toCents(row.total()) : 0L;
+            if (row.type() == CategoryType.INCOME) {
+                bucket.incomeCents = Money.addCents(bucket.incomeCents, total);
+            } else {
+                bucket.expenseCents = Money.addCents(bucket.expenseCents, total);
+            }
+
+            if (grouping == CashFlowGrouping.CATEGORY) {
+                CategoryTotals category = bucket.categories.computeIfAbsent(row.categoryId(),
+                    id -> new CategoryTotals(row.categoryName(), row.type()));
+                category.cents = Money.addCents(category.cents, total);
+            }
+        }
+
+        List<CashFlowBucketResponse> responses = new ArrayList<>(buckets.size());
+        buckets.forEach((start, totals) -> responses.add(toResponse(start, granularity, grouping, totals)));
+        return responses;
+    }
+
+    private CashFlowBucketResponse toResponse(LocalDate start,
+                                              CashFlowGranularity granularity,
+                                              CashFlowGrouping grouping,
+                                              BucketTotals totals) {
+        CashFlowBucketResponse bucket = CashFlowBucketResponse.builder()
+            .periodStart(start)
+            .periodEnd(granularity.nextBucketStart(start).minusDays(1))
+            .income(Money.toBigDecimal(totals.incomeCents))
+            .expense(Money.toBigDecimal(totals.expenseCents))
+            .net(Money.toBigDecimal(Money.subtractCents(totals.incomeCents, totals.expenseCents)))
+            .build();
+        if (grouping == CashFlowGrouping.CATEGORY) {
+            List<CashFlowCategoryResponse> categories = new ArrayList<>(totals.categories.size());
+            totals.categories.forEach((categoryId, category) -> categories.add(CashFlowCategoryResponse.builder()
+                .categoryId(categoryId)
+                .categoryName(category.name)
+                .type(category.type)
+                .total(Money.toBigDecimal(category.cents))
+                .build()));
+            bucket.setCategories(categories);
+        }
+        return bucket;
+    }
+
+    private static final class BucketTotals {
+        private long incomeCents;
+        private long expenseCents;
+        private final Map<Long, CategoryTotals> categories = new LinkedHashMap<>();
+    }
+
+    private static final class CategoryTotals {
+        private final String name;
+        private final CategoryType type;
+        private long cents;
+
+        private CategoryTotals(String name, CategoryType type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+// Column-oriented copy of one user's transactions, kept sorted by transaction date. Every column is a
+// primitive array indexed by row, so a range aggregate is a binary search over epochDays followed by a
+// tight loop without boxing or BigDecimal arithmetic. Amounts are held as Money cents in currency, the
+// user's base currency when the columns were loaded.
+public final class UserTransactionColumns {
+    static final int BYTES_PER_ROW = Integer.BYTES + 3 * Long.BYTES + 1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String currency;
+    private int size;
+    private int[] epochDays;
+    private long[] ids;
+    private long[] categoryIds;
+    private long[] amountCents;
+    private boolean[] income;
+
+    private UserTransactionColumns(int capacity, String currency) {
+        this.currency = currency;
+        int initial = Math.max(capacity, MIN_CAPACITY);
+        epochDays = new int[initial];
+        ids = new long[initial];
+        categoryIds = new long[initial];
+        amountCents = new long[initial];
+        income = new boolean[initial];
+    }
+
+    // Rows must already be ordered by transaction date, as returned by findFactsByUserId.
+    public static UserTransactionColumns of(List<TransactionFactRow> rows, String currency) {
+        UserTransactionColumns columns = new UserTransactionColumns(rows.size(), currency);
+        for (TransactionFactRow row : rows) {
+            int i = columns.size++;
+            columns.epochDays[i] = (int) row.transactionDate().toEpochDay();
+            columns.ids[i] = row.id();
+            columns.categoryIds[i] = row.categoryId();
+            columns.amountCents[i] = Money.toCents(row.amount());
+            columns.income[i] = row.type() == CategoryType.INCOME;
+        }
+        return columns;
+    }
+
+    public record TypeTotals(long incomeCents, long incomeCount, long expenseCents, long expenseCount) {
+        public long count() {
+            return incomeCount + expenseCount;
+        }
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    public int size() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return size;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return (long) epochDays.length * BYTES_PER_ROW;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    public TypeTotals totals() {
+        return totals(null, null);
+    }
+
+    // Null bounds are open; both bounds are inclusive like SQL BETWEEN.
+    public TypeTotals totals(LocalDate from, LocalDate to) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            int start = from == null ? 0 : lowerBound((int) from.toEpochDay());
+            int end = to == null ? size : upperBound((int) to.toEpochDay());
+            long incomeCents = 0;
+            long incomeCount = 0;
+            long expenseCents = 0;
+            long expenseCount = 0;
+            for (int i = start; i < end; i++) {
+                if (income[i]) {
+                    incomeCents = Money.addCents(incomeCents, amountCents[i]);
+                    incomeCount++;
+                } else {
+                    expenseCents = Money.addCents(expenseCents, amountCents[i]);
+                    expenseCount++;
+                }
+            }
+            return new TypeTotals(incomeCents, incomeCount, expenseCents, expenseCount);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    // Totals over the rows whose transaction id is accepted, e.g. by a tag bitmap.
+    public TypeTotals totals(LongPredicate transactionIds) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            long incomeCents = 0;
+            long incomeCount = 0;
+            long expenseCents = 0;
+            long expenseCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (!transactionIds.test(ids[i])) {
+                    continue;
+                }
+                if (income[i]) {
+                    incomeCents = Money.addCents(incomeCents, amountCents[i]);
+                    incomeCount++;
+                } else {
+                    expenseCents = Money.addCents(expenseCents, amountCents[i]);
+                    expenseCount++;
+                }
+            }
+            return new TypeTotals(incomeCents, incomeCount, expenseCents, expenseCount);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    public long sumCents(Long categoryId, LocalDate from, LocalDate to) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            int start = lowerBound((int) from.toEpochDay());
+            int end = upperBound((int) to.toEpochDay());
+            long category = categoryId;
+            long total = 0;
+            for (int i = start; i < end; i++) {
+                if (categoryIds[i] == category) {
+                    total = Money.addCents(total, amountCents[i]);
+                }
+            }
+            return total;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    // Applies a single-transaction write. Idempotent per transaction id: afterwards the id's row
+    // matches after, or is absent for a delete, even when these columns were loaded after the commit
+    // and already reflect it (the load can run between a commit and its listener). Returns false
+    // for an incomplete snapshot, in which case the caller must drop these columns.
+    boolean apply(TransactionSnapshot before, TransactionSnapshot after) {
+        if ((before != null && !isComplete(before)) || (after != null && !isComplete(after))) {
+            return false;
+        }
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            if (before != null) {
+                removeRow(before.id(), before.transactionDate());
+            }
+            if (after != null) {
+                removeRow(after.id(), after.transactionDate());
+                insertRow(after);
+            }
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    // Removes the row with this id, looking on its expected day first. A row that is not there is
+    // already removed.
+    private void removeRow(long id, LocalDate expectedDay) {
+        int day = (int) expectedDay.toEpochDay();
+        for (int i = lowerBound(day), end = upperBound(day); i < end; i++) {
+            if (ids[i] == id) {
+                removeAt(i);
+                return;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                removeAt(i);
+                return;
+            }
+        }
+    }
+
+    private void removeAt(int i) {
+        int tail = size - i - 1;
+        System.arraycopy(epochDays, i + 1, epochDays, i, tail);
+        System.arraycopy(ids, i + 1, ids, i, tail);
+        System.arraycopy(categoryIds, i + 1, categoryIds, i, tail);
+        System.arraycopy(amountCents, i + 1, amountCents, i, tail);
+        System.arraycopy(income, i + 1, income, i, tail);
+        size--;
+    }
+
+    private void insertRow(TransactionSnapshot snapshot) {
+        if (size == epochDays.length) {
+            grow();
+        }
+        int day = (int) snapshot.transactionDate().toEpochDay();
+        int i = upperBound(day);
+        int tail = size - i;
+        System.arraycopy(epochDays, i, epochDays, i + 1, tail);
+        System.arraycopy(ids, i, ids, i + 1, tail);
+        System.arraycopy(categoryIds, i, categoryIds, i + 1, tail);
+        System.arraycopy(amountCents, i, amountCents, i + 1, tail);
+        System.arraycopy(income, i, income, i + 1, tail);
+        epochDays[i] = day;
+        ids[i] = snapshot.id();
+        categoryIds[i] = snapshot.categoryId();
+        amountCents[i] = Money.toCents(snapshot.amount());
+        income[i] = snapshot.type() == CategoryType.INCOME;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = epochDays.length + (epochDays.length >> 1) + 1;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        income = Arrays.copyOf(income, capacity);
+    }
+
+    // First row whose day is >= the given day.
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First row whose day is > the given day.
+    private int upperBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isComplete(TransactionSnapshot snapshot) {
+        return snapshot.id() != null
+            && snapshot.categoryId() != null
+            && snapshot.type() != null
+            && snapshot.amount() != null
+            && snapshot.transactionDate() != null;
+    }
+}
@@ -3,8 +3,10 @@ package com.dimitar.financetracker.service.query.budget;
 import com.dimitar.financetracker.dto.mapper.BudgetMapper;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@CachedQuery(reads = {Aggregate.BUDGETS, Aggregate.CATEGORIES})
 public class GetActiveBudgetsQuery implements Query<Void, List<BudgetResponse>> {
     private final AuthenticationFacade authenticationFacade;
     private final BudgetRepository budgetRepository;
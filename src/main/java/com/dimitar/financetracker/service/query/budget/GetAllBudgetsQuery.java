@@ -1,29 +1,64 @@
 package com.dimitar.financetracker.service.query.budget;
 
 import com.dimitar.financetracker.dto.mapper.BudgetMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.query.KeysetCursor;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+// Budgets in id order, one keyset page at a time; the cursor carries the id of the last budget.
 @Component
 @RequiredArgsConstructor
-public class GetAllBudgetsQuery implements Query<Void, List<BudgetResponse>> {
+@CachedQuery(reads = {Aggregate.BUDGETS, Aggregate.CATEGORIES})
+public class GetAllBudgetsQuery implements Query<CursorPageRequest, CursorPagedResponse<BudgetResponse>> {
+    private static final String SORT_BY = "id";
+
     private final AuthenticationFacade authenticationFacade;
     private final BudgetRepository budgetRepository;
     private final BudgetMapper budgetMapper;
 
     @Override
-    public List<BudgetResponse> execute(Void input) {
+    public CursorPagedResponse<BudgetResponse> execute(CursorPageRequest page) {
+        int limit = page.getLimit();
+        if (limit < 1 || limit > CursorPageRequest.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + CursorPageRequest.MAX_LIMIT);
+        }
+        long afterId = 0L;
+        if (page.getCursor() != null && !page.getCursor().isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(page.getCursor());
+            if (!SORT_BY.equals(cursor.sortBy()) || cursor.direction() != Sort.Direction.ASC) {
+                throw new IllegalArgumentException("cursor belongs to a different list");
+            }
+            afterId = cursor.id();
+        }
         Long authenticatedUserId = authenticationFacade.getAuthenticatedUserId();
-        List<Budget> budgets = budgetRepository.findByUserId(authenticatedUserId);
-        return budgets.stream()
-            .map(budgetMapper::toResponse)
-            .toList();
+
+        List<Budget> rows = budgetRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+            authenticatedUserId, afterId, Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<Budget> budgets = hasNext ? rows.subList(0, limit) : rows;
+
+        return CursorPagedResponse.<BudgetResponse>builder()
+            .content(budgets.stream().map(budgetMapper::toResponse).toList())
+            .limit(limit)
+            .nextCursor(hasNext ? cursorAfter(budgets.get(limit - 1)) : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    private static String cursorAfter(Budget last) {
+        return new KeysetCursor(SORT_BY, Sort.Direction.ASC, String.valueOf(last.getId()), last.getId()).encode();
     }
 }
@@ -0,0 +1,38 @@
+package com.dimitar.financetracker.service.query.budget;
+
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.repository.BudgetAlertRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class GetBudgetAlertsQuery implements Query<Void, List<BudgetAlertResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final BudgetAlertRepository budgetAlertRepository;
+
+    @Override
+    public List<BudgetAlertResponse> execute(Void input) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        return budgetAlertRepository.findByUserIdOrderByTriggeredAtDesc(userId).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    private BudgetAlertResponse toResponse(BudgetAlert alert) {
+        return BudgetAlertResponse.builder()
+            .id(alert.getId())
+            .budgetId(alert.getBudgetId())
+            .categoryId(alert.getCategoryId())
+            .thresholdPercent(alert.getThresholdPercent())
+            .budgetAmount(alert.getBudgetAmount())
+            .spentAmount(alert.getSpentAmount())
+            .triggeredAt(alert.getTriggeredAt())
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.dimitar.financetracker.service.query.budget;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.BudgetField;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Sparse-fieldset variant of GetAllBudgetsQuery, GetActiveBudgetsQuery and GetBudgetsByCategoryQuery.
+@Component
+@RequiredArgsConstructor
+@CachedQuery(reads = {Aggregate.BUDGETS, Aggregate.CATEGORIES})
+public class GetBudgetFieldsQuery implements Query<GetBudgetFieldsQuery.Input, List<Map<String, Object>>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    public record Input(String fields, boolean activeOnly, Long categoryId) {
+
+        public static Input all(String fields) {
+            return new Input(fields, false, null);
+        }
+
+        public static Input active(String fields) {
+            return new Input(fields, true, null);
+        }
+
+        public static Input category(String fields, Long categoryId) {
+            return new Input(fields, false, categoryId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> execute(Input input) {
+        List<BudgetField> fields = FieldSelection.parse(input.fields(), BudgetField.class);
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+
+        Specification<Budget> where = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+            if (input.activeOnly()) {
+                predicates.add(cb.isTrue(root.get("isActive")));
+            }
+            if (input.categoryId() != null) {
+                predicates.add(cb.equal(root.get("category").get("id"), input.categoryId()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return sparseFieldRepository.findFields(Budget.class, fields, where, Pageable.unpaged(Sort.by("id")));
+    }
+}
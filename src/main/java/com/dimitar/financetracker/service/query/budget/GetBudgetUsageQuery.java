@@ -3,50 +3,58 @@ package com.dimitar.financetracker.service.query.budget;
 import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
 import com.dimitar.financetracker.entity.Budget;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.model.Money;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@CachedQuery(reads = {Aggregate.BUDGETS, Aggregate.CATEGORIES, Aggregate.TRANSACTIONS})
 public class GetBudgetUsageQuery implements Query<Long, BudgetUsageResponse> {
-    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
-
     private final AuthenticationFacade authenticationFacade;
     private final BudgetRepository budgetRepository;
     private final TransactionRepository transactionRepository;
+    private final ColumnarAnalyticsStore columnarAnalyticsStore;
+    private final ExchangeRateService exchangeRateService;
 
     @Override
     public BudgetUsageResponse execute(Long budgetId) {
         Long userId = authenticationFacade.getAuthenticatedUserId();
         Budget budget = budgetRepository.findByIdAndUserId(budgetId, userId)
             .orElseThrow(() -> new BudgetDoesNotExistException("Budget not found or access denied!"));
-        return buildUsageResponse(budget, userId);
+        return buildUsageResponse(budget, userId, columnarAnalyticsStore.columnsFor(userId));
     }
 
-    private BudgetUsageResponse buildUsageResponse(Budget budget, Long userId) {
-        BigDecimal spent = transactionRepository.sumAmountByUserAndCategoryAndDateRange(
-            userId,
-            budget.getCategory().getId(),
-            budget.getStartDate(),
-            budget.getEndDate()
-        );
-        if (spent == null) {
-            spent = BigDecimal.ZERO;
-        }
+    private BudgetUsageResponse buildUsageResponse(Budget budget, Long userId,
+                                                   Optional<UserTransactionColumns> columns) {
+        // Columns hold the base currency, so they only answer budgets kept in that currency.
+        Money spent = columns
+            .filter(c -> c.currency().equals(budget.getCurrency()))
+            .map(c -> Money.ofCents(
+                c.sumCents(budget.getCategory().getId(), budget.getStartDate(), budget.getEndDate())))
+            .orElseGet(() -> Money.ofNullable(transactionRepository.sumAmountByUserAndCategoryAndDateRange(
+                userId,
+                budget.getCategory().getId(),
+                budget.getStartDate(),
+                budget.getEndDate(),
+                exchangeRateService.targetFor(budget.getCurrency())
+            )));
 
-        BigDecimal amount = budget.getAmount() == null ? BigDecimal.ZERO : budget.getAmount();
-        BigDecimal remaining = amount.subtract(spent);
-        BigDecimal percentUsed = BigDecimal.ZERO;
-        if (amount.compareTo(BigDecimal.ZERO) > 0) {
-            percentUsed = spent.multiply(ONE_HUNDRED).divide(amount, 2, RoundingMode.HALF_UP);
-        }
+        Money amount = Money.ofNullable(budget.getAmount());
+        Money remaining = amount.minus(spent);
+        BigDecimal percentUsed = spent.percentOf(amount);
 
         return BudgetUsageResponse.builder()
             .id(budget.getId())
@@ -57,6 +65,7 @@ public class GetBudgetUsageQuery implements Query<Long, BudgetUsageResponse> {
             .spent(spent)
             .remaining(remaining)
             .percentUsed(percentUsed)
+            .currency(budget.getCurrency())
             .startDate(budget.getStartDate())
             .endDate(budget.getEndDate())
             .period(budget.getPeriod())
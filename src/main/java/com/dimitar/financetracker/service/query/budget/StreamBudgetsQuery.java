@@ -0,0 +1,81 @@
+package com.dimitar.financetracker.service.query.budget;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
+import com.dimitar.financetracker.service.encoding.RowStreamEncoder;
+import com.dimitar.financetracker.service.encoding.StreamLimiter;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.BudgetField;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import com.dimitar.financetracker.service.query.fields.SparseField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Every budget of the user in id order, streamed like StreamTransactionsQuery for callers that need
+// the whole list rather than a page of GetAllBudgetsQuery.
+@Component
+public class StreamBudgetsQuery implements Query<StreamBudgetsQuery.Input, StreamingResponseBody> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final RowStreamEncoder rowStreamEncoder;
+    private final StreamLimiter streamLimiter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    // fields == null selects every field, giving rows shaped like BudgetResponse.
+    public record Input(String fields, RowEncoding encoding) {
+    }
+
+    public StreamBudgetsQuery(AuthenticationFacade authenticationFacade,
+                              SparseFieldRepository sparseFieldRepository,
+                              RowStreamEncoder rowStreamEncoder,
+                              StreamLimiter streamLimiter,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${transactions.stream.fetch-size:500}") int fetchSize) {
+        this.authenticationFacade = authenticationFacade;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.rowStreamEncoder = rowStreamEncoder;
+        this.streamLimiter = streamLimiter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public StreamingResponseBody execute(Input input) {
+        List<BudgetField> fields = input.fields() == null
+            ? Arrays.asList(BudgetField.values())
+            : FieldSelection.parse(input.fields(), BudgetField.class);
+        List<String> fieldNames = fields.stream().map(SparseField::fieldName).toList();
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Specification<Budget> where = (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+
+        return streamLimiter.bounded(out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Object[]> rows = sparseFieldRepository.streamFields(
+                        Budget.class, fields, where, Sort.by("id"), fetchSize)) {
+                        rowStreamEncoder.write(fieldNames, rows, input.encoding(), out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -3,8 +3,10 @@ package com.dimitar.financetracker.service.query.category;
 import com.dimitar.financetracker.dto.mapper.CategoryMapper;
 import com.dimitar.financetracker.dto.response.category.CategoryResponse;
 import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@CachedQuery(reads = Aggregate.CATEGORIES)
 public class GetAllCategoriesQuery implements Query<Void, List<CategoryResponse>> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
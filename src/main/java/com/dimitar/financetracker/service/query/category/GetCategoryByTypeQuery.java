@@ -3,8 +3,10 @@ package com.dimitar.financetracker.service.query.category;
 import com.dimitar.financetracker.dto.mapper.CategoryMapper;
 import com.dimitar.financetracker.dto.response.category.CategoryResponse;
 import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.service.cache.CachedQuery;
 import com.dimitar.financetracker.service.query.Query;
 import com.dimitar.financetracker.service.AuthenticationFacade;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@CachedQuery(reads = Aggregate.CATEGORIES)
 public class GetCategoryByTypeQuery implements Query<CategoryType, List<CategoryResponse>> {
     private final AuthenticationFacade authenticationFacade;
     private final CategoryRepository categoryRepository;
@@ -0,0 +1,72 @@
+package com.dimitar.financetracker.service.query.category;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.CategoryField;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import com.dimitar.financetracker.service.query.transaction.TransactionCriteria;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Sparse-fieldset variant of GetAllCategoriesQuery, GetCategoryByTypeQuery and SearchCategoryByNameQuery.
+@Component
+@RequiredArgsConstructor
+@CachedQuery(reads = Aggregate.CATEGORIES)
+public class GetCategoryFieldsQuery implements Query<GetCategoryFieldsQuery.Input, List<Map<String, Object>>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    public record Input(String fields, CategoryType type, String nameContains) {
+
+        public static Input all(String fields) {
+            return new Input(fields, null, null);
+        }
+
+        public static Input type(String fields, CategoryType type) {
+            return new Input(fields, type, null);
+        }
+
+        public static Input search(String fields, String nameContains) {
+            if (nameContains == null) {
+                throw new IllegalArgumentException("q is required");
+            }
+            return new Input(fields, null, nameContains);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> execute(Input input) {
+        List<CategoryField> fields = FieldSelection.parse(input.fields(), CategoryField.class);
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+
+        Specification<Category> where = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+            if (input.type() != null) {
+                predicates.add(cb.equal(root.get("type"), input.type()));
+            }
+            if (input.nameContains() != null) {
+                // Escaped like findAllByUserIdAndNameContaining, so fields= selects the same rows
+                predicates.add(cb.like(root.get("name"), TransactionCriteria.containsPattern(input.nameContains()),
+                    TransactionCriteria.LIKE_ESCAPE));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+        return sparseFieldRepository.findFields(Category.class, fields, where, Pageable.unpaged(Sort.by("id")));
+    }
+}
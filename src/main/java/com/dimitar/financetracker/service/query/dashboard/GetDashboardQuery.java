@@ -0,0 +1,116 @@
+package com.dimitar.financetracker.service.query.dashboard;
+
+import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
+import com.dimitar.financetracker.dto.response.category.CategoryResponse;
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
+import com.dimitar.financetracker.model.DashboardSection;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.budget.GetAllBudgetsUsageQuery;
+import com.dimitar.financetracker.service.query.category.GetAllCategoriesQuery;
+import com.dimitar.financetracker.service.query.transaction.GetRecentTransactionsQuery;
+import com.dimitar.financetracker.service.query.user.GetUserStatisticsQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Runs the dashboard's sub-queries concurrently, one virtual thread each, under a shared deadline.
+// The tasks are scoped to this call: whatever has not finished when the deadline passes is
+// interrupted and reported in unavailableSections instead of failing the whole payload, while a
+// sub-query that throws cancels its siblings and propagates (like a shutdown-on-failure scope).
+// Each sub-query runs its own read-only transaction, so one dashboard call borrows up to four connections.
+@Component
+public class GetDashboardQuery implements Query<Integer, DashboardResponse> {
+    private final GetUserStatisticsQuery getUserStatisticsQuery;
+    private final GetRecentTransactionsQuery getRecentTransactionsQuery;
+    private final GetAllBudgetsUsageQuery getAllBudgetsUsageQuery;
+    private final GetAllCategoriesQuery getAllCategoriesQuery;
+    private final long deadlineMillis;
+
+    public GetDashboardQuery(GetUserStatisticsQuery getUserStatisticsQuery,
+                             GetRecentTransactionsQuery getRecentTransactionsQuery,
+                             GetAllBudgetsUsageQuery getAllBudgetsUsageQuery,
+                             GetAllCategoriesQuery getAllCategoriesQuery,
+                             @Value("${dashboard.deadline-ms:2000}") long deadlineMillis) {
+        this.getUserStatisticsQuery = getUserStatisticsQuery;
+        this.getRecentTransactionsQuery = getRecentTransactionsQuery;
+        this.getAllBudgetsUsageQuery = getAllBudgetsUsageQuery;
+        this.getAllCategoriesQuery = getAllCategoriesQuery;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DashboardResponse execute(Integer recentLimit) {
+        Map<DashboardSection, Callable<?>> tasks = new EnumMap<>(DashboardSection.class);
+        tasks.put(DashboardSection.STATISTICS, () -> getUserStatisticsQuery.execute(null));
+        tasks.put(DashboardSection.RECENT_TRANSACTIONS, () -> getRecentTransactionsQuery.execute(recentLimit));
+        tasks.put(DashboardSection.BUDGET_USAGE, () -> getAllBudgetsUsageQuery.execute(null));
+        tasks.put(DashboardSection.CATEGORIES, () -> getAllCategoriesQuery.execute(null));
+
+        Map<DashboardSection, Object> results = runWithDeadline(tasks);
+
+        List<DashboardSection> unavailable = new ArrayList<>();
+        for (DashboardSection section : tasks.keySet()) {
+            if (!results.containsKey(section)) {
+                unavailable.add(section);
+            }
+        }
+
+        return DashboardResponse.builder()
+            .statistics((UserStatisticsResponse) results.get(DashboardSection.STATISTICS))
+            .recentTransactions((List<TransactionResponse>) results.get(DashboardSection.RECENT_TRANSACTIONS))
+            .budgetUsage((List<BudgetUsageResponse>) results.get(DashboardSection.BUDGET_USAGE))
+            .categories((List<CategoryResponse>) results.get(DashboardSection.CATEGORIES))
+            .unavailableSections(unavailable)
+            .build();
+    }
+
+    private Map<DashboardSection, Object> runWithDeadline(Map<DashboardSection, Callable<?>> tasks) {
+        // The sub-queries resolve the user from the SecurityContext, which is thread-bound.
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(
+            Executors.newVirtualThreadPerTaskExecutor(), SecurityContextHolder.getContext());
+        CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        Map<Future<Object>, DashboardSection> sections = new HashMap<>();
+        Map<DashboardSection, Object> results = new EnumMap<>(DashboardSection.class);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        try {
+            tasks.forEach((section, task) -> sections.put(completion.submit(task::call), section));
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                Future<Object> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    break;
+                }
+                results.put(sections.get(done), done.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // Interrupt stragglers without waiting for them; their results are discarded.
+            executor.shutdownNow();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import com.dimitar.financetracker.entity.Budget;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.function.Function;
+
+// Fields of BudgetResponse. Only categoryName needs the join to categories.
+public enum BudgetField implements SparseField<Budget> {
+    ID("id", root -> root.get("id")),
+    USER_ID("userId", root -> root.get("user").get("id")),
+    CATEGORY_ID("categoryId", root -> root.get("category").get("id")),
+    CATEGORY_NAME("categoryName", root -> root.get("category").get("name")),
+    AMOUNT("amount", root -> root.get("amount")),
+    CURRENCY("currency", root -> root.get("currency")),
+    START_DATE("startDate", root -> root.get("startDate")),
+    END_DATE("endDate", root -> root.get("endDate")),
+    PERIOD("period", root -> root.get("period")),
+    IS_ACTIVE("isActive", root -> root.get("isActive")),
+    IS_RECURRING("isRecurring", root -> root.get("isRecurring")),
+    CREATED_AT("createdAt", root -> root.get("createdAt")),
+    UPDATED_AT("updatedAt", root -> root.get("updatedAt"));
+
+    private final String fieldName;
+    private final Function<Root<Budget>, Path<?>> path;
+
+    BudgetField(String fieldName, Function<Root<Budget>, Path<?>> path) {
+        this.fieldName = fieldName;
+        this.path = path;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Path<?> path(Root<Budget> root) {
+        return path.apply(root);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import com.dimitar.financetracker.entity.Category;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.function.Function;
+
+// Fields of CategoryResponse.
+public enum CategoryField implements SparseField<Category> {
+    ID("id", root -> root.get("id")),
+    NAME("name", root -> root.get("name")),
+    TYPE("type", root -> root.get("type")),
+    COLOR("color", root -> root.get("color")),
+    CREATED_AT("createdAt", root -> root.get("createdAt")),
+    UPDATED_AT("updatedAt", root -> root.get("updatedAt"));
+
+    private final String fieldName;
+    private final Function<Root<Category>, Path<?>> path;
+
+    CategoryField(String fieldName, Function<Root<Category>, Path<?>> path) {
+        this.fieldName = fieldName;
+        this.path = path;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Path<?> path(Root<Category> root) {
+        return path.apply(root);
+    }
+}
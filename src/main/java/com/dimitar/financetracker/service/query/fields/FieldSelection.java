@@ -0,0 +1,50 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parses a fields= parameter ("transactionDate,amount") into the matching SparseField constants,
+// in the order given and without duplicates. Unknown names are rejected rather than ignored so a
+// typo does not silently return less data than the client expects.
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    public static <T, F extends Enum<F> & SparseField<T>> List<F> parse(String fields, Class<F> type) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields must name at least one field. Allowed fields: " + allowed(type));
+        }
+        Set<F> selected = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(find(trimmed, type));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field. Allowed fields: " + allowed(type));
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static <T, F extends Enum<F> & SparseField<T>> F find(String name, Class<F> type) {
+        for (F field : type.getEnumConstants()) {
+            if (field.fieldName().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field '" + name + "'. Allowed fields: " + allowed(type));
+    }
+
+    private static <F extends Enum<F> & SparseField<?>> String allowed(Class<F> type) {
+        return Arrays.stream(type.getEnumConstants())
+            .map(SparseField::fieldName)
+            .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,13 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+// One selectable field of a list response: the JSON name clients pass in fields= and the entity
+// path it is read from, so only the requested columns end up in the SELECT.
+public interface SparseField<T> {
+
+    String fieldName();
+
+    Path<?> path(Root<T> root);
+}
@@ -0,0 +1,39 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import com.dimitar.financetracker.entity.Transaction;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.function.Function;
+
+// Fields of TransactionResponse. Only categoryName needs the join to categories.
+public enum TransactionField implements SparseField<Transaction> {
+    ID("id", root -> root.get("id")),
+    USER_ID("userId", root -> root.get("user").get("id")),
+    CATEGORY_ID("categoryId", root -> root.get("category").get("id")),
+    CATEGORY_NAME("categoryName", root -> root.get("category").get("name")),
+    AMOUNT("amount", root -> root.get("amount")),
+    CURRENCY("currency", root -> root.get("currency")),
+    DESCRIPTION("description", root -> root.get("description")),
+    TRANSACTION_DATE("transactionDate", root -> root.get("transactionDate")),
+    CREATED_AT("createdAt", root -> root.get("createdAt")),
+    UPDATED_AT("updatedAt", root -> root.get("updatedAt"));
+
+    private final String fieldName;
+    private final Function<Root<Transaction>, Path<?>> path;
+
+    TransactionField(String fieldName, Function<Root<Transaction>, Path<?>> path) {
+        this.fieldName = fieldName;
+        this.path = path;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Path<?> path(Root<Transaction> root) {
+        return path.apply(root);
+    }
+}
@@ -0,0 +1,104 @@
+package com.dimitar.financetracker.service.query.insights;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.forecast.SpendingForecastEngine;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class GetBudgetForecastsQuery implements Query<Void, List<BudgetForecastResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final BudgetRepository budgetRepository;
+    private final TransactionRepository transactionRepository;
+    private final SpendingForecastStateRepository stateRepository;
+    private final ColumnarAnalyticsStore columnarAnalyticsStore;
+    private final SpendingForecastEngine engine;
+    private final ExchangeRateService exchangeRateService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetForecastResponse> execute(Void input) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        List<Budget> budgets = budgetRepository.findByUserIdAndIsActiveTrue(userId).stream()
+            .filter(Budget::isCurrentlyActive)
+            .toList();
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        // History recorded before forecasting existed is folded in by ForecastBackfillJob; until then
+        // its categories project nothing beyond what was spent.
+        Map<Long, SpendingForecastState> statesByCategory = stateRepository.findByUserId(userId).stream()
+            .collect(Collectors.toMap(SpendingForecastState::getCategoryId, Function.identity()));
+
+        LocalDate today = LocalDate.now();
+        String baseCurrency = exchangeRateService.baseCurrencyOf(userId);
+        Optional<UserTransactionColumns> columns = columnarAnalyticsStore.columnsFor(userId);
+        return budgets.stream()
+            .map(budget -> toForecast(budget, userId, today, baseCurrency,
+                statesByCategory.get(budget.getCategory().getId()), columns))
+            .toList();
+    }
+
+    private BudgetForecastResponse toForecast(Budget budget,
+                                              Long userId,
+                                              LocalDate today,
+                                              String baseCurrency,
+                                              SpendingForecastState state,
+                                              Optional<UserTransactionColumns> columns) {
+        Long categoryId = budget.getCategory().getId();
+        LocalDate spentUntil = budget.getEndDate().isBefore(today) ? budget.getEndDate() : today;
+        Money spentToDate = columns
+            .filter(c -> c.currency().equals(budget.getCurrency()))
+            .map(c -> Money.ofCents(c.sumCents(categoryId, budget.getStartDate(), spentUntil)))
+            .orElseGet(() -> Money.ofNullable(transactionRepository.sumAmountByUserAndCategoryAndDateRange(
+                userId, categoryId, budget.getStartDate(), spentUntil,
+                exchangeRateService.targetFor(budget.getCurrency()))));
+
+        // Forecast states accumulate in the base currency; the projection is quoted at today's rate.
+        Money projectedRemaining = state == null
+            ? Money.ZERO
+            : Money.ofCents(engine.projectCents(state, today.toEpochDay(), budget.getEndDate().toEpochDay()));
+        if (!projectedRemaining.isZero() && !baseCurrency.equals(budget.getCurrency())) {
+            projectedRemaining = Money.of(exchangeRateService.snapshot().convert(
+                projectedRemaining.toBigDecimal(), baseCurrency, budget.getCurrency(), today));
+        }
+        Money projectedTotal = spentToDate.plus(projectedRemaining);
+        Money amount = Money.ofNullable(budget.getAmount());
+
+        return BudgetForecastResponse.builder()
+            .budgetId(budget.getId())
+            .categoryId(categoryId)
+            .categoryName(budget.getCategory().getName())
+            .amount(amount.toBigDecimal())
+            .currency(budget.getCurrency())
+            .startDate(budget.getStartDate())
+            .endDate(budget.getEndDate())
+            .spentToDate(spentToDate.toBigDecimal())
+            .projectedRemaining(projectedRemaining.toBigDecimal())
+            .projectedTotal(projectedTotal.toBigDecimal())
+            .projectedPercentUsed(projectedTotal.percentOf(amount))
+            .projectedOverBudget(projectedTotal.compareTo(amount) > 0)
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dimitar.financetracker.service.query.recurring;
+
+import com.dimitar.financetracker.dto.mapper.RecurringTransactionMapper;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@CachedQuery(reads = {Aggregate.RECURRING_TRANSACTIONS, Aggregate.CATEGORIES})
+public class GetRecurringTransactionsQuery implements Query<Void, List<RecurringTransactionResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final RecurringTransactionMapper recurringTransactionMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringTransactionResponse> execute(Void input) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        return recurringTransactionRepository.findByUserIdOrderByNextRunDateAsc(userId).stream()
+            .map(recurringTransactionMapper::toResponse)
+            .toList();
+    }
+}
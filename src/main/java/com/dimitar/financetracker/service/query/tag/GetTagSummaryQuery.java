@@ -0,0 +1,85 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.dto.response.tag.TagSummaryResponse;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+// Income and expense totals of the transactions a tag filter matches, in the user's base currency.
+// With cached transaction columns the amounts are probed against the matching bitmap; otherwise the
+// database sums the matching rows, filtered on transaction_tags, so no user history is loaded here.
+@Component
+@RequiredArgsConstructor
+public class GetTagSummaryQuery implements Query<TagFilter, TagSummaryResponse> {
+    private static final UserTransactionColumns.TypeTotals NONE = new UserTransactionColumns.TypeTotals(0, 0, 0, 0);
+
+    private final AuthenticationFacade authenticationFacade;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final ColumnarAnalyticsStore columnarAnalyticsStore;
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+
+    @Override
+    public TagSummaryResponse execute(TagFilter filter) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Optional<TagFilter.Ids> ids = tagBitmapIndex.resolve(userId, filter);
+        if (ids.isEmpty()) {
+            return buildResponse(exchangeRateService.baseCurrencyOf(userId), NONE);
+        }
+
+        Optional<UserTransactionColumns> columns = columnarAnalyticsStore.columnsFor(userId);
+        if (columns.isPresent()) {
+            Roaring64Bitmap matching = tagBitmapIndex.bitmapsFor(userId)
+                .match(ids.get().all(), ids.get().any(), ids.get().none());
+            return buildResponse(columns.get().currency(), columns.get().totals(matching::contains));
+        }
+
+        ConversionTarget target = exchangeRateService.baseTargetOf(userId);
+        List<TypeTotalsRow> rows = transactionRepository.sumByTypeForTags(
+            userId, ids.get().all(), ids.get().any(), ids.get().none(), target);
+        return buildResponse(target.currency(), totalsOf(rows));
+    }
+
+    private static UserTransactionColumns.TypeTotals totalsOf(List<TypeTotalsRow> rows) {
+        long incomeCents = 0;
+        long incomeCount = 0;
+        long expenseCents = 0;
+        long expenseCount = 0;
+        for (TypeTotalsRow row : rows) {
+            long cents = Money.ofNullable(row.total()).cents();
+            if (row.type() == CategoryType.INCOME) {
+                incomeCents += cents;
+                incomeCount += row.count();
+            } else {
+                expenseCents += cents;
+                expenseCount += row.count();
+            }
+        }
+        return new UserTransactionColumns.TypeTotals(incomeCents, incomeCount, expenseCents, expenseCount);
+    }
+
+    private static TagSummaryResponse buildResponse(String currency, UserTransactionColumns.TypeTotals totals) {
+        Money income = Money.ofCents(totals.incomeCents());
+        Money expenses = Money.ofCents(totals.expenseCents());
+        return TagSummaryResponse.builder()
+            .currency(currency)
+            .totalTransactions(totals.count())
+            .totalIncome(income.toBigDecimal())
+            .totalExpenses(expenses.toBigDecimal())
+            .netBalance(income.minus(expenses).toBigDecimal())
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.response.PagedResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Pages through the ids a tag filter matches, newest (highest id) first, straight off the bitmap;
+// only the transactions of the requested page are read from the database.
+@Component
+@RequiredArgsConstructor
+public class GetTaggedTransactionsQuery implements Query<GetTaggedTransactionsQuery.Input, PagedResponse<TransactionResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+
+    public record Input(TagFilter filter, int page, int size) {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<TransactionResponse> execute(Input input) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Pageable pageable = PageRequest.of(input.page(), input.size());
+
+        Roaring64Bitmap matching = tagBitmapIndex.matching(userId, input.filter());
+        long total = matching.getLongCardinality();
+        List<Long> ids = new ArrayList<>(input.size());
+        LongIterator newestFirst = matching.getReverseLongIterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && newestFirst.hasNext(); skipped++) {
+            newestFirst.next();
+        }
+        while (ids.size() < input.size() && newestFirst.hasNext()) {
+            ids.add(newestFirst.next());
+        }
+
+        List<TransactionResponse> content = new ArrayList<>(ids.size());
+        if (!ids.isEmpty()) {
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                positions.put(ids.get(i), i);
+            }
+            List<Transaction> transactions = new ArrayList<>(transactionRepository.findByIdIn(ids));
+            transactions.sort(Comparator.comparing(t -> positions.get(t.getId())));
+            for (Transaction transaction : transactions) {
+                content.add(transactionMapper.toResponse(transaction));
+            }
+        }
+
+        Page<TransactionResponse> page = new PageImpl<>(content, pageable, total);
+        return PagedResponse.<TransactionResponse>builder()
+            .content(page.getContent())
+            .pageNumber(page.getNumber())
+            .pageSize(page.getSize())
+            .totalElements(page.getTotalElements())
+            .totalPages(page.getTotalPages())
+            .last(page.isLast())
+            .first(page.isFirst())
+            .empty(page.isEmpty())
+            .build();
+    }
+}
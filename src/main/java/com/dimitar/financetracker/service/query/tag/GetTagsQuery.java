@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.dto.mapper.TagMapper;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Counts are bitmap cardinalities, so listing tags never counts join rows in the database.
+@Component
+@RequiredArgsConstructor
+public class GetTagsQuery implements Query<Void, List<TagResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TagRepository tagRepository;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final TagMapper tagMapper;
+
+    @Override
+    public List<TagResponse> execute(Void input) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        List<Tag> tags = tagRepository.findByUserIdOrderByNameAsc(userId);
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        UserTagBitmaps bitmaps = tagBitmapIndex.bitmapsFor(userId);
+        return tags.stream()
+            .map(tag -> tagMapper.toResponse(tag, bitmaps.count(tag.getId())))
+            .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.dto.mapper.TagMapper;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class GetTransactionTagsQuery implements Query<Long, List<TagResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TransactionRepository transactionRepository;
+    private final TagRepository tagRepository;
+    private final TagMapper tagMapper;
+
+    @Override
+    public List<TagResponse> execute(Long transactionId) {
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        if (transactionRepository.findByIdAndUserId(transactionId, userId).isEmpty()) {
+            throw new TransactionDoesNotExistException("Transaction not found or access denied!");
+        }
+        return tagRepository.findByTransactionId(transactionId).stream()
+            .map(tagMapper::toResponse)
+            .toList();
+    }
+}
@@ -0,0 +1,210 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-user UserTagBitmaps behind tag filters and tag totals. A user's bitmaps are loaded on first use,
+// patched in place from TransactionsChangedEvent and TransactionTagsChangedEvent after each commit and
+// evicted least-recently-used once the configured memory cap is exceeded. A user whose bitmaps do not
+// fit is still answered, from bitmaps loaded for that call only.
+@Component
+public class TagBitmapIndex {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final TagRepository tagRepository;
+    private final TransactionRepository transactionRepository;
+    private final long maxMemoryBytes;
+
+    private final Lock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, UserTagBitmaps> bitmapsByUser = new LinkedHashMap<>(16, 0.75f, true);
+    // Bumped on every write so a load racing with a commit is discarded instead of cached stale.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private long usedBytes;
+
+    public TagBitmapIndex(TagRepository tagRepository,
+                          TransactionRepository transactionRepository,
+                          @Value("${tags.bitmap.max-memory-bytes:33554432}") long maxMemoryBytes) {
+        this.tagRepository = tagRepository;
+        this.transactionRepository = transactionRepository;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    // Ids of the user's transactions matching filter.
+    public Roaring64Bitmap matching(Long userId, TagFilter filter) {
+        return resolve(userId, filter)
+            .map(ids -> bitmapsFor(userId).match(ids.all(), ids.any(), ids.none()))
+            .orElseGet(Roaring64Bitmap::new);
+    }
+
+    // The filter's names as the user's tag ids; empty when it cannot match anything. A name in all
+    // that is not one of the user's tags matches nothing, as does an any list naming none of them;
+    // unknown names in none are ignored.
+    public Optional<TagFilter.Ids> resolve(Long userId, TagFilter filter) {
+        Map<String, Long> idsByName = new LinkedHashMap<>();
+        if (!filter.names().isEmpty()) {
+            for (Tag tag : tagRepository.findByUserIdAndNameIn(userId, filter.names())) {
+                idsByName.put(tag.getName(), tag.getId());
+            }
+        }
+        Set<Long> all = resolve(filter.all(), idsByName);
+        Set<Long> any = resolve(filter.any(), idsByName);
+        if (all.size() < filter.all().size() || (!filter.any().isEmpty() && any.isEmpty())) {
+            return Optional.empty();
+        }
+        return Optional.of(new TagFilter.Ids(all, any, resolve(filter.none(), idsByName)));
+    }
+
+    public UserTagBitmaps bitmapsFor(Long userId) {
+        lock.lock();
+        try {
+            UserTagBitmaps cached = bitmapsByUser.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        UserTagBitmaps loaded = UserTagBitmaps.of(
+            transactionRepository.findIdsByUserId(userId), tagRepository.findMembershipsByUserId(userId));
+        long bytes = loaded.estimatedBytes();
+        if (bytes > maxMemoryBytes) {
+            return loaded;
+        }
+
+        lock.lock();
+        try {
+            if (generations.get(stripe) == generation) {
+                UserTagBitmaps previous = bitmapsByUser.put(userId, loaded);
+                if (previous != null) {
+                    usedBytes -= previous.estimatedBytes();
+                }
+                usedBytes += bytes;
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.userId();
+        if (userId == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(userId));
+
+        lock.lock();
+        try {
+            UserTagBitmaps bitmaps = bitmapsByUser.get(userId);
+            if (bitmaps == null) {
+                return;
+            }
+            long bytesBefore = bitmaps.estimatedBytes();
+            if (event.isBulk()) {
+                bitmapsByUser.remove(userId);
+                usedBytes -= bytesBefore;
+                return;
+            }
+            // Updates keep the id and, since tags are not part of the snapshot, the tags too.
+            if (event.before() == null && event.after().id() != null) {
+                bitmaps.addTransaction(event.after().id());
+            } else if (event.after() == null && event.before().id() != null) {
+                bitmaps.removeTransaction(event.before().id());
+            }
+            usedBytes += bitmaps.estimatedBytes() - bytesBefore;
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionTagsChanged(TransactionTagsChangedEvent event) {
+        Long userId = event.userId();
+        if (userId == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(userId));
+
+        lock.lock();
+        try {
+            UserTagBitmaps bitmaps = bitmapsByUser.get(userId);
+            if (bitmaps == null) {
+                return;
+            }
+            long bytesBefore = bitmaps.estimatedBytes();
+            if (event.isTagDeletion()) {
+                bitmaps.removeTags(event.removedTagIds());
+            } else {
+                bitmaps.retag(event.transactionId(), event.removedTagIds(), event.addedTagIds());
+            }
+            usedBytes += bitmaps.estimatedBytes() - bytesBefore;
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long usedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isLoaded(Long userId) {
+        lock.lock();
+        try {
+            return bitmapsByUser.containsKey(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Set<Long> resolve(Set<String> names, Map<String, Long> idsByName) {
+        Set<Long> ids = new HashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, UserTagBitmaps>> eldest = bitmapsByUser.entrySet().iterator();
+        while (usedBytes > maxMemoryBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_STRIPES);
+    }
+}
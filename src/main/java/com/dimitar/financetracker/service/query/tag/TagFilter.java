@@ -0,0 +1,41 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.entity.Tag;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Tag expression over a user's transactions: every tag in all, at least one tag in any (when given)
+// and no tag in none. An empty filter matches every transaction. Names are normalized like Tag.name.
+public record TagFilter(Set<String> all, Set<String> any, Set<String> none) {
+
+    public static TagFilter of(Collection<String> all, Collection<String> any, Collection<String> none) {
+        return new TagFilter(normalize(all), normalize(any), normalize(none));
+    }
+
+    // The same filter as tag ids of one user, see TagBitmapIndex.resolve.
+    public record Ids(Set<Long> all, Set<Long> any, Set<Long> none) {
+    }
+
+    public Set<String> names() {
+        Set<String> names = new LinkedHashSet<>(all);
+        names.addAll(any);
+        names.addAll(none);
+        return names;
+    }
+
+    private static Set<String> normalize(Collection<String> names) {
+        if (names == null) {
+            return Set.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            String tag = Tag.normalize(name);
+            if (tag != null && !tag.isEmpty()) {
+                normalized.add(tag);
+            }
+        }
+        return normalized;
+    }
+}
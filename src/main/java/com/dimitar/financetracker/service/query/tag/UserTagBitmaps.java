@@ -0,0 +1,166 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Compressed bitmaps of one user's transaction ids: one holding every transaction, which NOT is taken
+// against, and one per tag. Roaring containers keep dense id ranges as bitsets and sparse ones as sorted
+// arrays, so AND/OR/ANDNOT over hundreds of thousands of ids work on a few kilobytes per tag.
+public final class UserTagBitmaps {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Roaring64Bitmap transactions;
+    private final Map<Long, Roaring64Bitmap> byTag;
+
+    private UserTagBitmaps(Roaring64Bitmap transactions, Map<Long, Roaring64Bitmap> byTag) {
+        this.transactions = transactions;
+        this.byTag = byTag;
+    }
+
+    public static UserTagBitmaps of(Collection<Long> transactionIds, Collection<TagMembershipRow> memberships) {
+        Roaring64Bitmap transactions = new Roaring64Bitmap();
+        for (Long id : transactionIds) {
+            transactions.addLong(id);
+        }
+        transactions.runOptimize();
+        Map<Long, Roaring64Bitmap> byTag = new HashMap<>();
+        for (TagMembershipRow membership : memberships) {
+            byTag.computeIfAbsent(membership.tagId(), id -> new Roaring64Bitmap()).addLong(membership.transactionId());
+        }
+        byTag.values().forEach(Roaring64Bitmap::runOptimize);
+        return new UserTagBitmaps(transactions, byTag);
+    }
+
+    public long estimatedBytes() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            long bytes = transactions.getLongSizeInBytes();
+            for (Roaring64Bitmap bitmap : byTag.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    public long count(Long tagId) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            Roaring64Bitmap bitmap = byTag.get(tagId);
+            return bitmap == null ? 0 : bitmap.getLongCardinality();
+        } finally {
+            read.unlock();
+        }
+    }
+
+    // Ids of the transactions carrying every tag in all, at least one in any (unless empty) and none
+    // of none. A tag without transactions is an empty bitmap. The result is a copy owned by the caller.
+    public Roaring64Bitmap match(Set<Long> all, Set<Long> any, Set<Long> none) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            Roaring64Bitmap result = new Roaring64Bitmap();
+            if (all.isEmpty()) {
+                result.or(transactions);
+            } else {
+                // Intersect smallest first, so the running result only shrinks from the start.
+                List<Roaring64Bitmap> required = new ArrayList<>(all.size());
+                for (Long tagId : all) {
+                    Roaring64Bitmap bitmap = byTag.get(tagId);
+                    if (bitmap == null) {
+                        return result;
+                    }
+                    required.add(bitmap);
+                }
+                required.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+                result.or(required.get(0));
+                for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+                    result.and(required.get(i));
+                }
+            }
+            if (!any.isEmpty() && !result.isEmpty()) {
+                Roaring64Bitmap union = new Roaring64Bitmap();
+                for (Long tagId : any) {
+                    Roaring64Bitmap bitmap = byTag.get(tagId);
+                    if (bitmap != null) {
+                        union.or(bitmap);
+                    }
+                }
+                result.and(union);
+            }
+            for (Long tagId : none) {
+                Roaring64Bitmap bitmap = byTag.get(tagId);
+                if (bitmap != null && !result.isEmpty()) {
+                    result.andNot(bitmap);
+                }
+            }
+            return result;
+        } finally {
+            read.unlock();
+        }
+    }
+
+    void addTransaction(long transactionId) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            transactions.addLong(transactionId);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    void removeTransaction(long transactionId) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            transactions.removeLong(transactionId);
+            for (Roaring64Bitmap bitmap : byTag.values()) {
+                bitmap.removeLong(transactionId);
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    void retag(long transactionId, Set<Long> removedTagIds, Set<Long> addedTagIds) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            for (Long tagId : removedTagIds) {
+                Roaring64Bitmap bitmap = byTag.get(tagId);
+                if (bitmap != null) {
+                    bitmap.removeLong(transactionId);
+                }
+            }
+            for (Long tagId : addedTagIds) {
+                byTag.computeIfAbsent(tagId, id -> new Roaring64Bitmap()).addLong(transactionId);
+            }
+        } finally {
+            write.unlock();
+        }
+    }
+
+    void removeTags(Set<Long> tagIds) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            byTag.keySet().removeAll(tagIds);
+        } finally {
+            write.unlock();
+        }
+    }
+}
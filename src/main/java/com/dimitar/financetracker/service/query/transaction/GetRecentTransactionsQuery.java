@@ -29,19 +29,22 @@ public class GetRecentTransactionsQuery implements Query<Integer, List<Transacti
     public List<TransactionResponse> execute(Integer limit) {
         Long userId = authenticationFacade.getAuthenticatedUserId();
 
+        Page<Transaction> page = transactionRepository.findByUserId(userId, pageable(limit));
+
+        return page.getContent().stream()
+            .map(transactionMapper::toResponse)
+            .toList();
+    }
+
+    // Shared with the sparse-fieldset variant so both return the same rows.
+    public static Pageable pageable(Integer limit) {
         int size = (limit == null) ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
 
         Sort sort = Sort.by(
             Sort.Order.desc("transactionDate"),
             Sort.Order.desc("createdAt")
         );
-        Pageable pageable = PageRequest.of(0, size, sort);
-
-        Page<Transaction> page = transactionRepository.findByUserId(userId, pageable);
-
-        return page.getContent().stream()
-            .map(transactionMapper::toResponse)
-            .toList();
+        return PageRequest.of(0, size, sort);
     }
 }
 
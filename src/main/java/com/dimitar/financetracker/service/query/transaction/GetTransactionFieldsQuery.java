@@ -0,0 +1,129 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.dto.response.PagedResponse;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import com.dimitar.financetracker.service.query.fields.TransactionField;
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Sparse-fieldset variant of the transaction list queries: the same filters, but only the fields
+// named in fields= are selected and returned. The filter factories validate their input exactly like
+// the corresponding full queries.
+@Component
+@RequiredArgsConstructor
+public class GetTransactionFieldsQuery implements Query<GetTransactionFieldsQuery.Input,
+    PagedResponse<Map<String, Object>>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    // countTotal=false skips the count query; totals then only describe the returned rows.
+    public record Input(String fields, Filter filter, Pageable pageable, boolean countTotal) {
+    }
+
+    public record Filter(LocalDate startDate,
+                         LocalDate endDate,
+                         Long categoryId,
+                         BigDecimal minAmount,
+                         BigDecimal maxAmount,
+                         String description) {
+
+        public static Filter none() {
+            return new Filter(null, null, null, null, null, null);
+        }
+
+        public static Filter dateRange(LocalDate start, LocalDate end) {
+            if (start == null || end == null) {
+                throw new IllegalArgumentException("startDate and endDate are required");
+            }
+            return start.isAfter(end)
+                ? new Filter(end, start, null, null, null, null)
+                : new Filter(start, end, null, null, null, null);
+        }
+
+        public static Filter category(Long categoryId) {
+            return new Filter(null, null, categoryId, null, null, null);
+        }
+
+        public static Filter amountRange(BigDecimal min, BigDecimal max) {
+            if (min == null && max == null) {
+                throw new IllegalArgumentException("minAmount or maxAmount is required");
+            }
+            if (min != null && max != null && min.compareTo(max) > 0) {
+                return new Filter(null, null, null, max, min, null);
+            }
+            return new Filter(null, null, null, min, max, null);
+        }
+
+        public static Filter description(String term) {
+            if (term == null || term.trim().isEmpty()) {
+                throw new IllegalArgumentException("q is required");
+            }
+            return new Filter(null, null, null, null, null, term.trim());
+        }
+
+        Specification<Transaction> forUser(Long userId) {
+            return (root, query, cb) -> {
+                List<Predicate> predicates = new ArrayList<>();
+                predicates.add(cb.equal(root.get("user").get("id"), userId));
+                if (startDate != null) {
+                    predicates.add(cb.between(root.get("transactionDate"), startDate, endDate));
+                }
+                if (categoryId != null) {
+                    predicates.add(cb.equal(root.get("category").get("id"), categoryId));
+                }
+                if (minAmount != null) {
+                    predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), minAmount));
+                }
+                if (maxAmount != null) {
+                    predicates.add(cb.lessThanOrEqualTo(root.get("amount"), maxAmount));
+                }
+                if (description != null) {
+                    predicates.add(TransactionCriteria.containsIgnoreCase(cb, root.get("description"), description));
+                }
+                return cb.and(predicates.toArray(Predicate[]::new));
+            };
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<Map<String, Object>> execute(Input input) {
+        List<TransactionField> fields = FieldSelection.parse(input.fields(), TransactionField.class);
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Specification<Transaction> where = input.filter().forUser(userId);
+        Pageable pageable = input.pageable();
+
+        List<Map<String, Object>> rows = sparseFieldRepository.findFields(Transaction.class, fields, where, pageable);
+        Page<Map<String, Object>> page = input.countTotal()
+            ? PageableExecutionUtils.getPage(rows, pageable, () -> sparseFieldRepository.count(Transaction.class, where))
+            : new PageImpl<>(rows);
+
+        return PagedResponse.<Map<String, Object>>builder()
+            .content(page.getContent())
+            .pageNumber(pageable.isPaged() ? pageable.getPageNumber() : 0)
+            .pageSize(pageable.isPaged() ? pageable.getPageSize() : rows.size())
+            .totalElements(page.getTotalElements())
+            .totalPages(page.getTotalPages())
+            .last(page.isLast())
+            .first(page.isFirst())
+            .empty(page.isEmpty())
+            .build();
+    }
+}
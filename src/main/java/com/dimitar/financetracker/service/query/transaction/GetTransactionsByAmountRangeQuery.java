@@ -1,54 +1,38 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class GetTransactionsByAmountRangeQuery implements Query<GetTransactionsByAmountRangeQuery.AmountRange,
-    List<TransactionResponse>> {
-    private final AuthenticationFacade authenticationFacade;
-    private final TransactionRepository transactionRepository;
-    private final TransactionMapper transactionMapper;
+    CursorPagedResponse<TransactionResponse>> {
+    private final QueryTransactionsQuery queryTransactionsQuery;
 
-    public record AmountRange(BigDecimal minAmount, BigDecimal maxAmount) { }
+    public record AmountRange(BigDecimal minAmount, BigDecimal maxAmount, CursorPageRequest page) {
 
-    @Override
-    public List<TransactionResponse> execute(AmountRange input) {
-        Long userId = authenticationFacade.getAuthenticatedUserId();
-        BigDecimal min = input != null ? input.minAmount() : null;
-        BigDecimal max = input != null ? input.maxAmount() : null;
-
-        if (min == null && max == null) {
-            throw new IllegalArgumentException("minAmount or maxAmount is required");
-        }
-
-        List<Transaction> transactions;
-        if (min != null && max != null) {
-            if (min.compareTo(max) > 0) {
-                BigDecimal tmp = min;
-                min = max;
-                max = tmp;
+        public TransactionQueryRequest toRequest() {
+            if (minAmount == null && maxAmount == null) {
+                throw new IllegalArgumentException("minAmount or maxAmount is required");
             }
-            transactions = transactionRepository.findByUserIdAndAmountBetween(userId, min, max);
-        } else if (min != null) {
-            transactions = transactionRepository.findByUserIdAndAmountGreaterThanEqual(userId, min);
-        } else {
-            transactions = transactionRepository.findByUserIdAndAmountLessThanEqual(userId, max);
+            return TransactionQueryRequest.builder()
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .cursor(page.getCursor())
+                .limit(page.getLimit())
+                .build();
         }
+    }
 
-        return transactions.stream()
-            .map(transactionMapper::toResponse)
-            .toList();
+    @Override
+    public CursorPagedResponse<TransactionResponse> execute(AmountRange input) {
+        return queryTransactionsQuery.execute(input.toRequest());
     }
 }
-
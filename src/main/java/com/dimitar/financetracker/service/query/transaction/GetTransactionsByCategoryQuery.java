@@ -1,10 +1,9 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,18 +12,23 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
-public class GetTransactionsByCategoryQuery implements Query<Long, List<TransactionResponse>> {
-    private final AuthenticationFacade authenticationFacade;
-    private final TransactionRepository transactionRepository;
-    private final TransactionMapper transactionMapper;
+public class GetTransactionsByCategoryQuery implements Query<GetTransactionsByCategoryQuery.ByCategory,
+    CursorPagedResponse<TransactionResponse>> {
+    private final QueryTransactionsQuery queryTransactionsQuery;
+
+    public record ByCategory(Long categoryId, CursorPageRequest page) {
+
+        public TransactionQueryRequest toRequest() {
+            return TransactionQueryRequest.builder()
+                .categoryIds(List.of(categoryId))
+                .cursor(page.getCursor())
+                .limit(page.getLimit())
+                .build();
+        }
+    }
 
     @Override
-    public List<TransactionResponse> execute(Long categoryId) {
-        Long authenticatedUserId = authenticationFacade.getAuthenticatedUserId();
-        List<Transaction> transactions = transactionRepository
-            .findByUserIdAndCategoryId(authenticatedUserId, categoryId);
-        return transactions.stream()
-            .map(transactionMapper::toResponse)
-            .toList();
+    public CursorPagedResponse<TransactionResponse> execute(ByCategory input) {
+        return queryTransactionsQuery.execute(input.toRequest());
     }
 }
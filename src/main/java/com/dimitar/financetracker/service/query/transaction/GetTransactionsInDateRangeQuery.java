@@ -1,50 +1,40 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
+// One newest-first page of the range, read by keyset through QueryTransactionsQuery; reversed
+// bounds are swapped there.
 @Component
 @RequiredArgsConstructor
 public class GetTransactionsInDateRangeQuery implements Query<GetTransactionsInDateRangeQuery.DateRange,
-    List<TransactionResponse>> {
-    private final AuthenticationFacade authenticationFacade;
-    private final TransactionRepository transactionRepository;
-    private final TransactionMapper transactionMapper;
-
-    public record DateRange(LocalDate startDate, LocalDate endDate) {
+    CursorPagedResponse<TransactionResponse>> {
+    private final QueryTransactionsQuery queryTransactionsQuery;
+
+    public record DateRange(LocalDate startDate, LocalDate endDate, CursorPageRequest page) {
+
+        public TransactionQueryRequest toRequest() {
+            if (startDate == null || endDate == null) {
+                throw new IllegalArgumentException("startDate and endDate are required");
+            }
+            return TransactionQueryRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .cursor(page.getCursor())
+                .limit(page.getLimit())
+                .build();
+        }
     }
 
     @Override
-    public List<TransactionResponse> execute(DateRange input) {
-        Long authenticatedUserId = authenticationFacade.getAuthenticatedUserId();
-
-        LocalDate start = input.startDate();
-        LocalDate end = input.endDate();
-
-        if (start == null || end == null) {
-            throw new IllegalArgumentException("startDate and endDate are required");
-        }
-        if (start.isAfter(end)) {
-            LocalDate tmp = start;
-            start = end;
-            end = tmp;
-        }
-
-        List<Transaction> transactions = transactionRepository
-            .findByUserIdAndTransactionDateBetween(authenticatedUserId, start, end);
-
-        return transactions.stream()
-            .map(transactionMapper::toResponse)
-            .toList();
+    public CursorPagedResponse<TransactionResponse> execute(DateRange input) {
+        return queryTransactionsQuery.execute(input.toRequest());
     }
 }
-
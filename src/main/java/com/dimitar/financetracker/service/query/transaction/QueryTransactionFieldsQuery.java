@@ -0,0 +1,81 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import com.dimitar.financetracker.service.query.fields.TransactionField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sparse-fieldset variant of QueryTransactionsQuery: the same filters, keyset and page size limit,
+// but only the fields named in fields= are returned. The id and sort key are always selected for
+// the cursor and dropped from rows that did not ask for them.
+@Component
+@RequiredArgsConstructor
+public class QueryTransactionFieldsQuery implements Query<QueryTransactionFieldsQuery.Input,
+    CursorPagedResponse<Map<String, Object>>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+
+    public record Input(TransactionQueryRequest request, String fields) {
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<Map<String, Object>> execute(Input input) {
+        List<TransactionField> requested = FieldSelection.parse(input.fields(), TransactionField.class);
+        QueryTransactionsQuery.Keyset keyset = QueryTransactionsQuery.Keyset.of(
+            input.request(), authenticationFacade.getAuthenticatedUserId());
+        int limit = keyset.limit();
+        TransactionField sortKey = keyset.sortField().field();
+
+        List<TransactionField> selected = new ArrayList<>(requested);
+        for (TransactionField key : List.of(sortKey, TransactionField.ID)) {
+            if (!selected.contains(key)) {
+                selected.add(key);
+            }
+        }
+
+        List<Map<String, Object>> rows = sparseFieldRepository.findFields(Transaction.class, selected, keyset.where(),
+            PageRequest.of(0, limit + 1, keyset.sort()));
+        boolean hasNext = rows.size() > limit;
+        List<Map<String, Object>> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> last = page.get(limit - 1);
+            nextCursor = keyset.sortField().cursorAfter(last.get(sortKey.fieldName()),
+                (Long) last.get(TransactionField.ID.fieldName()), keyset.direction()).encode();
+        }
+        List<Map<String, Object>> content = selected.size() == requested.size()
+            ? page
+            : page.stream().map(row -> only(row, requested)).toList();
+
+        return CursorPagedResponse.<Map<String, Object>>builder()
+            .content(content)
+            .limit(limit)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    private static Map<String, Object> only(Map<String, Object> row, List<TransactionField> fields) {
+        Map<String, Object> trimmed = new LinkedHashMap<>(fields.size() * 2);
+        for (TransactionField field : fields) {
+            trimmed.put(field.fieldName(), row.get(field.fieldName()));
+        }
+        return Collections.unmodifiableMap(trimmed);
+    }
+}
@@ -0,0 +1,154 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.KeysetCursor;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.TransactionField;
+import jakarta.persistence.criteria.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+// Every filter of TransactionCriteria in one Specification query, paged by keyset instead of offset:
+// the cursor holds the sort value and id of the previous page's last row, and the next page starts
+// right after it. With user_id equality in front, the seek is a range on idx_transactions_user_date,
+// idx_transactions_user_category_date or idx_transactions_user_amount, so deep pages cost the same
+// as the first one and rows inserted meanwhile neither repeat nor skip rows.
+@Component
+@RequiredArgsConstructor
+public class QueryTransactionsQuery implements Query<TransactionQueryRequest, CursorPagedResponse<TransactionResponse>> {
+    private final AuthenticationFacade authenticationFacade;
+    private final TransactionRepository transactionRepository;
+    private final TransactionMapper transactionMapper;
+
+    enum SortField {
+        TRANSACTION_DATE("transactionDate", TransactionField.TRANSACTION_DATE, LocalDate::parse, Transaction::getTransactionDate),
+        AMOUNT("amount", TransactionField.AMOUNT, BigDecimal::new, Transaction::getAmount);
+
+        private final String property;
+        private final TransactionField field;
+        private final Function<String, Comparable<?>> parser;
+        private final Function<Transaction, Object> getter;
+
+        SortField(String property, TransactionField field, Function<String, Comparable<?>> parser,
+                  Function<Transaction, Object> getter) {
+            this.property = property;
+            this.field = field;
+            this.parser = parser;
+            this.getter = getter;
+        }
+
+        static SortField of(String property) {
+            return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "Unknown sortBy '" + property + "'. Allowed: transactionDate, amount"));
+        }
+
+        TransactionField field() {
+            return field;
+        }
+
+        KeysetCursor cursorAfter(Transaction last, Sort.Direction direction) {
+            return cursorAfter(getter.apply(last), last.getId(), direction);
+        }
+
+        KeysetCursor cursorAfter(Object value, long id, Sort.Direction direction) {
+            String formatted = value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+            return new KeysetCursor(property, direction, formatted, id);
+        }
+
+        Specification<Transaction> after(KeysetCursor cursor) {
+            Comparable<?> value;
+            try {
+                value = parser.apply(cursor.value());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+            return seek(property, value, cursor.id(), cursor.direction());
+        }
+    }
+
+    // A validated request: the user's filters plus the seek past the cursor, the keyset order and the
+    // page size. Shared with QueryTransactionFieldsQuery so both page the same way.
+    record Keyset(Specification<Transaction> where, SortField sortField, Sort.Direction direction, int limit) {
+
+        static Keyset of(TransactionQueryRequest request, Long userId) {
+            int limit = request.getLimit();
+            if (limit < 1 || limit > CursorPageRequest.MAX_LIMIT) {
+                throw new IllegalArgumentException("limit must be between 1 and " + CursorPageRequest.MAX_LIMIT);
+            }
+            SortField sortField = SortField.of(request.getSortBy());
+            Sort.Direction direction = "ASC".equalsIgnoreCase(request.getSortDirection())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+            Specification<Transaction> where = TransactionCriteria.from(request).forUser(userId);
+            if (request.getCursor() != null && !request.getCursor().isBlank()) {
+                KeysetCursor cursor = KeysetCursor.decode(request.getCursor());
+                if (!cursor.sortBy().equals(sortField.property) || cursor.direction() != direction) {
+                    throw new IllegalArgumentException("cursor belongs to a different sortBy or sortDirection");
+                }
+                where = where.and(sortField.after(cursor));
+            }
+            return new Keyset(where, sortField, direction, limit);
+        }
+
+        Sort sort() {
+            return Sort.by(direction, sortField.property, "id");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<TransactionResponse> execute(TransactionQueryRequest request) {
+        Keyset keyset = Keyset.of(request, authenticationFacade.getAuthenticatedUserId());
+        int limit = keyset.limit();
+
+        // One row past the page tells whether another page follows, without a count query.
+        List<Transaction> rows = transactionRepository.findBy(keyset.where(),
+            query -> query.sortBy(keyset.sort()).limit(limit + 1).project("category").all());
+        boolean hasNext = rows.size() > limit;
+        List<Transaction> page = hasNext ? rows.subList(0, limit) : rows;
+
+        return CursorPagedResponse.<TransactionResponse>builder()
+            .content(page.stream().map(transactionMapper::toResponse).toList())
+            .limit(limit)
+            .nextCursor(hasNext ? keyset.sortField().cursorAfter(page.get(limit - 1), keyset.direction()).encode() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    // Rows strictly after (value, id) in the given direction. Written as key <= value AND (key < value
+    // OR id < lastId) rather than a plain OR, so the first conjunct bounds the index range scan.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Specification<Transaction> seek(String property, Comparable value, long id, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            Path<Comparable> key = root.get(property);
+            Path<Long> rowId = root.get("id");
+            if (direction.isDescending()) {
+                return cb.and(cb.lessThanOrEqualTo(key, value),
+                    cb.or(cb.lessThan(key, value), cb.lessThan(rowId, id)));
+            }
+            return cb.and(cb.greaterThanOrEqualTo(key, value),
+                cb.or(cb.greaterThan(key, value), cb.greaterThan(rowId, id)));
+        };
+    }
+}
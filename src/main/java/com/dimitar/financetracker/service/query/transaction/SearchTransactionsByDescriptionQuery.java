@@ -1,34 +1,35 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import com.dimitar.financetracker.service.query.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
-public class SearchTransactionsByDescriptionQuery implements Query<String, List<TransactionResponse>> {
-    private final AuthenticationFacade authenticationFacade;
-    private final TransactionRepository transactionRepository;
-    private final TransactionMapper transactionMapper;
+public class SearchTransactionsByDescriptionQuery implements Query<SearchTransactionsByDescriptionQuery.Search,
+    CursorPagedResponse<TransactionResponse>> {
+    private final QueryTransactionsQuery queryTransactionsQuery;
 
-    @Override
-    public List<TransactionResponse> execute(String term) {
-        if (term == null || term.trim().isEmpty()) {
-            throw new IllegalArgumentException("q is required");
+    public record Search(String term, CursorPageRequest page) {
+
+        public TransactionQueryRequest toRequest() {
+            if (term == null || term.trim().isEmpty()) {
+                throw new IllegalArgumentException("q is required");
+            }
+            return TransactionQueryRequest.builder()
+                .q(term.trim())
+                .cursor(page.getCursor())
+                .limit(page.getLimit())
+                .build();
         }
-        Long userId = authenticationFacade.getAuthenticatedUserId();
-        List<Transaction> transactions = transactionRepository
-            .findByUserIdAndDescriptionContainingIgnoreCase(userId, term.trim());
-        return transactions.stream()
-            .map(transactionMapper::toResponse)
-            .toList();
     }
-}
 
+    @Override
+    public CursorPagedResponse<TransactionResponse> execute(Search input) {
+        return queryTransactionsQuery.execute(input.toRequest());
+    }
+}
@@ -0,0 +1,83 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.repository.SparseFieldRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.encoding.RowEncoding;
+import com.dimitar.financetracker.service.encoding.RowStreamEncoder;
+import com.dimitar.financetracker.service.encoding.StreamLimiter;
+import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.fields.FieldSelection;
+import com.dimitar.financetracker.service.query.fields.SparseField;
+import com.dimitar.financetracker.service.query.fields.TransactionField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Streamed variant of the transaction list queries for exports and charts: every matching row, not
+// just the first page, read through a database cursor and encoded as it is read. Input is validated
+// and the user resolved here, on the request thread, so bad input still gets a regular 400; the
+// returned body then runs the query in its own read-only transaction on the async thread.
+@Component
+public class StreamTransactionsQuery implements Query<StreamTransactionsQuery.Input, StreamingResponseBody> {
+    private final AuthenticationFacade authenticationFacade;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final RowStreamEncoder rowStreamEncoder;
+    private final StreamLimiter streamLimiter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    // fields == null selects every field, giving rows shaped like TransactionResponse.
+    public record Input(String fields, GetTransactionFieldsQuery.Filter filter, Sort sort, RowEncoding encoding) {
+    }
+
+    public StreamTransactionsQuery(AuthenticationFacade authenticationFacade,
+                                   SparseFieldRepository sparseFieldRepository,
+                                   RowStreamEncoder rowStreamEncoder,
+                                   StreamLimiter streamLimiter,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${transactions.stream.fetch-size:500}") int fetchSize) {
+        this.authenticationFacade = authenticationFacade;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.rowStreamEncoder = rowStreamEncoder;
+        this.streamLimiter = streamLimiter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public StreamingResponseBody execute(Input input) {
+        List<TransactionField> fields = input.fields() == null
+            ? Arrays.asList(TransactionField.values())
+            : FieldSelection.parse(input.fields(), TransactionField.class);
+        List<String> fieldNames = fields.stream().map(SparseField::fieldName).toList();
+        Long userId = authenticationFacade.getAuthenticatedUserId();
+        Specification<Transaction> where = input.filter().forUser(userId);
+
+        return streamLimiter.bounded(out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Object[]> rows = sparseFieldRepository.streamFields(
+                        Transaction.class, fields, where, input.sort(), fetchSize)) {
+                        rowStreamEncoder.write(fieldNames, rows, input.encoding(), out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.service.query.tag.TagFilter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// The filters of GET /api/transactions/query, each optional and all combined with AND. Reversed
+// date or amount bounds are swapped like in the single-filter endpoints. Tag conditions become
+// EXISTS subqueries on transaction_tags, so they neither join rows in nor need the bitmap index.
+// The text filter matches literally, like the derived Containing queries of Spring Data: \, % and _
+// in it are escaped rather than used as wildcards.
+public record TransactionCriteria(LocalDate startDate,
+                                  LocalDate endDate,
+                                  Set<Long> categoryIds,
+                                  BigDecimal minAmount,
+                                  BigDecimal maxAmount,
+                                  CategoryType type,
+                                  String text,
+                                  TagFilter tags) {
+
+    public static final char LIKE_ESCAPE = '\\';
+
+    public static TransactionCriteria from(TransactionQueryRequest request) {
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        if (start != null && end != null && start.isAfter(end)) {
+            LocalDate swap = start;
+            start = end;
+            end = swap;
+        }
+        BigDecimal min = request.getMinAmount();
+        BigDecimal max = request.getMaxAmount();
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            BigDecimal swap = min;
+            min = max;
+            max = swap;
+        }
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        if (request.getCategoryIds() != null) {
+            for (Long categoryId : request.getCategoryIds()) {
+                if (categoryId != null) {
+                    categoryIds.add(categoryId);
+                }
+            }
+        }
+        String text = request.getQ() == null || request.getQ().isBlank() ? null : request.getQ().trim();
+        return new TransactionCriteria(start, end, categoryIds, min, max, request.getType(), text,
+            TagFilter.of(request.getTags(), request.getAnyTags(), request.getExcludeTags()));
+    }
+
+    // Equality on user_id first, then the range or IN conditions the composite indexes continue with.
+    public Specification<Transaction> forUser(Long userId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+            if (categoryIds.size() == 1) {
+                predicates.add(cb.equal(root.get("category").get("id"), categoryIds.iterator().next()));
+            } else if (!categoryIds.isEmpty()) {
+                predicates.add(root.get("category").get("id").in(categoryIds));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("transactionDate"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("transactionDate"), endDate));
+            }
+            if (minAmount != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), minAmount));
+            }
+            if (maxAmount != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), maxAmount));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("category").get("type"), type));
+            }
+            if (text != null) {
+                predicates.add(containsIgnoreCase(cb, root.get("description"), text));
+            }
+            for (String tag : tags.all()) {
+                predicates.add(cb.exists(taggedWith(root, query, Set.of(tag))));
+            }
+            if (!tags.any().isEmpty()) {
+                predicates.add(cb.exists(taggedWith(root, query, tags.any())));
+            }
+            if (!tags.none().isEmpty()) {
+                predicates.add(cb.not(cb.exists(taggedWith(root, query, tags.none()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> column, String text) {
+        return cb.like(cb.lower(column), containsPattern(text.toLowerCase(Locale.ROOT)), LIKE_ESCAPE);
+    }
+
+    // LIKE pattern matching text anywhere; use it with LIKE_ESCAPE.
+    public static String containsPattern(String text) {
+        StringBuilder pattern = new StringBuilder(text.length() + 2).append('%');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static Subquery<Long> taggedWith(Root<Transaction> root, CriteriaQuery<?> query, Collection<String> names) {
+        Subquery<Long> tagged = query.subquery(Long.class);
+        Root<Transaction> sameTransaction = tagged.correlate(root);
+        Join<Transaction, Tag> tag = sameTransaction.join("tags");
+        tagged.select(tag.get("id")).where(tag.get("name").in(names));
+        return tagged;
+    }
+}
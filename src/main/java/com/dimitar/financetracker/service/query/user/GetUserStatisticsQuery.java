@@ -1,73 +1,111 @@
 package com.dimitar.financetracker.service.query.user;
 
 import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
+import com.dimitar.financetracker.model.Aggregate;
 import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.model.Money;
 import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.cache.CachedQuery;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import com.dimitar.financetracker.service.query.Query;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
+@CachedQuery(reads = {Aggregate.TRANSACTIONS, Aggregate.CATEGORIES})
 public class GetUserStatisticsQuery implements Query<Void, UserStatisticsResponse> {
+    private static final TypeTotalsRow EMPTY = new TypeTotalsRow(null, 0L, null, null);
+
     private final AuthenticationFacade authenticationFacade;
     private final TransactionRepository transactionRepository;
+    private final ColumnarAnalyticsStore columnarAnalyticsStore;
+    private final ExchangeRateService exchangeRateService;
 
     @Override
     public UserStatisticsResponse execute(Void input) {
         Long userId = authenticationFacade.getAuthenticatedUserId();
 
-        // Calculate overall statistics
-        BigDecimal totalIncome = getSafeAmount(transactionRepository.sumAmountByUserAndType(userId, CategoryType.INCOME));
-        BigDecimal totalExpenses = getSafeAmount(transactionRepository.sumAmountByUserAndType(userId, CategoryType.EXPENSE));
-        BigDecimal netBalance = totalIncome.subtract(totalExpenses);
-
-        // Calculate transaction counts
-        Long totalTransactions = transactionRepository.countByUser(userId);
-        Long totalIncomeTransactions = transactionRepository.countByUserAndType(userId, CategoryType.INCOME);
-        Long totalExpenseTransactions = transactionRepository.countByUserAndType(userId, CategoryType.EXPENSE);
-
-        // Calculate averages
-        BigDecimal averageIncomePerTransaction = getSafeAverage(transactionRepository.avgAmountByUserAndType(userId, CategoryType.INCOME));
-        BigDecimal averageExpensePerTransaction = getSafeAverage(transactionRepository.avgAmountByUserAndType(userId, CategoryType.EXPENSE));
-
-        // Calculate monthly statistics (current month)
+        // Calculate monthly statistics for the current month
         YearMonth currentMonth = YearMonth.now();
         LocalDate monthStart = currentMonth.atDay(1);
         LocalDate monthEnd = currentMonth.atEndOfMonth();
 
-        BigDecimal monthlyIncome = getSafeAmount(transactionRepository.sumAmountByUserAndTypeAndDateRange(
-            userId, CategoryType.INCOME, monthStart, monthEnd));
-        BigDecimal monthlyExpenses = getSafeAmount(transactionRepository.sumAmountByUserAndTypeAndDateRange(
-            userId, CategoryType.EXPENSE, monthStart, monthEnd));
-        BigDecimal monthlyNetBalance = monthlyIncome.subtract(monthlyExpenses);
+        return columnarAnalyticsStore.columnsFor(userId)
+            .map(columns -> fromColumns(columns, monthStart, monthEnd))
+            .orElseGet(() -> fromRepository(userId, monthStart, monthEnd));
+    }
+
+    // One grouped statement returns count, overall and monthly totals per type, converted to the
+    // base currency in the database.
+    private UserStatisticsResponse fromRepository(Long userId, LocalDate monthStart, LocalDate monthEnd) {
+        ConversionTarget target = exchangeRateService.baseTargetOf(userId);
+        Map<CategoryType, TypeTotalsRow> byType = new EnumMap<>(CategoryType.class);
+        for (TypeTotalsRow row : transactionRepository.sumByType(userId, monthStart, monthEnd, target)) {
+            byType.put(row.type(), row);
+        }
+        TypeTotalsRow income = byType.getOrDefault(CategoryType.INCOME, EMPTY);
+        TypeTotalsRow expense = byType.getOrDefault(CategoryType.EXPENSE, EMPTY);
+
+        Money totalIncome = Money.ofNullable(income.total());
+        Money totalExpenses = Money.ofNullable(expense.total());
 
+        return buildResponse(target.currency(), totalIncome, totalExpenses,
+            income.count() + expense.count(), income.count(), expense.count(),
+            average(totalIncome.cents(), income.count()),
+            average(totalExpenses.cents(), expense.count()),
+            Money.ofNullable(income.periodTotal()),
+            Money.ofNullable(expense.periodTotal()));
+    }
+
+    private UserStatisticsResponse fromColumns(UserTransactionColumns columns, LocalDate monthStart, LocalDate monthEnd) {
+        UserTransactionColumns.TypeTotals overall = columns.totals();
+        UserTransactionColumns.TypeTotals monthly = columns.totals(monthStart, monthEnd);
+
+        return buildResponse(
+            columns.currency(),
+            Money.ofCents(overall.incomeCents()),
+            Money.ofCents(overall.expenseCents()),
+            overall.count(), overall.incomeCount(), overall.expenseCount(),
+            average(overall.incomeCents(), overall.incomeCount()),
+            average(overall.expenseCents(), overall.expenseCount()),
+            Money.ofCents(monthly.incomeCents()),
+            Money.ofCents(monthly.expenseCents()));
+    }
+
+    private UserStatisticsResponse buildResponse(String currency, Money totalIncome, Money totalExpenses,
+                                                 Long totalTransactions, Long totalIncomeTransactions,
+                                                 Long totalExpenseTransactions,
+                                                 Money averageIncomePerTransaction,
+                                                 Money averageExpensePerTransaction,
+                                                 Money monthlyIncome, Money monthlyExpenses) {
         return UserStatisticsResponse.builder()
-            .totalIncome(totalIncome)
-            .totalExpenses(totalExpenses)
-            .netBalance(netBalance)
+            .currency(currency)
+            .totalIncome(totalIncome.toBigDecimal())
+            .totalExpenses(totalExpenses.toBigDecimal())
+            .netBalance(totalIncome.minus(totalExpenses).toBigDecimal())
             .totalTransactions(totalTransactions)
             .totalIncomeTransactions(totalIncomeTransactions)
             .totalExpenseTransactions(totalExpenseTransactions)
-            .averageIncomePerTransaction(averageIncomePerTransaction)
-            .averageExpensePerTransaction(averageExpensePerTransaction)
-            .monthlyIncome(monthlyIncome)
-            .monthlyExpenses(monthlyExpenses)
-            .monthlyNetBalance(monthlyNetBalance)
+            .averageIncomePerTransaction(averageIncomePerTransaction.toBigDecimal())
+            .averageExpensePerTransaction(averageExpensePerTransaction.toBigDecimal())
+            .monthlyIncome(monthlyIncome.toBigDecimal())
+            .monthlyExpenses(monthlyExpenses.toBigDecimal())
+            .monthlyNetBalance(monthlyIncome.minus(monthlyExpenses).toBigDecimal())
             .build();
     }
 
-    private BigDecimal getSafeAmount(BigDecimal amount) {
-        return amount != null ? amount : BigDecimal.ZERO;
-    }
-
-    private BigDecimal getSafeAverage(BigDecimal average) {
-        return average != null ? average.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    private Money average(long totalCents, long count) {
+        return count == 0 ? Money.ZERO : Money.ofCents(totalCents).dividedBy(count);
     }
 }
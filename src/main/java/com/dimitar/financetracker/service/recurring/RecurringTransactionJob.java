@@ -0,0 +1,29 @@
+package com.dimitar.financetracker.service.recurring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Drains due recurring rules chunk by chunk. Every chunk commits on its own, so several nodes can
+// run this at once: each claims different rows and a crash loses at most the chunk in progress.
+@Component
+@RequiredArgsConstructor
+public class RecurringTransactionJob {
+    private final RecurringTransactionMaterializer materializer;
+
+    @Scheduled(cron = "${recurring.transactions.cron:0 5 0 * * *}")
+    public void scheduledRun() {
+        run(LocalDate.now());
+    }
+
+    // Returns how many chunks were processed.
+    public int run(LocalDate today) {
+        int chunks = 0;
+        while (materializer.materializeChunk(today) > 0) {
+            chunks++;
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,136 @@
+package com.dimitar.financetracker.service.recurring;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Posts the due occurrences of one claimed chunk of recurring rules in a single transaction: the
+// rules are row-locked with SKIP LOCKED, their transactions inserted as one JDBC batch and their
+// next run dates advanced. A rule contributes at most maxOccurrencesPerRule per chunk so a long
+// backfill after downtime is spread over several short transactions instead of one huge one.
+@Component
+public class RecurringTransactionMaterializer {
+    private static final String INSERT_TRANSACTION =
+        "INSERT INTO transactions (user_id, category_id, amount, currency, description, transaction_date, " +
+        "recurring_transaction_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxOccurrencesPerRule;
+
+    public RecurringTransactionMaterializer(RecurringTransactionRepository recurringTransactionRepository,
+                                            CategoryRepository categoryRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            ApplicationEventPublisher eventPublisher,
+                                            @Value("${recurring.transactions.chunk-size:500}") int chunkSize,
+                                            @Value("${recurring.transactions.max-occurrences-per-rule:31}") int maxOccurrencesPerRule) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+        // A claimed rule must always advance, or the job would reclaim it forever
+        this.maxOccurrencesPerRule = Math.max(1, maxOccurrencesPerRule);
+    }
+
+    // Returns the number of rules claimed; 0 means nothing is due (or everything due is held elsewhere).
+    @Transactional
+    public int materializeChunk(LocalDate today) {
+        List<RecurringTransaction> rules = recurringTransactionRepository.claimDue(today, chunkSize);
+        if (rules.isEmpty()) {
+            return 0;
+        }
+
+        // One query for the category types the change events need instead of a lazy load per rule.
+        Set<Long> categoryIds = rules.stream().map(r -> r.getCategory().getId()).collect(Collectors.toSet());
+        Map<Long, Category> categories = categoryRepository.findAllById(categoryIds).stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (RecurringTransaction rule : rules) {
+            int posted = 0;
+            while (Boolean.TRUE.equals(rule.getIsActive())
+                && !rule.getNextRunDate().isAfter(today)
+                && posted < maxOccurrencesPerRule) {
+                occurrences.add(new Occurrence(rule, rule.getNextRunDate()));
+                rule.advance();
+                posted++;
+            }
+        }
+
+        if (!occurrences.isEmpty()) {
+            List<Long> ids = insert(occurrences);
+            for (int i = 0; i < occurrences.size(); i++) {
+                Occurrence occurrence = occurrences.get(i);
+                RecurringTransaction rule = occurrence.rule();
+                Category category = categories.get(rule.getCategory().getId());
+                eventPublisher.publishEvent(TransactionsChangedEvent.created(rule.getUser().getId(),
+                    new TransactionSnapshot(ids.get(i), category.getId(), category.getType(), rule.getAmount(),
+                        occurrence.date(), rule.getCurrency())));
+            }
+        }
+        return rules.size();
+    }
+
+    private List<Long> insert(List<Occurrence> occurrences) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(INSERT_TRANSACTION, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Occurrence occurrence = occurrences.get(i);
+                    RecurringTransaction rule = occurrence.rule();
+                    ps.setLong(1, rule.getUser().getId());
+                    ps.setLong(2, rule.getCategory().getId());
+                    ps.setBigDecimal(3, rule.getAmount());
+                    ps.setString(4, rule.getCurrency());
+                    ps.setString(5, rule.getDescription());
+                    ps.setDate(6, Date.valueOf(occurrence.date()));
+                    ps.setLong(7, rule.getId());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return occurrences.size();
+                }
+            },
+            keys);
+        return keys.getKeyList().stream()
+            .map(row -> ((Number) row.values().iterator().next()).longValue())
+            .toList();
+    }
+
+    private record Occurrence(RecurringTransaction rule, LocalDate date) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.dimitar.financetracker.service.rollover;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.projection.BudgetRolloverRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Creates the next-period budget for every recurring budget that has ended. One thread pages
+// through the candidates by id while a worker pool inserts each page as a batched statement in
+// its own transaction, so no lock outlives a chunk. Passes repeat until nothing is left, which
+// also catches up budgets that missed several periods while the application was down.
+@Component
+public class BudgetRolloverJob {
+    private final BudgetRepository budgetRepository;
+    private final BudgetRolloverWriter budgetRolloverWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BudgetRolloverJob(BudgetRepository budgetRepository,
+                             BudgetRolloverWriter budgetRolloverWriter,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${budget.rollover.chunk-size:1000}") int chunkSize,
+                             @Value("${budget.rollover.workers:4}") int workers) {
+        this.budgetRepository = budgetRepository;
+        this.budgetRolloverWriter = budgetRolloverWriter;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+    }
+
+    @Scheduled(cron = "${budget.rollover.cron:0 15 0 * * *}")
+    public void scheduledRollover() {
+        rollover(LocalDate.now());
+    }
+
+    // Returns how many budgets were created; 0 if a rollover is already running in this instance.
+    public int rollover(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            int total = 0;
+            int inserted;
+            do {
+                inserted = runPass(today, pool);
+                total += inserted;
+            } while (inserted > 0);
+            return total;
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private int runPass(LocalDate today, ExecutorService pool) {
+        // Bounds how many fetched chunks wait for a worker, keeping memory flat for large backlogs.
+        Semaphore inFlight = new Semaphore(workers * 2);
+        List<Future<Integer>> results = new ArrayList<>();
+        long afterId = 0L;
+        List<BudgetRolloverRow> chunk;
+        do {
+            chunk = budgetRepository.findRolloverCandidates(today, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+            List<BudgetRolloverRow> rows = chunk;
+            inFlight.acquireUninterruptibly();
+            results.add(pool.submit(() -> {
+                try {
+                    return writeChunk(rows);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } while (chunk.size() == chunkSize);
+
+        int inserted = 0;
+        for (Future<Integer> result : results) {
+            inserted += await(result);
+        }
+        return inserted;
+    }
+
+    private int writeChunk(List<BudgetRolloverRow> rows) {
+        int inserted;
+        try {
+            inserted = budgetRolloverWriter.insertNextPeriods(rows);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance rolled over part of this chunk between our read and write; the
+            // next pass re-reads whatever is still missing.
+            return 0;
+        }
+        if (inserted > 0) {
+            Set<Long> userIds = new LinkedHashSet<>();
+            rows.forEach(row -> userIds.add(row.userId()));
+            userIds.forEach(userId -> eventPublisher.publishEvent(new BudgetsChangedEvent(userId)));
+        }
+        return inserted;
+    }
+
+    private static int await(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Budget rollover interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Budget rollover chunk failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.dimitar.financetracker.service.rollover;
+
+import com.dimitar.financetracker.repository.projection.BudgetRolloverRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Inserts the next-period budgets of one chunk as a single JDBC batch in its own short transaction.
+// The NOT EXISTS guard (backed by the unique source_budget_id constraint) makes re-running a chunk
+// after a crash or on a second node a no-op for budgets that were already rolled over.
+@Component
+@RequiredArgsConstructor
+public class BudgetRolloverWriter {
+    private static final String INSERT_NEXT_PERIOD =
+        "INSERT INTO budgets (user_id, category_id, amount, currency, start_date, end_date, period, " +
+        "is_active, is_recurring, source_budget_id, created_at, updated_at) " +
+        "SELECT ?, ?, ?, ?, ?, ?, ?, TRUE, TRUE, ?, ?, ? " +
+        "WHERE NOT EXISTS (SELECT 1 FROM budgets WHERE source_budget_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public int insertNextPeriods(List<BudgetRolloverRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_NEXT_PERIOD, rows, rows.size(), (ps, row) -> {
+            LocalDate start = row.endDate();
+            ps.setLong(1, row.userId());
+            ps.setLong(2, row.categoryId());
+            ps.setBigDecimal(3, row.amount());
+            ps.setString(4, row.currency());
+            ps.setDate(5, Date.valueOf(start));
+            ps.setDate(6, Date.valueOf(row.period().endFrom(start)));
+            ps.setString(7, row.period().name());
+            ps.setLong(8, row.id());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+            ps.setLong(11, row.id());
+        });
+
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers that cannot report per-row counts return SUCCESS_NO_INFO (-2).
+                inserted += count > 0 ? count : 0;
+            }
+        }
+        return inserted;
+    }
+}
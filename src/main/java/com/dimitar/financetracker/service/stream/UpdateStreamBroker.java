@@ -0,0 +1,300 @@
+package com.dimitar.financetracker.service.stream;
+
+import com.dimitar.financetracker.dto.response.stream.UpdateDeltaResponse;
+import com.dimitar.financetracker.model.UpdateScope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fans committed per-user updates out to open SSE connections.
+// SseEmitter runs on async servlet support, so an idle connection holds no request thread,
+// only its emitter. Event ids are "<epoch>:<sequence>" where the epoch changes on every start;
+// a reconnect sending Last-Event-ID gets the buffered events it missed, or a RESYNC event when
+// they are no longer buffered (older than the replay buffer, or from before a restart).
+// publish runs on the committing request thread, so it only queues: each connection has a bounded
+// queue drained by its own virtual thread, and a client that lets stream.updates.send-queue-size
+// events pile up is closed. It reconnects with Last-Event-ID and catches up from the replay buffer.
+@Component
+public class UpdateStreamBroker {
+    static final String EVENT_NAME = "update";
+
+    private final long timeoutMillis;
+    private final int replayBufferSize;
+    private final long idleRetentionMillis;
+    private final long reconnectMillis;
+    private final int sendQueueSize;
+    private final Executor drainExecutor;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, UserStream> streams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UpdateStreamBroker(@Value("${stream.updates.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${stream.updates.replay-buffer-size:256}") int replayBufferSize,
+                              @Value("${stream.updates.idle-retention-ms:600000}") long idleRetentionMillis,
+                              @Value("${stream.updates.reconnect-ms:3000}") long reconnectMillis,
+                              @Value("${stream.updates.send-queue-size:64}") int sendQueueSize) {
+        this(timeoutMillis, replayBufferSize, idleRetentionMillis, reconnectMillis, sendQueueSize,
+            Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    UpdateStreamBroker(long timeoutMillis, int replayBufferSize, long idleRetentionMillis, long reconnectMillis,
+                       int sendQueueSize, Executor drainExecutor) {
+        this.timeoutMillis = timeoutMillis;
+        this.replayBufferSize = Math.max(1, replayBufferSize);
+        this.idleRetentionMillis = idleRetentionMillis;
+        this.reconnectMillis = reconnectMillis;
+        this.sendQueueSize = Math.max(1, sendQueueSize);
+        this.drainExecutor = drainExecutor;
+    }
+
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection;
+        while ((connection = register(streams.computeIfAbsent(userId, id -> new UserStream()), emitter, lastEventId)) == null) {
+            // The stream was retired by the heartbeat between lookup and lock; take the fresh one.
+        }
+        schedule(connection);
+        return emitter;
+    }
+
+    // Queuing the resume point and replay under the stream lock keeps a concurrent publish from
+    // slipping in between. The replay is not held to the queue bound; it is at most the replay buffer.
+    private Connection register(UserStream stream, SseEmitter emitter, String lastEventId) {
+        Connection connection = new Connection(stream, emitter);
+        stream.lock.lock();
+        try {
+            if (stream.retired) {
+                return null;
+            }
+            connection.queue.add(SseEmitter.event()
+                .id(eventId(stream.sequence))
+                .reconnectTime(reconnectMillis)
+                .comment("connected"));
+            for (Envelope missed : missedSince(stream, lastEventId)) {
+                connection.queue.add(toEvent(missed));
+            }
+            connection.queued.set(connection.queue.size());
+            stream.connections.add(connection);
+            stream.lastActivity = System.currentTimeMillis();
+        } finally {
+            stream.lock.unlock();
+        }
+        emitter.onCompletion(connection::finished);
+        emitter.onTimeout(connection::finished);
+        emitter.onError(error -> connection.finished());
+        return connection;
+    }
+
+    // Updates for users that never subscribed since startup are dropped; they have nothing to resume.
+    public void publish(Long userId, UpdateDeltaResponse delta) {
+        UserStream stream = streams.get(userId);
+        if (stream == null) {
+            return;
+        }
+
+        List<Connection> targets;
+        stream.lock.lock();
+        try {
+            Envelope envelope = new Envelope(++stream.sequence, delta);
+            stream.buffer.addLast(envelope);
+            if (stream.buffer.size() > replayBufferSize) {
+                stream.buffer.removeFirst();
+            }
+            stream.lastActivity = System.currentTimeMillis();
+            targets = List.copyOf(stream.connections);
+            for (Connection connection : targets) {
+                offer(connection, toEvent(envelope));
+            }
+        } finally {
+            stream.lock.unlock();
+        }
+        targets.forEach(this::schedule);
+    }
+
+    // Comment lines keep proxies and load balancers from closing idle connections and surface
+    // dead clients, whose emitters are then dropped. Streams idle without listeners are forgotten.
+    // Heartbeats are queued like updates, so a client stuck on a full socket is closed here too.
+    @Scheduled(fixedDelayString = "${stream.updates.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        streams.forEach((userId, stream) -> {
+            for (Connection connection : stream.connections) {
+                offer(connection, SseEmitter.event().comment("heartbeat"));
+                schedule(connection);
+            }
+            stream.lock.lock();
+            try {
+                if (stream.connections.isEmpty() && now - stream.lastActivity > idleRetentionMillis) {
+                    stream.retired = true;
+                    streams.remove(userId, stream);
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        });
+    }
+
+    int connectionCount() {
+        return streams.values().stream().mapToInt(stream -> stream.connections.size()).sum();
+    }
+
+    private void offer(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+        if (connection.queued.incrementAndGet() > sendQueueSize) {
+            connection.queued.decrementAndGet();
+            // Completing here could wait on the emitter's write lock held by a stuck send; the drain
+            // thread completes it instead.
+            connection.close();
+            return;
+        }
+        connection.queue.add(event);
+    }
+
+    private void schedule(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            drainExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    // At most one drain runs per connection, so its events are written in queue order.
+    private void drain(Connection connection) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!connection.closed && (event = connection.queue.poll()) != null) {
+                connection.queued.decrementAndGet();
+                try {
+                    connection.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    connection.close();
+                    connection.complete(e);
+                }
+            }
+            if (connection.closed) {
+                connection.queue.clear();
+                connection.complete(null);
+            }
+            connection.draining.set(false);
+        } while (connection.hasWork() && connection.draining.compareAndSet(false, true));
+    }
+
+    private List<Envelope> missedSince(UserStream stream, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+
+        Long lastSequence = parseSequence(lastEventId);
+        Envelope oldest = stream.buffer.peekFirst();
+        long oldestAvailable = oldest != null ? oldest.sequence() : stream.sequence + 1;
+        if (lastSequence == null || lastSequence > stream.sequence || lastSequence + 1 < oldestAvailable) {
+            UpdateDeltaResponse resync = UpdateDeltaResponse.builder()
+                .scope(UpdateScope.RESYNC)
+                .refresh(true)
+                .build();
+            return List.of(new Envelope(stream.sequence, resync));
+        }
+        return stream.buffer.stream()
+            .filter(envelope -> envelope.sequence() > lastSequence)
+            .toList();
+    }
+
+    // Returns null for ids from another epoch or that do not parse, which forces a resync.
+    private Long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Envelope envelope) {
+        return SseEmitter.event()
+            .id(eventId(envelope.sequence()))
+            .name(EVENT_NAME)
+            .data(envelope.delta());
+    }
+
+    private String eventId(long sequence) {
+        return epoch + ":" + sequence;
+    }
+
+    private record Envelope(long sequence, UpdateDeltaResponse delta) {
+    }
+
+    // The lock only orders sequence numbers, the replay buffer and queuing; no socket write happens
+    // under it. It is a ReentrantLock so a waiting virtual thread does not pin its carrier.
+    private static final class UserStream {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Connection> connections = new CopyOnWriteArrayList<>();
+        private final ArrayDeque<Envelope> buffer = new ArrayDeque<>();
+        private long sequence;
+        private boolean retired;
+        private volatile long lastActivity = System.currentTimeMillis();
+    }
+
+    private static final class Connection {
+        private final UserStream stream;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(UserStream stream, SseEmitter emitter) {
+            this.stream = stream;
+            this.emitter = emitter;
+        }
+
+        private void close() {
+            closed = true;
+            stream.connections.remove(this);
+        }
+
+        // The emitter finished on its own (client gone, timeout); nothing left to complete.
+        private void finished() {
+            completed.set(true);
+            close();
+        }
+
+        private void complete(Throwable error) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (error != null) {
+                    emitter.completeWithError(error);
+                } else {
+                    emitter.complete();
+                }
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container.
+            }
+        }
+
+        private boolean hasWork() {
+            return closed ? !completed.get() : !queue.isEmpty();
+        }
+    }
+}
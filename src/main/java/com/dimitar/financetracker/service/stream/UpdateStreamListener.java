@@ -0,0 +1,109 @@
+package com.dimitar.financetracker.service.stream;
+
+import com.dimitar.financetracker.dto.response.stream.CategoryAmountDeltaResponse;
+import com.dimitar.financetracker.dto.response.stream.UpdateDeltaResponse;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.model.UpdateScope;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Turns committed write events into the small deltas pushed on /api/stream/updates, so the dashboard
+// can patch statistics and budget usage in place instead of re-polling them.
+// Single-transaction writes in the user's base currency become exact deltas; bulk writes, writes in
+// another currency and budget/category changes ask for a refetch.
+@Component
+@RequiredArgsConstructor
+public class UpdateStreamListener {
+    private final UpdateStreamBroker updateStreamBroker;
+    private final ExchangeRateService exchangeRateService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        updateStreamBroker.publish(event.userId(),
+            toDelta(event, event.isBulk() ? null : exchangeRateService.baseCurrencyOf(event.userId())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBudgetsChanged(BudgetsChangedEvent event) {
+        updateStreamBroker.publish(event.userId(), refresh(UpdateScope.BUDGETS));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        updateStreamBroker.publish(event.userId(), refresh(UpdateScope.CATEGORIES));
+    }
+
+    static UpdateDeltaResponse toDelta(TransactionsChangedEvent event, String baseCurrency) {
+        if (event.isBulk()) {
+            return refresh(UpdateScope.TRANSACTIONS);
+        }
+
+        TransactionSnapshot before = event.before();
+        TransactionSnapshot after = event.after();
+        // Dashboard totals are in the base currency; a converted delta could drift from them by rounding.
+        if (!inCurrency(before, baseCurrency) || !inCurrency(after, baseCurrency)) {
+            return refresh(UpdateScope.TRANSACTIONS);
+        }
+        long incomeCents = signedCents(after, CategoryType.INCOME) - signedCents(before, CategoryType.INCOME);
+        long expenseCents = signedCents(after, CategoryType.EXPENSE) - signedCents(before, CategoryType.EXPENSE);
+
+        List<CategoryAmountDeltaResponse> categoryDeltas = new ArrayList<>(2);
+        addCategoryDelta(categoryDeltas, before, -1);
+        addCategoryDelta(categoryDeltas, after, 1);
+
+        return UpdateDeltaResponse.builder()
+            .scope(UpdateScope.TRANSACTIONS)
+            .refresh(false)
+            .transactionId(after != null ? after.id() : before.id())
+            .transactionCountDelta((after != null ? 1 : 0) - (before != null ? 1 : 0))
+            .incomeDelta(Money.toBigDecimal(incomeCents))
+            .expenseDelta(Money.toBigDecimal(expenseCents))
+            .balanceDelta(Money.toBigDecimal(incomeCents - expenseCents))
+            .categoryDeltas(categoryDeltas)
+            .build();
+    }
+
+    private static UpdateDeltaResponse refresh(UpdateScope scope) {
+        return UpdateDeltaResponse.builder()
+            .scope(scope)
+            .refresh(true)
+            .build();
+    }
+
+    private static boolean inCurrency(TransactionSnapshot snapshot, String currency) {
+        return snapshot == null || snapshot.currency() == null || snapshot.currency().equals(currency);
+    }
+
+    private static long signedCents(TransactionSnapshot snapshot, CategoryType type) {
+        if (snapshot == null || snapshot.type() != type) {
+            return 0L;
+        }
+        return Money.ofNullable(snapshot.amount()).cents();
+    }
+
+    private static void addCategoryDelta(List<CategoryAmountDeltaResponse> deltas, TransactionSnapshot snapshot, int sign) {
+        if (snapshot == null || snapshot.categoryId() == null) {
+            return;
+        }
+        long cents = Money.ofNullable(snapshot.amount()).cents();
+        deltas.add(CategoryAmountDeltaResponse.builder()
+            .categoryId(snapshot.categoryId())
+            .type(snapshot.type())
+            .transactionDate(snapshot.transactionDate())
+            .amountDelta(Money.toBigDecimal(sign * cents))
+            .build());
+    }
+}
@@ -0,0 +1,196 @@
+package com.dimitar.financetracker.service.warmup;
+
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.PageRequest;
+import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
+import com.dimitar.financetracker.dto.request.category.CreateCategoryRequest;
+import com.dimitar.financetracker.dto.request.transaction.CreateTransactionRequest;
+import com.dimitar.financetracker.dto.response.category.CategoryResponse;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.UserRepository;
+import com.dimitar.financetracker.service.BudgetService;
+import com.dimitar.financetracker.service.CategoryService;
+import com.dimitar.financetracker.service.TransactionService;
+import com.dimitar.financetracker.service.UserService;
+import com.dimitar.financetracker.util.JwtUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Right after a deploy, Hibernate, Jackson and the JWT code are still interpreted and the first
+// minutes of traffic see several times the steady-state p99. When enabled, this drives the hot
+// command and query paths until warmup.iterations or warmup.duration is reached, whichever comes
+// first. Each iteration registers a synthetic user, authenticates it with a freshly minted JWT,
+// writes categories, transactions and a budget, reads them back through the list, search, usage
+// and statistics queries and serializes every result, all in one transaction that is rolled back.
+// Application runners complete before Boot reports ReadinessState.ACCEPTING_TRAFFIC, so
+// /actuator/health/readiness stays down until the warm-up is over.
+@Component
+public class WarmupRunner implements ApplicationRunner {
+    private static final Log log = LogFactory.getLog(WarmupRunner.class);
+    static final String USERNAME_PREFIX = "warmup-";
+    private static final int TRANSACTIONS_PER_ITERATION = 20;
+    private static final List<String> DESCRIPTIONS = List.of(
+        "Coffee at the corner shop", "Weekly groceries", "Train ticket", "Lunch with team", "Cinema");
+
+    private final UserRepository userRepository;
+    private final UserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final CategoryService categoryService;
+    private final TransactionService transactionService;
+    private final BudgetService budgetService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration duration;
+
+    public WarmupRunner(UserRepository userRepository,
+                        UserDetailsService userDetailsService,
+                        PasswordEncoder passwordEncoder,
+                        JwtUtil jwtUtil,
+                        CategoryService categoryService,
+                        TransactionService transactionService,
+                        BudgetService budgetService,
+                        UserService userService,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${warmup.enabled:false}") boolean enabled,
+                        @Value("${warmup.iterations:300}") int iterations,
+                        @Value("${warmup.duration:PT30S}") Duration duration) {
+        this.userRepository = userRepository;
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.categoryService = categoryService;
+        this.transactionService = transactionService;
+        this.budgetService = budgetService;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.duration = duration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp(iterations, duration);
+        }
+    }
+
+    // Returns the number of completed iterations. A failing iteration ends the warm-up but never the
+    // start: a cold JVM is slower, not broken. A non-positive maxIterations means "until maxDuration".
+    public int warmUp(int maxIterations, Duration maxDuration) {
+        long started = System.nanoTime();
+        long deadline = started + maxDuration.toNanos();
+        // One bcrypt hash for every synthetic user; the login path is not what needs compiling
+        String passwordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        int completed = 0;
+        try {
+            while ((maxIterations <= 0 || completed < maxIterations) && System.nanoTime() < deadline) {
+                int iteration = completed;
+                transactionTemplate.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    try {
+                        exercise(iteration, passwordHash);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                });
+                completed++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("JIT warm-up stopped after " + completed + " iterations", e);
+        }
+        log.info("JIT warm-up ran " + completed + " iterations in "
+            + Duration.ofNanos(System.nanoTime() - started).toMillis() + " ms");
+        return completed;
+    }
+
+    private void exercise(int iteration, String passwordHash) {
+        String username = USERNAME_PREFIX + UUID.randomUUID().toString().substring(0, 18);
+        userRepository.save(User.builder()
+            .username(username)
+            .email(username + "@warmup.invalid")
+            .password(passwordHash)
+            .build());
+        authenticate(username);
+
+        LocalDate today = LocalDate.now();
+        CategoryResponse expenses = categoryService.createCategory(
+            new CreateCategoryRequest("Warm-up expenses", CategoryType.EXPENSE, "#607D8B"));
+        CategoryResponse income = categoryService.createCategory(
+            new CreateCategoryRequest("Warm-up income", CategoryType.INCOME, "#4CAF50"));
+        for (int i = 0; i < TRANSACTIONS_PER_ITERATION; i++) {
+            CategoryResponse category = i % 5 == 0 ? income : expenses;
+            serialize(transactionService.createTransaction(new CreateTransactionRequest(
+                category.getId(),
+                BigDecimal.valueOf(100 + (iteration * 31L + i * 17L) % 9_900, 2),
+                null,
+                DESCRIPTIONS.get(i % DESCRIPTIONS.size()),
+                today.minusDays(i))));
+        }
+        serialize(budgetService.createBudget(CreateBudgetRequest.builder()
+            .categoryId(expenses.getId())
+            .amount(new BigDecimal("500.00"))
+            .period(BudgetPeriod.MONTHLY)
+            .startDate(today.withDayOfMonth(1))
+            .build()));
+
+        serialize(transactionService.getAllTransactions(
+            PageRequest.builder().sortBy("transactionDate").sortDirection("DESC").build()));
+        serialize(transactionService.getRecentTransactions(20));
+        CursorPageRequest firstPage = CursorPageRequest.builder().build();
+        serialize(transactionService.searchTransactionsByDescription("coffee", firstPage));
+        serialize(transactionService.getTransactionsInDateRange(today.minusDays(30), today, firstPage));
+        serialize(transactionService.getTransactionsByCategory(expenses.getId(), firstPage));
+        serialize(transactionService.getAllTransactionFields("transactionDate,amount"));
+        serialize(budgetService.getAllBudgetsUsage());
+        serialize(categoryService.getAllCategories());
+        serialize(userService.getStatistics());
+    }
+
+    // The same calls JwtAuthenticationFilter makes for every API request
+    private void authenticate(String username) {
+        String token = jwtUtil.generateToken(Map.of(), username);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(jwtUtil.extractUsername(token));
+        if (!jwtUtil.validateToken(token, userDetails)) {
+            throw new IllegalStateException("Warm-up token did not validate");
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Warm-up response did not serialize", e);
+        }
+    }
+}
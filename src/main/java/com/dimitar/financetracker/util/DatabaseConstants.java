@@ -12,9 +12,20 @@ public final class DatabaseConstants {
     public static final int AMOUNT_PRECISION = 10;
     public static final int AMOUNT_SCALE = 2;
 
+    public static final int CURRENCY_LENGTH = 3;
+    public static final String DEFAULT_CURRENCY = "EUR";
+    public static final int EXCHANGE_RATE_PRECISION = 19;
+    public static final int EXCHANGE_RATE_SCALE = 10;
+
+    public static final int TAG_NAME_MAX_LENGTH = 50;
+    public static final int MAX_TAGS_PER_TRANSACTION = 20;
+
     public static final int BUDGET_PERIOD_MAX_LENGTH = 20;
     public static final int QUARTERLY_MONTHS = 3;
 
+    public static final int RECURRENCE_FREQUENCY_MAX_LENGTH = 20;
+    public static final int CRON_EXPRESSION_MAX_LENGTH = 100;
+
     private DatabaseConstants() {
         throw new AssertionError("Cannot instantiate utility class!");
     }
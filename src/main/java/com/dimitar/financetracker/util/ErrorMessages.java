@@ -21,6 +21,13 @@ public final class ErrorMessages {
     public static final String TRANSACTION_DATE_REQUIRED = "Transaction date is required";
     public static final String DESCRIPTION_TOO_LONG = "Description must be less than 255 characters";
     public static final String CATEGORY_REQUIRED = "Category is required";
+    public static final String CURRENCY_INVALID = "Currency must be a three-letter ISO 4217 code";
+
+    public static final String TAGS_REQUIRED = "Tags are required";
+    public static final String TAGS_TOO_MANY = "A transaction can have at most 20 tags";
+    public static final String TAG_NAME_REQUIRED = "Tag name is required";
+    public static final String TAG_NAME_TOO_LONG = "Tag name must be less than 50 characters";
+    public static final String TAG_NAME_INVALID = "Tag name may only contain letters, digits, spaces, '.', '_' and '-'";
 
     public static final String BUDGET_AMOUNT_REQUIRED = "Budget amount is required";
     public static final String BUDGET_AMOUNT_MIN = "Budget amount must be at least 0.01";
@@ -29,6 +36,9 @@ public final class ErrorMessages {
     public static final String BUDGET_PERIOD_REQUIRED = "Budget period is required";
     public static final String BUDGET_NOT_FOUND = "Budget not found with id: %s";
 
+    public static final String RECURRENCE_FREQUENCY_REQUIRED = "Recurrence frequency is required";
+    public static final String NEXT_RUN_DATE_REQUIRED = "Next run date is required";
+
     public static final String USERNAME_OR_EMAIL_REQUIRED = "Username or email required";
     public static final String CURRENT_PASSWORD_REQUIRED = "Current password required";
 
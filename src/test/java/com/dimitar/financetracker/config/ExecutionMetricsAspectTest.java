@@ -0,0 +1,106 @@
+package com.dimitar.financetracker.config;
+
+import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.query.Query;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutionMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutionMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new ExecutionMetricsAspect(registry);
+    }
+
+    static class EchoQuery implements Query<String, String> {
+        @Override
+        public String execute(String input) {
+            return input;
+        }
+    }
+
+    static class FailingCommand implements Command<String, Void> {
+        @Override
+        public Void execute(String input) {
+            throw new IllegalStateException(input);
+        }
+    }
+
+    static class TwoStatementQuery implements Query<DataSource, Void> {
+        @Override
+        public Void execute(DataSource dataSource) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement first = connection.createStatement();
+                 Statement second = connection.prepareStatement("SELECT 1")) {
+                first.execute("SELECT 1");
+                return null;
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    @Test
+    void recordsOneTimedInvocationPerQueryExecution() {
+        Query<String, String> query = proxy(new EchoQuery());
+
+        assertThat(query.execute("a")).isEqualTo("a");
+        query.execute("b");
+
+        assertThat(registry.get(ExecutionMetricsAspect.EXECUTION_METRIC)
+            .tags("type", "query", "name", "EchoQuery").timer().count()).isEqualTo(2);
+        assertThat(registry.find(ExecutionMetricsAspect.ERROR_METRIC).counter()).isNull();
+    }
+
+    @Test
+    void countsFailuresByExceptionAndStillTimesThem() {
+        Command<String, Void> command = proxy(new FailingCommand());
+
+        assertThatThrownBy(() -> command.execute("boom")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(ExecutionMetricsAspect.ERROR_METRIC)
+            .tags("type", "command", "name", "FailingCommand", "exception", "IllegalStateException")
+            .counter().count()).isEqualTo(1);
+        assertThat(registry.get(ExecutionMetricsAspect.EXECUTION_METRIC)
+            .tags("name", "FailingCommand").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsJdbcStatementsCreatedDuringTheExecution() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:metrics-aspect");
+        DataSource dataSource = new StatementCountingDataSource(h2);
+        Query<DataSource, Void> query = proxy(new TwoStatementQuery());
+        Query<String, String> echo = proxy(new EchoQuery());
+
+        query.execute(dataSource);
+        echo.execute("no statements");
+
+        assertThat(registry.get(ExecutionMetricsAspect.STATEMENT_METRIC)
+            .tags("name", "TwoStatementQuery").summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get(ExecutionMetricsAspect.STATEMENT_METRIC)
+            .tags("name", "EchoQuery").summary().totalAmount()).isZero();
+    }
+}
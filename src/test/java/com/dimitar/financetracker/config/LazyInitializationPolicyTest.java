@@ -0,0 +1,66 @@
+package com.dimitar.financetracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyInitializationPolicyTest {
+
+    @Configuration
+    static class DeclaringConfiguration {
+        @Bean
+        StringBuilder declaredBuilder() {
+            return new StringBuilder();
+        }
+    }
+
+    @Test
+    void marksBeansWhoseClassIsInAConfiguredPackageLazy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("list", new RootBeanDefinition(java.util.ArrayList.class));
+        beanFactory.registerBeanDefinition("policy", new RootBeanDefinition(LazyInitializationPolicyTest.class));
+        RootBeanDefinition eager = new RootBeanDefinition(java.util.HashMap.class);
+        eager.setLazyInit(false);
+        beanFactory.registerBeanDefinition("eagerMap", eager);
+
+        LazyInitializationPolicy policy = new LazyInitializationPolicy(List.of(" java.util ", ""));
+        policy.postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isTrue();
+        // An explicit @Lazy(false) from the library does not keep a configured package eager
+        assertThat(beanFactory.getBeanDefinition("eagerMap").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("policy").isLazyInit()).isFalse();
+        assertThat(policy.getDeferredBeanNames()).containsExactlyInAnyOrder("list", "eagerMap");
+    }
+
+    @Test
+    void packagePrefixesMatchWholeSegments() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("list", new RootBeanDefinition(java.util.ArrayList.class));
+
+        new LazyInitializationPolicy(List.of("java.ut")).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void defersBeanMethodsByTheirDeclaringConfiguration() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            LazyInitializationPolicy policy = new LazyInitializationPolicy(List.of("com.dimitar.financetracker.config"));
+            context.addBeanFactoryPostProcessor(policy);
+            context.register(DeclaringConfiguration.class);
+            context.refresh();
+
+            assertThat(policy.getDeferredBeanNames()).contains("declaredBuilder");
+            assertThat(context.getBeanFactory().containsSingleton("declaredBuilder")).isFalse();
+            assertThat(context.getBean("declaredBuilder")).isInstanceOf(StringBuilder.class);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dimitar.financetracker.config;
+
+import com.dimitar.financetracker.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoneyJsonComponentTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(Money.class, new MoneyJsonComponent.Serializer())
+            .addDeserializer(Money.class, new MoneyJsonComponent.Deserializer()));
+
+    @Test
+    void serialize_writesPlainNumberWithTwoDecimals() throws Exception {
+        assertEquals("12.50", objectMapper.writeValueAsString(Money.ofCents(1250L)));
+        assertEquals("-0.05", objectMapper.writeValueAsString(Money.ofCents(-5L)));
+    }
+
+    @Test
+    void deserialize_acceptsNumbersAndStrings() throws Exception {
+        assertEquals(Money.ofCents(1250L), objectMapper.readValue("12.5", Money.class));
+        assertEquals(Money.ofCents(1250L), objectMapper.readValue("\"12.50\"", Money.class));
+        assertEquals(Money.ofCents(700L), objectMapper.readValue("7", Money.class));
+    }
+}
@@ -0,0 +1,63 @@
+package com.dimitar.financetracker.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountingDataSourceTest {
+
+    private final StatementCountingDataSource dataSource = new StatementCountingDataSource(h2());
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement-counting");
+        return h2;
+    }
+
+    @Test
+    void countsEveryStatementCreatedOnTheCurrentThread() throws SQLException {
+        long before = StatementCountingDataSource.statementCount();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().close();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 42");
+                 ResultSet result = statement.executeQuery()) {
+                result.next();
+                assertThat(result.getInt(1)).isEqualTo(42);
+            }
+            connection.getAutoCommit();
+        }
+
+        assertThat(StatementCountingDataSource.statementCount() - before).isEqualTo(2);
+    }
+
+    @Test
+    void otherThreadsDoNotAffectTheCount() throws Exception {
+        long before = StatementCountingDataSource.statementCount();
+
+        Thread other = Thread.ofVirtual().start(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.createStatement().close();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.join();
+
+        assertThat(StatementCountingDataSource.statementCount()).isEqualTo(before);
+    }
+
+    @Test
+    void unwrapsToTheTargetDataSource() throws SQLException {
+        assertThat(dataSource.isWrapperFor(JdbcDataSource.class)).isTrue();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.dimitar.financetracker.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(10);
+    private final Object monitorLock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void recordsVirtualThreadBlockedInsideSynchronizedBlock() throws Exception {
+        monitor.start();
+
+        Thread pinned = Thread.ofVirtual().start(() -> {
+            synchronized (monitorLock) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        pinned.join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (monitor.pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(monitor.pinnedCount()).isPositive();
+    }
+}
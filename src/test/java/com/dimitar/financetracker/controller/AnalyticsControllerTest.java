@@ -0,0 +1,111 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowBucketResponse;
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.exception.GlobalExceptionHandler;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.service.AnalyticsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new AnalyticsController(analyticsService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/cashflow parses lowercase granularity and groupBy")
+    void getCashFlow_success() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        CashFlowResponse response = CashFlowResponse.builder()
+                .from(from)
+                .to(to)
+                .granularity(CashFlowGranularity.WEEK)
+                .groupBy(CashFlowGrouping.CATEGORY)
+                .buckets(List.of(CashFlowBucketResponse.builder()
+                        .periodStart(LocalDate.of(2025, 1, 6))
+                        .periodEnd(LocalDate.of(2025, 1, 12))
+                        .income(new BigDecimal("100.00"))
+                        .expense(new BigDecimal("40.00"))
+                        .net(new BigDecimal("60.00"))
+                        .build()))
+                .build();
+        when(analyticsService.getCashFlow(from, to, CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/analytics/cashflow")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-03-31")
+                        .param("granularity", "week")
+                        .param("groupBy", "category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("WEEK"))
+                .andExpect(jsonPath("$.buckets[0].periodStart").value("2025-01-06"))
+                .andExpect(jsonPath("$.buckets[0].net").value(60.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/cashflow defaults to monthly buckets grouped by type")
+    void getCashFlow_defaults() throws Exception {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        when(analyticsService.getCashFlow(from, to, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE))
+                .thenReturn(CashFlowResponse.builder().buckets(List.of()).build());
+
+        mockMvc.perform(get("/api/analytics/cashflow")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/analytics/cashflow rejects unknown granularity with 400")
+    void getCashFlow_invalidGranularity() throws Exception {
+        mockMvc.perform(get("/api/analytics/cashflow")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-12-31")
+                        .param("granularity", "hour"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(analyticsService);
+    }
+}
@@ -1,12 +1,17 @@
 package com.dimitar.financetracker.controller;
 
+import com.dimitar.financetracker.config.MoneyJsonComponent;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
 import com.dimitar.financetracker.dto.request.budget.UpdateBudgetRequest;
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
 import com.dimitar.financetracker.exception.GlobalExceptionHandler;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.Money;
 import com.dimitar.financetracker.service.BudgetService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -52,6 +57,7 @@ class BudgetControllerTest {
         BudgetController controller = new BudgetController(budgetService);
         this.objectMapper = Jackson2ObjectMapperBuilder.json()
                 .modules(new JavaTimeModule())
+                .serializerByType(Money.class, new MoneyJsonComponent.Serializer())
                 .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
                 .build();
         MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
@@ -303,17 +309,31 @@ class BudgetControllerTest {
     @Nested
     class GetBudgets {
         @Test
-        @DisplayName("GET /api/budgets returns 200 with list")
+        @DisplayName("GET /api/budgets returns 200 with the first page")
         void getAll_success() throws Exception {
             BudgetResponse b1 = BudgetResponse.builder().id(1L).categoryId(10L).amount(new BigDecimal("100.00")).period(BudgetPeriod.MONTHLY).build();
             BudgetResponse b2 = BudgetResponse.builder().id(2L).categoryId(11L).amount(new BigDecimal("200.00")).period(BudgetPeriod.WEEKLY).build();
-            when(budgetService.getAllBudgets()).thenReturn(List.of(b1, b2));
+            when(budgetService.getAllBudgets(CursorPageRequest.builder().build()))
+                    .thenReturn(CursorPagedResponse.<BudgetResponse>builder().content(List.of(b1, b2)).limit(20).build());
 
             mockMvc.perform(get("/api/budgets"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(2)))
-                    .andExpect(jsonPath("$[0].id", is(1)))
-                    .andExpect(jsonPath("$[1].period", is("WEEKLY")));
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].id", is(1)))
+                    .andExpect(jsonPath("$.content[1].period", is("WEEKLY")))
+                    .andExpect(jsonPath("$.hasNext", is(false)));
+        }
+
+        @Test
+        @DisplayName("GET /api/budgets passes cursor and limit through")
+        void getAll_withCursor() throws Exception {
+            when(budgetService.getAllBudgets(CursorPageRequest.builder().cursor("abc").limit(5).build()))
+                    .thenReturn(CursorPagedResponse.<BudgetResponse>builder().content(List.of()).limit(5).build());
+
+            mockMvc.perform(get("/api/budgets").param("cursor", "abc").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.limit", is(5)))
+                    .andExpect(jsonPath("$.content", hasSize(0)));
         }
 
         @Test
@@ -372,9 +392,9 @@ class BudgetControllerTest {
             BudgetUsageResponse u = BudgetUsageResponse.builder()
                     .id(1L)
                     .categoryId(10L)
-                    .amount(new BigDecimal("200.00"))
-                    .spent(new BigDecimal("50.00"))
-                    .remaining(new BigDecimal("150.00"))
+                    .amount(Money.of(new BigDecimal("200.00")))
+                    .spent(Money.of(new BigDecimal("50.00")))
+                    .remaining(Money.of(new BigDecimal("150.00")))
                     .percentUsed(new BigDecimal("25.00"))
                     .period(BudgetPeriod.MONTHLY)
                     .build();
@@ -384,6 +404,7 @@ class BudgetControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id", is(1)))
                     .andExpect(jsonPath("$.spent", is(50.00)))
+                    .andExpect(jsonPath("$.remaining", is(150.00)))
                     .andExpect(jsonPath("$.percentUsed", is(25.00)));
         }
 
@@ -412,5 +433,20 @@ class BudgetControllerTest {
                     .andExpect(jsonPath("$", hasSize(1)))
                     .andExpect(jsonPath("$[0].percentUsed", is(50.00)));
         }
+
+        @Test
+        @DisplayName("GET /api/budgets/alerts returns 200 with list of BudgetAlertResponse")
+        void getAlerts_success() throws Exception {
+            BudgetAlertResponse a = BudgetAlertResponse.builder().id(5L).budgetId(1L).thresholdPercent(80)
+                    .spentAmount(Money.of(new BigDecimal("85.00"))).build();
+            when(budgetService.getBudgetAlerts()).thenReturn(List.of(a));
+
+            mockMvc.perform(get("/api/budgets/alerts"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].budgetId", is(1)))
+                    .andExpect(jsonPath("$[0].thresholdPercent", is(80)))
+                    .andExpect(jsonPath("$[0].spentAmount", is(85.00)));
+        }
     }
 }
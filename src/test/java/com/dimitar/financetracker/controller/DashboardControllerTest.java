@@ -0,0 +1,70 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.category.CategoryResponse;
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
+import com.dimitar.financetracker.exception.GlobalExceptionHandler;
+import com.dimitar.financetracker.model.DashboardSection;
+import com.dimitar.financetracker.service.DashboardService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new DashboardController(dashboardService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard returns the composite payload with unavailable sections listed")
+    void getDashboard_partialPayload() throws Exception {
+        DashboardResponse response = DashboardResponse.builder()
+                .statistics(UserStatisticsResponse.builder().totalTransactions(12L).build())
+                .categories(List.of(CategoryResponse.builder().id(3L).name("Food").build()))
+                .recentTransactions(List.of())
+                .unavailableSections(List.of(DashboardSection.BUDGET_USAGE))
+                .build();
+        when(dashboardService.getDashboard(5)).thenReturn(response);
+
+        mockMvc.perform(get("/api/dashboard").param("recentLimit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statistics.totalTransactions", is(12)))
+                .andExpect(jsonPath("$.categories[0].name", is("Food")))
+                .andExpect(jsonPath("$.budgetUsage", nullValue()))
+                .andExpect(jsonPath("$.unavailableSections[0]", is("BUDGET_USAGE")));
+    }
+}
@@ -0,0 +1,68 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.exception.GlobalExceptionHandler;
+import com.dimitar.financetracker.service.InsightsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class InsightsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    InsightsService insightsService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new InsightsController(insightsService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/insights/forecast returns one projection per active budget")
+    void getBudgetForecasts_success() throws Exception {
+        BudgetForecastResponse forecast = BudgetForecastResponse.builder()
+                .budgetId(3L)
+                .categoryName("Food")
+                .endDate(LocalDate.of(2025, 1, 31))
+                .projectedTotal(new BigDecimal("412.50"))
+                .projectedOverBudget(false)
+                .build();
+        when(insightsService.getBudgetForecasts()).thenReturn(List.of(forecast));
+
+        mockMvc.perform(get("/api/insights/forecast"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].budgetId").value(3))
+                .andExpect(jsonPath("$[0].endDate").value("2025-01-31"))
+                .andExpect(jsonPath("$[0].projectedTotal").value(412.50))
+                .andExpect(jsonPath("$[0].projectedOverBudget").value(false));
+    }
+}
@@ -0,0 +1,127 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.exception.GlobalExceptionHandler;
+import com.dimitar.financetracker.exception.recurring.RecurringTransactionDoesNotExistException;
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import com.dimitar.financetracker.service.RecurringTransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionControllerTest {
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @Mock
+    RecurringTransactionService recurringTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new RecurringTransactionController(recurringTransactionService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .setValidator(validator)
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/recurring-transactions returns 201 with the created rule")
+    void create_success() throws Exception {
+        CreateRecurringTransactionRequest request = CreateRecurringTransactionRequest.builder()
+                .categoryId(4L)
+                .amount(new BigDecimal("950.00"))
+                .description("Rent")
+                .frequency(RecurrenceFrequency.MONTHLY)
+                .startDate(LocalDate.of(2025, 11, 1))
+                .build();
+        RecurringTransactionResponse response = RecurringTransactionResponse.builder()
+                .id(12L)
+                .frequency(RecurrenceFrequency.MONTHLY)
+                .nextRunDate(LocalDate.of(2025, 11, 1))
+                .build();
+        when(recurringTransactionService.createRecurringTransaction(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/recurring-transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(12)))
+                .andExpect(jsonPath("$.frequency", is("MONTHLY")))
+                .andExpect(jsonPath("$.nextRunDate", is("2025-11-01")));
+    }
+
+    @Test
+    @DisplayName("POST /api/recurring-transactions returns 400 when required fields are missing")
+    void create_validationError() throws Exception {
+        mockMvc.perform(post("/api/recurring-transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 10}"))
+                .andExpect(status().isBadRequest());
+
+        verify(recurringTransactionService, never()).createRecurringTransaction(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/recurring-transactions returns 200 with the user's rules")
+    void list_success() throws Exception {
+        when(recurringTransactionService.getRecurringTransactions())
+                .thenReturn(List.of(RecurringTransactionResponse.builder().id(12L).build()));
+
+        mockMvc.perform(get("/api/recurring-transactions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(12)));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/recurring-transactions/{id} returns 204, or 404 when not found")
+    void delete_successAndNotFound() throws Exception {
+        mockMvc.perform(delete("/api/recurring-transactions/{id}", 12))
+                .andExpect(status().isNoContent());
+
+        doThrow(new RecurringTransactionDoesNotExistException("Recurring transaction not found or access denied!"))
+                .when(recurringTransactionService).deleteRecurringTransaction(99L);
+        mockMvc.perform(delete("/api/recurring-transactions/{id}", 99))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.service.StreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class StreamControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    StreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(streamService)).build();
+    }
+
+    @Test
+    @DisplayName("GET /api/stream/updates opens an event stream and passes Last-Event-ID through")
+    void streamUpdates_opensEventStream() throws Exception {
+        when(streamService.subscribeToUpdates("abc:4")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/stream/updates")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "abc:4"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(streamService).subscribeToUpdates("abc:4");
+    }
+}
@@ -0,0 +1,135 @@
+package com.dimitar.financetracker.controller;
+
+import com.dimitar.financetracker.dto.request.tag.SetTransactionTagsRequest;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.exception.GlobalExceptionHandler;
+import com.dimitar.financetracker.exception.tag.TagDoesNotExistException;
+import com.dimitar.financetracker.service.TagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    TagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        TagController controller = new TagController(tagService);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(jsonConverter)
+                .setValidator(validator)
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/tags returns tags with their transaction counts")
+    void getTags_success() throws Exception {
+        when(tagService.getTags()).thenReturn(List.of(
+                TagResponse.builder().id(1L).name("food").transactionCount(3L).build(),
+                TagResponse.builder().id(2L).name("trip").transactionCount(1L).build()));
+
+        mockMvc.perform(get("/api/tags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("food")))
+                .andExpect(jsonPath("$[0].transactionCount", is(3)));
+    }
+
+    @Test
+    @DisplayName("PUT /api/transactions/{id}/tags takes the transaction id from the path")
+    void setTransactionTags_success() throws Exception {
+        when(tagService.setTransactionTags(any(SetTransactionTagsRequest.class)))
+                .thenReturn(List.of(TagResponse.builder().id(1L).name("trip").build()));
+
+        mockMvc.perform(put("/api/transactions/5/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactionId\": 99, \"tags\": [\"Trip\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("trip")))
+                .andExpect(jsonPath("$[0].transactionCount").doesNotExist());
+
+        ArgumentCaptor<SetTransactionTagsRequest> captor = ArgumentCaptor.forClass(SetTransactionTagsRequest.class);
+        verify(tagService).setTransactionTags(captor.capture());
+        assertEquals(5L, captor.getValue().getTransactionId());
+        assertEquals(List.of("Trip"), captor.getValue().getTags());
+    }
+
+    @Test
+    @DisplayName("PUT /api/transactions/{id}/tags returns 400 for invalid names")
+    void setTransactionTags_validationErrors() throws Exception {
+        mockMvc.perform(put("/api/transactions/5/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\": [\"a/b\", \"\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+
+        verifyNoInteractions(tagService);
+    }
+
+    @Test
+    @DisplayName("GET /api/tags/transactions passes the all/any/none lists and paging through")
+    void getTaggedTransactions_passesFilter() throws Exception {
+        mockMvc.perform(get("/api/tags/transactions")
+                        .param("all", "trip,reimbursable")
+                        .param("none", "refunded")
+                        .param("page", "2")
+                        .param("size", "5"))
+                .andExpect(status().isOk());
+
+        verify(tagService).getTaggedTransactions(List.of("trip", "reimbursable"), null, List.of("refunded"), 2, 5);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/tags/{id} returns 204, or 404 for unknown tags")
+    void deleteTag() throws Exception {
+        mockMvc.perform(delete("/api/tags/1"))
+                .andExpect(status().isNoContent());
+
+        doThrow(new TagDoesNotExistException("Tag not found or access denied!")).when(tagService).deleteTag(2L);
+        mockMvc.perform(delete("/api/tags/2"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", containsString("Tag not found")));
+    }
+}
@@ -1,12 +1,16 @@
 package com.dimitar.financetracker.controller;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.PageRequest;
 import com.dimitar.financetracker.dto.request.transaction.CreateTransactionRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
 import com.dimitar.financetracker.dto.request.transaction.UpdateTransactionRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.PagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.exception.GlobalExceptionHandler;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -16,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -31,9 +36,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -69,6 +76,10 @@ class TransactionControllerTest {
                 .build();
     }
 
+    private static CursorPagedResponse<TransactionResponse> pageOf(TransactionResponse... items) {
+        return CursorPagedResponse.<TransactionResponse>builder().content(List.of(items)).limit(20).build();
+    }
+
     @Nested
     class CreateTransactionTests {
         @Test
@@ -332,58 +343,62 @@ class TransactionControllerTest {
         }
 
         @Test
-        @DisplayName("GET /api/transactions/date-range returns 200 with list")
+        @DisplayName("GET /api/transactions/date-range returns 200 with a page")
         void getByDateRange_success() throws Exception {
             TransactionResponse t = TransactionResponse.builder().id(1L).transactionDate(LocalDate.of(2025,1,1)).amount(new BigDecimal("5.00")).build();
-            when(transactionService.getTransactionsInDateRange(LocalDate.of(2025,1,1), LocalDate.of(2025,1,31)))
-                    .thenReturn(List.of(t));
+            when(transactionService.getTransactionsInDateRange(LocalDate.of(2025,1,1), LocalDate.of(2025,1,31),
+                    CursorPageRequest.builder().cursor("abc").limit(1).build()))
+                    .thenReturn(pageOf(t));
 
             mockMvc.perform(get("/api/transactions/date-range")
                             .param("startDate", "2025-01-01")
-                            .param("endDate", "2025-01-31"))
+                            .param("endDate", "2025-01-31")
+                            .param("cursor", "abc")
+                            .param("limit", "1"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)))
-                    .andExpect(jsonPath("$[0].id", is(1)));
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id", is(1)));
         }
 
         @Test
-        @DisplayName("GET /api/transactions/category/{categoryId} returns 200 with list")
+        @DisplayName("GET /api/transactions/category/{categoryId} returns 200 with a page")
         void getByCategory_success() throws Exception {
             TransactionResponse t = TransactionResponse.builder().id(1L).categoryId(10L).amount(new BigDecimal("20.00")).build();
-            when(transactionService.getTransactionsByCategory(10L)).thenReturn(List.of(t));
+            when(transactionService.getTransactionsByCategory(10L, CursorPageRequest.builder().build())).thenReturn(pageOf(t));
 
             mockMvc.perform(get("/api/transactions/category/{categoryId}", 10))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)))
-                    .andExpect(jsonPath("$[0].categoryId", is(10)));
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].categoryId", is(10)));
         }
 
         @Test
-        @DisplayName("GET /api/transactions/amount-range returns 200 with list")
+        @DisplayName("GET /api/transactions/amount-range returns 200 with a page")
         void getByAmountRange_success() throws Exception {
             TransactionResponse t = TransactionResponse.builder().id(1L).amount(new BigDecimal("50.00")).build();
-            when(transactionService.getTransactionsByAmountRange(new BigDecimal("10.00"), new BigDecimal("100.00")))
-                    .thenReturn(List.of(t));
+            when(transactionService.getTransactionsByAmountRange(new BigDecimal("10.00"), new BigDecimal("100.00"),
+                    CursorPageRequest.builder().build()))
+                    .thenReturn(pageOf(t));
 
             mockMvc.perform(get("/api/transactions/amount-range")
                             .param("minAmount", "10.00")
                             .param("maxAmount", "100.00"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)))
-                    .andExpect(jsonPath("$[0].amount", is(50.00)));
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].amount", is(50.00)));
         }
 
         @Test
-        @DisplayName("GET /api/transactions/search returns 200 with list")
+        @DisplayName("GET /api/transactions/search returns 200 with a page")
         void search_success() throws Exception {
             TransactionResponse t = TransactionResponse.builder().id(1L).description("Coffee").build();
-            when(transactionService.searchTransactionsByDescription("cof"))
-                    .thenReturn(List.of(t));
+            when(transactionService.searchTransactionsByDescription("cof", CursorPageRequest.builder().build()))
+                    .thenReturn(pageOf(t));
 
             mockMvc.perform(get("/api/transactions/search").param("q", "cof"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)))
-                    .andExpect(jsonPath("$[0].description", containsString("Coffee")));
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].description", containsString("Coffee")));
         }
 
         @Test
@@ -401,5 +416,53 @@ class TransactionControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(1)));
         }
+
+        @Test
+        @DisplayName("GET /api/transactions/query binds every filter and returns the cursor page")
+        void query_success() throws Exception {
+            TransactionResponse t = TransactionResponse.builder().id(1L).amount(new BigDecimal("12.00")).build();
+            when(transactionService.queryTransactions(any(TransactionQueryRequest.class)))
+                    .thenReturn(CursorPagedResponse.<TransactionResponse>builder()
+                            .content(List.of(t)).limit(1).nextCursor("abc").hasNext(true).build());
+
+            mockMvc.perform(get("/api/transactions/query")
+                            .param("startDate", "2025-01-01")
+                            .param("categoryIds", "10,12")
+                            .param("minAmount", "5.00")
+                            .param("type", "EXPENSE")
+                            .param("q", "coffee")
+                            .param("tags", "trip")
+                            .param("excludeTags", "refunded")
+                            .param("sortBy", "amount")
+                            .param("sortDirection", "ASC")
+                            .param("cursor", "xyz")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor", is("abc")))
+                    .andExpect(jsonPath("$.hasNext", is(true)));
+
+            ArgumentCaptor<TransactionQueryRequest> captor = ArgumentCaptor.forClass(TransactionQueryRequest.class);
+            verify(transactionService).queryTransactions(captor.capture());
+            TransactionQueryRequest request = captor.getValue();
+            assertEquals(LocalDate.of(2025, 1, 1), request.getStartDate());
+            assertEquals(List.of(10L, 12L), request.getCategoryIds());
+            assertEquals(CategoryType.EXPENSE, request.getType());
+            assertEquals(List.of("refunded"), request.getExcludeTags());
+            assertEquals("amount", request.getSortBy());
+            assertEquals("xyz", request.getCursor());
+            assertEquals(1, request.getLimit());
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions/query returns 400 for an invalid cursor")
+        void query_invalidCursor() throws Exception {
+            when(transactionService.queryTransactions(any(TransactionQueryRequest.class)))
+                    .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+            mockMvc.perform(get("/api/transactions/query").param("cursor", "garbage"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Invalid cursor")));
+        }
     }
 }
@@ -66,10 +66,33 @@ class BudgetMapperTest {
         assertThat(budget.getEndDate()).isEqualTo(LocalDate.of(2024, 1, 31));
         assertThat(budget.getId()).isNull(); // Not set during mapping
         assertThat(budget.getIsActive()).isTrue(); // Will be set by entity default
+        assertThat(budget.getIsRecurring()).isFalse();
         assertThat(budget.getCreatedAt()).isNull(); // Set by @PrePersist
         assertThat(budget.getUpdatedAt()).isNull(); // Set by @PrePersist
     }
 
+    @Test
+    @DisplayName("Should carry the recurring flag from request to entity and back")
+    void shouldMapRecurringFlag() {
+        // Given
+        CreateBudgetRequest request = CreateBudgetRequest.builder()
+                .categoryId(1L)
+                .amount(new BigDecimal("500.00"))
+                .period(BudgetPeriod.MONTHLY)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .isRecurring(true)
+                .build();
+
+        // When
+        Budget budget = budgetMapper.toEntity(request, testUser, testCategory);
+        BudgetResponse response = budgetMapper.toResponse(budget);
+        budgetMapper.updateEntity(budget, UpdateBudgetRequest.builder().isRecurring(false).build(), null);
+
+        // Then
+        assertThat(response.getIsRecurring()).isTrue();
+        assertThat(budget.getIsRecurring()).isFalse();
+    }
+
     @Test
     @DisplayName("Should map CreateBudgetRequest without endDate to Budget entity")
     void shouldMapCreateBudgetRequestWithoutEndDateToBudgetEntity() {
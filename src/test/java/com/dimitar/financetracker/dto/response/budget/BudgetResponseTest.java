@@ -110,10 +110,12 @@ class BudgetResponseTest {
                 15L,
                 "Transportation",
                 new BigDecimal("300.75"),
+                "EUR",
                 startDate,
                 endDate,
                 BudgetPeriod.QUARTERLY,
                 true,
+                false,
                 createdAt,
                 updatedAt
         );
@@ -124,6 +126,7 @@ class BudgetResponseTest {
         assertThat(response.getCategoryId()).isEqualTo(15L);
         assertThat(response.getCategoryName()).isEqualTo("Transportation");
         assertThat(response.getAmount()).isEqualTo(new BigDecimal("300.75"));
+        assertThat(response.getCurrency()).isEqualTo("EUR");
         assertThat(response.getStartDate()).isEqualTo(startDate);
         assertThat(response.getEndDate()).isEqualTo(endDate);
         assertThat(response.getPeriod()).isEqualTo(BudgetPeriod.QUARTERLY);
@@ -98,6 +98,7 @@ class BudgetSummaryResponseTest {
                 20L,
                 "Utilities",
                 new BigDecimal("450.50"),
+                "EUR",
                 startDate,
                 endDate,
                 BudgetPeriod.QUARTERLY,
@@ -110,6 +111,7 @@ class BudgetSummaryResponseTest {
         assertThat(response.getCategoryId()).isEqualTo(20L);
         assertThat(response.getCategoryName()).isEqualTo("Utilities");
         assertThat(response.getAmount()).isEqualTo(new BigDecimal("450.50"));
+        assertThat(response.getCurrency()).isEqualTo("EUR");
         assertThat(response.getStartDate()).isEqualTo(startDate);
         assertThat(response.getEndDate()).isEqualTo(endDate);
         assertThat(response.getPeriod()).isEqualTo(BudgetPeriod.QUARTERLY);
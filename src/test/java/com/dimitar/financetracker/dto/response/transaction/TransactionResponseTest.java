@@ -63,13 +63,14 @@ class TransactionResponseTest {
         BigDecimal amount = new BigDecimal("150.75");
 
         TransactionResponse response = new TransactionResponse(
-                1L, 100L, 5L, "Food", amount, "Lunch", transactionDate, createdAt, updatedAt);
+                1L, 100L, 5L, "Food", amount, "EUR", "Lunch", transactionDate, createdAt, updatedAt);
 
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getUserId()).isEqualTo(100L);
         assertThat(response.getCategoryId()).isEqualTo(5L);
         assertThat(response.getCategoryName()).isEqualTo("Food");
         assertThat(response.getAmount()).isEqualTo(amount);
+        assertThat(response.getCurrency()).isEqualTo("EUR");
         assertThat(response.getDescription()).isEqualTo("Lunch");
         assertThat(response.getTransactionDate()).isEqualTo(transactionDate);
         assertThat(response.getCreatedAt()).isEqualTo(createdAt);
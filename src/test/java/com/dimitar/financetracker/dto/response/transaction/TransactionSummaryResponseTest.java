@@ -52,13 +52,14 @@ class TransactionSummaryResponseTest {
         BigDecimal amount = new BigDecimal("150.75");
 
         TransactionSummaryResponse response = new TransactionSummaryResponse(
-                1L, 100L, 5L, "Food", amount, "Lunch", transactionDate);
+                1L, 100L, 5L, "Food", amount, "EUR", "Lunch", transactionDate);
 
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getUserId()).isEqualTo(100L);
         assertThat(response.getCategoryId()).isEqualTo(5L);
         assertThat(response.getCategoryName()).isEqualTo("Food");
         assertThat(response.getAmount()).isEqualTo(amount);
+        assertThat(response.getCurrency()).isEqualTo("EUR");
         assertThat(response.getDescription()).isEqualTo("Lunch");
         assertThat(response.getTransactionDate()).isEqualTo(transactionDate);
     }
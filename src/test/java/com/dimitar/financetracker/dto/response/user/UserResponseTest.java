@@ -49,6 +49,7 @@ class UserResponseTest {
                 2L,
                 "user2",
                 "user2@example.com",
+                "EUR",
                 createdAt,
                 updatedAt
         );
@@ -56,6 +57,7 @@ class UserResponseTest {
         assertThat(response.getId()).isEqualTo(2L);
         assertThat(response.getUsername()).isEqualTo("user2");
         assertThat(response.getEmail()).isEqualTo("user2@example.com");
+        assertThat(response.getBaseCurrency()).isEqualTo("EUR");
         assertThat(response.getCreatedAt()).isEqualTo(createdAt);
         assertThat(response.getUpdatedAt()).isEqualTo(updatedAt);
     }
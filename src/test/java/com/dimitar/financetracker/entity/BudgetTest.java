@@ -95,6 +95,17 @@ class BudgetTest {
         assertThat(budget.getUpdatedAt()).isEqualTo(now);
     }
 
+    @Test
+    void builder_shouldDefaultToNonRecurring() {
+        Budget budget = Budget.builder()
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal("100.00"))
+                .build();
+
+        assertThat(budget.getIsRecurring()).isFalse();
+    }
+
     @Test
     void nullUser_shouldFailValidation() {
         budget.setUser(null);
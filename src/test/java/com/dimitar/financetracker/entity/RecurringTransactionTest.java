@@ -0,0 +1,75 @@
+package com.dimitar.financetracker.entity;
+
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurringTransactionTest {
+
+    private RecurringTransaction rule(RecurrenceFrequency frequency, String cron, LocalDate start, LocalDate end) {
+        RecurringTransaction rule = RecurringTransaction.builder()
+                .amount(new BigDecimal("1200.00"))
+                .frequency(frequency)
+                .cronExpression(cron)
+                .startDate(start)
+                .endDate(end)
+                .isActive(true)
+                .build();
+        rule.onCreate();
+        return rule;
+    }
+
+    @Test
+    void onCreate_shouldStartAtStartDateForFixedFrequencies() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.MONTHLY, null, LocalDate.of(2025, 1, 31), null);
+
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(rule.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void advance_shouldKeepMonthlyRulesAnchoredToStartDay() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.MONTHLY, null, LocalDate.of(2025, 1, 31), null);
+
+        rule.advance();
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+        rule.advance();
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 3, 31));
+        assertThat(rule.getOccurrenceCount()).isEqualTo(2);
+    }
+
+    @Test
+    void advance_shouldDeactivateAfterEndDate() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.WEEKLY, null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10));
+
+        rule.advance();
+        assertThat(rule.getIsActive()).isTrue();
+        rule.advance();
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 1, 15));
+        assertThat(rule.getIsActive()).isFalse();
+    }
+
+    @Test
+    void cronRules_shouldFollowTheExpression() {
+        RecurringTransaction rule = rule(RecurrenceFrequency.CRON, "0 0 0 1,15 * *", LocalDate.of(2025, 1, 2), null);
+
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 1, 15));
+        rule.advance();
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 2, 1));
+    }
+
+    @Test
+    void builder_shouldDefaultToActive() {
+        RecurringTransaction rule = RecurringTransaction.builder()
+                .amount(new BigDecimal("1200.00"))
+                .frequency(RecurrenceFrequency.MONTHLY)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .build();
+
+        assertThat(rule.getIsActive()).isTrue();
+    }
+}
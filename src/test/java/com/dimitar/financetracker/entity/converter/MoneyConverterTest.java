@@ -0,0 +1,26 @@
+package com.dimitar.financetracker.entity.converter;
+
+import com.dimitar.financetracker.model.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MoneyConverterTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void convertToDatabaseColumn_writesTwoDecimalNumeric() {
+        assertEquals(new BigDecimal("12.30"), converter.convertToDatabaseColumn(Money.ofCents(1230L)));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void convertToEntityAttribute_readsNumeric() {
+        assertEquals(Money.ofCents(1230L), converter.convertToEntityAttribute(new BigDecimal("12.30")));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
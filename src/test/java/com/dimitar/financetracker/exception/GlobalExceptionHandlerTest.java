@@ -5,6 +5,7 @@ import com.dimitar.financetracker.dto.response.error.ValidationErrorResponse;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
 import com.dimitar.financetracker.exception.budget.OverlappingBudgetException;
 import com.dimitar.financetracker.exception.user.IncorrectPasswordException;
+import com.dimitar.financetracker.exception.stream.TooManyStreamsException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,11 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -190,6 +193,23 @@ class GlobalExceptionHandlerTest {
         assertTrue(response.getBody().getMessage().contains("already exists"));
     }
 
+    @Test
+    void handleDatabaseUnavailable_returnsServiceUnavailableWithRetryAfter() {
+        ResponseEntity<ErrorResponse> fromTransaction = handler.handleDatabaseUnavailable(
+            new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"), request);
+        ResponseEntity<ErrorResponse> fromRepository = handler.handleDatabaseUnavailable(
+            new CannotGetJdbcConnectionException("Connection is not available, request timed out after 3000ms"), request);
+        ResponseEntity<ErrorResponse> fromStreams = handler.handleDatabaseUnavailable(
+            new TooManyStreamsException("Too many downloads in progress. Please retry shortly."), request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, fromTransaction.getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, fromRepository.getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, fromStreams.getStatusCode());
+        assertEquals("1", fromTransaction.getHeaders().getFirst("Retry-After"));
+        assertNotNull(fromTransaction.getBody());
+        assertEquals(503, fromTransaction.getBody().getStatus());
+    }
+
     @Test
     void handleNullPointer_returnsInternalServerError() {
         NullPointerException ex = new NullPointerException("Null pointer");
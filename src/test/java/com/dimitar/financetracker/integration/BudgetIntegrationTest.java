@@ -101,9 +101,11 @@ class BudgetIntegrationTest {
         CreateBudgetRequest budgetRequest = new CreateBudgetRequest(
                 categoryId,
                 BigDecimal.valueOf(500),
+                null,
                 BudgetPeriod.MONTHLY,
                 LocalDate.of(2025, 10, 1),
-                LocalDate.of(2025, 10, 31)
+                LocalDate.of(2025, 10, 31),
+                null
         );
 
         mockMvc.perform(post("/api/budgets")
@@ -124,9 +126,11 @@ class BudgetIntegrationTest {
         CreateBudgetRequest budgetRequest = new CreateBudgetRequest(
                 categoryId,
                 BigDecimal.valueOf(500),
+                null,
                 BudgetPeriod.MONTHLY,
                 LocalDate.of(2025, 10, 1),
-                LocalDate.of(2025, 10, 31)
+                LocalDate.of(2025, 10, 31),
+                null
         );
 
         MvcResult budgetResult = mockMvc.perform(post("/api/budgets")
@@ -157,9 +161,11 @@ class BudgetIntegrationTest {
         CreateBudgetRequest budgetRequest = new CreateBudgetRequest(
                 categoryId,
                 BigDecimal.valueOf(500),
+                null,
                 BudgetPeriod.MONTHLY,
                 LocalDate.of(2025, 10, 1),
-                LocalDate.of(2025, 10, 31)
+                LocalDate.of(2025, 10, 31),
+                null
         );
 
         MvcResult budgetResult = mockMvc.perform(post("/api/budgets")
@@ -195,6 +201,43 @@ class BudgetIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    @DisplayName("Should page through all budgets by following nextCursor")
+    void testGetAllBudgetsPaged() throws Exception {
+        createBudget(categoryId, BigDecimal.valueOf(500), LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31));
+        createBudget(categoryId, BigDecimal.valueOf(300), LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30));
+        createBudget(categoryId, BigDecimal.valueOf(400), LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/budgets")
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].categoryName").value("Entertainment"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/budgets")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].amount").value(400))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should reject a page size above the maximum")
+    void testGetAllBudgetsLimitTooLarge() throws Exception {
+        mockMvc.perform(get("/api/budgets")
+                        .param("limit", "101")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should deactivate a budget")
     void testDeactivateBudget() throws Exception {
@@ -268,6 +311,7 @@ class BudgetIntegrationTest {
         CreateTransactionRequest request = new CreateTransactionRequest(
                 categoryId,
                 amount,
+                null,
                 "Transaction on " + date,
                 date
         );
@@ -280,7 +324,7 @@ class BudgetIntegrationTest {
     }
 
     private MvcResult createBudget(Long categoryId, BigDecimal amount, LocalDate startDate, LocalDate endDate) throws Exception {
-        CreateBudgetRequest request = new CreateBudgetRequest(categoryId, amount, BudgetPeriod.MONTHLY, startDate, endDate);
+        CreateBudgetRequest request = new CreateBudgetRequest(categoryId, amount, null, BudgetPeriod.MONTHLY, startDate, endDate, null);
 
         return mockMvc.perform(post("/api/budgets")
                         .header("Authorization", "Bearer " + jwtToken)
@@ -0,0 +1,150 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: replacing rates commits and swaps the context-wide snapshot, so each test
+// deletes the rows that keep its currencies in use and restores the empty rate table afterwards.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CurrencyIntegrationTest {
+
+    private static final String RATES = "{\"rates\":[{\"currency\":\"USD\",\"date\":\"%s\",\"rate\":2}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExchangeRateService exchangeRateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id IN (SELECT id FROM users WHERE username LIKE 'fx!_%' ESCAPE '!')");
+        jdbcTemplate.update("DELETE FROM budgets WHERE user_id IN (SELECT id FROM users WHERE username LIKE 'fx!_%' ESCAPE '!')");
+        exchangeRateService.replaceRates(List.of());
+    }
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "RatesPass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private long create(String token, String path, String json) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+
+    @Test
+    @DisplayName("Should convert totals and budget usage with the loaded rates")
+    void foreignAmounts_areConvertedToBaseAndBudgetCurrency() throws Exception {
+        String admin = register("fx_admin");
+        String user = register("fx_user");
+        LocalDate today = LocalDate.now();
+
+        mockMvc.perform(put("/api/admin/exchange-rates")
+                        .header("Authorization", "Bearer " + admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES.formatted(today.minusDays(10))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currencies", contains("EUR", "USD")));
+
+        long categoryId = create(user, "/api/categories",
+                "{\"name\":\"Travel\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}");
+        create(user, "/api/budgets",
+                "{\"categoryId\":" + categoryId + ",\"amount\":100,\"currency\":\"USD\",\"period\":\"MONTHLY\"," +
+                "\"startDate\":\"" + today.withDayOfMonth(1) + "\"}");
+        create(user, "/api/transactions",
+                "{\"categoryId\":" + categoryId + ",\"amount\":50,\"currency\":\"USD\",\"transactionDate\":\"" + today + "\"}");
+        create(user, "/api/transactions",
+                "{\"categoryId\":" + categoryId + ",\"amount\":10,\"transactionDate\":\"" + today + "\"}");
+
+        mockMvc.perform(get("/api/users/me/statistics").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency").value("EUR"))
+                .andExpect(jsonPath("$.totalExpenses").value(35.00));
+
+        mockMvc.perform(get("/api/budgets/usage").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].currency").value("USD"))
+                .andExpect(jsonPath("$[0].spent").value(70.00));
+    }
+
+    @Test
+    @DisplayName("Should list supported currencies for any user but only let admins replace rates")
+    void replacingRates_requiresAdminRole() throws Exception {
+        String user = register("fx_reader");
+
+        mockMvc.perform(get("/api/exchange-rates").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.referenceCurrency").value("EUR"))
+                .andExpect(jsonPath("$.currencies", contains("EUR")));
+
+        mockMvc.perform(put("/api/admin/exchange-rates")
+                        .header("Authorization", "Bearer " + user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES.formatted(LocalDate.now())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should reject writes in a currency without rates")
+    void unsupportedCurrency_isRejected() throws Exception {
+        String user = register("fx_writer");
+        long categoryId = create(user, "/api/categories",
+                "{\"name\":\"Food\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}");
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + ",\"amount\":5,\"currency\":\"JPY\"," +
+                                "\"transactionDate\":\"" + LocalDate.now() + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,229 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.dimitar.financetracker.repository.IdempotencyRecordRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: keys are claimed and completed in their own transactions, as in production.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "IdemPass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private long createCategory(String token) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Food\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private String transactionJson(long categoryId, String description, String amount) {
+        return "{\"categoryId\":" + categoryId + ",\"amount\":" + amount
+                + ",\"description\":\"" + description + "\",\"transactionDate\":\"2025-10-01\"}";
+    }
+
+    private long transactionsWithDescription(String description) {
+        return transactionRepository.findAll().stream()
+                .filter(t -> description.equals(t.getDescription()))
+                .count();
+    }
+
+    @Test
+    @DisplayName("Should replay the first response to a retry without creating a second transaction")
+    void retryWithSameKey_replaysFirstResponse() throws Exception {
+        String token = register("idem_retry");
+        long categoryId = createCategory(token);
+        String body = transactionJson(categoryId, "Idempotent lunch", "12.50");
+
+        MvcResult first = mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+
+        MvcResult retry = mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(transactionsWithDescription("Idempotent lunch")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request body with 422")
+    void sameKeyDifferentBody_isRejected() throws Exception {
+        String token = register("idem_mismatch");
+        long categoryId = createCategory(token);
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "mismatch-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(categoryId, "Mismatch first", "10.00")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "mismatch-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(categoryId, "Mismatch second", "20.00")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422))
+                .andExpect(jsonPath("$.path").value("/api/transactions"));
+
+        assertThat(transactionsWithDescription("Mismatch second")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not store error responses so a corrected request can reuse the key")
+    void validationFailure_releasesKey() throws Exception {
+        String token = register("idem_invalid");
+        long categoryId = createCategory(token);
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "invalid-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(categoryId, "Invalid amount", "-5")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Idempotency-Key", "invalid-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(categoryId, "Corrected amount", "5.00")))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    @Test
+    @DisplayName("Should execute concurrent duplicates once and replay to the others")
+    void concurrentDuplicates_executeOnce() throws Exception {
+        String token = register("idem_concurrent");
+        long categoryId = createCategory(token);
+        String body = transactionJson(categoryId, "Concurrent coffee", "3.20");
+        int clients = 8;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Callable<MvcResult> call = () -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/transactions")
+                                    .header("Authorization", "Bearer " + token)
+                                    .header("Idempotency-Key", "concurrent-1")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn();
+                };
+                futures.add(executor.submit(call));
+            }
+            start.countDown();
+
+            List<String> bodies = new ArrayList<>();
+            for (Future<MvcResult> future : futures) {
+                MvcResult result = future.get();
+                assertThat(result.getResponse().getStatus()).isEqualTo(201);
+                bodies.add(result.getResponse().getContentAsString());
+            }
+            assertThat(bodies).containsOnly(bodies.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(transactionsWithDescription("Concurrent coffee")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat the same key from different users independently")
+    void sameKeyDifferentUsers_areIndependent() throws Exception {
+        String alice = register("idem_alice");
+        String bob = register("idem_bob");
+        long aliceCategory = createCategory(alice);
+        long bobCategory = createCategory(bob);
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + alice)
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(aliceCategory, "Shared key alice", "1.00")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + bob)
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(bobCategory, "Shared key bob", "2.00")))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        assertThat(idempotencyRecordRepository.findAll())
+                .filteredOn(r -> r.getIdempotencyKey().equals("shared-key"))
+                .hasSize(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "MetricsPass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private long executions(String name) {
+        var timer = meterRegistry.find("cqrs.execution").tag("name", name).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    @DisplayName("Should time each command and query once and count its JDBC statements")
+    void execution_isTimedOnceWithStatementCount() throws Exception {
+        String token = register("metrics_user");
+        long queriesBefore = executions("GetAllCategoriesQuery");
+        long commandsBefore = executions("CreateCategoryCommand");
+
+        mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Food\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThat(executions("GetAllCategoriesQuery")).isEqualTo(queriesBefore + 1);
+        assertThat(executions("CreateCategoryCommand")).isEqualTo(commandsBefore + 1);
+        assertThat(meterRegistry.get("cqrs.jdbc.statements").tags("name", "CreateCategoryCommand")
+                .summary().totalAmount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should expose the execution histogram on the Prometheus endpoint to admins only")
+    void prometheusEndpoint_exposesExecutionHistogram() throws Exception {
+        String token = register("metrics_scrape_user");
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + register("ops_admin")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "cqrs_execution_seconds_bucket{name=\"GetAllCategoriesQuery\",type=\"query\"")));
+    }
+}
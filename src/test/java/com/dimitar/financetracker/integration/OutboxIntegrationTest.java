@@ -0,0 +1,199 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.dimitar.financetracker.entity.OutboxEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.repository.OutboxEventRepository;
+import com.dimitar.financetracker.service.outbox.OutboxDispatcher;
+import com.dimitar.financetracker.service.outbox.OutboxMessage;
+import com.dimitar.financetracker.service.outbox.OutboxSubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: outbox rows only exist once the writing transaction commits.
+@SpringBootTest(properties = "outbox.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    @TestConfiguration
+    static class RecordingSubscriberConfig {
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    static class RecordingSubscriber implements OutboxSubscriber {
+        final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void onMessage(OutboxMessage message) {
+            if (failNext.compareAndSet(true, false)) {
+                throw new IllegalStateException("subscriber down");
+            }
+            messages.add(message);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @BeforeEach
+    void drain() {
+        outboxDispatcher.dispatchPending();
+        subscriber.messages.clear();
+    }
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "OutboxPass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private long createCategory(String token) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Food\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private void createTransaction(String token, long categoryId, String amount) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + ",\"amount\":" + amount
+                                + ",\"description\":\"Outbox\",\"transactionDate\":\"2025-10-01\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private List<OutboxEvent> pending() {
+        return outboxEventRepository.findAll().stream()
+                .filter(e -> e.getDispatchedAt() == null)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should write command events to the outbox and deliver them in order once")
+    void commandEvents_areDeliveredInOrder() throws Exception {
+        String token = register("outbox_order");
+        long categoryId = createCategory(token);
+        createTransaction(token, categoryId, "42.10");
+
+        assertThat(pending()).extracting(OutboxEvent::getEventType)
+                .containsExactly("CategoriesChanged", "TransactionsChanged");
+
+        outboxDispatcher.dispatchPending();
+        outboxDispatcher.dispatchPending();
+
+        assertThat(subscriber.messages).hasSize(2);
+        assertThat(subscriber.messages.get(0).event()).isInstanceOf(CategoriesChangedEvent.class);
+        TransactionsChangedEvent created = (TransactionsChangedEvent) subscriber.messages.get(1).event();
+        assertThat(created.after().categoryId()).isEqualTo(categoryId);
+        assertThat(created.after().amount()).isEqualByComparingTo(new BigDecimal("42.10"));
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not write events for a rejected command")
+    void rejectedCommand_writesNoEvent() throws Exception {
+        String token = register("outbox_rejected");
+        createCategory(token);
+        outboxDispatcher.dispatchPending();
+
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":999999,\"amount\":5,\"transactionDate\":\"2025-10-01\"}"))
+                .andExpect(status().isNotFound());
+
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should redeliver an event whose subscriber failed")
+    void failedDelivery_isRetried() throws Exception {
+        String token = register("outbox_retry");
+        createCategory(token);
+
+        subscriber.failNext.set(true);
+        outboxDispatcher.dispatchPending();
+        assertThat(subscriber.messages).isEmpty();
+        assertThat(pending()).hasSize(1);
+
+        outboxDispatcher.dispatchPending();
+        assertThat(subscriber.messages).hasSize(1);
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should claim at most the per-user cap of one user's events so other users are not stalled")
+    void claimPending_capsEventsPerUser() {
+        List<Long> busy = List.of(outboxEvent(910001L).getId(), outboxEvent(910001L).getId(), outboxEvent(910001L).getId());
+        long other = outboxEvent(910002L).getId();
+        try {
+            assertThat(outboxEventRepository.claimPending(10, 2))
+                    .extracting(OutboxEvent::getId)
+                    .containsExactly(busy.get(0), busy.get(1), other);
+        } finally {
+            outboxEventRepository.deleteAllById(List.of(busy.get(0), busy.get(1), busy.get(2), other));
+        }
+    }
+
+    private OutboxEvent outboxEvent(Long userId) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .userId(userId)
+                .eventType("BudgetsChanged")
+                .payload("{\"userId\":" + userId + "}")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
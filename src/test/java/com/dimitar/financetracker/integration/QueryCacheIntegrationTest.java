@@ -0,0 +1,107 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: the cache is bypassed inside a running transaction and only invalidated on commit.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "CachePass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private void createCategory(String token, String name) throws Exception {
+        mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private double requests(String result) {
+        Counter counter = meterRegistry.find("query.cache.requests")
+                .tags("name", "GetAllCategoriesQuery", "result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from cache and drop them when a category command commits")
+    void categoryList_isCachedUntilCategoryCommandCommits() throws Exception {
+        String token = register("cache_user");
+        createCategory(token, "Food");
+        double hitsBefore = requests("hit");
+        double missesBefore = requests("miss");
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        assertThat(requests("miss") - missesBefore).isEqualTo(1);
+        assertThat(requests("hit") - hitsBefore).isEqualTo(1);
+
+        createCategory(token, "Rent");
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+        assertThat(requests("miss") - missesBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep cached results per user")
+    void cachedResults_areNotSharedBetweenUsers() throws Exception {
+        String first = register("cache_first");
+        String second = register("cache_second");
+        createCategory(first, "Travel");
+
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + first))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/categories").header("Authorization", "Bearer " + second))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
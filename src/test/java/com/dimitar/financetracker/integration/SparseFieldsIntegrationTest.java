@@ -0,0 +1,226 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class SparseFieldsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                "sparse_user",
+                "sparse_user@example.com",
+                "SparsePass123!"
+        );
+        MvcResult registered = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = objectMapper.readValue(registered.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+
+        MvcResult category = mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Groceries\",\"type\":\"EXPENSE\",\"color\":\"#00AA00\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        categoryId = objectMapper.readTree(category.getResponse().getContentAsString()).get("id").asLong();
+
+        createTransaction("2025-10-01", "10.00", "Bread");
+        createTransaction("2025-10-03", "25.50", "Cheese");
+        createTransaction("2025-10-02", "7.25", "Milk");
+
+        mockMvc.perform(post("/api/budgets")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId
+                                + ",\"amount\":300.00,\"startDate\":\"2025-10-01\",\"period\":\"MONTHLY\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private void createTransaction(String date, String amount, String description) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + ",\"amount\":" + amount
+                                + ",\"description\":\"" + description + "\",\"transactionDate\":\"" + date + "\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private JsonNode read(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static List<String> keys(JsonNode node) {
+        List<String> keys = new ArrayList<>();
+        node.fieldNames().forEachRemaining(keys::add);
+        return keys;
+    }
+
+    @Test
+    @DisplayName("Should return only the selected transaction fields in the requested order")
+    void listTransactions_withFields_returnsOnlyThoseFields() throws Exception {
+        JsonNode body = read(get("/api/transactions")
+                .param("fields", "transactionDate,amount")
+                .header("Authorization", "Bearer " + token));
+
+        assertThat(body).hasSize(3);
+        for (JsonNode row : body) {
+            assertThat(keys(row)).containsExactly("transactionDate", "amount");
+        }
+        assertThat(body.get(0).get("transactionDate").asText()).isEqualTo("2025-10-03");
+        assertThat(body.get(0).get("amount").decimalValue()).isEqualByComparingTo("25.50");
+    }
+
+    @Test
+    @DisplayName("Should format selected values exactly like the full response")
+    void listTransactions_withFields_matchesFullResponseValues() throws Exception {
+        JsonNode full = read(get("/api/transactions").header("Authorization", "Bearer " + token));
+        JsonNode sparse = read(get("/api/transactions")
+                .param("fields", "id,categoryName,transactionDate")
+                .header("Authorization", "Bearer " + token));
+
+        for (int i = 0; i < full.size(); i++) {
+            assertThat(sparse.get(i).get("id")).isEqualTo(full.get(i).get("id"));
+            assertThat(sparse.get(i).get("categoryName")).isEqualTo(full.get(i).get("categoryName"));
+            assertThat(sparse.get(i).get("transactionDate")).isEqualTo(full.get(i).get("transactionDate"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field with 400")
+    void listTransactions_unknownField_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .param("fields", "amount,password")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("Unknown field 'password'")));
+    }
+
+    @Test
+    @DisplayName("Should page and sort selected fields like the paginated list")
+    void pagedTransactions_withFields_returnsPage() throws Exception {
+        JsonNode body = read(get("/api/transactions")
+                .param("page", "0")
+                .param("size", "2")
+                .param("sortBy", "amount")
+                .param("sortDirection", "ASC")
+                .param("fields", "amount")
+                .header("Authorization", "Bearer " + token));
+
+        assertThat(body.get("content")).hasSize(2);
+        assertThat(keys(body.get("content").get(0))).containsExactly("amount");
+        assertThat(body.get("content").get(0).get("amount").decimalValue()).isEqualByComparingTo("7.25");
+        assertThat(body.get("totalElements").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should apply the filter of filtered transaction lists")
+    void filteredTransactions_withFields_applyFilter() throws Exception {
+        JsonNode range = read(get("/api/transactions/date-range")
+                .param("startDate", "2025-10-02")
+                .param("endDate", "2025-10-03")
+                .param("fields", "description")
+                .header("Authorization", "Bearer " + token)).get("content");
+        assertThat(range).hasSize(2);
+        assertThat(keys(range.get(0))).containsExactly("description");
+
+        JsonNode search = read(get("/api/transactions/search")
+                .param("q", "chee")
+                .param("fields", "description")
+                .header("Authorization", "Bearer " + token)).get("content");
+        assertThat(search).hasSize(1);
+        assertThat(search.get(0).get("description").asText()).isEqualTo("Cheese");
+
+        JsonNode recent = read(get("/api/transactions/recent")
+                .param("limit", "1")
+                .param("fields", "transactionDate")
+                .header("Authorization", "Bearer " + token));
+        assertThat(recent).hasSize(1);
+        assertThat(recent.get(0).get("transactionDate").asText()).isEqualTo("2025-10-03");
+    }
+
+    @Test
+    @DisplayName("Should return selected budget and category fields")
+    void budgetsAndCategories_withFields_returnOnlyThoseFields() throws Exception {
+        JsonNode budgets = read(get("/api/budgets")
+                .param("fields", "categoryName,amount,isActive")
+                .header("Authorization", "Bearer " + token));
+        assertThat(budgets).hasSize(1);
+        assertThat(keys(budgets.get(0))).containsExactly("categoryName", "amount", "isActive");
+        assertThat(budgets.get(0).get("isActive").asBoolean()).isTrue();
+
+        JsonNode categories = read(get("/api/categories/type/EXPENSE")
+                .param("fields", "name")
+                .header("Authorization", "Bearer " + token));
+        assertThat(categories).isNotEmpty();
+        for (JsonNode row : categories) {
+            assertThat(keys(row)).containsExactly("name");
+        }
+    }
+
+    @Test
+    @DisplayName("Should match search terms literally with and without fields")
+    void search_withFields_matchesSameRowsAsWithout() throws Exception {
+        for (String name : new String[] {"Eating_Out", "EatingXOut"}) {
+            mockMvc.perform(post("/api/categories")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"" + name + "\",\"type\":\"EXPENSE\",\"color\":\"#00AA00\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        JsonNode full = read(get("/api/categories/search")
+                .param("q", "g_O")
+                .header("Authorization", "Bearer " + token));
+        JsonNode sparse = read(get("/api/categories/search")
+                .param("q", "g_O")
+                .param("fields", "name")
+                .header("Authorization", "Bearer " + token));
+        assertThat(full).hasSize(1);
+        assertThat(sparse).hasSize(1);
+        assertThat(sparse.get(0).get("name").asText()).isEqualTo("Eating_Out");
+        assertThat(full.get(0).get("name").asText()).isEqualTo("Eating_Out");
+    }
+}
@@ -0,0 +1,145 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.PersonalFinanceTrackerApplication;
+import com.dimitar.financetracker.config.LazyInitializationPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Starts the application the way main() does, with a recording ApplicationStartup, instead of
+// through the shared test context: the critical path is only meaningful for a cold start. Uses its
+// own in-memory database so the cached test contexts keep their schema.
+class StartupIntegrationTest {
+
+    // Generous for CI machines; a developer laptop refreshes the context in well under half of this
+    private static final Duration CRITICAL_PATH_BUDGET =
+        Duration.parse(System.getProperty("startup.critical-path.budget", "PT60S"));
+
+    private static final Set<String> DEFERRED_UNTIL_FIRST_USE = Set.of(
+        "openApiResource", "openAPIBuilder", "springDocCustomizers", "operationBuilder");
+
+    private static BufferingApplicationStartup startup;
+    private static ConfigurableApplicationContext context;
+    private static HttpClient http;
+
+    @BeforeAll
+    static void start() {
+        SpringApplication application = new SpringApplication(PersonalFinanceTrackerApplication.class);
+        startup = new BufferingApplicationStartup(8192);
+        application.setApplicationStartup(startup);
+        application.setAdditionalProfiles("test");
+        context = application.run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        http = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stop() {
+        context.close();
+    }
+
+    private static HttpResponse<String> get(String path) throws Exception {
+        return http.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder request(String path) {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+    }
+
+    // ops_admin is in security.admin-usernames of the test profile.
+    private static String adminToken() throws Exception {
+        HttpResponse<String> registered = http.send(request("/api/auth/register")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"username\":\"ops_admin\",\"email\":\"ops_admin@example.com\",\"password\":\"OpsAdmin123!\"}"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertThat(registered.statusCode()).isEqualTo(200);
+        return new ObjectMapper().readTree(registered.body()).get("token").asText();
+    }
+
+    private static List<StartupTimeline.TimelineEvent> steps(String name) {
+        return startup.getBufferedTimeline().getEvents().stream()
+            .filter(event -> event.getStartupStep().getName().equals(name))
+            .toList();
+    }
+
+    private static String tag(StartupTimeline.TimelineEvent event, String key) {
+        return StreamSupport.stream(event.getStartupStep().getTags().spliterator(), false)
+            .filter(tag -> tag.getKey().equals(key))
+            .map(StartupStep.Tag::getValue)
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Test
+    @DisplayName("Context refresh, the startup critical path, stays within the budget")
+    void criticalPathStaysWithinBudget() {
+        List<StartupTimeline.TimelineEvent> refresh = steps("spring.context.refresh");
+        assertThat(refresh).hasSize(1);
+
+        String slowest = steps("spring.beans.instantiate").stream()
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(5)
+            .map(event -> tag(event, "beanName") + "=" + event.getDuration().toMillis() + "ms")
+            .collect(Collectors.joining(", "));
+        assertThat(refresh.get(0).getDuration())
+            .as("context refresh; slowest beans: %s", slowest)
+            .isLessThan(CRITICAL_PATH_BUDGET);
+    }
+
+    @Test
+    @DisplayName("OpenAPI beans are not instantiated during startup but on the first API docs request")
+    void openApiIsCreatedOnFirstUse() throws Exception {
+        Set<String> instantiatedAtStartup = steps("spring.beans.instantiate").stream()
+            .map(event -> tag(event, "beanName"))
+            .collect(Collectors.toSet());
+        assertThat(context.getBean(LazyInitializationPolicy.class).getDeferredBeanNames())
+            .containsAll(DEFERRED_UNTIL_FIRST_USE);
+        assertThat(instantiatedAtStartup).doesNotContainAnyElementsOf(DEFERRED_UNTIL_FIRST_USE);
+
+        HttpResponse<String> apiDocs = get("/v3/api-docs");
+
+        assertThat(apiDocs.statusCode()).isEqualTo(200);
+        assertThat(apiDocs.body()).contains("Personal Finance Tracker");
+        assertThat(context.getBeanFactory().containsSingleton("openApiResource")).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/startup exposes the recorded startup steps to admins only")
+    void startupEndpointExposesTimeline() throws Exception {
+        assertThat(get("/actuator/startup").statusCode()).isEqualTo(403);
+        assertThat(get("/actuator/health").statusCode()).isEqualTo(200);
+
+        HttpResponse<String> response = http.send(request("/actuator/startup")
+                .header("Authorization", "Bearer " + adminToken())
+                .GET()
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"timeline\"").contains("spring.context.refresh");
+    }
+}
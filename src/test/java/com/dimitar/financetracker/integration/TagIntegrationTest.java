@@ -0,0 +1,211 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: TagBitmapIndex is patched by after-commit listeners, so writes must commit
+// for the filters to see them. Each test registers its own user and its rows are deleted afterwards.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        String users = "SELECT id FROM users WHERE username LIKE 'tag!_%' ESCAPE '!'";
+        jdbcTemplate.update("DELETE FROM transaction_tags WHERE tag_id IN (SELECT id FROM tags WHERE user_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM tags WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id IN (" + users + ")");
+    }
+
+    private String register(String username) throws Exception {
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "TagsPass123!"
+        );
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+    }
+
+    private long create(String token, String path, String json) throws Exception {
+        MvcResult result = mockMvc.perform(post(path)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+
+    private long transaction(String token, long categoryId, String amount) throws Exception {
+        return create(token, "/api/transactions",
+                "{\"categoryId\":" + categoryId + ",\"amount\":" + amount + ",\"transactionDate\":\"" + LocalDate.now() + "\"}");
+    }
+
+    private JsonNode tag(String token, long transactionId, String tags) throws Exception {
+        MvcResult result = mockMvc.perform(put("/api/transactions/" + transactionId + "/tags")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\":" + tags + "}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should filter and total transactions by all, any and none tags")
+    void taggedTransactions_areFilteredAndTotalled() throws Exception {
+        String user = register("tag_filter");
+        long travel = create(user, "/api/categories",
+                "{\"name\":\"Travel\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}");
+        long first = transaction(user, travel, "20");
+        long second = transaction(user, travel, "30");
+        long third = transaction(user, travel, "5");
+        transaction(user, travel, "100");
+
+        JsonNode firstTags = tag(user, first, "[\" Trip\", \"FOOD\"]");
+        tag(user, second, "[\"trip\"]");
+        tag(user, third, "[\"food\", \"refunded\"]");
+        assertEquals("food", firstTags.get(0).get("name").asText());
+
+        mockMvc.perform(get("/api/tags/transactions").param("all", "trip").param("none", "food")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[*].id", contains((int) second)));
+
+        mockMvc.perform(get("/api/tags/transactions").param("any", "trip,food")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains((int) third, (int) second, (int) first)));
+
+        mockMvc.perform(get("/api/tags/transactions").param("all", "trip", "unknown")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/tags/summary").param("any", "trip")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTransactions").value(2))
+                .andExpect(jsonPath("$.totalExpenses").value(50.00));
+
+        mockMvc.perform(get("/api/tags/summary").param("all", "food", "refunded")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.totalTransactions").value(1))
+                .andExpect(jsonPath("$.totalExpenses").value(5.00));
+
+        mockMvc.perform(get("/api/tags/summary").param("all", "trip").param("none", "food")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.totalTransactions").value(1))
+                .andExpect(jsonPath("$.totalExpenses").value(30.00));
+
+        mockMvc.perform(get("/api/tags/summary").header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.totalTransactions").value(4))
+                .andExpect(jsonPath("$.totalExpenses").value(155.00));
+
+        mockMvc.perform(get("/api/tags/summary").param("all", "unknown")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.totalTransactions").value(0));
+
+        mockMvc.perform(get("/api/tags").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("food", "refunded", "trip")))
+                .andExpect(jsonPath("$[*].transactionCount", contains(2, 1, 2)));
+
+        mockMvc.perform(delete("/api/transactions/" + second).header("Authorization", "Bearer " + user))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tags/transactions").param("all", "trip")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains((int) first)));
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted tag from its transactions but keep them")
+    void deletingTag_untagsTransactions() throws Exception {
+        String user = register("tag_delete");
+        long travel = create(user, "/api/categories",
+                "{\"name\":\"Travel\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}");
+        long transactionId = transaction(user, travel, "20");
+        JsonNode tags = tag(user, transactionId, "[\"food\", \"trip\"]");
+        long foodId = tags.get(0).get("id").asLong();
+
+        mockMvc.perform(get("/api/tags/transactions").param("all", "food")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        mockMvc.perform(delete("/api/tags/" + foodId).header("Authorization", "Bearer " + user))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/transactions/" + transactionId + "/tags").header("Authorization", "Bearer " + user))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("trip")));
+        mockMvc.perform(get("/api/tags/transactions").param("none", "food")
+                        .header("Authorization", "Bearer " + user))
+                .andExpect(jsonPath("$.content[*].id", contains((int) transactionId)));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid tag names and other users' transactions")
+    void invalidTagging_isRejected() throws Exception {
+        String owner = register("tag_owner");
+        String other = register("tag_other");
+        long travel = create(owner, "/api/categories",
+                "{\"name\":\"Travel\",\"type\":\"EXPENSE\",\"color\":\"#FF5733\"}");
+        long transactionId = transaction(owner, travel, "20");
+
+        mockMvc.perform(put("/api/transactions/" + transactionId + "/tags")
+                        .header("Authorization", "Bearer " + owner)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\":[\"bad/name\"]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/transactions/" + transactionId + "/tags")
+                        .header("Authorization", "Bearer " + other)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tags\":[\"trip\"]}"))
+                .andExpect(status().isNotFound());
+    }
+}
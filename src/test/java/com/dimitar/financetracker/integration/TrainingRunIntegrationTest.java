@@ -0,0 +1,46 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.PersonalFinanceTrackerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Repeats the AppCDS training step of the Dockerfile's optimized image: the context is refreshed
+// without a reachable database and the JVM exits right after refresh. Nothing that runs during
+// refresh may open a JDBC connection. spring.context.exit halts the JVM, so the run is a child
+// process on the test classpath.
+class TrainingRunIntegrationTest {
+
+    @Test
+    @DisplayName("Context refresh with spring.context.exit=onRefresh succeeds without a database")
+    void refreshWithoutDatabase_exitsCleanly() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(List.of(
+                java,
+                "-cp", System.getProperty("java.class.path"),
+                "-Dspring.context.exit=onRefresh",
+                // The packaged jar has no devtools; its restarter would report a failed run as exit 0
+                "-Dspring.devtools.restart.enabled=false",
+                "-Dspring.datasource.url=jdbc:postgresql://localhost:1/unreachable",
+                "-Dspring.jpa.hibernate.ddl-auto=none",
+                "-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+                "-Doutbox.dispatch.enabled=false",
+                "-Dserver.port=0",
+                PersonalFinanceTrackerApplication.class.getName()))
+            .redirectErrorStream(true)
+            .start();
+
+        byte[] output = process.getInputStream().readAllBytes();
+        assertThat(process.waitFor(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(process.exitValue())
+            .as(new String(output, StandardCharsets.UTF_8))
+            .isZero();
+    }
+}
@@ -94,6 +94,7 @@ class TransactionIntegrationTest {
         CreateTransactionRequest transactionRequest = new CreateTransactionRequest(
                 categoryId,
                 BigDecimal.valueOf(50.75),
+                null,
                 "Lunch at restaurant",
                 LocalDate.of(2025, 10, 15)
         );
@@ -139,8 +140,9 @@ class TransactionIntegrationTest {
                         .param("startDate", "2025-10-10")
                         .param("endDate", "2025-10-20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].amount").value(75));
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].amount").value(75))
+                .andExpect(jsonPath("$.hasNext").value(false));
     }
 
     @Test
@@ -174,6 +176,33 @@ class TransactionIntegrationTest {
                 });
     }
 
+    @Test
+    @DisplayName("Should treat % and _ in the search term as literal characters")
+    void testSearchMatchesWildcardsLiterally() throws Exception {
+        createTransaction(BigDecimal.valueOf(20), "Sale 50% off");
+        createTransaction(BigDecimal.valueOf(30), "Groceries");
+        createTransaction(BigDecimal.valueOf(40), "Sale 500 off");
+
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "%")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].description").value("Sale 50% off"));
+
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "50%")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "_")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
     @Test
     @DisplayName("Should delete a transaction successfully")
     void testDeleteTransaction() throws Exception {
@@ -194,6 +223,7 @@ class TransactionIntegrationTest {
         CreateTransactionRequest invalidRequest = new CreateTransactionRequest(
                 999999L,
                 BigDecimal.valueOf(50),
+                null,
                 "Invalid transaction",
                 LocalDate.now()
         );
@@ -211,6 +241,7 @@ class TransactionIntegrationTest {
         CreateTransactionRequest invalidRequest = new CreateTransactionRequest(
                 categoryId,
                 BigDecimal.valueOf(-50),
+                null,
                 "Invalid amount",
                 LocalDate.now()
         );
@@ -226,6 +257,7 @@ class TransactionIntegrationTest {
         CreateTransactionRequest request = new CreateTransactionRequest(
                 categoryId,
                 amount,
+                null,
                 description,
                 LocalDate.now()
         );
@@ -242,6 +274,7 @@ class TransactionIntegrationTest {
         CreateTransactionRequest request = new CreateTransactionRequest(
                 categoryId,
                 amount,
+                null,
                 "Transaction on " + date,
                 date
         );
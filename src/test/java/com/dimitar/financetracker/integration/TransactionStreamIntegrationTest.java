@@ -0,0 +1,270 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.dto.request.user.UserRegistrationRequest;
+import com.dimitar.financetracker.dto.response.user.AuthenticationResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: the streamed body reads in its own transaction on the async thread, so the
+// test data has to be committed.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionStreamIntegrationTest {
+    private static final String COLUMNAR = "application/vnd.financetracker.columnar+json";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String username = "stream_" + UUID.randomUUID().toString().substring(0, 8);
+        UserRegistrationRequest registerRequest = new UserRegistrationRequest(
+                username,
+                username + "@example.com",
+                "StreamPass123!"
+        );
+        MvcResult registered = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = objectMapper.readValue(registered.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+
+        MvcResult category = mockMvc.perform(post("/api/categories")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Groceries\",\"type\":\"EXPENSE\",\"color\":\"#00AA00\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        categoryId = objectMapper.readTree(category.getResponse().getContentAsString()).get("id").asLong();
+
+        createTransaction("2025-10-01", "10.00", "Bread");
+        createTransaction("2025-10-03", "25.50", "Cheese");
+        createTransaction("2025-10-02", "7.25", "Milk");
+    }
+
+    private void createTransaction(String date, String amount, String description) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryId\":" + categoryId + ",\"amount\":" + amount
+                                + ",\"description\":\"" + description + "\",\"transactionDate\":\"" + date + "\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private MvcResult stream(MockHttpServletRequestBuilder request, String accept) throws Exception {
+        MvcResult started = mockMvc.perform(request
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", accept))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON object per line, shaped like the JSON list items")
+    void ndjson_streamsOneObjectPerLine() throws Exception {
+        JsonNode json = objectMapper.readTree(mockMvc.perform(get("/api/transactions")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        MvcResult result = stream(get("/api/transactions"), "application/x-ndjson");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode line = objectMapper.readTree(lines[i]);
+            assertThat(line.get("id")).isEqualTo(json.get(i).get("id"));
+            assertThat(line.get("categoryName")).isEqualTo(json.get(i).get("categoryName"));
+            assertThat(line.get("amount").decimalValue()).isEqualByComparingTo(json.get(i).get("amount").decimalValue());
+            assertThat(line.get("transactionDate")).isEqualTo(json.get(i).get("transactionDate"));
+            assertThat(line.size()).isEqualTo(json.get(i).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep returning the JSON array without an Accept header or for application/json")
+    void jsonAccept_keepsJsonList() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "*/*"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/transactions")
+                        .param("fields", "amount")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/json"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should stream selected fields as blocks of per-field arrays")
+    void columnar_writesArraysPerField() throws Exception {
+        MvcResult result = stream(get("/api/transactions/date-range")
+                .param("startDate", "2025-10-01")
+                .param("endDate", "2025-10-31")
+                .param("fields", "transactionDate,amount"), COLUMNAR);
+
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(body.get("fields")).hasSize(2);
+        assertThat(body.get("fields").get(0).asText()).isEqualTo("transactionDate");
+        JsonNode block = body.get("blocks").get(0);
+        assertThat(block.get("rows").asInt()).isEqualTo(3);
+        assertThat(block.get("columns").get(0).get(1).asText()).isEqualTo("2025-10-03");
+        assertThat(block.get("columns").get(1).get(2).decimalValue()).isEqualByComparingTo("7.25");
+    }
+
+    @Test
+    @DisplayName("Should stream CBOR and Smile arrays that decode to the same rows")
+    void binaryEncodings_decodeToSameRows() throws Exception {
+        MvcResult cbor = stream(get("/api/transactions/category/" + categoryId).param("fields", "description"),
+                "application/cbor");
+        MvcResult smile = stream(get("/api/transactions/category/" + categoryId).param("fields", "description"), SMILE);
+
+        JsonNode fromCbor = new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray());
+        JsonNode fromSmile = new ObjectMapper(new SmileFactory()).readTree(smile.getResponse().getContentAsByteArray());
+        assertThat(fromCbor).hasSize(3);
+        assertThat(fromCbor.get(0).get("description").asText()).isEqualTo("Bread");
+        assertThat(fromSmile).isEqualTo(fromCbor);
+    }
+
+    @Test
+    @DisplayName("Should stream every amount-range and search match that the JSON pages split up")
+    void filteredLists_streamAllMatches() throws Exception {
+        mockMvc.perform(get("/api/transactions/amount-range")
+                        .param("minAmount", "8")
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        String byAmount = stream(get("/api/transactions/amount-range").param("minAmount", "8"),
+                "application/x-ndjson").getResponse().getContentAsString();
+        String bySearch = stream(get("/api/transactions/search").param("q", "chee"),
+                "application/x-ndjson").getResponse().getContentAsString();
+
+        String[] amountLines = byAmount.split("\n");
+        assertThat(amountLines).hasSize(2);
+        assertThat(objectMapper.readTree(amountLines[0]).get("description").asText()).isEqualTo("Bread");
+        assertThat(objectMapper.readTree(amountLines[1]).get("description").asText()).isEqualTo("Cheese");
+        String[] searchLines = bySearch.split("\n");
+        assertThat(searchLines).hasSize(1);
+        assertThat(objectMapper.readTree(searchLines[0]).get("amount").decimalValue()).isEqualByComparingTo("25.50");
+    }
+
+    @Test
+    @DisplayName("Should stream only search matches that contain the wildcard characters literally")
+    void search_streamsLiteralMatches() throws Exception {
+        createTransaction("2025-10-04", "5.00", "Sale 50% off");
+
+        String byPercent = stream(get("/api/transactions/search").param("q", "%"),
+                "application/x-ndjson").getResponse().getContentAsString();
+        String byUnderscore = stream(get("/api/transactions/search").param("q", "_"),
+                "application/x-ndjson").getResponse().getContentAsString();
+
+        String[] lines = byPercent.split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("description").asText()).isEqualTo("Sale 50% off");
+        assertThat(byUnderscore).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page the fields variant by cursor without leaking the internal id and sort key")
+    void fieldsVariant_pagesByCursor() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/transactions/date-range")
+                        .param("startDate", "2025-10-01")
+                        .param("endDate", "2025-10-31")
+                        .param("fields", "description")
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/json"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].description").value("Cheese"))
+                .andExpect(jsonPath("$.content[0].id").doesNotExist())
+                .andExpect(jsonPath("$.content[0].transactionDate").doesNotExist())
+                .andExpect(jsonPath("$.content[1].description").value("Milk"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/transactions/date-range")
+                        .param("startDate", "2025-10-01")
+                        .param("endDate", "2025-10-31")
+                        .param("fields", "description")
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].description").value("Bread"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "e")
+                        .param("fields", "description")
+                        .param("limit", "1000")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/json"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field before streaming starts")
+    void unknownField_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .param("fields", "password")
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", "application/x-ndjson"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,73 @@
+package com.dimitar.financetracker.integration;
+
+import com.dimitar.financetracker.service.warmup.WarmupRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: the warm-up opens and rolls back its own transactions.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WarmupIntegrationTest {
+
+    private static final List<String> TABLES = List.of(
+        "users", "categories", "transactions", "budgets", "budget_alerts", "outbox_events");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> rowCounts() {
+        return TABLES.stream()
+            .map(table -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Warm-up runs the requested iterations and leaves no rows or authentication behind")
+    void warmUpRollsBackEverything() {
+        List<Long> before = rowCounts();
+
+        int completed = warmupRunner.warmUp(3, Duration.ofMinutes(1));
+
+        assertThat(completed).isEqualTo(3);
+        assertThat(rowCounts()).isEqualTo(before);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE username LIKE 'warmup-%'", Long.class)).isZero();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Warm-up stops at the duration limit when no iteration count is set")
+    void warmUpStopsAtDuration() {
+        assertThat(warmupRunner.warmUp(0, Duration.ZERO)).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health/readiness is up once the application has started")
+    void readinessProbeIsExposed() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.dimitar.financetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void of_roundsHalfUpToTwoDecimals() {
+        assertEquals(1235L, Money.of(new BigDecimal("12.345")).cents());
+        assertEquals(-1235L, Money.of(new BigDecimal("-12.345")).cents());
+        assertEquals(new BigDecimal("12.30"), Money.of(new BigDecimal("12.3")).toBigDecimal());
+    }
+
+    @Test
+    void ofNullable_mapsNullToZero() {
+        assertSame(Money.ZERO, Money.ofNullable(null));
+        assertSame(Money.ZERO, Money.ofCents(0L));
+    }
+
+    @Test
+    void arithmetic_isExact() {
+        Money a = Money.of(new BigDecimal("10.05"));
+        Money b = Money.of(new BigDecimal("2.10"));
+
+        assertEquals(new BigDecimal("12.15"), a.plus(b).toBigDecimal());
+        assertEquals(new BigDecimal("7.95"), a.minus(b).toBigDecimal());
+        assertEquals(new BigDecimal("-10.05"), a.negate().toBigDecimal());
+        assertEquals("10.05", a.toString());
+    }
+
+    @Test
+    void arithmetic_throwsOnOverflow() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1L)));
+        assertThrows(ArithmeticException.class, () -> Money.addCents(Long.MAX_VALUE, 1L));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void dividedBy_roundsHalfUp() {
+        assertEquals(Money.ofCents(3334L), Money.ofCents(10001L).dividedBy(3));
+        assertEquals(Money.ofCents(-3334L), Money.ofCents(-10001L).dividedBy(3));
+        assertEquals(Money.ofCents(3333L), Money.ofCents(9999L).dividedBy(3));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(1L).dividedBy(0));
+    }
+
+    @Test
+    void percentOf_matchesBigDecimalHalfUp() {
+        Money amount = Money.of(new BigDecimal("200.00"));
+
+        assertEquals(new BigDecimal("25.13"), Money.of(new BigDecimal("50.25")).percentOf(amount));
+        assertEquals(new BigDecimal("61.10"), Money.of(new BigDecimal("30.55")).percentOf(Money.of(new BigDecimal("50.00"))));
+        assertEquals(new BigDecimal("0.00"), Money.of(new BigDecimal("10.00")).percentOf(Money.ZERO));
+    }
+
+    @Test
+    void percentHundredths_fallsBackWhenScaledPartOverflows() {
+        assertEquals(10000L, Money.percentHundredths(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2));
+    }
+
+    @Test
+    void compareTo_ordersByCents() {
+        assertEquals(-1, Integer.signum(Money.ofCents(1L).compareTo(Money.ofCents(2L))));
+        assertEquals(Money.ofCents(5L), Money.of(new BigDecimal("0.05")));
+        assertEquals(1, Money.ofCents(5L).signum());
+    }
+}
@@ -0,0 +1,61 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.model.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BudgetAlertRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BudgetAlert persistAlert(Long userId, int thresholdPercent, long spentCents) {
+        return entityManager.persistAndFlush(BudgetAlert.builder()
+                .userId(userId)
+                .budgetId(5L)
+                .categoryId(10L)
+                .thresholdPercent(thresholdPercent)
+                .budgetAmount(Money.ofCents(10_000L))
+                .spentAmount(Money.ofCents(spentCents))
+                .build());
+    }
+
+    @Test
+    void save_storesMoneyInTheNumericAmountColumns() {
+        BudgetAlert alert = persistAlert(1L, 80, 8_550L);
+        entityManager.clear();
+
+        BigDecimal spent = jdbcTemplate.queryForObject(
+                "SELECT spent_amount FROM budget_alerts WHERE id = ?", BigDecimal.class, alert.getId());
+        List<BudgetAlert> found = budgetAlertRepository.findByUserIdOrderByTriggeredAtDesc(1L);
+
+        assertThat(spent).isEqualByComparingTo("85.50");
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getSpentAmount()).isEqualTo(Money.ofCents(8_550L));
+        assertThat(found.get(0).getBudgetAmount()).isEqualTo(Money.ofCents(10_000L));
+    }
+
+    @Test
+    void existsByBudgetIdAndThresholdPercent_matchesOnlyRaisedThresholds() {
+        persistAlert(1L, 80, 8_000L);
+
+        assertThat(budgetAlertRepository.existsByBudgetIdAndThresholdPercent(5L, 80)).isTrue();
+        assertThat(budgetAlertRepository.existsByBudgetIdAndThresholdPercent(5L, 100)).isFalse();
+    }
+}
@@ -0,0 +1,124 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.CategoryType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// PostgreSQL mode for insertIfAbsent's ON CONFLICT clause
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:forecast-states;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SpendingForecastStateRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SpendingForecastStateRepository stateRepository;
+
+    private SpendingForecastState persistState(Long userId, Long categoryId) {
+        return entityManager.persistAndFlush(SpendingForecastState.builder()
+                .userId(userId)
+                .categoryId(categoryId)
+                .openDay(20_000L)
+                .openDayCents(1250L)
+                .level(812.5)
+                .seasonal(new byte[28])
+                .build());
+    }
+
+    @Test
+    void findByUserId_returnsOnlyThatUsersStates() {
+        persistState(1L, 10L);
+        persistState(1L, 20L);
+        persistState(2L, 10L);
+
+        List<SpendingForecastState> found = stateRepository.findByUserId(1L);
+
+        assertThat(found).extracting(SpendingForecastState::getCategoryId).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(found.get(0).getSeasonal()).hasSize(28);
+        assertThat(found.get(0).getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void deleteByUserId_removesOnlyThatUsersStates() {
+        persistState(1L, 10L);
+        persistState(2L, 10L);
+
+        stateRepository.deleteByUserId(1L);
+        entityManager.clear();
+
+        assertThat(stateRepository.findByUserId(1L)).isEmpty();
+        assertThat(stateRepository.findByUserId(2L)).hasSize(1);
+        assertThat(stateRepository.existsByUserId(2L)).isTrue();
+    }
+
+    @Test
+    void insertIfAbsent_insertsOnceAndKeepsTheExistingRow() {
+        persistState(1L, 10L);
+
+        int existing = stateRepository.insertIfAbsent(1L, 10L, 30_000L, new byte[28]);
+        int inserted = stateRepository.insertIfAbsent(1L, 20L, 30_000L, new byte[28]);
+        entityManager.clear();
+
+        assertThat(existing).isZero();
+        assertThat(inserted).isOne();
+        assertThat(stateRepository.findForUpdate(1L, 10L).orElseThrow().getOpenDay()).isEqualTo(20_000L);
+        SpendingForecastState created = stateRepository.findForUpdate(1L, 20L).orElseThrow();
+        assertThat(created.getOpenDay()).isEqualTo(30_000L);
+        assertThat(created.getOpenDayCents()).isZero();
+        assertThat(created.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void findUserIdsWithoutStates_listsUsersWithHistoryButNoState() {
+        User withState = persistUserWithTransaction("forecast_a");
+        User withoutState = persistUserWithTransaction("forecast_b");
+        User alsoWithout = persistUserWithTransaction("forecast_c");
+        persistState(withState.getId(), 10L);
+
+        assertThat(stateRepository.findUserIdsWithoutStates(0L, Limit.of(10)))
+                .containsExactly(withoutState.getId(), alsoWithout.getId());
+        assertThat(stateRepository.findUserIdsWithoutStates(withoutState.getId(), Limit.of(10)))
+                .containsExactly(alsoWithout.getId());
+        assertThat(stateRepository.findUserIdsWithoutStates(0L, Limit.of(1)))
+                .containsExactly(withoutState.getId());
+    }
+
+    private User persistUserWithTransaction(String username) {
+        User user = entityManager.persist(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password123")
+                .build());
+        Category category = entityManager.persist(Category.builder()
+                .user(user)
+                .name("Food")
+                .type(CategoryType.EXPENSE)
+                .color("#FF0000")
+                .build());
+        entityManager.persistAndFlush(Transaction.builder()
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal("10.00"))
+                .transactionDate(LocalDate.of(2025, 3, 1))
+                .build());
+        return user;
+    }
+}
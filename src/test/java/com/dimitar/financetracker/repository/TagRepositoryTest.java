@@ -0,0 +1,151 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TagRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private User testUser;
+    private User anotherUser;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        testUser = createAndPersistUser("testuser", "test@example.com");
+        anotherUser = createAndPersistUser("anotheruser", "another@example.com");
+        category = createAndPersistCategory(testUser);
+    }
+
+    @Test
+    void findByUserIdAndNameIn_shouldReturnOnlyUserTagsWithThoseNames() {
+        Tag travel = createAndPersistTag(testUser, "travel");
+        createAndPersistTag(testUser, "food");
+        createAndPersistTag(anotherUser, "travel");
+
+        List<Tag> tags = tagRepository.findByUserIdAndNameIn(testUser.getId(), Set.of("travel", "unknown"));
+
+        assertThat(tags).extracting(Tag::getId).containsExactly(travel.getId());
+    }
+
+    @Test
+    void findMembershipsByUserId_shouldReturnTagTransactionPairs() {
+        Tag travel = createAndPersistTag(testUser, "travel");
+        Tag food = createAndPersistTag(testUser, "food");
+        Transaction first = createAndPersistTransaction(Set.of(travel, food));
+        Transaction second = createAndPersistTransaction(Set.of(food));
+        createAndPersistTransaction(Set.of());
+
+        List<TagMembershipRow> memberships = tagRepository.findMembershipsByUserId(testUser.getId());
+
+        assertThat(memberships).containsExactlyInAnyOrder(
+                new TagMembershipRow(travel.getId(), first.getId()),
+                new TagMembershipRow(food.getId(), first.getId()),
+                new TagMembershipRow(food.getId(), second.getId()));
+        assertThat(tagRepository.findMembershipsByUserId(anotherUser.getId())).isEmpty();
+    }
+
+    @Test
+    void findByTransactionId_shouldReturnTagsOrderedByName() {
+        Tag travel = createAndPersistTag(testUser, "travel");
+        Tag food = createAndPersistTag(testUser, "food");
+        Transaction transaction = createAndPersistTransaction(Set.of(travel, food));
+
+        assertThat(tagRepository.findByTransactionId(transaction.getId()))
+                .extracting(Tag::getName)
+                .containsExactly("food", "travel");
+    }
+
+    @Test
+    void deleteMemberships_shouldUntagTransactionsButKeepThem() {
+        Tag travel = createAndPersistTag(testUser, "travel");
+        Tag food = createAndPersistTag(testUser, "food");
+        Transaction transaction = createAndPersistTransaction(Set.of(travel, food));
+        entityManager.clear();
+
+        int deleted = tagRepository.deleteMemberships(travel.getId());
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(tagRepository.findByTransactionId(transaction.getId()))
+                .extracting(Tag::getName)
+                .containsExactly("food");
+        assertThat(transactionRepository.findById(transaction.getId())).isPresent();
+    }
+
+    @Test
+    void deletingTransaction_shouldDropItsJoinRows() {
+        Tag travel = createAndPersistTag(testUser, "travel");
+        Transaction transaction = createAndPersistTransaction(Set.of(travel));
+
+        transactionRepository.delete(transaction);
+        entityManager.flush();
+
+        assertThat(tagRepository.findMembershipsByUserId(testUser.getId())).isEmpty();
+        assertThat(tagRepository.findById(travel.getId())).isPresent();
+    }
+
+    private User createAndPersistUser(String username, String email) {
+        User user = User.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return entityManager.persistAndFlush(user);
+    }
+
+    private Category createAndPersistCategory(User user) {
+        Category category = Category.builder()
+                .user(user)
+                .name("Travel")
+                .type(CategoryType.EXPENSE)
+                .color("#FF0000")
+                .createdAt(LocalDateTime.now())
+                .build();
+        return entityManager.persistAndFlush(category);
+    }
+
+    private Tag createAndPersistTag(User user, String name) {
+        return entityManager.persistAndFlush(Tag.builder().user(user).name(name).build());
+    }
+
+    private Transaction createAndPersistTransaction(Set<Tag> tags) {
+        Transaction transaction = Transaction.builder()
+                .user(testUser)
+                .category(category)
+                .amount(new BigDecimal("10.00"))
+                .currency("EUR")
+                .transactionDate(LocalDate.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+        transaction.getTags().addAll(tags);
+        return entityManager.persistAndFlush(transaction);
+    }
+}
@@ -0,0 +1,275 @@
+package com.dimitar.financetracker.repository;
+
+import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.transaction.QueryTransactionsQuery;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Runs GET /api/transactions/query's Specification against H2 and checks both the rows it returns
+// and, through EXPLAIN on the SQL Hibernate generated, that common filter combinations are answered
+// from the composite indexes on transactions rather than by scanning.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dimitar.financetracker.repository.TransactionQueryPlanTest$CapturingInspector")
+class TransactionQueryPlanTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+    // The first index comment of the plan belongs to transactions, the driving table.
+    private static final Pattern TRANSACTIONS_INDEX = Pattern.compile("/\\* PUBLIC\\.(\\w+): ([^*]*)\\*/");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private QueryTransactionsQuery query;
+    private User testUser;
+    private Category food;
+    private Category travel;
+    private Category salary;
+    private List<Transaction> transactions;
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        testUser = createAndPersistUser("testuser", "test@example.com");
+        User anotherUser = createAndPersistUser("anotheruser", "another@example.com");
+        food = createAndPersistCategory(testUser, "Food", CategoryType.EXPENSE);
+        travel = createAndPersistCategory(testUser, "Travel", CategoryType.EXPENSE);
+        salary = createAndPersistCategory(testUser, "Salary", CategoryType.INCOME);
+        Category foreign = createAndPersistCategory(anotherUser, "Food", CategoryType.EXPENSE);
+        Tag trip = entityManager.persistAndFlush(Tag.builder().user(testUser).name("trip").build());
+        Tag refunded = entityManager.persistAndFlush(Tag.builder().user(testUser).name("refunded").build());
+
+        // Day i of January: food on even days, travel on odd days, salary on the 1st and the 15th.
+        transactions = new ArrayList<>();
+        for (int day = 1; day <= 20; day++) {
+            Category category = day == 1 || day == 15 ? salary : day % 2 == 0 ? food : travel;
+            Set<Tag> tags = day % 5 == 0 ? Set.of(trip, refunded) : day % 3 == 0 ? Set.of(trip) : Set.of();
+            transactions.add(createAndPersistTransaction(testUser, category, String.valueOf(day * 10),
+                    day % 4 == 0 ? "Coffee beans" : "Groceries", JAN_1.plusDays(day - 1), tags));
+        }
+        createAndPersistTransaction(anotherUser, foreign, "10", "Coffee beans", JAN_1, Set.of());
+        entityManager.clear();
+
+        AuthenticationFacade authenticationFacade = mock(AuthenticationFacade.class);
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(testUser.getId());
+        query = new QueryTransactionsQuery(authenticationFacade, transactionRepository, new TransactionMapper());
+    }
+
+    private CursorPagedResponse<TransactionResponse> run(Consumer<TransactionQueryRequest.TransactionQueryRequestBuilder> filters) {
+        TransactionQueryRequest.TransactionQueryRequestBuilder request = TransactionQueryRequest.builder();
+        filters.accept(request);
+        return query.execute(request.build());
+    }
+
+    private static List<Long> ids(CursorPagedResponse<TransactionResponse> page) {
+        return page.getContent().stream().map(TransactionResponse::getId).toList();
+    }
+
+    private List<Long> idsOfDays(int... days) {
+        List<Long> ids = new ArrayList<>();
+        for (int day : days) {
+            ids.add(transactions.get(day - 1).getId());
+        }
+        return ids;
+    }
+
+    // EXPLAIN of the transactions SELECT issued while running filters. H2 accepts unbound parameters
+    // there and prints each table's chosen index as /* PUBLIC.INDEX_NAME: conditions */.
+    private String plan(Consumer<TransactionQueryRequest.TransactionQueryRequestBuilder> filters) {
+        CapturingInspector.STATEMENTS.clear();
+        run(filters);
+        String select = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from transactions "))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return new JdbcTemplate(dataSource).queryForObject("EXPLAIN " + select, String.class);
+    }
+
+    private static void assertIndexLookup(String plan, String index, String... conditions) {
+        Matcher matcher = TRANSACTIONS_INDEX.matcher(plan);
+        assertThat(matcher.find()).as(plan).isTrue();
+        assertThat(matcher.group(1)).as(plan).isEqualTo(index);
+        assertThat(matcher.group(2)).as(plan).contains("USER_ID = ?").contains(conditions);
+        assertThat(plan).doesNotContain("tableScan");
+    }
+
+    @Test
+    void query_combinesFiltersForCurrentUserOnly() {
+        assertThat(ids(run(r -> r.q("coffee")))).isEqualTo(idsOfDays(20, 16, 12, 8, 4));
+        assertThat(ids(run(r -> r.q("coffee").categoryIds(List.of(food.getId())).minAmount(new BigDecimal("100")))))
+                .isEqualTo(idsOfDays(20, 16, 12));
+        assertThat(ids(run(r -> r.type(CategoryType.INCOME)))).isEqualTo(idsOfDays(15, 1));
+        assertThat(ids(run(r -> r.categoryIds(List.of(travel.getId(), salary.getId()))
+                .startDate(JAN_1.plusDays(10)).endDate(JAN_1.plusDays(2)))))
+                .isEqualTo(idsOfDays(11, 9, 7, 5, 3));
+    }
+
+    @Test
+    void query_matchesTextLiterally() {
+        Transaction percent = createAndPersistTransaction(testUser, food, "5", "Sale 50% off", JAN_1, Set.of());
+        Transaction backslash = createAndPersistTransaction(testUser, food, "5", "C:\\temp", JAN_1, Set.of());
+
+        assertThat(ids(run(r -> r.q("%")))).containsExactly(percent.getId());
+        assertThat(ids(run(r -> r.q("50%")))).containsExactly(percent.getId());
+        assertThat(ids(run(r -> r.q("_")))).isEmpty();
+        assertThat(ids(run(r -> r.q("c:\\")))).containsExactly(backslash.getId());
+    }
+
+    @Test
+    void query_filtersByTags() {
+        assertThat(ids(run(r -> r.tags(List.of("Trip"))))).isEqualTo(idsOfDays(20, 18, 15, 12, 10, 9, 6, 5, 3));
+        assertThat(ids(run(r -> r.tags(List.of("trip")).excludeTags(List.of("refunded")))))
+                .isEqualTo(idsOfDays(18, 12, 9, 6, 3));
+        assertThat(ids(run(r -> r.anyTags(List.of("refunded", "unknown")).categoryIds(List.of(food.getId())))))
+                .isEqualTo(idsOfDays(20, 10));
+        assertThat(ids(run(r -> r.tags(List.of("trip", "unknown"))))).isEmpty();
+    }
+
+    @Test
+    void query_pagesByCursorWithoutRepeatingOrSkippingRows() {
+        List<Long> seen = new ArrayList<>();
+        CursorPagedResponse<TransactionResponse> page = run(r -> r.sortBy("amount").sortDirection("ASC").limit(7));
+        seen.addAll(ids(page));
+        while (page.isHasNext()) {
+            String cursor = page.getNextCursor();
+            page = run(r -> r.sortBy("amount").sortDirection("ASC").limit(7).cursor(cursor));
+            seen.addAll(ids(page));
+        }
+
+        assertThat(seen).isEqualTo(transactions.stream().map(Transaction::getId).toList());
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void query_pagesThroughEqualSortValuesByIdTiebreak() {
+        Transaction sameDay = createAndPersistTransaction(testUser, food, "5", "Snack", JAN_1.plusDays(19), Set.of());
+
+        CursorPagedResponse<TransactionResponse> first = run(r -> r.limit(1));
+        CursorPagedResponse<TransactionResponse> second = run(r -> r.limit(1).cursor(first.getNextCursor()));
+        CursorPagedResponse<TransactionResponse> third = run(r -> r.limit(1).cursor(second.getNextCursor()));
+
+        assertThat(ids(first)).containsExactly(sameDay.getId());
+        assertThat(ids(second)).isEqualTo(idsOfDays(20));
+        assertThat(ids(third)).isEqualTo(idsOfDays(19));
+    }
+
+    @Test
+    void plan_dateRangeUsesUserDateIndex() {
+        String plan = plan(r -> r.startDate(JAN_1).endDate(JAN_1.plusDays(30)));
+
+        assertIndexLookup(plan, "IDX_TRANSACTIONS_USER_DATE", "TRANSACTION_DATE >= ?", "TRANSACTION_DATE <= ?");
+    }
+
+    @Test
+    void plan_cursorSeekBoundsTheIndexRange() {
+        String cursor = run(r -> r.limit(5)).getNextCursor();
+
+        String plan = plan(r -> r.startDate(JAN_1).limit(5).cursor(cursor));
+
+        // The cursor's date becomes the upper bound of the range; the id tiebreak is a residual filter.
+        assertIndexLookup(plan, "IDX_TRANSACTIONS_USER_DATE", "TRANSACTION_DATE >= ?", "TRANSACTION_DATE <= ?");
+    }
+
+    @Test
+    void plan_categoryAndDateRangeUseUserCategoryDateIndex() {
+        String plan = plan(r -> r.categoryIds(List.of(food.getId())).startDate(JAN_1).endDate(JAN_1.plusDays(30)));
+
+        assertIndexLookup(plan, "IDX_TRANSACTIONS_USER_CATEGORY_DATE", "CATEGORY_ID = ?", "TRANSACTION_DATE >= ?");
+    }
+
+    @Test
+    void plan_amountRangeUsesUserAmountIndex() {
+        String plan = plan(r -> r.minAmount(new BigDecimal("50")).maxAmount(new BigDecimal("150")).sortBy("amount"));
+
+        assertIndexLookup(plan, "IDX_TRANSACTIONS_USER_AMOUNT", "AMOUNT >= ?", "AMOUNT <= ?");
+    }
+
+    @Test
+    void plan_tagFiltersProbeJoinTableByTransaction() {
+        String plan = plan(r -> r.startDate(JAN_1).tags(List.of("trip")).excludeTags(List.of("refunded")));
+
+        assertIndexLookup(plan, "IDX_TRANSACTIONS_USER_DATE", "TRANSACTION_DATE >= ?");
+        assertThat(plan).contains("TRANSACTION_TAGS");
+    }
+
+    private User createAndPersistUser(String username, String email) {
+        User user = User.builder()
+                .username(username)
+                .email(email)
+                .password("password123")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return entityManager.persistAndFlush(user);
+    }
+
+    private Category createAndPersistCategory(User user, String name, CategoryType type) {
+        Category category = Category.builder()
+                .user(user)
+                .name(name)
+                .type(type)
+                .color("#FF0000")
+                .createdAt(LocalDateTime.now())
+                .build();
+        return entityManager.persistAndFlush(category);
+    }
+
+    private Transaction createAndPersistTransaction(User user, Category category, String amount,
+                                                    String description, LocalDate date, Set<Tag> tags) {
+        Transaction transaction = Transaction.builder()
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal(amount))
+                .currency("EUR")
+                .description(description)
+                .transactionDate(date)
+                .createdAt(LocalDateTime.now())
+                .build();
+        transaction.getTags().addAll(tags);
+        return entityManager.persistAndFlush(transaction);
+    }
+}
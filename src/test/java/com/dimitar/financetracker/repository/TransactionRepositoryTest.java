@@ -1,9 +1,16 @@
 package com.dimitar.financetracker.repository;
 
 import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.ExchangeRate;
 import com.dimitar.financetracker.entity.Transaction;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
 import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.projection.CashFlowRow;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,9 +27,11 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class TransactionRepositoryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
 
     @Autowired
     private TestEntityManager entityManager;
@@ -352,6 +361,126 @@ class TransactionRepositoryTest {
         assertThat(updated.getDescription()).isEqualTo("Updated description");
     }
 
+    @Test
+    void sumCashFlow_byType_shouldBucketPerMonth() {
+        createAndPersistTransaction(testUser, expenseCategory, "20.00", "Lunch", LocalDate.of(2025, 1, 5));
+        createAndPersistTransaction(testUser, expenseCategory, "30.00", "Dinner", LocalDate.of(2025, 1, 20));
+        createAndPersistTransaction(testUser, incomeCategory, "1000.00", "Salary", LocalDate.of(2025, 1, 25));
+        createAndPersistTransaction(testUser, expenseCategory, "15.00", "Coffee", LocalDate.of(2025, 2, 3));
+        createAndPersistTransaction(anotherUser, expenseCategory, "99.00", "Other", LocalDate.of(2025, 1, 10));
+
+        List<CashFlowRow> rows = transactionRepository.sumCashFlow(
+                testUser.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28),
+                CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(CashFlowRow::bucketStart, CashFlowRow::type)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2025, 1, 1), CategoryType.EXPENSE),
+                        tuple(LocalDate.of(2025, 1, 1), CategoryType.INCOME),
+                        tuple(LocalDate.of(2025, 2, 1), CategoryType.EXPENSE));
+        assertThat(rows).filteredOn(row -> row.bucketStart().equals(LocalDate.of(2025, 1, 1))
+                        && row.type() == CategoryType.EXPENSE)
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.total()).isEqualByComparingTo("50.00");
+                    assertThat(row.categoryId()).isNull();
+                });
+    }
+
+    @Test
+    void sumCashFlow_byCategory_shouldReturnDailyRowsForWeeklyGranularity() {
+        createAndPersistTransaction(testUser, expenseCategory, "10.00", "Mon", LocalDate.of(2025, 1, 6));
+        createAndPersistTransaction(testUser, expenseCategory, "4.00", "Mon again", LocalDate.of(2025, 1, 6));
+        createAndPersistTransaction(testUser, expenseCategory, "5.00", "Sun", LocalDate.of(2025, 1, 12));
+
+        List<CashFlowRow> rows = transactionRepository.sumCashFlow(
+                testUser.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31),
+                CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY, EUR);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).bucketStart()).isEqualTo(LocalDate.of(2025, 1, 6));
+        assertThat(rows.get(0).total()).isEqualByComparingTo("14.00");
+        assertThat(rows.get(0).categoryId()).isEqualTo(expenseCategory.getId());
+        assertThat(rows.get(0).categoryName()).isEqualTo("Food");
+        assertThat(rows.get(1).bucketStart()).isEqualTo(LocalDate.of(2025, 1, 12));
+        assertThat(rows.get(1).total()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    void sumCashFlow_shouldReturnEmptyListOutsideRange() {
+        createAndPersistTransaction(testUser, expenseCategory, "10.00", "Old", LocalDate.of(2020, 1, 1));
+
+        List<CashFlowRow> rows = transactionRepository.sumCashFlow(
+                testUser.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                CashFlowGranularity.YEAR, CashFlowGrouping.TYPE, EUR);
+
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    void findFactsByUserId_shouldReturnUserRowsOrderedByDate() {
+        Transaction later = createAndPersistTransaction(testUser, expenseCategory, "12.50", "Later", LocalDate.of(2025, 2, 1));
+        Transaction earlier = createAndPersistTransaction(testUser, incomeCategory, "100.00", "Earlier", LocalDate.of(2025, 1, 1));
+        createAndPersistTransaction(anotherUser, expenseCategory, "1.00", "Other", LocalDate.of(2025, 1, 15));
+
+        List<TransactionFactRow> rows = transactionRepository.findFactsByUserId(testUser.getId(), EUR);
+
+        assertThat(rows)
+                .extracting(TransactionFactRow::id, TransactionFactRow::categoryId, TransactionFactRow::type)
+                .containsExactly(
+                        tuple(earlier.getId(), incomeCategory.getId(), CategoryType.INCOME),
+                        tuple(later.getId(), expenseCategory.getId(), CategoryType.EXPENSE));
+        assertThat(rows.get(1).amount()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    void sumByType_shouldReturnCountAndOverallAndPeriodTotalsPerType() {
+        createAndPersistTransaction(testUser, expenseCategory, "10.00", "In period", LocalDate.of(2025, 3, 5));
+        createAndPersistTransaction(testUser, expenseCategory, "20.00", "Before", LocalDate.of(2025, 2, 5));
+        createAndPersistTransaction(testUser, incomeCategory, "100.00", "Salary", LocalDate.of(2025, 3, 1));
+        createAndPersistTransaction(anotherUser, expenseCategory, "1.00", "Other", LocalDate.of(2025, 3, 5));
+
+        List<TypeTotalsRow> rows = transactionRepository.sumByType(
+                testUser.getId(), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), EUR);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).filteredOn(row -> row.type() == CategoryType.EXPENSE).singleElement().satisfies(row -> {
+            assertThat(row.count()).isEqualTo(2);
+            assertThat(row.total()).isEqualByComparingTo("30.00");
+            assertThat(row.periodTotal()).isEqualByComparingTo("10.00");
+        });
+        assertThat(rows).filteredOn(row -> row.type() == CategoryType.INCOME).singleElement().satisfies(row -> {
+            assertThat(row.count()).isEqualTo(1);
+            assertThat(row.total()).isEqualByComparingTo("100.00");
+        });
+    }
+
+    @Test
+    void sumAmountByUserAndCategoryAndDateRange_shouldConvertWithTheRateOfEachTransactionDate() {
+        LocalDate first = LocalDate.of(2025, 1, 1);
+        LocalDate second = LocalDate.of(2025, 1, 2);
+        persistRate("EUR", first, "1");
+        persistRate("EUR", second, "1");
+        persistRate("USD", first, "1.25");
+        persistRate("USD", second, "2");
+        createAndPersistTransaction(testUser, expenseCategory, "10.00", "Euro", first);
+        createAndPersistTransaction(testUser, expenseCategory, "25.00", "Dollars", first, "USD");
+        createAndPersistTransaction(testUser, expenseCategory, "10.00", "Dollars", second, "USD");
+        // After the loaded window: converted with the last rate
+        createAndPersistTransaction(testUser, expenseCategory, "4.00", "Dollars", LocalDate.of(2025, 6, 1), "USD");
+
+        BigDecimal inEuro = transactionRepository.sumAmountByUserAndCategoryAndDateRange(
+                testUser.getId(), expenseCategory.getId(), first, LocalDate.of(2025, 12, 31),
+                new ConversionTarget("EUR", first, second));
+        BigDecimal inDollars = transactionRepository.sumAmountByUserAndCategoryAndDateRange(
+                testUser.getId(), expenseCategory.getId(), first, second,
+                new ConversionTarget("USD", first, second));
+
+        assertThat(inEuro).isEqualByComparingTo("37.00");
+        assertThat(inDollars).isEqualByComparingTo("47.50");
+    }
+
     private User createAndPersistUser(String username, String email) {
         User user = User.builder()
                 .username(username)
@@ -376,10 +505,16 @@ class TransactionRepositoryTest {
 
     private Transaction createAndPersistTransaction(User user, Category category, String amount,
                                                   String description, LocalDate date) {
+        return createAndPersistTransaction(user, category, amount, description, date, "EUR");
+    }
+
+    private Transaction createAndPersistTransaction(User user, Category category, String amount,
+                                                  String description, LocalDate date, String currency) {
         Transaction transaction = Transaction.builder()
                 .user(user)
                 .category(category)
                 .amount(new BigDecimal(amount))
+                .currency(currency)
                 .description(description)
                 .transactionDate(date)
                 .createdAt(LocalDateTime.now())
@@ -387,6 +522,14 @@ class TransactionRepositoryTest {
         return entityManager.persistAndFlush(transaction);
     }
 
+    private void persistRate(String currency, LocalDate date, String rate) {
+        entityManager.persistAndFlush(ExchangeRate.builder()
+                .currency(currency)
+                .rateDate(date)
+                .rate(new BigDecimal(rate))
+                .build());
+    }
+
     private Transaction createTestTransaction(User user, Category category, BigDecimal amount, LocalDate date, String description) {
         Transaction transaction = Transaction.builder()
                 .user(user)
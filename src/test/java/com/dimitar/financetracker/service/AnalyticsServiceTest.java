@@ -0,0 +1,45 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.service.query.analytics.GetCashFlowQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    @Mock
+    private GetCashFlowQuery getCashFlowQuery;
+
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new AnalyticsService(getCashFlowQuery);
+    }
+
+    @Test
+    void getCashFlow_delegatesToQueryWithCriteria() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        GetCashFlowQuery.CashFlowCriteria criteria =
+                new GetCashFlowQuery.CashFlowCriteria(from, to, CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY);
+        CashFlowResponse expected = CashFlowResponse.builder().from(from).to(to).build();
+        when(getCashFlowQuery.execute(criteria)).thenReturn(expected);
+
+        CashFlowResponse actual = analyticsService.getCashFlow(from, to, CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY);
+
+        assertSame(expected, actual);
+        verify(getCashFlowQuery).execute(criteria);
+    }
+}
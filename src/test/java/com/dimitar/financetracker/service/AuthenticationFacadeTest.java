@@ -8,10 +8,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -125,5 +127,25 @@ class AuthenticationFacadeTest {
         verify(userRepository).findByUsername("john");
         verifyNoMoreInteractions(userRepository);
     }
-}
 
+    @Test
+    void getAuthenticatedUserId_usesJwtPrincipalWithoutLookup() {
+        AuthenticatedUser principal = new AuthenticatedUser(7L, "john", "hashed", List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        AuthenticationFacade facade = new AuthenticationFacade(userRepository);
+
+        assertEquals(7L, facade.getAuthenticatedUserId());
+        assertEquals(7L, facade.getPrincipalUserId());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getPrincipalUserId_returnsNull_withoutAuthentication() {
+        AuthenticationFacade facade = new AuthenticationFacade(userRepository);
+
+        assertNull(facade.getPrincipalUserId());
+        verifyNoInteractions(userRepository);
+    }
+}
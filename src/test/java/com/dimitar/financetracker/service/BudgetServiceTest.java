@@ -1,10 +1,14 @@
 package com.dimitar.financetracker.service;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.budget.CreateBudgetRequest;
 import com.dimitar.financetracker.dto.request.budget.UpdateBudgetRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.Money;
 import com.dimitar.financetracker.service.command.budget.ActivateBudgetCommand;
 import com.dimitar.financetracker.service.command.budget.CreateBudgetCommand;
 import com.dimitar.financetracker.service.command.budget.DeactivateBudgetCommand;
@@ -13,9 +17,12 @@ import com.dimitar.financetracker.service.command.budget.UpdateBudgetCommand;
 import com.dimitar.financetracker.service.query.budget.GetActiveBudgetsQuery;
 import com.dimitar.financetracker.service.query.budget.GetAllBudgetsQuery;
 import com.dimitar.financetracker.service.query.budget.GetAllBudgetsUsageQuery;
+import com.dimitar.financetracker.service.query.budget.GetBudgetAlertsQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetByIdQuery;
+import com.dimitar.financetracker.service.query.budget.GetBudgetFieldsQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetsByCategoryQuery;
 import com.dimitar.financetracker.service.query.budget.GetBudgetUsageQuery;
+import com.dimitar.financetracker.service.query.budget.StreamBudgetsQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -43,6 +51,9 @@ class BudgetServiceTest {
     @Mock private GetBudgetUsageQuery getBudgetUsageQuery;
     @Mock private GetAllBudgetsUsageQuery getAllBudgetsUsageQuery;
     @Mock private GetActiveBudgetsQuery getActiveBudgetsQuery;
+    @Mock private GetBudgetAlertsQuery getBudgetAlertsQuery;
+    @Mock private GetBudgetFieldsQuery getBudgetFieldsQuery;
+    @Mock private StreamBudgetsQuery streamBudgetsQuery;
 
     private BudgetService budgetService;
 
@@ -59,7 +70,10 @@ class BudgetServiceTest {
                 getBudgetsByCategoryQuery,
                 getBudgetUsageQuery,
                 getAllBudgetsUsageQuery,
-                getActiveBudgetsQuery
+                getActiveBudgetsQuery,
+                getBudgetAlertsQuery,
+                getBudgetFieldsQuery,
+                streamBudgetsQuery
         );
     }
 
@@ -87,13 +101,15 @@ class BudgetServiceTest {
 
     @Test
     void getAllBudgets_delegatesToQuery() {
-        List<BudgetResponse> expected = List.of(BudgetResponse.builder().id(1L).build());
-        when(getAllBudgetsQuery.execute(null)).thenReturn(expected);
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        CursorPagedResponse<BudgetResponse> expected = CursorPagedResponse.<BudgetResponse>builder()
+                .content(List.of(BudgetResponse.builder().id(1L).build())).limit(20).build();
+        when(getAllBudgetsQuery.execute(page)).thenReturn(expected);
 
-        List<BudgetResponse> actual = budgetService.getAllBudgets();
+        CursorPagedResponse<BudgetResponse> actual = budgetService.getAllBudgets(page);
 
         assertEquals(expected, actual);
-        verify(getAllBudgetsQuery).execute(null);
+        verify(getAllBudgetsQuery).execute(page);
         verifyNoMoreInteractions(getAllBudgetsQuery);
         verifyNoInteractions(createBudgetCommand, updateBudgetCommand, deleteBudgetCommand, deactivateBudgetCommand,
                 activateBudgetCommand, getBudgetByIdQuery, getBudgetsByCategoryQuery, getBudgetUsageQuery,
@@ -200,7 +216,7 @@ class BudgetServiceTest {
     @Test
     void getBudgetUsage_delegatesToQuery() {
         Long id = 10L;
-        BudgetUsageResponse expected = BudgetUsageResponse.builder().id(id).spent(BigDecimal.TEN).build();
+        BudgetUsageResponse expected = BudgetUsageResponse.builder().id(id).spent(Money.of(BigDecimal.TEN)).build();
         when(getBudgetUsageQuery.execute(id)).thenReturn(expected);
 
         BudgetUsageResponse actual = budgetService.getBudgetUsage(id);
@@ -242,5 +258,33 @@ class BudgetServiceTest {
                 deactivateBudgetCommand, activateBudgetCommand, getBudgetByIdQuery, getBudgetsByCategoryQuery,
                 getBudgetUsageQuery, getAllBudgetsUsageQuery);
     }
-}
 
+    @Test
+    void getBudgetAlerts_delegatesToQuery() {
+        List<BudgetAlertResponse> expected = List.of(BudgetAlertResponse.builder().id(1L).thresholdPercent(80).build());
+        when(getBudgetAlertsQuery.execute(null)).thenReturn(expected);
+
+        List<BudgetAlertResponse> actual = budgetService.getBudgetAlerts();
+
+        assertEquals(expected, actual);
+        verify(getBudgetAlertsQuery).execute(null);
+        verifyNoMoreInteractions(getBudgetAlertsQuery);
+        verifyNoInteractions(createBudgetCommand, getAllBudgetsQuery, updateBudgetCommand, deleteBudgetCommand,
+                deactivateBudgetCommand, activateBudgetCommand, getBudgetByIdQuery, getBudgetsByCategoryQuery,
+                getBudgetUsageQuery, getAllBudgetsUsageQuery, getActiveBudgetsQuery);
+    }
+
+    @Test
+    void getBudgetFieldsByCategory_delegatesToFieldsQuery() {
+        GetBudgetFieldsQuery.Input input = GetBudgetFieldsQuery.Input.category("id,amount", 3L);
+        List<Map<String, Object>> expected = List.of(Map.of("id", 1L, "amount", new BigDecimal("100.00")));
+        when(getBudgetFieldsQuery.execute(input)).thenReturn(expected);
+
+        List<Map<String, Object>> actual = budgetService.getBudgetFieldsByCategory(3L, "id,amount");
+
+        assertEquals(expected, actual);
+        verify(getBudgetFieldsQuery).execute(input);
+        verifyNoMoreInteractions(getBudgetFieldsQuery);
+        verifyNoInteractions(getBudgetsByCategoryQuery, getAllBudgetsQuery, getActiveBudgetsQuery);
+    }
+}
@@ -15,6 +15,7 @@ import com.dimitar.financetracker.service.command.category.UpdateCategoryCommand
 import com.dimitar.financetracker.service.query.category.GetAllCategoriesQuery;
 import com.dimitar.financetracker.service.query.category.GetCategoryByIdQuery;
 import com.dimitar.financetracker.service.query.category.GetCategoryByTypeQuery;
+import com.dimitar.financetracker.service.query.category.GetCategoryFieldsQuery;
 import com.dimitar.financetracker.service.query.category.SearchCategoryByNameQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -40,6 +42,7 @@ class CategoryServiceTest {
     @Mock private MergeCategoriesCommand mergeCategoriesCommand;
     @Mock private ImportDefaultCategoriesCommand importDefaultCategoriesCommand;
     @Mock private SearchCategoryByNameQuery searchCategoryByNameQuery;
+    @Mock private GetCategoryFieldsQuery getCategoryFieldsQuery;
 
     private CategoryService categoryService;
 
@@ -54,7 +57,8 @@ class CategoryServiceTest {
                 getCategoryByTypeQuery,
                 mergeCategoriesCommand,
                 importDefaultCategoriesCommand,
-                searchCategoryByNameQuery
+                searchCategoryByNameQuery,
+                getCategoryFieldsQuery
         );
     }
 
@@ -236,4 +240,18 @@ class CategoryServiceTest {
         verifyNoInteractions(createCategoryCommand, getCategoryByIdQuery, getAllCategoriesQuery, updateCategoryCommand,
                 deleteCategoryCommand, getCategoryByTypeQuery, mergeCategoriesCommand, importDefaultCategoriesCommand);
     }
+
+    @Test
+    void getCategoryFieldsByType_delegatesToFieldsQuery() {
+        GetCategoryFieldsQuery.Input input = GetCategoryFieldsQuery.Input.type("name", CategoryType.INCOME);
+        List<Map<String, Object>> expected = List.of(Map.of("name", "Salary"));
+        when(getCategoryFieldsQuery.execute(input)).thenReturn(expected);
+
+        List<Map<String, Object>> actual = categoryService.getCategoryFieldsByType(CategoryType.INCOME, "name");
+
+        assertEquals(expected, actual);
+        verify(getCategoryFieldsQuery).execute(input);
+        verifyNoMoreInteractions(getCategoryFieldsQuery);
+        verifyNoInteractions(getCategoryByTypeQuery, getAllCategoriesQuery, searchCategoryByNameQuery);
+    }
 }
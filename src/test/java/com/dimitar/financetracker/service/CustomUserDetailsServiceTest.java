@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,7 +23,7 @@ class CustomUserDetailsServiceTest {
 
     @Test
     void loadUserByUsername_returnsSpringUser() {
-        CustomUserDetailsService service = new CustomUserDetailsService(userRepository);
+        CustomUserDetailsService service = new CustomUserDetailsService(userRepository, List.of());
         User entity = User.builder()
                 .id(1L)
                 .username("john")
@@ -36,13 +37,27 @@ class CustomUserDetailsServiceTest {
         assertEquals("john", details.getUsername());
         assertEquals("hashed", details.getPassword());
         assertNotNull(details.getAuthorities());
+        assertEquals(1L, ((AuthenticatedUser) details).getId());
         verify(userRepository).findByUsernameOrEmail("john", "john");
         verifyNoMoreInteractions(userRepository);
     }
 
+    @Test
+    void loadUserByUsername_grantsAdminRoleToConfiguredUsernames() {
+        CustomUserDetailsService service = new CustomUserDetailsService(userRepository, List.of(" root ", "admin"));
+        User admin = User.builder().id(2L).username("admin").email("admin@example.com").password("hashed").build();
+        User john = User.builder().id(1L).username("john").email("john@example.com").password("hashed").build();
+        when(userRepository.findByUsernameOrEmail("admin", "admin")).thenReturn(Optional.of(admin));
+        when(userRepository.findByUsernameOrEmail("john", "john")).thenReturn(Optional.of(john));
+
+        assertTrue(service.loadUserByUsername("admin").getAuthorities().stream()
+                .anyMatch(authority -> CustomUserDetailsService.ROLE_ADMIN.equals(authority.getAuthority())));
+        assertTrue(service.loadUserByUsername("john").getAuthorities().isEmpty());
+    }
+
     @Test
     void loadUserByUsername_throwsWhenNotFound() {
-        CustomUserDetailsService service = new CustomUserDetailsService(userRepository);
+        CustomUserDetailsService service = new CustomUserDetailsService(userRepository, List.of());
         when(userRepository.findByUsernameOrEmail("missing", "missing")).thenReturn(Optional.empty());
 
         assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("missing"));
@@ -0,0 +1,33 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.service.query.dashboard.GetDashboardQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock private GetDashboardQuery getDashboardQuery;
+
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(getDashboardQuery);
+    }
+
+    @Test
+    void getDashboard_delegatesToQuery() {
+        DashboardResponse expected = DashboardResponse.builder().build();
+        when(getDashboardQuery.execute(5)).thenReturn(expected);
+
+        assertSame(expected, dashboardService.getDashboard(5));
+    }
+}
@@ -0,0 +1,37 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.service.query.insights.GetBudgetForecastsQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InsightsServiceTest {
+
+    @Mock
+    private GetBudgetForecastsQuery getBudgetForecastsQuery;
+
+    private InsightsService insightsService;
+
+    @BeforeEach
+    void setUp() {
+        insightsService = new InsightsService(getBudgetForecastsQuery);
+    }
+
+    @Test
+    void getBudgetForecasts_delegatesToQuery() {
+        List<BudgetForecastResponse> expected = List.of(BudgetForecastResponse.builder().budgetId(1L).build());
+        when(getBudgetForecastsQuery.execute(null)).thenReturn(expected);
+
+        assertSame(expected, insightsService.getBudgetForecasts());
+        verify(getBudgetForecastsQuery).execute(null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.service.command.recurring.CreateRecurringTransactionCommand;
+import com.dimitar.financetracker.service.command.recurring.DeleteRecurringTransactionCommand;
+import com.dimitar.financetracker.service.query.recurring.GetRecurringTransactionsQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionServiceTest {
+
+    @Mock private CreateRecurringTransactionCommand createRecurringTransactionCommand;
+    @Mock private DeleteRecurringTransactionCommand deleteRecurringTransactionCommand;
+    @Mock private GetRecurringTransactionsQuery getRecurringTransactionsQuery;
+
+    private RecurringTransactionService recurringTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        recurringTransactionService = new RecurringTransactionService(
+                createRecurringTransactionCommand,
+                deleteRecurringTransactionCommand,
+                getRecurringTransactionsQuery
+        );
+    }
+
+    @Test
+    void createRecurringTransaction_delegatesToCommand() {
+        CreateRecurringTransactionRequest request = CreateRecurringTransactionRequest.builder().categoryId(1L).build();
+        RecurringTransactionResponse expected = RecurringTransactionResponse.builder().id(3L).build();
+        when(createRecurringTransactionCommand.execute(request)).thenReturn(expected);
+
+        assertEquals(expected, recurringTransactionService.createRecurringTransaction(request));
+        verifyNoInteractions(deleteRecurringTransactionCommand, getRecurringTransactionsQuery);
+    }
+
+    @Test
+    void deleteRecurringTransaction_delegatesToCommand() {
+        recurringTransactionService.deleteRecurringTransaction(3L);
+
+        verify(deleteRecurringTransactionCommand).execute(3L);
+        verifyNoInteractions(createRecurringTransactionCommand, getRecurringTransactionsQuery);
+    }
+
+    @Test
+    void getRecurringTransactions_delegatesToQuery() {
+        List<RecurringTransactionResponse> expected = List.of(RecurringTransactionResponse.builder().id(3L).build());
+        when(getRecurringTransactionsQuery.execute(null)).thenReturn(expected);
+
+        assertEquals(expected, recurringTransactionService.getRecurringTransactions());
+        verifyNoInteractions(createRecurringTransactionCommand, deleteRecurringTransactionCommand);
+    }
+}
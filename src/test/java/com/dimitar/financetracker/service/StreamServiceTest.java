@@ -0,0 +1,35 @@
+package com.dimitar.financetracker.service;
+
+import com.dimitar.financetracker.service.stream.UpdateStreamBroker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamServiceTest {
+
+    @Mock private AuthenticationFacade authenticationFacade;
+    @Mock private UpdateStreamBroker updateStreamBroker;
+
+    private StreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new StreamService(authenticationFacade, updateStreamBroker);
+    }
+
+    @Test
+    void subscribeToUpdates_subscribesAuthenticatedUser() {
+        SseEmitter emitter = new SseEmitter();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(4L);
+        when(updateStreamBroker.subscribe(4L, "e:1")).thenReturn(emitter);
+
+        assertSame(emitter, streamService.subscribeToUpdates("e:1"));
+    }
+}
@@ -1,8 +1,11 @@
 package com.dimitar.financetracker.service;
 
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
 import com.dimitar.financetracker.dto.request.PageRequest;
 import com.dimitar.financetracker.dto.request.transaction.CreateTransactionRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
 import com.dimitar.financetracker.dto.request.transaction.UpdateTransactionRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.PagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.service.command.transaction.CreateTransactionCommand;
@@ -12,19 +15,25 @@ import com.dimitar.financetracker.service.command.transaction.UpdateTransactionC
 import com.dimitar.financetracker.service.query.transaction.GetAllTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetRecentTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionByIdQuery;
+import com.dimitar.financetracker.service.query.transaction.GetTransactionFieldsQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsByAmountRangeQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsByCategoryQuery;
 import com.dimitar.financetracker.service.query.transaction.GetTransactionsInDateRangeQuery;
+import com.dimitar.financetracker.service.query.transaction.QueryTransactionFieldsQuery;
+import com.dimitar.financetracker.service.query.transaction.QueryTransactionsQuery;
 import com.dimitar.financetracker.service.query.transaction.SearchTransactionsByDescriptionQuery;
+import com.dimitar.financetracker.service.query.transaction.StreamTransactionsQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -43,6 +52,10 @@ class TransactionServiceTest {
     @Mock private GetTransactionsByAmountRangeQuery getTransactionsByAmountRangeQuery;
     @Mock private SearchTransactionsByDescriptionQuery searchTransactionsByDescriptionQuery;
     @Mock private GetRecentTransactionsQuery getRecentTransactionsQuery;
+    @Mock private GetTransactionFieldsQuery getTransactionFieldsQuery;
+    @Mock private StreamTransactionsQuery streamTransactionsQuery;
+    @Mock private QueryTransactionsQuery queryTransactionsQuery;
+    @Mock private QueryTransactionFieldsQuery queryTransactionFieldsQuery;
 
     private TransactionService transactionService;
 
@@ -59,7 +72,11 @@ class TransactionServiceTest {
                 getTransactionsByCategoryQuery,
                 getTransactionsByAmountRangeQuery,
                 searchTransactionsByDescriptionQuery,
-                getRecentTransactionsQuery
+                getRecentTransactionsQuery,
+                getTransactionFieldsQuery,
+                streamTransactionsQuery,
+                queryTransactionsQuery,
+                queryTransactionFieldsQuery
         );
     }
 
@@ -121,6 +138,43 @@ class TransactionServiceTest {
                 getRecentTransactionsQuery);
     }
 
+    @Test
+    void queryTransactions_delegatesToQuery() {
+        TransactionQueryRequest request = TransactionQueryRequest.builder().q("coffee").limit(10).build();
+        CursorPagedResponse<TransactionResponse> expected = CursorPagedResponse.<TransactionResponse>builder()
+                .content(List.of(TransactionResponse.builder().id(1L).build()))
+                .limit(10)
+                .build();
+        when(queryTransactionsQuery.execute(request)).thenReturn(expected);
+
+        assertEquals(expected, transactionService.queryTransactions(request));
+        verify(queryTransactionsQuery).execute(request);
+        verifyNoInteractions(getAllTransactionsQuery, getTransactionFieldsQuery);
+    }
+
+    @Test
+    void getTransactionFieldsInDateRange_pagesThroughFieldsQuery() {
+        LocalDate start = LocalDate.of(2025, 10, 1);
+        LocalDate end = LocalDate.of(2025, 10, 31);
+        CursorPageRequest page = CursorPageRequest.builder().cursor("abc").limit(5).build();
+        CursorPagedResponse<Map<String, Object>> expected = CursorPagedResponse.<Map<String, Object>>builder()
+                .content(List.of(Map.of("amount", BigDecimal.TEN)))
+                .limit(5)
+                .build();
+        ArgumentCaptor<QueryTransactionFieldsQuery.Input> captor = ArgumentCaptor.forClass(QueryTransactionFieldsQuery.Input.class);
+        when(queryTransactionFieldsQuery.execute(captor.capture())).thenReturn(expected);
+
+        assertEquals(expected, transactionService.getTransactionFieldsInDateRange(start, end, page, "amount"));
+
+        QueryTransactionFieldsQuery.Input input = captor.getValue();
+        assertEquals("amount", input.fields());
+        assertEquals(start, input.request().getStartDate());
+        assertEquals(end, input.request().getEndDate());
+        assertEquals("abc", input.request().getCursor());
+        assertEquals(5, input.request().getLimit());
+        verifyNoInteractions(getTransactionFieldsQuery, getTransactionsInDateRangeQuery);
+    }
+
     @Test
     void getTransactionById_delegatesToQuery() {
         Long id = 5L;
@@ -142,15 +196,16 @@ class TransactionServiceTest {
     void getTransactionsInDateRange_delegatesToQueryWithRecord() {
         LocalDate start = LocalDate.of(2025, 1, 10);
         LocalDate end = LocalDate.of(2025, 2, 1);
-        List<TransactionResponse> expected = List.of(TransactionResponse.builder().id(1L).build());
-        when(getTransactionsInDateRangeQuery.execute(new GetTransactionsInDateRangeQuery.DateRange(start, end)))
+        CursorPageRequest page = CursorPageRequest.builder().cursor("abc").limit(10).build();
+        CursorPagedResponse<TransactionResponse> expected = pageOf(TransactionResponse.builder().id(1L).build());
+        when(getTransactionsInDateRangeQuery.execute(new GetTransactionsInDateRangeQuery.DateRange(start, end, page)))
                 .thenReturn(expected);
 
-        List<TransactionResponse> actual = transactionService.getTransactionsInDateRange(start, end);
+        CursorPagedResponse<TransactionResponse> actual = transactionService.getTransactionsInDateRange(start, end, page);
 
         assertEquals(expected, actual);
         verify(getTransactionsInDateRangeQuery)
-                .execute(new GetTransactionsInDateRangeQuery.DateRange(start, end));
+                .execute(new GetTransactionsInDateRangeQuery.DateRange(start, end, page));
         verifyNoMoreInteractions(getTransactionsInDateRangeQuery);
         verifyNoInteractions(createTransactionCommand, getAllTransactionsQuery, getTransactionByIdQuery,
                 updateTransactionCommand, deleteTransactionCommand, duplicateTransactionCommand,
@@ -211,13 +266,15 @@ class TransactionServiceTest {
     @Test
     void getTransactionsByCategory_delegatesToQuery() {
         Long categoryId = 3L;
-        List<TransactionResponse> expected = List.of(TransactionResponse.builder().id(1L).build());
-        when(getTransactionsByCategoryQuery.execute(categoryId)).thenReturn(expected);
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        CursorPagedResponse<TransactionResponse> expected = pageOf(TransactionResponse.builder().id(1L).build());
+        when(getTransactionsByCategoryQuery.execute(new GetTransactionsByCategoryQuery.ByCategory(categoryId, page)))
+                .thenReturn(expected);
 
-        List<TransactionResponse> actual = transactionService.getTransactionsByCategory(categoryId);
+        CursorPagedResponse<TransactionResponse> actual = transactionService.getTransactionsByCategory(categoryId, page);
 
         assertEquals(expected, actual);
-        verify(getTransactionsByCategoryQuery).execute(categoryId);
+        verify(getTransactionsByCategoryQuery).execute(new GetTransactionsByCategoryQuery.ByCategory(categoryId, page));
         verifyNoMoreInteractions(getTransactionsByCategoryQuery);
         verifyNoInteractions(createTransactionCommand, getAllTransactionsQuery, getTransactionByIdQuery,
                 getTransactionsInDateRangeQuery, updateTransactionCommand, deleteTransactionCommand,
@@ -229,15 +286,16 @@ class TransactionServiceTest {
     void getTransactionsByAmountRange_delegatesToQueryWithRecord() {
         BigDecimal min = BigDecimal.valueOf(5);
         BigDecimal max = BigDecimal.valueOf(50);
-        List<TransactionResponse> expected = List.of(TransactionResponse.builder().id(1L).build());
-        when(getTransactionsByAmountRangeQuery.execute(new GetTransactionsByAmountRangeQuery.AmountRange(min, max)))
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        CursorPagedResponse<TransactionResponse> expected = pageOf(TransactionResponse.builder().id(1L).build());
+        when(getTransactionsByAmountRangeQuery.execute(new GetTransactionsByAmountRangeQuery.AmountRange(min, max, page)))
                 .thenReturn(expected);
 
-        List<TransactionResponse> actual = transactionService.getTransactionsByAmountRange(min, max);
+        CursorPagedResponse<TransactionResponse> actual = transactionService.getTransactionsByAmountRange(min, max, page);
 
         assertEquals(expected, actual);
         verify(getTransactionsByAmountRangeQuery)
-                .execute(new GetTransactionsByAmountRangeQuery.AmountRange(min, max));
+                .execute(new GetTransactionsByAmountRangeQuery.AmountRange(min, max, page));
         verifyNoMoreInteractions(getTransactionsByAmountRangeQuery);
         verifyNoInteractions(createTransactionCommand, getAllTransactionsQuery, getTransactionByIdQuery,
                 getTransactionsInDateRangeQuery, updateTransactionCommand, deleteTransactionCommand,
@@ -248,13 +306,15 @@ class TransactionServiceTest {
     @Test
     void searchTransactionsByDescription_delegatesToQuery() {
         String q = "groceries";
-        List<TransactionResponse> expected = List.of(TransactionResponse.builder().id(1L).build());
-        when(searchTransactionsByDescriptionQuery.execute(q)).thenReturn(expected);
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        CursorPagedResponse<TransactionResponse> expected = pageOf(TransactionResponse.builder().id(1L).build());
+        when(searchTransactionsByDescriptionQuery.execute(new SearchTransactionsByDescriptionQuery.Search(q, page)))
+                .thenReturn(expected);
 
-        List<TransactionResponse> actual = transactionService.searchTransactionsByDescription(q);
+        CursorPagedResponse<TransactionResponse> actual = transactionService.searchTransactionsByDescription(q, page);
 
         assertEquals(expected, actual);
-        verify(searchTransactionsByDescriptionQuery).execute(q);
+        verify(searchTransactionsByDescriptionQuery).execute(new SearchTransactionsByDescriptionQuery.Search(q, page));
         verifyNoMoreInteractions(searchTransactionsByDescriptionQuery);
         verifyNoInteractions(createTransactionCommand, getAllTransactionsQuery, getTransactionByIdQuery,
                 getTransactionsInDateRangeQuery, updateTransactionCommand, deleteTransactionCommand,
@@ -278,5 +338,28 @@ class TransactionServiceTest {
                 duplicateTransactionCommand, getTransactionsByCategoryQuery, getTransactionsByAmountRangeQuery,
                 searchTransactionsByDescriptionQuery);
     }
-}
 
+    @Test
+    void getAllTransactionFields_paged_delegatesToFieldsQueryWithCount() {
+        PageRequest pageRequest = PageRequest.builder().page(1).size(5).sortBy("amount").sortDirection("ASC").build();
+        PagedResponse<Map<String, Object>> expected = PagedResponse.<Map<String, Object>>builder()
+                .content(List.of(Map.of("amount", new BigDecimal("5.00"))))
+                .build();
+        when(getTransactionFieldsQuery.execute(any())).thenReturn(expected);
+
+        PagedResponse<Map<String, Object>> actual = transactionService.getAllTransactionFields(pageRequest, "amount");
+
+        assertEquals(expected, actual);
+        ArgumentCaptor<GetTransactionFieldsQuery.Input> input = ArgumentCaptor.forClass(GetTransactionFieldsQuery.Input.class);
+        verify(getTransactionFieldsQuery).execute(input.capture());
+        assertEquals("amount", input.getValue().fields());
+        assertEquals(GetTransactionFieldsQuery.Filter.none(), input.getValue().filter());
+        assertEquals(pageRequest.toPageable(), input.getValue().pageable());
+        assertEquals(true, input.getValue().countTotal());
+        verifyNoInteractions(getAllTransactionsQuery);
+    }
+
+    private static CursorPagedResponse<TransactionResponse> pageOf(TransactionResponse... items) {
+        return CursorPagedResponse.<TransactionResponse>builder().content(List.of(items)).limit(20).build();
+    }
+}
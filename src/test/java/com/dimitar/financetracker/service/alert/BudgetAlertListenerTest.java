@@ -0,0 +1,80 @@
+package com.dimitar.financetracker.service.alert;
+
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.BudgetAlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetAlertListenerTest {
+
+    @Mock
+    private BudgetSpendIndex budgetSpendIndex;
+    @Mock
+    private BudgetAlertRepository budgetAlertRepository;
+
+    private BudgetAlertListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new BudgetAlertListener(budgetSpendIndex, budgetAlertRepository);
+    }
+
+    @Test
+    void onTransactionsChanged_savesNewAlertsOnly() {
+        TransactionSnapshot after = new TransactionSnapshot(1L, 10L, CategoryType.EXPENSE,
+            new BigDecimal("30.00"), LocalDate.of(2025, 3, 2), "EUR");
+        BudgetAlert eighty = BudgetAlert.builder().budgetId(5L).thresholdPercent(80).build();
+        BudgetAlert hundred = BudgetAlert.builder().budgetId(5L).thresholdPercent(100).build();
+        when(budgetSpendIndex.apply(1L, null, after)).thenReturn(List.of(eighty, hundred));
+        when(budgetAlertRepository.existsByBudgetIdAndThresholdPercent(5L, 80)).thenReturn(true);
+        when(budgetAlertRepository.existsByBudgetIdAndThresholdPercent(5L, 100)).thenReturn(false);
+
+        listener.onTransactionsChanged(TransactionsChangedEvent.created(1L, after));
+
+        verify(budgetAlertRepository).save(hundred);
+        verify(budgetAlertRepository, never()).save(eighty);
+    }
+
+    @Test
+    void onTransactionsChanged_bulkEventEvictsUser() {
+        listener.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        verify(budgetSpendIndex).evict(1L);
+        verify(budgetSpendIndex, never()).apply(any(), any(), any());
+        verifyNoInteractions(budgetAlertRepository);
+    }
+
+    @Test
+    void beforeTransactionsCommit_marksSingleWritesInFlight() {
+        TransactionSnapshot after = new TransactionSnapshot(1L, 10L, CategoryType.EXPENSE,
+            new BigDecimal("30.00"), LocalDate.of(2025, 3, 2), "EUR");
+
+        listener.beforeTransactionsCommit(TransactionsChangedEvent.created(1L, after));
+        listener.beforeTransactionsCommit(new TransactionsChangedEvent(2L));
+
+        verify(budgetSpendIndex).startCommit(1L);
+        verify(budgetSpendIndex, never()).startCommit(2L);
+    }
+
+    @Test
+    void onBudgetsChanged_evictsUser() {
+        listener.onBudgetsChanged(new BudgetsChangedEvent(1L));
+
+        verify(budgetSpendIndex).evict(1L);
+    }
+}
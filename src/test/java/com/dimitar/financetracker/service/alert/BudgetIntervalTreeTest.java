@@ -0,0 +1,74 @@
+package com.dimitar.financetracker.service.alert;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BudgetIntervalTreeTest {
+
+    private static TrackedBudget budget(long id, long start, long end) {
+        return new TrackedBudget(id, 1L, start, end, 10_000L, "EUR", 0L);
+    }
+
+    private static List<Long> covering(BudgetIntervalTree tree, long day) {
+        List<Long> ids = new ArrayList<>();
+        tree.forEachCovering(day, b -> ids.add(b.budgetId()));
+        ids.sort(null);
+        return ids;
+    }
+
+    @Test
+    void forEachCovering_includesBothEndpoints() {
+        BudgetIntervalTree tree = new BudgetIntervalTree(List.of(budget(1, 10, 20), budget(2, 21, 30)));
+
+        assertEquals(List.of(), covering(tree, 9));
+        assertEquals(List.of(1L), covering(tree, 10));
+        assertEquals(List.of(1L), covering(tree, 20));
+        assertEquals(List.of(2L), covering(tree, 21));
+        assertEquals(List.of(2L), covering(tree, 30));
+        assertEquals(List.of(), covering(tree, 31));
+    }
+
+    @Test
+    void forEachCovering_returnsEveryOverlappingInterval() {
+        BudgetIntervalTree tree = new BudgetIntervalTree(List.of(
+            budget(1, 0, 100), budget(2, 50, 60), budget(3, 55, 55), budget(4, 70, 80)));
+
+        assertEquals(List.of(1L, 2L, 3L), covering(tree, 55));
+        assertEquals(List.of(1L, 4L), covering(tree, 75));
+    }
+
+    @Test
+    void forEachCovering_matchesLinearScanOnRandomIntervals() {
+        Random random = new Random(42);
+        List<TrackedBudget> budgets = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long start = random.nextInt(1000);
+            budgets.add(budget(i, start, start + random.nextInt(90)));
+        }
+        BudgetIntervalTree tree = new BudgetIntervalTree(budgets);
+
+        for (long day = -5; day < 1100; day += 7) {
+            long d = day;
+            List<Long> expected = budgets.stream()
+                .filter(b -> b.startDay() <= d && b.endDay() >= d)
+                .map(TrackedBudget::budgetId)
+                .sorted()
+                .toList();
+            assertEquals(expected, covering(tree, d));
+        }
+        assertEquals(300, tree.size());
+    }
+
+    @Test
+    void forEachCovering_onEmptyTreeFindsNothing() {
+        BudgetIntervalTree tree = new BudgetIntervalTree(List.of());
+
+        assertTrue(covering(tree, 0).isEmpty());
+    }
+}
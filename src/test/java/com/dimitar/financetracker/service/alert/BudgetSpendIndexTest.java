@@ -0,0 +1,203 @@
+package com.dimitar.financetracker.service.alert;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetSpendIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", START, END);
+
+    @Mock
+    private BudgetRepository budgetRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private BudgetSpendIndex index;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(exchangeRateService.targetFor("EUR")).thenReturn(EUR);
+        // EUR passes through; USD is converted at 2 USD per EUR
+        lenient().when(exchangeRateService.convert(any(), eq("EUR"))).thenAnswer(invocation -> {
+            TransactionSnapshot snapshot = invocation.getArgument(0);
+            return "EUR".equals(snapshot.currency())
+                ? snapshot
+                : snapshot.withAmount(snapshot.amount().divide(new BigDecimal("2")), "EUR");
+        });
+        index = new BudgetSpendIndex(budgetRepository, transactionRepository, exchangeRateService, new int[]{100, 80});
+    }
+
+    private void givenBudget(String spentSoFar) {
+        Budget budget = Budget.builder()
+            .id(5L)
+            .category(Category.builder().id(10L).build())
+            .amount(new BigDecimal("100.00"))
+            .currency("EUR")
+            .startDate(START)
+            .endDate(END)
+            .period(BudgetPeriod.MONTHLY)
+            .isActive(true)
+            .build();
+        when(budgetRepository.findByUserIdAndIsActiveTrue(1L)).thenReturn(List.of(budget));
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(1L, 10L, START, END, EUR))
+            .thenReturn(spentSoFar == null ? null : new BigDecimal(spentSoFar));
+    }
+
+    private static TransactionSnapshot expense(String amount, LocalDate date) {
+        return new TransactionSnapshot(1L, 10L, CategoryType.EXPENSE, new BigDecimal(amount), date, "EUR");
+    }
+
+    @Test
+    void constructor_sortsAndDropsInvalidThresholds() {
+        BudgetSpendIndex sorted = new BudgetSpendIndex(budgetRepository, transactionRepository, exchangeRateService, new int[]{100, 0, 80, 80});
+
+        assertArrayEquals(new int[]{80, 100}, sorted.thresholds());
+    }
+
+    @Test
+    void apply_firstWriteLoadsTotalsThatAlreadyIncludeIt() {
+        givenBudget("85.00");
+
+        List<BudgetAlert> alerts = index.apply(1L, null, expense("10.00", START.plusDays(3)));
+
+        assertTrue(index.isLoaded(1L));
+        assertEquals(1, alerts.size());
+        assertEquals(80, alerts.get(0).getThresholdPercent());
+        assertEquals(new BigDecimal("85.00"), alerts.get(0).getSpentAmount().toBigDecimal());
+        assertEquals(new BigDecimal("100.00"), alerts.get(0).getBudgetAmount().toBigDecimal());
+    }
+
+    @Test
+    void apply_raisesEachThresholdOnceWhenCrossedUpwards() {
+        givenBudget("50.00");
+        index.apply(1L, null, expense("50.00", START));
+
+        assertTrue(index.apply(1L, null, expense("20.00", START)).isEmpty());
+
+        List<BudgetAlert> alerts = index.apply(1L, null, expense("40.00", END));
+        assertEquals(List.of(80, 100), alerts.stream().map(BudgetAlert::getThresholdPercent).toList());
+        assertEquals(new BigDecimal("110.00"), alerts.get(1).getSpentAmount().toBigDecimal());
+
+        assertTrue(index.apply(1L, null, expense("1.00", START)).isEmpty());
+        verify(transactionRepository, times(1)).sumAmountByUserAndCategoryAndDateRange(1L, 10L, START, END, EUR);
+    }
+
+    @Test
+    void apply_convertsForeignTransactionsToBudgetCurrency() {
+        givenBudget("70.00");
+        index.apply(1L, null, expense("1.00", START));
+
+        List<BudgetAlert> alerts = index.apply(1L, null,
+            new TransactionSnapshot(2L, 10L, CategoryType.EXPENSE, new BigDecimal("20.00"), START, "USD"));
+
+        assertEquals(List.of(80), alerts.stream().map(BudgetAlert::getThresholdPercent).toList());
+        assertEquals(new BigDecimal("80.00"), alerts.get(0).getSpentAmount().toBigDecimal());
+    }
+
+    @Test
+    void clear_reloadsEveryUserOnNextWrite() {
+        givenBudget("10.00");
+        index.apply(1L, null, expense("1.00", START));
+
+        index.clear();
+
+        assertFalse(index.isLoaded(1L));
+    }
+
+    @Test
+    void apply_ignoresTransactionsOutsideBudgetOrCategory() {
+        givenBudget(null);
+        index.apply(1L, null, expense("1.00", START));
+
+        assertTrue(index.apply(1L, null, expense("500.00", END.plusDays(1))).isEmpty());
+        assertTrue(index.apply(1L, null,
+            new TransactionSnapshot(2L, 11L, CategoryType.EXPENSE, new BigDecimal("500.00"), START, "EUR")).isEmpty());
+    }
+
+    @Test
+    void apply_updateMovingAmountIntoBudgetCrossesThreshold() {
+        givenBudget("70.00");
+        index.apply(1L, null, expense("0.00", START));
+
+        List<BudgetAlert> alerts = index.apply(1L,
+            expense("15.00", START.minusDays(1)),
+            expense("15.00", START.plusDays(1)));
+
+        assertEquals(1, alerts.size());
+        assertEquals(new BigDecimal("85.00"), alerts.get(0).getSpentAmount().toBigDecimal());
+    }
+
+    @Test
+    void apply_loadOverlappingAnotherCommitIsNotKept() {
+        // Both writes below have committed, so the load already includes them
+        givenBudget("79.00");
+        index.startCommit(1L);
+        index.startCommit(1L);
+
+        assertTrue(index.apply(1L, null, expense("5.00", START)).isEmpty());
+        assertFalse(index.isLoaded(1L));
+
+        // The second write's listener reloads instead of adding 5.00 on top of a load that has it
+        assertTrue(index.apply(1L, null, expense("5.00", START)).isEmpty());
+        assertTrue(index.isLoaded(1L));
+
+        List<BudgetAlert> alerts = index.apply(1L, null, expense("1.00", START));
+        assertEquals(List.of(80), alerts.stream().map(BudgetAlert::getThresholdPercent).toList());
+        assertEquals(new BigDecimal("80.00"), alerts.get(0).getSpentAmount().toBigDecimal());
+        verify(budgetRepository, times(2)).findByUserIdAndIsActiveTrue(1L);
+    }
+
+    @Test
+    void abandonCommit_letsTheNextLoadBeKept() {
+        givenBudget("10.00");
+        index.startCommit(1L);
+        index.startCommit(1L);
+        index.abandonCommit(1L);
+
+        index.apply(1L, null, expense("1.00", START));
+
+        assertTrue(index.isLoaded(1L));
+    }
+
+    @Test
+    void evict_forcesReloadOnNextWrite() {
+        givenBudget("0.00");
+        index.apply(1L, null, expense("1.00", START));
+
+        index.evict(1L);
+
+        assertFalse(index.isLoaded(1L));
+        index.apply(1L, null, expense("1.00", START));
+        verify(budgetRepository, times(2)).findByUserIdAndIsActiveTrue(1L);
+    }
+}
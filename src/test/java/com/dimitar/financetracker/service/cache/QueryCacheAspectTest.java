@@ -0,0 +1,137 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.model.Aggregate;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.command.Command;
+import com.dimitar.financetracker.service.query.Query;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCacheAspectTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+
+    private SimpleMeterRegistry registry;
+    private QueryCacheAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        QueryResultCache cache = new QueryResultCache(100, Duration.ofMinutes(10), registry);
+        aspect = new QueryCacheAspect(cache, authenticationFacade, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @CachedQuery(reads = Aggregate.CATEGORIES)
+    static class CountingQuery implements Query<String, String> {
+        final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public String execute(String input) {
+            return input + "#" + executions.incrementAndGet();
+        }
+    }
+
+    @WritesAggregates(Aggregate.CATEGORIES)
+    static class CategoryWriter implements Command<Void, Void> {
+        @Override
+        public Void execute(Void input) {
+            return null;
+        }
+    }
+
+    @WritesAggregates(Aggregate.BUDGETS)
+    static class BudgetWriter implements Command<Void, Void> {
+        @Override
+        public Void execute(Void input) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    private double requests(String result) {
+        return registry.get(QueryCacheAspect.REQUEST_METRIC).tags("name", "CountingQuery", "result", result)
+            .counter().count();
+    }
+
+    @Test
+    void repeatedQueryIsServedFromCachePerInput() {
+        when(authenticationFacade.getPrincipalUserId()).thenReturn(1L);
+        CountingQuery target = new CountingQuery();
+        Query<String, String> query = proxy(target);
+
+        assertThat(query.execute("a")).isEqualTo("a#1");
+        assertThat(query.execute("a")).isEqualTo("a#1");
+        assertThat(query.execute("b")).isEqualTo("b#2");
+
+        assertThat(target.executions).hasValue(2);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void commandWritingAReadAggregateInvalidates() {
+        when(authenticationFacade.getPrincipalUserId()).thenReturn(1L);
+        CountingQuery target = new CountingQuery();
+        Query<String, String> query = proxy(target);
+        Command<Void, Void> budgetWriter = proxy(new BudgetWriter());
+        Command<Void, Void> categoryWriter = proxy(new CategoryWriter());
+
+        query.execute("a");
+        budgetWriter.execute(null);
+        assertThat(query.execute("a")).isEqualTo("a#1");
+
+        categoryWriter.execute(null);
+        assertThat(query.execute("a")).isEqualTo("a#2");
+    }
+
+    @Test
+    void bypassesCacheWithoutJwtPrincipal() {
+        when(authenticationFacade.getPrincipalUserId()).thenReturn(null);
+        CountingQuery target = new CountingQuery();
+        Query<String, String> query = proxy(target);
+
+        query.execute("a");
+        query.execute("a");
+
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void bypassesCacheInsideARunningTransaction() {
+        when(authenticationFacade.getPrincipalUserId()).thenReturn(1L);
+        CountingQuery target = new CountingQuery();
+        Query<String, String> query = proxy(target);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        query.execute("a");
+        query.execute("a");
+
+        assertThat(target.executions).hasValue(2);
+    }
+}
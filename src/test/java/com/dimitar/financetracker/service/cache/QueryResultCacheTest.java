@@ -0,0 +1,131 @@
+package com.dimitar.financetracker.service.cache;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.Aggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryResultCacheTest {
+
+    private static final Aggregate[] READS = {Aggregate.BUDGETS, Aggregate.TRANSACTIONS};
+
+    private final QueryResultCache cache = new QueryResultCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static QueryResultCache.Key key(Long userId) {
+        return new QueryResultCache.Key(QueryResultCacheTest.class, userId, null, LocalDate.of(2025, 6, 1));
+    }
+
+    @Test
+    void returnsEntryWhileReadAggregatesAreUnchanged() {
+        cache.put(key(1L), List.of("a"), cache.versions(1L, READS));
+        cache.invalidate(1L, Aggregate.CATEGORIES);
+
+        QueryResultCache.Entry entry = cache.get(key(1L), READS, cache.versions(1L, READS));
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.value()).isEqualTo(List.of("a"));
+    }
+
+    @Test
+    void writeToAReadAggregateMakesEntryStale() {
+        cache.put(key(1L), "cached", cache.versions(1L, READS));
+
+        cache.invalidate(1L, Aggregate.TRANSACTIONS);
+
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidationIsScopedToTheUser() {
+        cache.put(key(1L), "one", cache.versions(1L, READS));
+        cache.put(key(2L), "two", cache.versions(2L, READS));
+
+        cache.invalidate(2L, Aggregate.BUDGETS);
+
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNotNull();
+        assertThat(cache.get(key(2L), READS, cache.versions(2L, READS))).isNull();
+    }
+
+    @Test
+    void resultLoadedAcrossAConcurrentWriteIsNeverServed() {
+        long[] before = cache.versions(1L, READS);
+        cache.invalidate(1L, Aggregate.BUDGETS); // commit lands while the query is still loading
+        cache.put(key(1L), "computed from pre-commit state", before);
+
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNull();
+    }
+
+    @Test
+    void nullResultsAreCachedAsHits() {
+        cache.put(key(1L), null, cache.versions(1L, READS));
+
+        QueryResultCache.Entry entry = cache.get(key(1L), READS, cache.versions(1L, READS));
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.value()).isNull();
+    }
+
+    @Test
+    void invalidateAfterCommit_invalidatesAgainOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterCommit(1L, Aggregate.BUDGETS);
+        cache.put(key(1L), "read before commit", cache.versions(1L, READS));
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNotNull();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNull();
+    }
+
+    @Test
+    void changeEventsInvalidateTheMatchingAggregate() {
+        Aggregate[] budgetsOnly = {Aggregate.BUDGETS};
+        Aggregate[] transactionsOnly = {Aggregate.TRANSACTIONS};
+        QueryResultCache.Key budgets = new QueryResultCache.Key(String.class, 1L, null, LocalDate.of(2025, 6, 1));
+        QueryResultCache.Key transactions = new QueryResultCache.Key(Integer.class, 1L, null, LocalDate.of(2025, 6, 1));
+        cache.put(budgets, "budgets", cache.versions(1L, budgetsOnly));
+        cache.put(transactions, "transactions", cache.versions(1L, transactionsOnly));
+
+        cache.onBudgetsChanged(new BudgetsChangedEvent(1L));
+
+        assertThat(cache.get(budgets, budgetsOnly, cache.versions(1L, budgetsOnly))).isNull();
+        assertThat(cache.get(transactions, transactionsOnly, cache.versions(1L, transactionsOnly))).isNotNull();
+
+        cache.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        assertThat(cache.get(transactions, transactionsOnly, cache.versions(1L, transactionsOnly))).isNull();
+    }
+
+    @Test
+    void exchangeRateChangeInvalidatesEveryUser() {
+        long[] before = cache.versions(2L, READS);
+        cache.put(key(1L), "one", cache.versions(1L, READS));
+
+        cache.onExchangeRatesChanged(new ExchangeRatesChangedEvent(Set.of("USD"), null, null));
+        // Computed with the old rates but stored after the change: must not be served
+        cache.put(key(2L), "two", before);
+
+        assertThat(cache.get(key(1L), READS, cache.versions(1L, READS))).isNull();
+        assertThat(cache.get(key(2L), READS, cache.versions(2L, READS))).isNull();
+    }
+}
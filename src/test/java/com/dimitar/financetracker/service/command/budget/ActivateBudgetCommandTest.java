@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,11 +33,13 @@ class ActivateBudgetCommandTest {
     private BudgetRepository budgetRepository;
     @Mock
     private BudgetMapper budgetMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private ActivateBudgetCommand command;
 
     @BeforeEach
-    void setUp() { command = new ActivateBudgetCommand(authenticationFacade, budgetRepository, budgetMapper); }
+    void setUp() { command = new ActivateBudgetCommand(authenticationFacade, budgetRepository, budgetMapper, eventPublisher); }
 
     @Test
     void execute_activates_whenInactiveOrNull() {
@@ -6,17 +6,20 @@ import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.exception.budget.OverlappingBudgetException;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
 import com.dimitar.financetracker.model.BudgetPeriod;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,11 +41,15 @@ class CreateBudgetCommandTest {
     private BudgetRepository budgetRepository;
     @Mock
     private BudgetMapper budgetMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private CreateBudgetCommand command;
 
     @BeforeEach
-    void setUp() { command = new CreateBudgetCommand(authenticationFacade, categoryRepository, budgetRepository, budgetMapper); }
+    void setUp() { command = new CreateBudgetCommand(authenticationFacade, categoryRepository, budgetRepository, budgetMapper, exchangeRateService, eventPublisher); }
 
     @Test
     void execute_createsBudget_whenCategoryOwnedByUser() {
@@ -69,6 +76,7 @@ class CreateBudgetCommandTest {
 
         BudgetResponse result = command.execute(req);
         assertEquals(expected, result);
+        verify(eventPublisher).publishEvent(new BudgetsChangedEvent(1L));
         verify(categoryRepository).findByIdAndUserId(10L, 1L);
         verify(budgetMapper).toEntity(req, user, category);
         verify(budgetRepository).save(mapped);
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -26,11 +27,13 @@ class DeactivateBudgetCommandTest {
     private BudgetRepository budgetRepository;
     @Mock
     private BudgetMapper budgetMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DeactivateBudgetCommand command;
 
     @BeforeEach
-    void setUp() { command = new DeactivateBudgetCommand(authenticationFacade, budgetRepository, budgetMapper); }
+    void setUp() { command = new DeactivateBudgetCommand(authenticationFacade, budgetRepository, budgetMapper, eventPublisher); }
 
     @Test
     void execute_deactivates_whenActiveOrNull() {
@@ -1,6 +1,7 @@
 package com.dimitar.financetracker.service.command.budget;
 
 import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -22,11 +24,13 @@ class DeleteBudgetCommandTest {
     private AuthenticationFacade authenticationFacade;
     @Mock
     private BudgetRepository budgetRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DeleteBudgetCommand command;
 
     @BeforeEach
-    void setUp() { command = new DeleteBudgetCommand(authenticationFacade, budgetRepository); }
+    void setUp() { command = new DeleteBudgetCommand(authenticationFacade, budgetRepository, eventPublisher); }
 
     @Test
     void execute_deletesBudget_whenFoundForUser() {
@@ -38,6 +42,7 @@ class DeleteBudgetCommandTest {
         command.execute(budgetId);
 
         verify(budgetRepository).delete(budget);
+        verify(eventPublisher).publishEvent(new BudgetsChangedEvent(userId));
         verifyNoMoreInteractions(budgetRepository);
     }
 
@@ -49,6 +54,7 @@ class DeleteBudgetCommandTest {
 
         assertThrows(BudgetDoesNotExistException.class, () -> command.execute(budgetId));
         verify(budgetRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
 }
 
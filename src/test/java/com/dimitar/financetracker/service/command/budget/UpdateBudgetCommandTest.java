@@ -11,11 +11,13 @@ import com.dimitar.financetracker.model.BudgetPeriod;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,12 +38,16 @@ class UpdateBudgetCommandTest {
     private BudgetRepository budgetRepository;
     @Mock
     private BudgetMapper budgetMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private UpdateBudgetCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new UpdateBudgetCommand(authenticationFacade, categoryRepository, budgetRepository, budgetMapper);
+        command = new UpdateBudgetCommand(authenticationFacade, categoryRepository, budgetRepository, budgetMapper, exchangeRateService, eventPublisher);
     }
 
     @Test
@@ -5,6 +5,7 @@ import com.dimitar.financetracker.dto.request.category.CreateCategoryRequest;
 import com.dimitar.financetracker.dto.response.category.CategoryResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
 import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -26,12 +28,14 @@ class CreateCategoryCommandTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private CreateCategoryCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new CreateCategoryCommand(authenticationFacade, categoryRepository, categoryMapper);
+        command = new CreateCategoryCommand(authenticationFacade, categoryRepository, categoryMapper, eventPublisher);
     }
 
     @Test
@@ -63,6 +67,7 @@ class CreateCategoryCommandTest {
         verify(categoryMapper).toEntity(request, user);
         verify(categoryRepository).save(mapped);
         verify(categoryMapper).toResponse(mapped);
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(1L));
         verifyNoMoreInteractions(authenticationFacade, categoryRepository, categoryMapper);
     }
 }
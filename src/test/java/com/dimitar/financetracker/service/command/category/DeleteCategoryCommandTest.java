@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -22,12 +23,14 @@ class DeleteCategoryCommandTest {
     private AuthenticationFacade authenticationFacade;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DeleteCategoryCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new DeleteCategoryCommand(authenticationFacade, categoryRepository);
+        command = new DeleteCategoryCommand(authenticationFacade, categoryRepository, eventPublisher);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.dimitar.financetracker.service.command.category;
 
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
 import com.dimitar.financetracker.exception.user.UserDoesNotExistException;
 import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.repository.CategoryRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,12 +37,14 @@ class ImportDefaultCategoriesCommandTest {
     private AuthenticationFacade authenticationFacade;
     @Mock
     private DefaultCategoryTemplateService templateService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private ImportDefaultCategoriesCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new ImportDefaultCategoriesCommand(categoryRepository, userRepository, authenticationFacade, templateService);
+        command = new ImportDefaultCategoriesCommand(categoryRepository, userRepository, authenticationFacade, templateService, eventPublisher);
     }
 
     @Test
@@ -80,6 +84,7 @@ class ImportDefaultCategoriesCommandTest {
         assertEquals(2, result.size());
         assertEquals("Salary", result.get(0).getName());
         assertEquals("Food", result.get(1).getName());
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(userId));
     }
 
     @Test
@@ -150,6 +155,7 @@ class ImportDefaultCategoriesCommandTest {
 
         // No save when nothing to import
         verify(categoryRepository, never()).saveAll(any(Iterable.class));
+        verifyNoInteractions(eventPublisher);
         assertTrue(result.isEmpty());
     }
 }
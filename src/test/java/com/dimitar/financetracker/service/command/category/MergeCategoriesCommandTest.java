@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -31,12 +32,14 @@ class MergeCategoriesCommandTest {
     private TransactionRepository transactionRepository;
     @Mock
     private AuthenticationFacade authenticationFacade;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private MergeCategoriesCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new MergeCategoriesCommand(categoryRepository, transactionRepository, authenticationFacade);
+        command = new MergeCategoriesCommand(categoryRepository, transactionRepository, authenticationFacade, eventPublisher);
     }
 
     @Test
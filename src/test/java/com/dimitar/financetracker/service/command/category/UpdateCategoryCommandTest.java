@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -28,12 +29,14 @@ class UpdateCategoryCommandTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private UpdateCategoryCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new UpdateCategoryCommand(authenticationFacade, categoryRepository, categoryMapper);
+        command = new UpdateCategoryCommand(authenticationFacade, categoryRepository, categoryMapper, eventPublisher);
     }
 
     @Test
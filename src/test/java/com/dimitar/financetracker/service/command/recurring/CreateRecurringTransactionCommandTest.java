@@ -0,0 +1,103 @@
+package com.dimitar.financetracker.service.command.recurring;
+
+import com.dimitar.financetracker.dto.mapper.RecurringTransactionMapper;
+import com.dimitar.financetracker.dto.request.recurring.CreateRecurringTransactionRequest;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateRecurringTransactionCommandTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+    @Mock
+    private RecurringTransactionMapper recurringTransactionMapper;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private CreateRecurringTransactionCommand command;
+
+    @BeforeEach
+    void setUp() {
+        command = new CreateRecurringTransactionCommand(authenticationFacade, categoryRepository,
+                recurringTransactionRepository, recurringTransactionMapper, exchangeRateService);
+    }
+
+    private CreateRecurringTransactionRequest.CreateRecurringTransactionRequestBuilder request() {
+        return CreateRecurringTransactionRequest.builder()
+                .categoryId(10L)
+                .amount(new BigDecimal("950.00"))
+                .frequency(RecurrenceFrequency.MONTHLY)
+                .startDate(LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    void execute_createsRule_whenCategoryOwnedByUser() {
+        User user = User.builder().id(1L).build();
+        Category category = Category.builder().id(10L).build();
+        CreateRecurringTransactionRequest req = request().build();
+        RecurringTransaction mapped = RecurringTransaction.builder().amount(req.getAmount()).build();
+        RecurringTransactionResponse expected = RecurringTransactionResponse.builder().id(5L).build();
+        when(authenticationFacade.getAuthenticatedUser()).thenReturn(user);
+        when(categoryRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(category));
+        when(recurringTransactionMapper.toEntity(req, user, category)).thenReturn(mapped);
+        when(recurringTransactionRepository.save(mapped)).thenReturn(mapped);
+        when(recurringTransactionMapper.toResponse(mapped)).thenReturn(expected);
+
+        assertEquals(expected, command.execute(req));
+        verify(recurringTransactionRepository).save(mapped);
+    }
+
+    @Test
+    void execute_throwsWhenCategoryNotFoundOrNotOwned() {
+        when(authenticationFacade.getAuthenticatedUser()).thenReturn(User.builder().id(1L).build());
+        when(categoryRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(CategoryDoesNotExistException.class, () -> command.execute(request().build()));
+        verify(recurringTransactionRepository, never()).save(any());
+    }
+
+    @Test
+    void execute_rejectsCronFrequencyWithoutValidExpression() {
+        CreateRecurringTransactionRequest req = request()
+                .frequency(RecurrenceFrequency.CRON)
+                .cronExpression("every monday")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> command.execute(req));
+        verifyNoInteractions(authenticationFacade, recurringTransactionRepository);
+    }
+
+    @Test
+    void execute_rejectsEndDateBeforeStartDate() {
+        CreateRecurringTransactionRequest req = request().endDate(LocalDate.of(2024, 12, 31)).build();
+
+        assertThrows(IllegalArgumentException.class, () -> command.execute(req));
+        verifyNoInteractions(recurringTransactionRepository);
+    }
+}
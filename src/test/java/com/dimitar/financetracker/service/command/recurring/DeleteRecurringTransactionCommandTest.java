@@ -0,0 +1,50 @@
+package com.dimitar.financetracker.service.command.recurring;
+
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.exception.recurring.RecurringTransactionDoesNotExistException;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteRecurringTransactionCommandTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    private DeleteRecurringTransactionCommand command;
+
+    @BeforeEach
+    void setUp() { command = new DeleteRecurringTransactionCommand(authenticationFacade, recurringTransactionRepository); }
+
+    @Test
+    void execute_deletesRule_whenFoundForUser() {
+        RecurringTransaction rule = RecurringTransaction.builder().id(7L).build();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(1L);
+        when(recurringTransactionRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.of(rule));
+
+        command.execute(7L);
+
+        verify(recurringTransactionRepository).delete(rule);
+    }
+
+    @Test
+    void execute_throwsWhenRuleNotFound() {
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(1L);
+        when(recurringTransactionRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(RecurringTransactionDoesNotExistException.class, () -> command.execute(7L));
+        verify(recurringTransactionRepository, never()).delete(any());
+    }
+}
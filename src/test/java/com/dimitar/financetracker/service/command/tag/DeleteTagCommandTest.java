@@ -0,0 +1,65 @@
+package com.dimitar.financetracker.service.command.tag;
+
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.exception.tag.TagDoesNotExistException;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteTagCommandTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DeleteTagCommand command;
+
+    @BeforeEach
+    void setUp() {
+        command = new DeleteTagCommand(authenticationFacade, tagRepository, eventPublisher);
+    }
+
+    @Test
+    void execute_untagsTransactionsAndDeletesTag_whenFound() {
+        Long userId = 9L;
+        Long tagId = 4L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        Tag tag = Tag.builder().id(tagId).name("travel").build();
+        when(tagRepository.findByIdAndUserId(tagId, userId)).thenReturn(Optional.of(tag));
+
+        command.execute(tagId);
+
+        InOrder inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).deleteMemberships(tagId);
+        inOrder.verify(tagRepository).delete(tag);
+        verify(eventPublisher).publishEvent(TransactionTagsChangedEvent.tagsDeleted(userId, Set.of(tagId)));
+    }
+
+    @Test
+    void execute_throwsWhenTagNotFound() {
+        Long userId = 9L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        when(tagRepository.findByIdAndUserId(99L, userId)).thenReturn(Optional.empty());
+
+        assertThrows(TagDoesNotExistException.class, () -> command.execute(99L));
+        verify(tagRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
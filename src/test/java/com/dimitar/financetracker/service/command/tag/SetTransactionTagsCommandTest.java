@@ -0,0 +1,121 @@
+package com.dimitar.financetracker.service.command.tag;
+
+import com.dimitar.financetracker.dto.mapper.TagMapper;
+import com.dimitar.financetracker.dto.request.tag.SetTransactionTagsRequest;
+import com.dimitar.financetracker.dto.response.tag.TagResponse;
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SetTransactionTagsCommandTest {
+
+    private static final Long USER_ID = 9L;
+    private static final Long TX_ID = 77L;
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SetTransactionTagsCommand command;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        command = new SetTransactionTagsCommand(authenticationFacade, transactionRepository, tagRepository, new TagMapper(), eventPublisher);
+        user = User.builder().id(USER_ID).build();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(USER_ID);
+    }
+
+    private static Tag tag(Long id, String name) {
+        return Tag.builder().id(id).name(name).build();
+    }
+
+    private static SetTransactionTagsRequest request(String... names) {
+        return SetTransactionTagsRequest.builder().transactionId(TX_ID).tags(List.of(names)).build();
+    }
+
+    @Test
+    void execute_replacesTagsCreatingMissingOnes_andPublishesDiff() {
+        Tag travel = tag(1L, "travel");
+        Tag refunded = tag(2L, "refunded");
+        Transaction transaction = Transaction.builder().id(TX_ID).user(user).tags(new HashSet<>(Set.of(travel, refunded))).build();
+        when(transactionRepository.findByIdAndUserId(TX_ID, USER_ID)).thenReturn(Optional.of(transaction));
+        when(tagRepository.findByUserIdAndNameIn(eq(USER_ID), eq(Set.of("travel", "food")))).thenReturn(List.of(travel));
+        when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> {
+            Tag saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+
+        List<TagResponse> result = command.execute(request(" Travel", "FOOD", "travel"));
+
+        assertEquals(List.of("food", "travel"), result.stream().map(TagResponse::getName).toList());
+        assertEquals(Set.of(1L, 3L), transaction.getTags().stream().map(Tag::getId).collect(Collectors.toSet()));
+        verify(tagRepository).save(argThat(t -> "food".equals(t.getName()) && t.getUser() == user));
+        verify(eventPublisher).publishEvent(new TransactionTagsChangedEvent(USER_ID, TX_ID, Set.of(2L), Set.of(3L)));
+    }
+
+    @Test
+    void execute_withUnchangedTags_publishesNothing() {
+        Tag travel = tag(1L, "travel");
+        Transaction transaction = Transaction.builder().id(TX_ID).user(user).tags(new HashSet<>(Set.of(travel))).build();
+        when(transactionRepository.findByIdAndUserId(TX_ID, USER_ID)).thenReturn(Optional.of(transaction));
+        when(tagRepository.findByUserIdAndNameIn(eq(USER_ID), anyCollection())).thenReturn(List.of(travel));
+
+        command.execute(request("travel"));
+
+        verify(tagRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void execute_withEmptyList_removesEveryTag() {
+        Tag travel = tag(1L, "travel");
+        Transaction transaction = Transaction.builder().id(TX_ID).user(user).tags(new HashSet<>(Set.of(travel))).build();
+        when(transactionRepository.findByIdAndUserId(TX_ID, USER_ID)).thenReturn(Optional.of(transaction));
+
+        assertEquals(List.of(), command.execute(request()));
+
+        assertEquals(Set.of(), transaction.getTags());
+        verify(tagRepository, never()).findByUserIdAndNameIn(any(), any());
+        verify(eventPublisher).publishEvent(new TransactionTagsChangedEvent(USER_ID, TX_ID, Set.of(1L), Set.of()));
+    }
+
+    @Test
+    void execute_throwsWhenTransactionNotFound() {
+        when(transactionRepository.findByIdAndUserId(TX_ID, USER_ID)).thenReturn(Optional.empty());
+
+        assertThrows(TransactionDoesNotExistException.class, () -> command.execute(request("travel")));
+        verifyNoInteractions(tagRepository, eventPublisher);
+    }
+}
@@ -6,16 +6,20 @@ import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.Transaction;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.category.CategoryDoesNotExistException;
 import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -35,18 +39,22 @@ class CreateTransactionCommandTest {
     private TransactionRepository transactionRepository;
     @Mock
     private TransactionMapper transactionMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private CreateTransactionCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new CreateTransactionCommand(authenticationFacade, categoryRepository, transactionRepository, transactionMapper);
+        command = new CreateTransactionCommand(authenticationFacade, categoryRepository, transactionRepository, transactionMapper, exchangeRateService, eventPublisher);
     }
 
     @Test
     void execute_createsTransaction_whenCategoryBelongsToUser() {
         Long userId = 1L;
-        User user = User.builder().id(userId).username("john").build();
+        User user = User.builder().id(userId).username("john").baseCurrency("USD").build();
         when(authenticationFacade.getAuthenticatedUser()).thenReturn(user);
 
         Long categoryId = 10L;
@@ -63,6 +71,7 @@ class CreateTransactionCommandTest {
         Transaction mapped = Transaction.builder().user(user).category(category).amount(new BigDecimal("12.34")).description("lunch").transactionDate(LocalDate.of(2025, 1, 15)).build();
         when(transactionMapper.toEntity(request, user, category)).thenReturn(mapped);
 
+        when(exchangeRateService.resolve(null, "USD")).thenReturn("USD");
         when(transactionRepository.save(mapped)).thenReturn(mapped);
 
         TransactionResponse expected = TransactionResponse.builder().id(999L).userId(userId).categoryId(categoryId).amount(new BigDecimal("12.34")).description("lunch").transactionDate(LocalDate.of(2025,1,15)).build();
@@ -71,10 +80,12 @@ class CreateTransactionCommandTest {
         TransactionResponse result = command.execute(request);
 
         assertEquals(expected, result);
+        assertEquals("USD", mapped.getCurrency()); // defaults to the user's base currency
         verify(categoryRepository).findByIdAndUserId(categoryId, userId);
         verify(transactionMapper).toEntity(request, user, category);
         verify(transactionRepository).save(mapped);
         verify(transactionMapper).toResponse(mapped);
+        verify(eventPublisher).publishEvent(TransactionsChangedEvent.created(userId, TransactionSnapshot.of(mapped)));
         verifyNoMoreInteractions(categoryRepository, transactionRepository, transactionMapper);
     }
 
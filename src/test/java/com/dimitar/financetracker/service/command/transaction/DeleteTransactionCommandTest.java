@@ -1,6 +1,8 @@
 package com.dimitar.financetracker.service.command.transaction;
 
 import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
 import com.dimitar.financetracker.exception.transaction.TransactionDoesNotExistException;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -22,12 +25,14 @@ class DeleteTransactionCommandTest {
     private AuthenticationFacade authenticationFacade;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DeleteTransactionCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new DeleteTransactionCommand(authenticationFacade, transactionRepository);
+        command = new DeleteTransactionCommand(authenticationFacade, transactionRepository, eventPublisher);
     }
 
     @Test
@@ -43,6 +48,7 @@ class DeleteTransactionCommandTest {
 
         verify(transactionRepository).delete(tx);
         verifyNoMoreInteractions(transactionRepository);
+        verify(eventPublisher).publishEvent(TransactionsChangedEvent.deleted(userId, TransactionSnapshot.of(tx)));
     }
 
     @Test
@@ -53,7 +59,8 @@ class DeleteTransactionCommandTest {
         when(transactionRepository.findByIdAndUserId(txId, userId)).thenReturn(Optional.empty());
 
         assertThrows(TransactionDoesNotExistException.class, () -> command.execute(txId));
-        verify(transactionRepository, never()).delete(any());
+        verify(transactionRepository, never()).delete(any(Transaction.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
 
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,12 +33,14 @@ class DuplicateTransactionCommandTest {
     private TransactionRepository transactionRepository;
     @Mock
     private TransactionMapper transactionMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private DuplicateTransactionCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new DuplicateTransactionCommand(authenticationFacade, transactionRepository, transactionMapper);
+        command = new DuplicateTransactionCommand(authenticationFacade, transactionRepository, transactionMapper, eventPublisher);
     }
 
     @Test
@@ -11,11 +11,13 @@ import com.dimitar.financetracker.model.CategoryType;
 import com.dimitar.financetracker.repository.CategoryRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -35,12 +37,16 @@ class UpdateTransactionCommandTest {
     private TransactionRepository transactionRepository;
     @Mock
     private TransactionMapper transactionMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private UpdateTransactionCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new UpdateTransactionCommand(authenticationFacade, categoryRepository, transactionRepository, transactionMapper);
+        command = new UpdateTransactionCommand(authenticationFacade, categoryRepository, transactionRepository, transactionMapper, exchangeRateService, eventPublisher);
     }
 
     @Test
@@ -4,16 +4,20 @@ import com.dimitar.financetracker.dto.mapper.UserMapper;
 import com.dimitar.financetracker.dto.request.user.UserUpdateRequest;
 import com.dimitar.financetracker.dto.response.user.UserResponse;
 import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
 import com.dimitar.financetracker.exception.user.DuplicateEmailException;
 import com.dimitar.financetracker.exception.user.DuplicateUsernameException;
 import com.dimitar.financetracker.repository.UserRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,12 +31,16 @@ class UpdateUserCommandTest {
     private UserRepository userRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private UpdateUserCommand command;
 
     @BeforeEach
     void setUp() {
-        command = new UpdateUserCommand(authenticationFacade, userRepository, userMapper);
+        command = new UpdateUserCommand(authenticationFacade, userRepository, userMapper, exchangeRateService, eventPublisher);
     }
 
     @Test
@@ -66,6 +74,35 @@ class UpdateUserCommandTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void execute_changesBaseCurrencyAndRefreshesConvertedTotals() {
+        User user = User.builder().id(1L).username("john").email("old@example.com").baseCurrency("EUR").build();
+        when(authenticationFacade.getAuthenticatedUser()).thenReturn(user);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        command.execute(UserUpdateRequest.builder().baseCurrency("USD").build());
+
+        verify(exchangeRateService).requireSupported("USD");
+        assertEquals("USD", user.getBaseCurrency());
+        ArgumentCaptor<TransactionsChangedEvent> event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().userId());
+        assertTrue(event.getValue().isBulk());
+    }
+
+    @Test
+    void execute_rejectsUnsupportedBaseCurrency() {
+        User user = User.builder().id(1L).username("john").baseCurrency("EUR").build();
+        when(authenticationFacade.getAuthenticatedUser()).thenReturn(user);
+        doThrow(new UnsupportedCurrencyException("No exchange rates loaded for currency: XYZ"))
+                .when(exchangeRateService).requireSupported("XYZ");
+
+        assertThrows(UnsupportedCurrencyException.class,
+                () -> command.execute(UserUpdateRequest.builder().baseCurrency("XYZ").build()));
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void execute_throwsWhenDuplicateUsername() {
         User user = User.builder().username("john").email("old@example.com").build();
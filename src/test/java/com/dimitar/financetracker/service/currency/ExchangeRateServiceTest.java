@@ -0,0 +1,139 @@
+package com.dimitar.financetracker.service.currency;
+
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.ExchangeRateRepository;
+import com.dimitar.financetracker.repository.UserRepository;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 2);
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ExchangeRateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExchangeRateService(exchangeRateRepository, userRepository, jdbcTemplate,
+            transactionManager, eventPublisher, "");
+    }
+
+    private static TransactionSnapshot expense(String amount, String currency) {
+        return new TransactionSnapshot(1L, 2L, CategoryType.EXPENSE, new BigDecimal(amount), DAY, currency);
+    }
+
+    @Test
+    void parse_skipsHeaderCommentsAndBlankLines() {
+        List<ExchangeRateRow> rows = ExchangeRateService.parse(List.of(
+            "date,currency,rate",
+            "# ECB reference rates",
+            "",
+            "2025-01-02, usd ,1.0321"));
+
+        assertEquals(List.of(new ExchangeRateRow("USD", DAY, new BigDecimal("1.0321"))), rows);
+    }
+
+    @Test
+    void parse_reportsTheOffendingLine() {
+        IllegalArgumentException missingField = assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateService.parse(List.of("2025-01-02,USD")));
+        IllegalArgumentException badRate = assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateService.parse(List.of("2025-01-02,USD,1.03", "2025-01-03,USD,abc")));
+
+        assertTrue(missingField.getMessage().startsWith("Line 1:"));
+        assertTrue(badRate.getMessage().startsWith("Line 2:"));
+    }
+
+    @Test
+    void preload_readsTheTableWhenNoFileIsConfigured() {
+        when(exchangeRateRepository.findAllRows())
+            .thenReturn(List.of(new ExchangeRateRow("USD", DAY, new BigDecimal("2"))));
+
+        service.preload();
+
+        assertEquals(Set.of("EUR", "USD"), service.snapshot().currencies());
+        assertEquals("USD", service.resolve("USD", "EUR"));
+        assertEquals("EUR", service.resolve(null, "EUR"));
+        assertThrows(UnsupportedCurrencyException.class, () -> service.resolve("GBP", "EUR"));
+    }
+
+    @Test
+    void convert_usesTheRateOfTheTransactionDate() {
+        when(exchangeRateRepository.findAllRows())
+            .thenReturn(List.of(new ExchangeRateRow("USD", DAY, new BigDecimal("2"))));
+        service.preload();
+        TransactionSnapshot eur = expense("12.50", "EUR");
+
+        assertEquals(expense("25.00", "USD"), service.convert(eur, "USD"));
+        assertSame(eur, service.convert(eur, "EUR"));
+    }
+
+    @Test
+    void replaceRates_refusesToDropACurrencyStillInUse() {
+        when(exchangeRateRepository.findCurrenciesInUse()).thenReturn(List.of("EUR", "USD"));
+
+        assertThrows(UnsupportedCurrencyException.class, () -> service.replaceRates(
+            List.of(new ExchangeRateRow("GBP", DAY, new BigDecimal("0.8")))));
+
+        verify(exchangeRateRepository, never()).deleteAllInBatch();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertEquals(Set.of("EUR"), service.snapshot().currencies());
+    }
+
+    @Test
+    void replaceRates_swapsTheSnapshotAndPublishesTheChange() {
+        when(exchangeRateRepository.findCurrenciesInUse()).thenReturn(List.of("EUR"));
+
+        service.replaceRates(List.of(new ExchangeRateRow("USD", DAY, new BigDecimal("1.03"))));
+
+        verify(exchangeRateRepository).deleteAllInBatch();
+        verify(eventPublisher).publishEvent(new ExchangeRatesChangedEvent(Set.of("EUR", "USD"), DAY, DAY));
+        assertEquals(Set.of("EUR", "USD"), service.snapshot().currencies());
+    }
+
+    @Test
+    void baseCurrencyOf_defaultsToTheReferenceCurrency() {
+        when(userRepository.findBaseCurrencyById(1L)).thenReturn(Optional.empty());
+        when(userRepository.findBaseCurrencyById(2L)).thenReturn(Optional.of("USD"));
+
+        assertEquals("EUR", service.baseCurrencyOf(1L));
+        assertEquals("USD", service.baseCurrencyOf(2L));
+    }
+}
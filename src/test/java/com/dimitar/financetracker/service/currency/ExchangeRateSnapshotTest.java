@@ -0,0 +1,109 @@
+package com.dimitar.financetracker.service.currency;
+
+import com.dimitar.financetracker.exception.currency.UnsupportedCurrencyException;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeRateSnapshotTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    private static ExchangeRateRow quote(String currency, LocalDate date, String rate) {
+        return new ExchangeRateRow(currency, date, new BigDecimal(rate));
+    }
+
+    private static ExchangeRateSnapshot snapshot() {
+        return ExchangeRateSnapshot.of("EUR", List.of(
+            quote("USD", JAN_1.plusDays(3), "1.2"),
+            quote("USD", JAN_1, "1.1"),
+            quote("GBP", JAN_1.plusDays(1), "0.8")));
+    }
+
+    @Test
+    void of_carriesEachQuoteForwardUntilTheNextOne() {
+        ExchangeRateSnapshot snapshot = snapshot();
+
+        assertEquals(new BigDecimal("1.1"), snapshot.rate("USD", JAN_1));
+        assertEquals(new BigDecimal("1.1"), snapshot.rate("USD", JAN_1.plusDays(2)));
+        assertEquals(new BigDecimal("1.2"), snapshot.rate("USD", JAN_1.plusDays(3)));
+        // Days before a currency's first quote take that first quote.
+        assertEquals(new BigDecimal("0.8"), snapshot.rate("GBP", JAN_1));
+    }
+
+    @Test
+    void rate_clampsDatesOutsideTheWindow() {
+        ExchangeRateSnapshot snapshot = snapshot();
+
+        assertEquals(JAN_1, snapshot.from());
+        assertEquals(JAN_1.plusDays(3), snapshot.to());
+        assertEquals(new BigDecimal("1.1"), snapshot.rate("USD", JAN_1.minusYears(1)));
+        assertEquals(new BigDecimal("1.2"), snapshot.rate("USD", JAN_1.plusYears(1)));
+    }
+
+    @Test
+    void rate_isOneForTheReferenceCurrency() {
+        assertEquals(BigDecimal.ONE, snapshot().rate("EUR", JAN_1));
+        assertEquals(BigDecimal.ONE, ExchangeRateSnapshot.empty("EUR").rate("EUR", JAN_1));
+    }
+
+    @Test
+    void convert_goesThroughTheReferenceCurrencyAndRoundsToCents() {
+        ExchangeRateSnapshot snapshot = snapshot();
+
+        assertEquals(new BigDecimal("110.00"), snapshot.convert(new BigDecimal("100"), "EUR", "USD", JAN_1));
+        assertEquals(new BigDecimal("100.00"), snapshot.convert(new BigDecimal("120"), "USD", "EUR", JAN_1.plusDays(3)));
+        assertEquals(new BigDecimal("66.67"), snapshot.convert(new BigDecimal("100"), "USD", "GBP", JAN_1.plusDays(3)));
+        assertEquals(new BigDecimal("5"), snapshot.convert(new BigDecimal("5"), "USD", "USD", JAN_1));
+    }
+
+    @Test
+    void unsupportedCurrency_isRejected() {
+        ExchangeRateSnapshot snapshot = snapshot();
+
+        assertFalse(snapshot.supports("JPY"));
+        assertThrows(UnsupportedCurrencyException.class, () -> snapshot.rate("JPY", JAN_1));
+        assertThrows(UnsupportedCurrencyException.class, () -> snapshot.target("JPY"));
+    }
+
+    @Test
+    void of_rejectsInvalidQuotes() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateSnapshot.of("EUR", List.of(quote("usd", JAN_1, "1.1"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateSnapshot.of("EUR", List.of(quote("USD", JAN_1, "0"))));
+        assertThrows(IllegalArgumentException.class,
+            () -> ExchangeRateSnapshot.of("EUR", List.of(new ExchangeRateRow("USD", null, BigDecimal.ONE))));
+    }
+
+    @Test
+    void empty_supportsOnlyTheReferenceCurrency() {
+        ExchangeRateSnapshot snapshot = ExchangeRateSnapshot.of("EUR", List.of(quote("EUR", JAN_1, "1")));
+
+        assertTrue(snapshot.isEmpty());
+        assertNull(snapshot.from());
+        assertEquals(Set.of("EUR"), snapshot.currencies());
+        assertEquals(new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH), snapshot.target("EUR"));
+        assertTrue(snapshot.rows().isEmpty());
+    }
+
+    @Test
+    void rows_holdOneRatePerCurrencyAndDay() {
+        List<ExchangeRateRow> rows = snapshot().rows();
+
+        assertEquals(3 * 4, rows.size());
+        assertTrue(rows.contains(quote("EUR", JAN_1.plusDays(2), "1")));
+        assertTrue(rows.contains(quote("USD", JAN_1.plusDays(2), "1.1")));
+    }
+}
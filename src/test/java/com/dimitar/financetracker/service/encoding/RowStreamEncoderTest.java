@@ -0,0 +1,96 @@
+package com.dimitar.financetracker.service.encoding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowStreamEncoderTest {
+    private static final List<String> FIELDS = List.of("id", "amount", "transactionDate", "description");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final RowStreamEncoder encoder = new RowStreamEncoder(objectMapper,
+        new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS), 2);
+
+    private static Stream<Object[]> rows() {
+        return Stream.of(
+            new Object[]{1L, new BigDecimal("9.99"), LocalDate.of(2025, 10, 1), "Coffee"},
+            new Object[]{2L, new BigDecimal("12.50"), LocalDate.of(2025, 10, 2), null},
+            new Object[]{3L, new BigDecimal("100.00"), LocalDate.of(2025, 10, 3), "Rent"}
+        );
+    }
+
+    private byte[] encode(RowEncoding encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoder.write(FIELDS, rows(), encoding, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should write one newline-terminated object per row")
+    void ndjson_writesOneObjectPerLine() throws IOException {
+        String body = new String(encode(RowEncoding.NDJSON), StandardCharsets.UTF_8);
+
+        assertThat(body).isEqualTo(
+            "{\"id\":1,\"amount\":9.99,\"transactionDate\":\"2025-10-01\",\"description\":\"Coffee\"}\n"
+                + "{\"id\":2,\"amount\":12.50,\"transactionDate\":\"2025-10-02\",\"description\":null}\n"
+                + "{\"id\":3,\"amount\":100.00,\"transactionDate\":\"2025-10-03\",\"description\":\"Rent\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should split columnar output into blocks of at most block-size rows")
+    void columnar_writesBlocksOfColumns() throws IOException {
+        JsonNode body = objectMapper.readTree(encode(RowEncoding.COLUMNAR));
+
+        assertThat(body.get("fields")).hasSize(4);
+        assertThat(body.get("blocks")).hasSize(2);
+        JsonNode first = body.get("blocks").get(0);
+        assertThat(first.get("rows").asInt()).isEqualTo(2);
+        assertThat(first.get("columns").get(0).toString()).isEqualTo("[1,2]");
+        assertThat(first.get("columns").get(2).toString()).isEqualTo("[\"2025-10-01\",\"2025-10-02\"]");
+        assertThat(first.get("columns").get(3).get(1).isNull()).isTrue();
+        JsonNode second = body.get("blocks").get(1);
+        assertThat(second.get("rows").asInt()).isEqualTo(1);
+        assertThat(second.get("columns").get(1).get(0).decimalValue()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should write a CBOR array with ISO dates, smaller than the JSON lines")
+    void cbor_writesArrayOfObjects() throws IOException {
+        byte[] cbor = encode(RowEncoding.CBOR);
+
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertThat(body).hasSize(3);
+        assertThat(body.get(0).get("transactionDate").asText()).isEqualTo("2025-10-01");
+        assertThat(body.get(2).get("amount").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(cbor.length).isLessThan(encode(RowEncoding.NDJSON).length);
+    }
+
+    @Test
+    @DisplayName("Should negotiate the encoding from the Accept header by quality")
+    void negotiate_honoursQuality() {
+        assertThat(RowEncoding.negotiate("application/x-ndjson")).isEqualTo(RowEncoding.NDJSON);
+        assertThat(RowEncoding.negotiate("application/x-ndjson;q=0.5, application/cbor")).isEqualTo(RowEncoding.CBOR);
+        assertThat(RowEncoding.negotiate("application/json, application/x-jackson-smile;q=0.9")).isEqualTo(RowEncoding.SMILE);
+        assertThat(RowEncoding.negotiate("application/vnd.financetracker.columnar+json")).isEqualTo(RowEncoding.COLUMNAR);
+        assertThatThrownBy(() -> RowEncoding.negotiate("text/csv"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
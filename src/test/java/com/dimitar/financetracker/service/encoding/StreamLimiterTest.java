@@ -0,0 +1,45 @@
+package com.dimitar.financetracker.service.encoding;
+
+import com.dimitar.financetracker.exception.stream.TooManyStreamsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamLimiterTest {
+
+    private final StreamLimiter limiter = new StreamLimiter(2);
+
+    @Test
+    @DisplayName("Should turn a stream away on the request thread once every slot is taken")
+    void bounded_rejectsWhenFull() throws IOException {
+        StreamingResponseBody first = limiter.bounded(out -> out.write(1));
+        limiter.bounded(out -> out.write(2));
+
+        assertThatThrownBy(() -> limiter.bounded(out -> out.write(3)))
+            .isInstanceOf(TooManyStreamsException.class);
+
+        first.writeTo(new ByteArrayOutputStream());
+        assertThat(limiter.available()).isEqualTo(1);
+        limiter.bounded(out -> out.write(3));
+        assertThat(limiter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should free the slot once when the body fails or is written again")
+    void bounded_releasesOnFailureOnlyOnce() {
+        StreamingResponseBody failing = limiter.bounded(out -> {
+            throw new IOException("client gone");
+        });
+
+        assertThatThrownBy(() -> failing.writeTo(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> failing.writeTo(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+
+        assertThat(limiter.available()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,46 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastBackfillJobTest {
+
+    @Mock
+    private SpendingForecastStateRepository stateRepository;
+    @Mock
+    private ForecastStateUpdater forecastStateUpdater;
+
+    @Test
+    void run_rebuildsUsersWithoutStatesPageByPage() {
+        ForecastBackfillJob job = new ForecastBackfillJob(stateRepository, forecastStateUpdater, 2);
+        when(stateRepository.findUserIdsWithoutStates(0L, Limit.of(2))).thenReturn(List.of(3L, 5L));
+        when(stateRepository.findUserIdsWithoutStates(5L, Limit.of(2))).thenReturn(List.of(8L));
+
+        assertEquals(3, job.run());
+
+        verify(forecastStateUpdater).rebuild(3L);
+        verify(forecastStateUpdater).rebuild(5L);
+        verify(forecastStateUpdater).rebuild(8L);
+        verify(stateRepository, times(2)).findUserIdsWithoutStates(anyLong(), any());
+    }
+
+    @Test
+    void run_doesNothingOnceEveryUserHasStates() {
+        ForecastBackfillJob job = new ForecastBackfillJob(stateRepository, forecastStateUpdater, 100);
+        when(stateRepository.findUserIdsWithoutStates(0L, Limit.of(100))).thenReturn(List.of());
+
+        assertEquals(0, job.run());
+
+        verifyNoInteractions(forecastStateUpdater);
+    }
+}
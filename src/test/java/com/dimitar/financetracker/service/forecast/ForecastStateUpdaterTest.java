@@ -0,0 +1,120 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastStateUpdaterTest {
+
+    @Mock
+    private SpendingForecastStateRepository stateRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private final SpendingForecastEngine engine = new SpendingForecastEngine(0.3, 0.05, 0.1, "none");
+
+    private ForecastStateUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        updater = new ForecastStateUpdater(stateRepository, transactionRepository, engine, exchangeRateService);
+        lenient().when(exchangeRateService.baseCurrencyOf(1L)).thenReturn("EUR");
+        lenient().when(exchangeRateService.convert(any(), eq("EUR"))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void onTransactionsChanged_createsStateForFirstTransactionInCategory() {
+        LocalDate today = LocalDate.now();
+        SpendingForecastState inserted = engine.newState(1L, 10L, today.toEpochDay());
+        when(stateRepository.findForUpdate(1L, 10L)).thenReturn(Optional.empty(), Optional.of(inserted));
+
+        updater.onTransactionsChanged(TransactionsChangedEvent.created(1L,
+                new TransactionSnapshot(5L, 10L, CategoryType.EXPENSE, new BigDecimal("12.50"), today, "EUR")));
+
+        verify(stateRepository).insertIfAbsent(eq(1L), eq(10L), eq(today.toEpochDay()), any(byte[].class));
+        verify(stateRepository).save(inserted);
+        assertEquals(1250L, inserted.getOpenDayCents());
+    }
+
+    @Test
+    void onTransactionsChanged_addsToStateAnotherCommitCreatedFirst() {
+        LocalDate today = LocalDate.now();
+        SpendingForecastState concurrent = engine.newState(1L, 10L, today.toEpochDay());
+        concurrent.setOpenDayCents(500L);
+        when(stateRepository.findForUpdate(1L, 10L)).thenReturn(Optional.empty(), Optional.of(concurrent));
+        when(stateRepository.insertIfAbsent(eq(1L), eq(10L), anyLong(), any(byte[].class))).thenReturn(0);
+
+        updater.onTransactionsChanged(TransactionsChangedEvent.created(1L,
+                new TransactionSnapshot(5L, 10L, CategoryType.EXPENSE, new BigDecimal("12.50"), today, "EUR")));
+
+        assertEquals(1750L, concurrent.getOpenDayCents());
+        verify(stateRepository).save(concurrent);
+    }
+
+    @Test
+    void onTransactionsChanged_updateMovesAmountBetweenCategories() {
+        LocalDate today = LocalDate.now();
+        SpendingForecastState food = engine.newState(1L, 10L, today.toEpochDay());
+        food.setOpenDayCents(2000L);
+        SpendingForecastState rent = engine.newState(1L, 20L, today.toEpochDay());
+        when(stateRepository.findForUpdate(1L, 10L)).thenReturn(Optional.of(food));
+        when(stateRepository.findForUpdate(1L, 20L)).thenReturn(Optional.of(rent));
+
+        updater.onTransactionsChanged(TransactionsChangedEvent.updated(1L,
+                new TransactionSnapshot(5L, 10L, CategoryType.EXPENSE, new BigDecimal("12.50"), today, "EUR"),
+                new TransactionSnapshot(5L, 20L, CategoryType.EXPENSE, new BigDecimal("15.00"), today, "EUR")));
+
+        assertEquals(750L, food.getOpenDayCents());
+        assertEquals(1500L, rent.getOpenDayCents());
+        verify(stateRepository).save(food);
+        verify(stateRepository).save(rent);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onTransactionsChanged_bulkEventRebuildsFromHistory() {
+        LocalDate today = LocalDate.now();
+        ConversionTarget eur = new ConversionTarget("EUR", today, today);
+        when(exchangeRateService.baseTargetOf(1L)).thenReturn(eur);
+        when(transactionRepository.findFactsByUserId(1L, eur)).thenReturn(List.of(
+                new TransactionFactRow(1L, 10L, CategoryType.EXPENSE, new BigDecimal("10.00"), today.minusDays(2)),
+                new TransactionFactRow(2L, 10L, CategoryType.EXPENSE, new BigDecimal("20.00"), today.minusDays(1)),
+                new TransactionFactRow(3L, 20L, CategoryType.EXPENSE, new BigDecimal("5.00"), today)
+        ));
+
+        updater.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        verify(stateRepository).deleteByUserId(1L);
+        ArgumentCaptor<Collection<SpendingForecastState>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(stateRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        verify(stateRepository, never()).findForUpdate(any(), any());
+    }
+}
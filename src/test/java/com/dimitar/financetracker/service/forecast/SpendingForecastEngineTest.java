@@ -0,0 +1,105 @@
+package com.dimitar.financetracker.service.forecast;
+
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpendingForecastEngineTest {
+
+    private static final long DAY_0 = 20_000L;
+
+    private final SpendingForecastEngine engine = new SpendingForecastEngine(0.3, 0.05, 0.1, "none");
+
+    private SpendingForecastState feedDaily(SpendingForecastEngine engine, long cents, int days) {
+        SpendingForecastState state = engine.newState(1L, 10L, DAY_0);
+        for (int d = 0; d < days; d++) {
+            engine.observe(state, DAY_0 + d, cents, DAY_0 + days);
+        }
+        return state;
+    }
+
+    @Test
+    void observe_accumulatesOpenDayAndFoldsClosedDays() {
+        SpendingForecastState state = engine.newState(1L, 10L, DAY_0);
+
+        engine.observe(state, DAY_0, 500, DAY_0);
+        engine.observe(state, DAY_0, 250, DAY_0);
+        assertEquals(750, state.getOpenDayCents());
+        assertEquals(0, state.getObservedDays());
+
+        engine.observe(state, DAY_0 + 2, 100, DAY_0 + 2);
+        assertEquals(DAY_0 + 2, state.getOpenDay());
+        assertEquals(100, state.getOpenDayCents());
+        assertEquals(2, state.getObservedDays());
+    }
+
+    @Test
+    void projectCents_constantSpendProjectsSameDailyRate() {
+        SpendingForecastState state = feedDaily(engine, 1000, 60);
+        long today = DAY_0 + 60;
+
+        long projected = engine.projectCents(state, today, today + 10);
+
+        assertEquals(10_000, projected, 100);
+    }
+
+    @Test
+    void projectCents_doesNotMutateStoredState() {
+        SpendingForecastState state = feedDaily(engine, 1000, 10);
+        long openDay = state.getOpenDay();
+        double level = state.getLevel();
+
+        engine.projectCents(state, openDay + 30, openDay + 40);
+
+        assertEquals(openDay, state.getOpenDay());
+        assertEquals(level, state.getLevel());
+    }
+
+    @Test
+    void projectCents_isZeroForPastOrUnseededPeriods() {
+        SpendingForecastState state = feedDaily(engine, 1000, 10);
+        assertEquals(0, engine.projectCents(state, DAY_0 + 10, DAY_0 + 10));
+        assertEquals(0, engine.projectCents(engine.newState(1L, 10L, DAY_0), DAY_0, DAY_0 + 30));
+    }
+
+    @Test
+    void observe_backDatedDeleteUndoesItsLevelContribution() {
+        SpendingForecastState state = feedDaily(engine, 1000, 30);
+        double baseline = state.getLevel();
+
+        engine.observe(state, DAY_0 + 5, 5000, DAY_0 + 30);
+        assertTrue(state.getLevel() > baseline);
+
+        engine.observe(state, DAY_0 + 5, -5000, DAY_0 + 30);
+        assertEquals(baseline, state.getLevel(), 1e-6);
+    }
+
+    @Test
+    void observe_futureDatedAmountsCountAsToday() {
+        SpendingForecastState state = engine.newState(1L, 10L, DAY_0);
+
+        engine.observe(state, DAY_0 + 100, 700, DAY_0);
+
+        assertEquals(DAY_0, state.getOpenDay());
+        assertEquals(700, state.getOpenDayCents());
+    }
+
+    @Test
+    void projectCents_weeklySeasonalityFollowsWeekdayPattern() {
+        SpendingForecastEngine weekly = new SpendingForecastEngine(0.2, 0.01, 0.3, "weekly");
+        SpendingForecastState state = weekly.newState(1L, 10L, DAY_0);
+        long today = DAY_0 + 7 * 20;
+        // Spend only every seventh day, starting on DAY_0 (so also on today and today + 7)
+        for (long day = DAY_0; day < today; day++) {
+            weekly.observe(state, day, (day - DAY_0) % 7 == 0 ? 7000 : 0, today);
+        }
+
+        long quietDay = weekly.projectCents(state, today, today + 1);
+        long nextWeek = weekly.projectCents(state, today, today + 7);
+
+        assertTrue(quietDay < 1000, "quiet day projected " + quietDay);
+        assertEquals(7000, nextWeek, 1500);
+    }
+}
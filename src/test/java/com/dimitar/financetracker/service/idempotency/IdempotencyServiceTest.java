@@ -0,0 +1,283 @@
+package com.dimitar.financetracker.service.idempotency;
+
+import com.dimitar.financetracker.entity.IdempotencyRecord;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyInUseException;
+import com.dimitar.financetracker.exception.idempotency.IdempotencyKeyMismatchException;
+import com.dimitar.financetracker.model.IdempotencyStatus;
+import com.dimitar.financetracker.repository.IdempotencyRecordRepository;
+import com.dimitar.financetracker.service.idempotency.IdempotencyService.Outcome;
+import com.dimitar.financetracker.service.idempotency.IdempotencyService.StoredResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String KEY = "key-1";
+    private static final String HASH = "hash";
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(repository, Duration.ofHours(24), Duration.ofMillis(300),
+            Duration.ofMinutes(1), 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        lenient().when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            record.setId(1L);
+            return record;
+        });
+        lenient().when(repository.complete(any(), any(), anyInt(), any(), any())).thenReturn(1);
+    }
+
+    private static StoredResponse created(String body) {
+        return new StoredResponse(HASH, 201, "application/json", body.getBytes());
+    }
+
+    private static IdempotencyRecord record(IdempotencyStatus status, LocalDateTime createdAt) {
+        return IdempotencyRecord.builder()
+            .id(5L)
+            .userId(USER_ID)
+            .idempotencyKey(KEY)
+            .requestHash(HASH)
+            .status(status)
+            .responseStatus(status == IdempotencyStatus.COMPLETED ? 201 : null)
+            .contentType(status == IdempotencyStatus.COMPLETED ? "application/json" : null)
+            .responseBody(status == IdempotencyStatus.COMPLETED ? "{\"id\":1}".getBytes() : null)
+            .createdAt(createdAt)
+            .expiresAt(createdAt.plusHours(24))
+            .build();
+    }
+
+    @Test
+    void execute_runsOnceAndReplaysFromFrontCache() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        AtomicInteger executions = new AtomicInteger();
+
+        Outcome first = service.execute(USER_ID, KEY, HASH, () -> {
+            executions.incrementAndGet();
+            return created("{\"id\":1}");
+        });
+        Outcome second = service.execute(USER_ID, KEY, HASH, () -> {
+            executions.incrementAndGet();
+            return created("{\"id\":2}");
+        });
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response().body()).isEqualTo("{\"id\":1}".getBytes());
+        verify(repository).complete(eq(1L), eq(IdempotencyStatus.COMPLETED), eq(201), eq("application/json"), any());
+        verify(repository, times(1)).findByUserIdAndIdempotencyKey(USER_ID, KEY);
+    }
+
+    @Test
+    void execute_replaysCompletedRecordStoredByAnotherInstance() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, LocalDateTime.now())));
+
+        Outcome outcome = service.execute(USER_ID, KEY, HASH, () -> {
+            throw new AssertionError("must not execute");
+        });
+
+        assertThat(outcome.replayed()).isTrue();
+        assertThat(outcome.response().status()).isEqualTo(201);
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void execute_rejectsKeyReusedForDifferentRequest() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        service.execute(USER_ID, KEY, HASH, () -> created("{}"));
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, "other-hash", () -> created("{}")))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    void execute_releasesKeyOnErrorResponse() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        AtomicInteger executions = new AtomicInteger();
+
+        service.execute(USER_ID, KEY, HASH, () -> {
+            executions.incrementAndGet();
+            return new StoredResponse(HASH, 500, "application/json", "{}".getBytes());
+        });
+        Outcome retry = service.execute(USER_ID, KEY, HASH, () -> {
+            executions.incrementAndGet();
+            return created("{}");
+        });
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.replayed()).isFalse();
+        verify(repository).deleteById(1L);
+    }
+
+    @Test
+    void execute_releasesKeyWhenExecutionThrows() {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, HASH, () -> {
+            throw new IOException("client went away");
+        })).isInstanceOf(IOException.class);
+
+        verify(repository).deleteById(1L);
+        verify(repository, never()).complete(any(), any(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    void execute_takesOverAbandonedInProgressRecord() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(5))))
+            .thenReturn(Optional.empty());
+
+        Outcome outcome = service.execute(USER_ID, KEY, HASH, () -> created("{}"));
+
+        assertThat(outcome.replayed()).isFalse();
+        verify(repository).deleteIfStale(eq(5L), any(), any());
+    }
+
+    @Test
+    void execute_keepsRecordCompletedBetweenReadAndTakeover() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(5))))
+            .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, LocalDateTime.now().minusMinutes(5))));
+
+        Outcome outcome = service.execute(USER_ID, KEY, HASH, () -> {
+            throw new AssertionError("must not execute");
+        });
+
+        assertThat(outcome.replayed()).isTrue();
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    void execute_countsClaimLostWhileRunningAndDoesNotCacheIt() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new IdempotencyService(repository, Duration.ofHours(24), Duration.ofMillis(300),
+            Duration.ofMinutes(1), 100, Duration.ofMinutes(10), meterRegistry);
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, LocalDateTime.now())));
+        when(repository.complete(any(), any(), anyInt(), any(), any())).thenReturn(0);
+
+        Outcome first = service.execute(USER_ID, KEY, HASH, () -> created("{\"id\":2}"));
+        Outcome retry = service.execute(USER_ID, KEY, HASH, () -> {
+            throw new AssertionError("must not execute");
+        });
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(meterRegistry.get("idempotency.claims.lost").counter().count()).isEqualTo(1);
+        // The retry gets what the request that took the key over stored, not the lost response.
+        assertThat(retry.response().body()).isEqualTo("{\"id\":1}".getBytes());
+    }
+
+    @Test
+    void execute_retriesClaimAfterLosingInsertRace() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, LocalDateTime.now())));
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        Outcome outcome = service.execute(USER_ID, KEY, HASH, () -> {
+            throw new AssertionError("must not execute");
+        });
+
+        assertThat(outcome.replayed()).isTrue();
+    }
+
+    @Test
+    void execute_givesUpWaitingOnRecordInProgressElsewhere() {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY))
+            .thenReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS, LocalDateTime.now())));
+
+        assertThatThrownBy(() -> service.execute(USER_ID, KEY, HASH, () -> created("{}")))
+            .isInstanceOf(IdempotencyKeyInUseException.class);
+    }
+
+    @Test
+    void execute_concurrentDuplicateWaitsForInFlightExecution() throws Exception {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<Outcome> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.execute(USER_ID, KEY, HASH, () -> {
+                    executions.incrementAndGet();
+                    running.countDown();
+                    awaitQuietly(release);
+                    return created("{\"id\":1}");
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Outcome> duplicate = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.execute(USER_ID, KEY, HASH, () -> {
+                    executions.incrementAndGet();
+                    return created("{\"id\":2}");
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        Outcome replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.replayed()).isTrue();
+        assertThat(replayed.response().body()).isEqualTo("{\"id\":1}".getBytes());
+        assertThat(executions).hasValue(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void purgeExpired_deletesRowsPastExpiry() {
+        service.purgeExpired();
+
+        verify(repository).deleteExpired(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.entity.OutboxEvent;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxBatchDeliveryTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxBatchDelivery delivery(OutboxSubscriber... subscribers) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        for (int i = 0; i < subscribers.length; i++) {
+            beanFactory.addBean("subscriber" + i, subscribers[i]);
+        }
+        return new OutboxBatchDelivery(repository, new OutboxCodec(OBJECT_MAPPER),
+            beanFactory.getBeanProvider(OutboxSubscriber.class), meterRegistry);
+    }
+
+    private static OutboxEvent event(long id, long userId) {
+        return OutboxEvent.builder()
+            .id(id)
+            .userId(userId)
+            .eventType("BudgetsChanged")
+            .payload("{\"userId\":" + userId + "}")
+            .createdAt(LocalDateTime.now().minusSeconds(1))
+            .build();
+    }
+
+    @Test
+    void deliverBatch_deliversDecodedEventsInOrderAndMarksThem() {
+        when(repository.claimPending(10, 5)).thenReturn(List.of(event(1, 7), event(2, 8), event(3, 7)));
+        List<OutboxMessage> received = new ArrayList<>();
+
+        OutboxBatchDelivery.Result result = delivery(received::add).deliverBatch(10, 5);
+
+        assertThat(result).isEqualTo(new OutboxBatchDelivery.Result(3, 3));
+        assertThat(received).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).event()).isEqualTo(new BudgetsChangedEvent(7L));
+        verify(repository).markDispatched(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.delivered").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.delivery.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void deliverBatch_holdsBackLaterEventsOfUserWhoseSubscriberFailed() {
+        when(repository.claimPending(10, 5)).thenReturn(List.of(event(1, 7), event(2, 8), event(3, 7)));
+        List<Long> received = new ArrayList<>();
+        OutboxSubscriber failingForUser7 = message -> {
+            if (message.userId() == 7L) {
+                throw new IllegalStateException("index unavailable");
+            }
+            received.add(message.id());
+        };
+
+        OutboxBatchDelivery.Result result = delivery(failingForUser7).deliverBatch(10, 5);
+
+        assertThat(result).isEqualTo(new OutboxBatchDelivery.Result(3, 1));
+        assertThat(received).containsExactly(2L);
+        verify(repository).markDispatched(eq(List.of(2L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.delivery.errors")
+            .tag("exception", "IllegalStateException").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deliverBatch_withNothingPending_doesNotUpdate() {
+        when(repository.claimPending(10, 5)).thenReturn(List.of());
+
+        assertThat(delivery().deliverBatch(10, 5)).isEqualTo(new OutboxBatchDelivery.Result(0, 0));
+        verify(repository, never()).markDispatched(anyCollection(), any());
+    }
+
+    @Test
+    void deliverBatch_skipsUndecodableEvents() {
+        OutboxEvent broken = event(1, 7);
+        broken.setEventType("Unknown");
+        when(repository.claimPending(10, 5)).thenReturn(List.of(broken, event(2, 7)));
+        List<Long> received = new ArrayList<>();
+
+        delivery(message -> received.add(message.id())).deliverBatch(10, 5);
+
+        assertThat(received).containsExactly(2L);
+        verify(repository).markDispatched(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,100 @@
+package com.dimitar.financetracker.service.outbox;
+
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private OutboxWriter writer() {
+        return new OutboxWriter(jdbcTemplate, new OutboxCodec(OBJECT_MAPPER));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxWriter.PendingEvent> capturedBatch() {
+        ArgumentCaptor<Collection<OutboxWriter.PendingEvent>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        return List.copyOf(batch.getValue());
+    }
+
+    @Test
+    void inTransaction_buffersEventsAndWritesOneBatchBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        OutboxWriter writer = writer();
+
+        writer.onTransactionsChanged(new TransactionsChangedEvent(1L));
+        writer.onBudgetsChanged(new BudgetsChangedEvent(1L));
+        writer.onTransactionsChanged(new TransactionsChangedEvent(2L));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+
+        synchronizations.get(0).beforeCommit(false);
+
+        List<OutboxWriter.PendingEvent> batch = capturedBatch();
+        assertThat(batch).extracting(OutboxWriter.PendingEvent::type)
+            .containsExactly("TransactionsChanged", "BudgetsChanged", "TransactionsChanged");
+        assertThat(batch).extracting(OutboxWriter.PendingEvent::userId).containsExactly(1L, 1L, 2L);
+    }
+
+    @Test
+    void withoutTransaction_writesImmediately() {
+        writer().onBudgetsChanged(new BudgetsChangedEvent(3L));
+
+        List<OutboxWriter.PendingEvent> batch = capturedBatch();
+        assertThat(batch).hasSize(1);
+        assertThat(batch.get(0).payload()).isEqualTo("{\"userId\":3}");
+    }
+
+    @Test
+    void rolledBackTransaction_writesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        writer().onBudgetsChanged(new BudgetsChangedEvent(3L));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -0,0 +1,45 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowBucketResponse;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CashFlowCacheTest {
+
+    private final CashFlowCache cache = new CashFlowCache();
+
+    private final CashFlowCache.Key key = new CashFlowCache.Key(
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, "EUR");
+
+    @Test
+    void get_loadsOncePerUserAndKey() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, key, () -> { loads.incrementAndGet(); return List.of(new CashFlowBucketResponse()); });
+        cache.get(1L, key, () -> { loads.incrementAndGet(); return List.of(); });
+        cache.get(2L, key, () -> { loads.incrementAndGet(); return List.of(); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onTransactionsChanged_evictsOnlyThatUser() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, key, () -> { loads.incrementAndGet(); return List.of(); });
+        cache.get(2L, key, () -> { loads.incrementAndGet(); return List.of(); });
+
+        cache.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        cache.get(1L, key, () -> { loads.incrementAndGet(); return List.of(); });
+        cache.get(2L, key, () -> { loads.incrementAndGet(); return List.of(); });
+        assertEquals(3, loads.get());
+    }
+}
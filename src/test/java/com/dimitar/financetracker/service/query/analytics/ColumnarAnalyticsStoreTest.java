@@ -0,0 +1,168 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.event.ExchangeRatesChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarAnalyticsStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", DAY, DAY);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(exchangeRateService.baseTargetOf(anyLong())).thenReturn(EUR);
+        // Snapshots in EUR pass through unchanged; USD is converted at 2 USD per EUR
+        lenient().when(exchangeRateService.convert(any(), eq("EUR"))).thenAnswer(invocation -> {
+            TransactionSnapshot snapshot = invocation.getArgument(0);
+            return snapshot == null || "EUR".equals(snapshot.currency())
+                    ? snapshot
+                    : snapshot.withAmount(snapshot.amount().divide(new BigDecimal("2")), "EUR");
+        });
+    }
+
+    private List<TransactionFactRow> rows(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> new TransactionFactRow(id, 1L, CategoryType.EXPENSE, new BigDecimal("1.00"), DAY))
+                .toList();
+    }
+
+    @Test
+    void columnsFor_isEmptyWhenDisabled() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, false, 1 << 20);
+
+        assertTrue(store.columnsFor(1L).isEmpty());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void columnsFor_loadsOnceAndAppliesWritesInPlace() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 1 << 20);
+        when(transactionRepository.findFactsByUserId(1L, EUR)).thenReturn(rows(1, 3));
+
+        assertEquals(300L, store.columnsFor(1L).orElseThrow().sumCents(1L, DAY, DAY));
+
+        store.onTransactionsChanged(TransactionsChangedEvent.created(1L,
+                new TransactionSnapshot(4L, 1L, CategoryType.EXPENSE, new BigDecimal("2.50"), DAY, "EUR")));
+
+        assertEquals(550L, store.columnsFor(1L).orElseThrow().sumCents(1L, DAY, DAY));
+        verify(transactionRepository, times(1)).findFactsByUserId(1L, EUR);
+    }
+
+    @Test
+    void onTransactionsChanged_convertsForeignAmountsToColumnCurrency() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 1 << 20);
+        when(transactionRepository.findFactsByUserId(1L, EUR)).thenReturn(rows(1, 1));
+        store.columnsFor(1L);
+
+        store.onTransactionsChanged(TransactionsChangedEvent.created(1L,
+                new TransactionSnapshot(2L, 1L, CategoryType.EXPENSE, new BigDecimal("5.00"), DAY, "USD")));
+
+        UserTransactionColumns columns = store.columnsFor(1L).orElseThrow();
+        assertEquals("EUR", columns.currency());
+        assertEquals(350L, columns.sumCents(1L, DAY, DAY));
+    }
+
+    @Test
+    void onExchangeRatesChanged_dropsEveryUser() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 1 << 20);
+        when(transactionRepository.findFactsByUserId(anyLong(), eq(EUR))).thenReturn(rows(1, 3));
+        store.columnsFor(1L);
+        store.columnsFor(2L);
+
+        store.onExchangeRatesChanged(new ExchangeRatesChangedEvent(Set.of("EUR", "USD"), DAY, DAY));
+
+        assertFalse(store.isLoaded(1L));
+        assertFalse(store.isLoaded(2L));
+        assertEquals(0L, store.usedBytes());
+    }
+
+    @Test
+    void onTransactionsChanged_bulkEventDropsUserColumns() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 1 << 20);
+        when(transactionRepository.findFactsByUserId(1L, EUR)).thenReturn(rows(1, 3));
+        store.columnsFor(1L);
+
+        store.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        assertFalse(store.isLoaded(1L));
+        assertEquals(0L, store.usedBytes());
+    }
+
+    @Test
+    void onTransactionsChanged_lateListenerAfterLoadDoesNotCountRowTwice() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 1 << 20);
+        TransactionSnapshot committed = new TransactionSnapshot(4L, 1L, CategoryType.EXPENSE, new BigDecimal("1.00"), DAY, "EUR");
+        TransactionSnapshot deleted = new TransactionSnapshot(3L, 1L, CategoryType.EXPENSE, new BigDecimal("1.00"), DAY, "EUR");
+        // Both commits are already visible to the load: row 4 inserted, row 3 gone
+        when(transactionRepository.findFactsByUserId(1L, EUR))
+                .thenReturn(List.of(rows(1, 2).get(0), rows(1, 2).get(1), rows(4, 1).get(0)));
+        assertEquals(300L, store.columnsFor(1L).orElseThrow().sumCents(1L, DAY, DAY));
+
+        // ...and only then do their AFTER_COMMIT listeners run
+        store.onTransactionsChanged(TransactionsChangedEvent.created(1L, committed));
+        store.onTransactionsChanged(TransactionsChangedEvent.deleted(1L, deleted));
+
+        assertTrue(store.isLoaded(1L));
+        UserTransactionColumns columns = store.columnsFor(1L).orElseThrow();
+        assertEquals(3, columns.size());
+        assertEquals(300L, columns.sumCents(1L, DAY, DAY));
+        verify(transactionRepository, times(1)).findFactsByUserId(1L, EUR);
+    }
+
+    @Test
+    void columnsFor_evictsLeastRecentlyUsedUserOverMemoryCap() {
+        long perUser = 16L * UserTransactionColumns.BYTES_PER_ROW;
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 2 * perUser);
+        when(transactionRepository.findFactsByUserId(anyLong(), eq(EUR))).thenReturn(rows(1, 3));
+
+        store.columnsFor(1L);
+        store.columnsFor(2L);
+        store.columnsFor(1L);
+        store.columnsFor(3L);
+
+        assertTrue(store.isLoaded(1L));
+        assertFalse(store.isLoaded(2L));
+        assertTrue(store.isLoaded(3L));
+        assertEquals(2 * perUser, store.usedBytes());
+    }
+
+    @Test
+    void columnsFor_fallsBackWhenUserExceedsMemoryCap() {
+        ColumnarAnalyticsStore store = new ColumnarAnalyticsStore(transactionRepository, exchangeRateService, true, 8);
+        when(transactionRepository.findFactsByUserId(1L, EUR)).thenReturn(rows(1, 3));
+
+        assertTrue(store.columnsFor(1L).isEmpty());
+        assertFalse(store.isLoaded(1L));
+    }
+}
@@ -0,0 +1,169 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.dto.response.analytics.CashFlowBucketResponse;
+import com.dimitar.financetracker.dto.response.analytics.CashFlowResponse;
+import com.dimitar.financetracker.model.CashFlowGranularity;
+import com.dimitar.financetracker.model.CashFlowGrouping;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.CashFlowRow;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCashFlowQueryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private CashFlowCache cashFlowCache;
+    private GetCashFlowQuery query;
+
+    @BeforeEach
+    void setUp() {
+        cashFlowCache = new CashFlowCache();
+        query = new GetCashFlowQuery(authenticationFacade, transactionRepository, cashFlowCache, exchangeRateService);
+        lenient().when(exchangeRateService.baseTargetOf(any())).thenReturn(EUR);
+    }
+
+    @Test
+    void execute_foldsRowsIntoIncomeExpenseAndNet() {
+        Long userId = 5L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 2, 29);
+        when(transactionRepository.sumCashFlow(userId, from, to, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR))
+                .thenReturn(List.of(
+                        new CashFlowRow(LocalDate.of(2024, 1, 1), CategoryType.INCOME, null, null, new BigDecimal("1000.00")),
+                        new CashFlowRow(LocalDate.of(2024, 1, 1), CategoryType.EXPENSE, null, null, new BigDecimal("250.50")),
+                        new CashFlowRow(LocalDate.of(2024, 2, 1), CategoryType.EXPENSE, null, null, new BigDecimal("100.00"))
+                ));
+
+        CashFlowResponse response = query.execute(
+                new GetCashFlowQuery.CashFlowCriteria(from, to, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE));
+
+        assertEquals("EUR", response.getCurrency());
+        assertEquals(2, response.getBuckets().size());
+        CashFlowBucketResponse january = response.getBuckets().get(0);
+        assertEquals(LocalDate.of(2024, 1, 1), january.getPeriodStart());
+        assertEquals(LocalDate.of(2024, 1, 31), january.getPeriodEnd());
+        assertEquals(new BigDecimal("1000.00"), january.getIncome());
+        assertEquals(new BigDecimal("250.50"), january.getExpense());
+        assertEquals(new BigDecimal("749.50"), january.getNet());
+        assertNull(january.getCategories());
+
+        CashFlowBucketResponse february = response.getBuckets().get(1);
+        assertEquals(LocalDate.of(2024, 2, 29), february.getPeriodEnd());
+        assertEquals(new BigDecimal("0.00"), february.getIncome());
+        assertEquals(new BigDecimal("-100.00"), february.getNet());
+    }
+
+    @Test
+    void execute_mergesDailyRowsIntoIsoWeeksPerCategory() {
+        Long userId = 5L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 14);
+        when(transactionRepository.sumCashFlow(userId, from, to, CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY, EUR))
+                .thenReturn(List.of(
+                        new CashFlowRow(LocalDate.of(2024, 1, 1), CategoryType.EXPENSE, 10L, "Food", new BigDecimal("10.00")),
+                        new CashFlowRow(LocalDate.of(2024, 1, 7), CategoryType.EXPENSE, 10L, "Food", new BigDecimal("5.00")),
+                        new CashFlowRow(LocalDate.of(2024, 1, 8), CategoryType.EXPENSE, 10L, "Food", new BigDecimal("7.00"))
+                ));
+
+        CashFlowResponse response = query.execute(
+                new GetCashFlowQuery.CashFlowCriteria(from, to, CashFlowGranularity.WEEK, CashFlowGrouping.CATEGORY));
+
+        assertEquals(2, response.getBuckets().size());
+        CashFlowBucketResponse firstWeek = response.getBuckets().get(0);
+        assertEquals(LocalDate.of(2024, 1, 1), firstWeek.getPeriodStart());
+        assertEquals(LocalDate.of(2024, 1, 7), firstWeek.getPeriodEnd());
+        assertEquals(new BigDecimal("15.00"), firstWeek.getExpense());
+        assertEquals(1, firstWeek.getCategories().size());
+        assertEquals(new BigDecimal("15.00"), firstWeek.getCategories().get(0).getTotal());
+        assertEquals("Food", firstWeek.getCategories().get(0).getCategoryName());
+    }
+
+    @Test
+    void execute_servesClosedRangeFromCacheOnSecondCall() {
+        Long userId = 5L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        LocalDate from = LocalDate.of(2023, 1, 1);
+        LocalDate to = LocalDate.of(2023, 12, 31);
+        when(transactionRepository.sumCashFlow(userId, from, to, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR))
+                .thenReturn(List.of());
+
+        GetCashFlowQuery.CashFlowCriteria criteria =
+                new GetCashFlowQuery.CashFlowCriteria(from, to, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE);
+        query.execute(criteria);
+        query.execute(criteria);
+
+        verify(transactionRepository, times(1)).sumCashFlow(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void execute_splitsRangeAtCurrentBucketAndAlwaysReloadsOpenPart() {
+        Long userId = 5L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        LocalDate today = LocalDate.now();
+        LocalDate openStart = today.withDayOfMonth(1);
+        LocalDate from = openStart.minusMonths(2);
+        when(transactionRepository.sumCashFlow(eq(userId), any(), any(), eq(CashFlowGranularity.MONTH), eq(CashFlowGrouping.TYPE), any()))
+                .thenReturn(List.of());
+
+        GetCashFlowQuery.CashFlowCriteria criteria =
+                new GetCashFlowQuery.CashFlowCriteria(from, today, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE);
+        query.execute(criteria);
+        query.execute(criteria);
+
+        verify(transactionRepository, times(1)).sumCashFlow(userId, from, openStart.minusDays(1),
+                CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR);
+        verify(transactionRepository, times(2)).sumCashFlow(userId, openStart, today,
+                CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR);
+    }
+
+    @Test
+    void execute_swapsReversedRangeAndAppliesDefaults() {
+        Long userId = 5L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        LocalDate early = LocalDate.of(2022, 1, 1);
+        LocalDate late = LocalDate.of(2022, 6, 30);
+        when(transactionRepository.sumCashFlow(userId, early, late, CashFlowGranularity.MONTH, CashFlowGrouping.TYPE, EUR))
+                .thenReturn(List.of());
+
+        CashFlowResponse response = query.execute(new GetCashFlowQuery.CashFlowCriteria(late, early, null, null));
+
+        assertEquals(early, response.getFrom());
+        assertEquals(late, response.getTo());
+        assertEquals(CashFlowGranularity.MONTH, response.getGranularity());
+        assertEquals(CashFlowGrouping.TYPE, response.getGroupBy());
+        assertTrue(response.getBuckets().isEmpty());
+    }
+
+    @Test
+    void execute_throwsWhenDatesMissing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> query.execute(new GetCashFlowQuery.CashFlowCriteria(null, LocalDate.now(), null, null)));
+        verifyNoInteractions(transactionRepository, authenticationFacade);
+    }
+}
@@ -0,0 +1,111 @@
+package com.dimitar.financetracker.service.query.analytics;
+
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserTransactionColumnsTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    private final UserTransactionColumns columns = UserTransactionColumns.of(List.of(
+            new TransactionFactRow(1L, 10L, CategoryType.INCOME, new BigDecimal("1000.00"), JAN_1),
+            new TransactionFactRow(2L, 20L, CategoryType.EXPENSE, new BigDecimal("12.50"), JAN_1.plusDays(1)),
+            new TransactionFactRow(3L, 20L, CategoryType.EXPENSE, new BigDecimal("7.25"), JAN_1.plusDays(1)),
+            new TransactionFactRow(4L, 30L, CategoryType.EXPENSE, new BigDecimal("100.00"), JAN_1.plusDays(10))
+    ), "EUR");
+
+    @Test
+    void totals_splitsByTypeWithinInclusiveRange() {
+        UserTransactionColumns.TypeTotals all = columns.totals();
+        assertEquals(100000L, all.incomeCents());
+        assertEquals(11975L, all.expenseCents());
+        assertEquals(4L, all.count());
+
+        UserTransactionColumns.TypeTotals secondDay = columns.totals(JAN_1.plusDays(1), JAN_1.plusDays(1));
+        assertEquals(0L, secondDay.incomeCount());
+        assertEquals(2L, secondDay.expenseCount());
+        assertEquals(1975L, secondDay.expenseCents());
+    }
+
+    @Test
+    void totals_countsOnlyAcceptedTransactionIds() {
+        UserTransactionColumns.TypeTotals tagged = columns.totals(id -> id == 1L || id == 3L);
+        assertEquals(100000L, tagged.incomeCents());
+        assertEquals(725L, tagged.expenseCents());
+        assertEquals(2L, tagged.count());
+
+        assertEquals(0L, columns.totals(id -> false).count());
+    }
+
+    @Test
+    void sumCents_filtersCategoryAndRange() {
+        assertEquals(1975L, columns.sumCents(20L, JAN_1, JAN_1.plusDays(30)));
+        assertEquals(0L, columns.sumCents(30L, JAN_1, JAN_1.plusDays(9)));
+        assertEquals(10000L, columns.sumCents(30L, JAN_1.plusDays(10), JAN_1.plusDays(10)));
+        assertEquals(0L, columns.sumCents(20L, JAN_1.minusDays(5), JAN_1.minusDays(1)));
+    }
+
+    @Test
+    void apply_insertsUpdatesAndDeletesInPlace() {
+        TransactionSnapshot created = new TransactionSnapshot(5L, 20L, CategoryType.EXPENSE, new BigDecimal("5.00"), JAN_1.plusDays(5), "EUR");
+        assertTrue(columns.apply(null, created));
+        assertEquals(2475L, columns.sumCents(20L, JAN_1, JAN_1.plusDays(30)));
+
+        TransactionSnapshot moved = new TransactionSnapshot(5L, 30L, CategoryType.EXPENSE, new BigDecimal("5.00"), JAN_1.plusDays(20), "EUR");
+        assertTrue(columns.apply(created, moved));
+        assertEquals(1975L, columns.sumCents(20L, JAN_1, JAN_1.plusDays(30)));
+        assertEquals(10500L, columns.sumCents(30L, JAN_1, JAN_1.plusDays(30)));
+
+        assertTrue(columns.apply(moved, null));
+        assertEquals(4, columns.size());
+        assertEquals(10000L, columns.sumCents(30L, JAN_1, JAN_1.plusDays(30)));
+    }
+
+    @Test
+    void apply_rejectsIncompleteSnapshots() {
+        assertFalse(columns.apply(null, new TransactionSnapshot(6L, null, null, BigDecimal.ONE, JAN_1, "EUR")));
+        assertEquals(4, columns.size());
+    }
+
+    @Test
+    void apply_isIdempotentPerTransactionId() {
+        TransactionSnapshot unknown = new TransactionSnapshot(99L, 20L, CategoryType.EXPENSE, BigDecimal.ONE, JAN_1, "EUR");
+        assertTrue(columns.apply(unknown, null));
+        assertEquals(4, columns.size());
+
+        TransactionSnapshot existing = new TransactionSnapshot(2L, 20L, CategoryType.EXPENSE, new BigDecimal("12.50"), JAN_1.plusDays(1), "EUR");
+        assertTrue(columns.apply(null, existing));
+        assertEquals(4, columns.size());
+        assertEquals(1975L, columns.sumCents(20L, JAN_1, JAN_1.plusDays(30)));
+
+        // An update whose old row is gone still leaves exactly one row for the id, with the new values
+        TransactionSnapshot staleBefore = new TransactionSnapshot(3L, 20L, CategoryType.EXPENSE, new BigDecimal("7.25"), JAN_1.plusDays(3), "EUR");
+        TransactionSnapshot moved = new TransactionSnapshot(3L, 30L, CategoryType.EXPENSE, new BigDecimal("7.25"), JAN_1.plusDays(10), "EUR");
+        assertTrue(columns.apply(staleBefore, moved));
+        assertEquals(4, columns.size());
+        assertEquals(1250L, columns.sumCents(20L, JAN_1, JAN_1.plusDays(30)));
+        assertEquals(10725L, columns.sumCents(30L, JAN_1, JAN_1.plusDays(30)));
+    }
+
+    @Test
+    void apply_growsBeyondInitialCapacity() {
+        UserTransactionColumns grown = UserTransactionColumns.of(new ArrayList<>(), "EUR");
+        for (long id = 1; id <= 100; id++) {
+            grown.apply(null, new TransactionSnapshot(id, 1L, CategoryType.EXPENSE, new BigDecimal("0.01"), JAN_1.plusDays(100 - id), "EUR"));
+        }
+        assertEquals(100, grown.size());
+        assertEquals(100L, grown.sumCents(1L, JAN_1, JAN_1.plusDays(100)));
+        assertEquals(10L, grown.sumCents(1L, JAN_1, JAN_1.plusDays(9)));
+    }
+}
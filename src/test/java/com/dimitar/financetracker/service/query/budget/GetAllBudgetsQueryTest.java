@@ -1,19 +1,28 @@
 package com.dimitar.financetracker.service.query.budget;
 
 import com.dimitar.financetracker.dto.mapper.BudgetMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.budget.BudgetResponse;
 import com.dimitar.financetracker.entity.Budget;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,18 +45,48 @@ class GetAllBudgetsQueryTest {
         Long userId = 1L; when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
         Budget b1 = Budget.builder().id(1L).build();
         Budget b2 = Budget.builder().id(2L).build();
-        when(budgetRepository.findByUserId(userId)).thenReturn(List.of(b1, b2));
+        when(budgetRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, 0L, Limit.of(21))).thenReturn(List.of(b1, b2));
 
         BudgetResponse r1 = BudgetResponse.builder().id(1L).build();
         BudgetResponse r2 = BudgetResponse.builder().id(2L).build();
         when(budgetMapper.toResponse(b1)).thenReturn(r1);
         when(budgetMapper.toResponse(b2)).thenReturn(r2);
 
-        List<BudgetResponse> result = query.execute(null);
-        assertEquals(List.of(r1, r2), result);
-        verify(budgetRepository).findByUserId(userId);
+        CursorPagedResponse<BudgetResponse> result = query.execute(CursorPageRequest.builder().build());
+        assertEquals(List.of(r1, r2), result.getContent());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(budgetRepository).findByUserIdAndIdGreaterThanOrderByIdAsc(userId, 0L, Limit.of(21));
         verify(budgetMapper).toResponse(b1);
         verify(budgetMapper).toResponse(b2);
         verifyNoMoreInteractions(budgetRepository, budgetMapper);
     }
+
+    @Test
+    void execute_readsOneRowAheadAndContinuesAfterCursor() {
+        Long userId = 1L; when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        Budget b5 = Budget.builder().id(5L).build();
+        Budget b8 = Budget.builder().id(8L).build();
+        when(budgetRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, 4L, Limit.of(2))).thenReturn(List.of(b5, b8));
+        when(budgetMapper.toResponse(b5)).thenReturn(BudgetResponse.builder().id(5L).build());
+        String cursor = new KeysetCursor("id", Sort.Direction.ASC, "4", 4L).encode();
+
+        CursorPagedResponse<BudgetResponse> result = query.execute(CursorPageRequest.builder().cursor(cursor).limit(1).build());
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(5L, KeysetCursor.decode(result.getNextCursor()).id());
+        verify(budgetMapper, never()).toResponse(b8);
+    }
+
+    @Test
+    void execute_rejectsInvalidLimitAndForeignCursor() {
+        assertThrows(IllegalArgumentException.class, () -> query.execute(CursorPageRequest.builder().limit(0).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.execute(CursorPageRequest.builder().limit(CursorPageRequest.MAX_LIMIT + 1).build()));
+        String transactionCursor = new KeysetCursor("transactionDate", Sort.Direction.DESC, "2026-01-01", 4L).encode();
+        assertThrows(IllegalArgumentException.class,
+                () -> query.execute(CursorPageRequest.builder().cursor(transactionCursor).build()));
+        verifyNoInteractions(budgetRepository);
+    }
 }
@@ -5,9 +5,12 @@ import com.dimitar.financetracker.entity.Budget;
 import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.ConversionTarget;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +27,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetAllBudgetsUsageQueryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
 
     @Mock
     private AuthenticationFacade authenticationFacade;
@@ -31,11 +35,15 @@ class GetAllBudgetsUsageQueryTest {
     private BudgetRepository budgetRepository;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private ColumnarAnalyticsStore columnarAnalyticsStore;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private GetAllBudgetsUsageQuery query;
 
     @BeforeEach
-    void setUp() { query = new GetAllBudgetsUsageQuery(authenticationFacade, budgetRepository, transactionRepository); }
+    void setUp() { query = new GetAllBudgetsUsageQuery(authenticationFacade, budgetRepository, transactionRepository, columnarAnalyticsStore, exchangeRateService); }
 
     @Test
     void execute_buildsUsageForEachBudget_andHandlesNullSpent() {
@@ -48,6 +56,7 @@ class GetAllBudgetsUsageQueryTest {
         Budget b1 = Budget.builder()
                 .id(1L).user(user).category(cat1)
                 .amount(new BigDecimal("100.00"))
+                .currency("EUR")
                 .startDate(LocalDate.of(2025,1,1))
                 .endDate(LocalDate.of(2025,1,31))
                 .period(BudgetPeriod.MONTHLY)
@@ -56,6 +65,7 @@ class GetAllBudgetsUsageQueryTest {
         Budget b2 = Budget.builder()
                 .id(2L).user(user).category(cat2)
                 .amount(new BigDecimal("50.00"))
+                .currency("EUR")
                 .startDate(LocalDate.of(2025,1,1))
                 .endDate(LocalDate.of(2025,1,31))
                 .period(BudgetPeriod.MONTHLY)
@@ -64,10 +74,11 @@ class GetAllBudgetsUsageQueryTest {
 
         when(budgetRepository.findByUserId(userId)).thenReturn(List.of(b1, b2));
 
+        when(exchangeRateService.targetFor("EUR")).thenReturn(EUR);
         // Spent: first budget returns null -> treated as 0; second returns 30.55
-        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 10L, b1.getStartDate(), b1.getEndDate()))
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 10L, b1.getStartDate(), b1.getEndDate(), EUR))
                 .thenReturn(null);
-        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 11L, b2.getStartDate(), b2.getEndDate()))
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 11L, b2.getStartDate(), b2.getEndDate(), EUR))
                 .thenReturn(new BigDecimal("30.55"));
 
         List<BudgetUsageResponse> result = query.execute(null);
@@ -76,16 +87,16 @@ class GetAllBudgetsUsageQueryTest {
 
         BudgetUsageResponse u1 = result.get(0);
         assertEquals(1L, u1.getId());
-        assertEquals(new BigDecimal("100.00"), u1.getAmount());
-        assertEquals(new BigDecimal("0"), u1.getSpent());
-        assertEquals(new BigDecimal("100.00"), u1.getRemaining());
+        assertEquals(new BigDecimal("100.00"), u1.getAmount().toBigDecimal());
+        assertEquals(new BigDecimal("0.00"), u1.getSpent().toBigDecimal());
+        assertEquals(new BigDecimal("100.00"), u1.getRemaining().toBigDecimal());
         assertEquals(new BigDecimal("0.00"), u1.getPercentUsed());
 
         BudgetUsageResponse u2 = result.get(1);
         assertEquals(2L, u2.getId());
-        assertEquals(new BigDecimal("50.00"), u2.getAmount());
-        assertEquals(new BigDecimal("30.55"), u2.getSpent());
-        assertEquals(new BigDecimal("19.45"), u2.getRemaining());
+        assertEquals(new BigDecimal("50.00"), u2.getAmount().toBigDecimal());
+        assertEquals(new BigDecimal("30.55"), u2.getSpent().toBigDecimal());
+        assertEquals(new BigDecimal("19.45"), u2.getRemaining().toBigDecimal());
         assertEquals(new BigDecimal("61.10"), u2.getPercentUsed());
     }
 }
@@ -0,0 +1,57 @@
+package com.dimitar.financetracker.service.query.budget;
+
+import com.dimitar.financetracker.dto.response.budget.BudgetAlertResponse;
+import com.dimitar.financetracker.entity.BudgetAlert;
+import com.dimitar.financetracker.model.Money;
+import com.dimitar.financetracker.repository.BudgetAlertRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetBudgetAlertsQueryTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private BudgetAlertRepository budgetAlertRepository;
+
+    private GetBudgetAlertsQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new GetBudgetAlertsQuery(authenticationFacade, budgetAlertRepository);
+    }
+
+    @Test
+    void execute_mapsAlertsOfAuthenticatedUser() {
+        LocalDateTime triggeredAt = LocalDateTime.of(2025, 3, 14, 9, 30);
+        BudgetAlert alert = BudgetAlert.builder()
+            .id(3L).userId(1L).budgetId(5L).categoryId(10L).thresholdPercent(100)
+            .budgetAmount(Money.ofCents(10000L)).spentAmount(Money.ofCents(10450L))
+            .triggeredAt(triggeredAt)
+            .build();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(1L);
+        when(budgetAlertRepository.findByUserIdOrderByTriggeredAtDesc(1L)).thenReturn(List.of(alert));
+
+        List<BudgetAlertResponse> result = query.execute(null);
+
+        assertEquals(1, result.size());
+        BudgetAlertResponse response = result.get(0);
+        assertEquals(3L, response.getId());
+        assertEquals(5L, response.getBudgetId());
+        assertEquals(10L, response.getCategoryId());
+        assertEquals(100, response.getThresholdPercent());
+        assertEquals(Money.ofCents(10450L), response.getSpentAmount());
+        assertEquals(triggeredAt, response.getTriggeredAt());
+    }
+}
@@ -6,9 +6,15 @@ import com.dimitar.financetracker.entity.Category;
 import com.dimitar.financetracker.entity.User;
 import com.dimitar.financetracker.exception.budget.BudgetDoesNotExistException;
 import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
 import com.dimitar.financetracker.repository.BudgetRepository;
 import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +31,7 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetBudgetUsageQueryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
 
     @Mock
     private AuthenticationFacade authenticationFacade;
@@ -31,11 +39,15 @@ class GetBudgetUsageQueryTest {
     private BudgetRepository budgetRepository;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private ColumnarAnalyticsStore columnarAnalyticsStore;
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private GetBudgetUsageQuery query;
 
     @BeforeEach
-    void setUp() { query = new GetBudgetUsageQuery(authenticationFacade, budgetRepository, transactionRepository); }
+    void setUp() { query = new GetBudgetUsageQuery(authenticationFacade, budgetRepository, transactionRepository, columnarAnalyticsStore, exchangeRateService); }
 
     @Test
     void execute_buildsUsage_forSingleBudget() {
@@ -46,6 +58,7 @@ class GetBudgetUsageQueryTest {
         Budget b = Budget.builder()
                 .id(budgetId).user(user).category(cat)
                 .amount(new BigDecimal("200.00"))
+                .currency("EUR")
                 .startDate(LocalDate.of(2025,1,1))
                 .endDate(LocalDate.of(2025,1,31))
                 .period(BudgetPeriod.MONTHLY)
@@ -53,15 +66,45 @@ class GetBudgetUsageQueryTest {
                 .build();
         when(budgetRepository.findByIdAndUserId(budgetId, userId)).thenReturn(Optional.of(b));
 
-        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 10L, b.getStartDate(), b.getEndDate()))
+        when(exchangeRateService.targetFor("EUR")).thenReturn(EUR);
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 10L, b.getStartDate(), b.getEndDate(), EUR))
                 .thenReturn(new BigDecimal("50.25"));
 
         BudgetUsageResponse resp = query.execute(budgetId);
         assertEquals(budgetId, resp.getId());
-        assertEquals(new BigDecimal("200.00"), resp.getAmount());
-        assertEquals(new BigDecimal("50.25"), resp.getSpent());
-        assertEquals(new BigDecimal("149.75"), resp.getRemaining());
+        assertEquals(new BigDecimal("200.00"), resp.getAmount().toBigDecimal());
+        assertEquals(new BigDecimal("50.25"), resp.getSpent().toBigDecimal());
+        assertEquals(new BigDecimal("149.75"), resp.getRemaining().toBigDecimal());
         assertEquals(new BigDecimal("25.13"), resp.getPercentUsed());
+        assertEquals("EUR", resp.getCurrency());
+    }
+
+    @Test
+    void execute_sumsInBudgetCurrency_whenColumnsHoldAnotherCurrency() {
+        Long userId = 9L; Long budgetId = 1L; when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+
+        User user = User.builder().id(userId).build();
+        Category cat = Category.builder().id(10L).name("Food").build();
+        Budget b = Budget.builder()
+                .id(budgetId).user(user).category(cat)
+                .amount(new BigDecimal("100.00"))
+                .currency("USD")
+                .startDate(LocalDate.of(2025,1,1))
+                .endDate(LocalDate.of(2025,1,31))
+                .period(BudgetPeriod.MONTHLY)
+                .isActive(true)
+                .build();
+        when(budgetRepository.findByIdAndUserId(budgetId, userId)).thenReturn(Optional.of(b));
+        when(columnarAnalyticsStore.columnsFor(userId))
+                .thenReturn(Optional.of(UserTransactionColumns.of(List.of(), "EUR")));
+        ConversionTarget usd = new ConversionTarget("USD", LocalDate.EPOCH, LocalDate.EPOCH);
+        when(exchangeRateService.targetFor("USD")).thenReturn(usd);
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(userId, 10L, b.getStartDate(), b.getEndDate(), usd))
+                .thenReturn(new BigDecimal("40.00"));
+
+        BudgetUsageResponse resp = query.execute(budgetId);
+        assertEquals(new BigDecimal("40.00"), resp.getSpent().toBigDecimal());
+        assertEquals("USD", resp.getCurrency());
     }
 
     @Test
@@ -70,4 +113,36 @@ class GetBudgetUsageQueryTest {
         when(budgetRepository.findByIdAndUserId(404L, userId)).thenReturn(Optional.empty());
         assertThrows(BudgetDoesNotExistException.class, () -> query.execute(404L));
     }
+
+    @Test
+    void execute_sumsSpentFromColumnarStore_whenAvailable() {
+        Long userId = 9L; Long budgetId = 1L; when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+
+        User user = User.builder().id(userId).build();
+        Category cat = Category.builder().id(10L).name("Food").build();
+        Budget b = Budget.builder()
+                .id(budgetId).user(user).category(cat)
+                .amount(new BigDecimal("200.00"))
+                .currency("EUR")
+                .startDate(LocalDate.of(2025,1,1))
+                .endDate(LocalDate.of(2025,1,31))
+                .period(BudgetPeriod.MONTHLY)
+                .isActive(true)
+                .build();
+        when(budgetRepository.findByIdAndUserId(budgetId, userId)).thenReturn(Optional.of(b));
+
+        UserTransactionColumns columns = UserTransactionColumns.of(List.of(
+                new TransactionFactRow(1L, 10L, CategoryType.EXPENSE, new BigDecimal("99.99"), LocalDate.of(2024,12,31)),
+                new TransactionFactRow(2L, 10L, CategoryType.EXPENSE, new BigDecimal("30.25"), LocalDate.of(2025,1,1)),
+                new TransactionFactRow(3L, 11L, CategoryType.EXPENSE, new BigDecimal("70.00"), LocalDate.of(2025,1,15)),
+                new TransactionFactRow(4L, 10L, CategoryType.EXPENSE, new BigDecimal("20.00"), LocalDate.of(2025,1,31))
+        ), "EUR");
+        when(columnarAnalyticsStore.columnsFor(userId)).thenReturn(Optional.of(columns));
+
+        BudgetUsageResponse resp = query.execute(budgetId);
+        assertEquals(new BigDecimal("50.25"), resp.getSpent().toBigDecimal());
+        assertEquals(new BigDecimal("149.75"), resp.getRemaining().toBigDecimal());
+        assertEquals(new BigDecimal("25.13"), resp.getPercentUsed());
+        verifyNoInteractions(transactionRepository);
+    }
 }
@@ -0,0 +1,120 @@
+package com.dimitar.financetracker.service.query.dashboard;
+
+import com.dimitar.financetracker.dto.response.budget.BudgetUsageResponse;
+import com.dimitar.financetracker.dto.response.category.CategoryResponse;
+import com.dimitar.financetracker.dto.response.dashboard.DashboardResponse;
+import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
+import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
+import com.dimitar.financetracker.exception.user.UserDoesNotExistException;
+import com.dimitar.financetracker.model.DashboardSection;
+import com.dimitar.financetracker.service.query.budget.GetAllBudgetsUsageQuery;
+import com.dimitar.financetracker.service.query.category.GetAllCategoriesQuery;
+import com.dimitar.financetracker.service.query.transaction.GetRecentTransactionsQuery;
+import com.dimitar.financetracker.service.query.user.GetUserStatisticsQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetDashboardQueryTest {
+
+    @Mock
+    private GetUserStatisticsQuery getUserStatisticsQuery;
+    @Mock
+    private GetRecentTransactionsQuery getRecentTransactionsQuery;
+    @Mock
+    private GetAllBudgetsUsageQuery getAllBudgetsUsageQuery;
+    @Mock
+    private GetAllCategoriesQuery getAllCategoriesQuery;
+
+    private final UserStatisticsResponse statistics = UserStatisticsResponse.builder().totalTransactions(3L).build();
+    private final List<TransactionResponse> recent = List.of(TransactionResponse.builder().id(1L).build());
+    private final List<BudgetUsageResponse> usage = List.of(BudgetUsageResponse.builder().id(2L).build());
+    private final List<CategoryResponse> categories = List.of(CategoryResponse.builder().id(3L).build());
+
+    private GetDashboardQuery query(long deadlineMillis) {
+        return new GetDashboardQuery(getUserStatisticsQuery, getRecentTransactionsQuery,
+                getAllBudgetsUsageQuery, getAllCategoriesQuery, deadlineMillis);
+    }
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("john", null, "USER"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void execute_combinesAllSections_onVirtualThreadsWithCallerSecurityContext() {
+        when(getUserStatisticsQuery.execute(null)).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread().isVirtual()).isTrue();
+            assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("john");
+            return statistics;
+        });
+        when(getRecentTransactionsQuery.execute(5)).thenReturn(recent);
+        when(getAllBudgetsUsageQuery.execute(null)).thenReturn(usage);
+        when(getAllCategoriesQuery.execute(null)).thenReturn(categories);
+
+        DashboardResponse response = query(5_000).execute(5);
+
+        assertThat(response.getStatistics()).isSameAs(statistics);
+        assertThat(response.getRecentTransactions()).isSameAs(recent);
+        assertThat(response.getBudgetUsage()).isSameAs(usage);
+        assertThat(response.getCategories()).isSameAs(categories);
+        assertThat(response.getUnavailableSections()).isEmpty();
+    }
+
+    @Test
+    void execute_leavesOutSectionsThatMissTheDeadline_andInterruptsThem() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(getUserStatisticsQuery.execute(null)).thenReturn(statistics);
+        when(getRecentTransactionsQuery.execute(null)).thenReturn(recent);
+        when(getAllBudgetsUsageQuery.execute(null)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return usage;
+        });
+        when(getAllCategoriesQuery.execute(null)).thenReturn(categories);
+
+        long started = System.nanoTime();
+        DashboardResponse response = query(200).execute(null);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(5_000);
+        assertThat(response.getBudgetUsage()).isNull();
+        assertThat(response.getUnavailableSections()).containsExactly(DashboardSection.BUDGET_USAGE);
+        assertThat(response.getStatistics()).isSameAs(statistics);
+        assertThat(response.getCategories()).isSameAs(categories);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void execute_propagatesSubQueryFailure() {
+        lenient().when(getUserStatisticsQuery.execute(null)).thenReturn(statistics);
+        lenient().when(getRecentTransactionsQuery.execute(null)).thenReturn(recent);
+        lenient().when(getAllBudgetsUsageQuery.execute(null)).thenReturn(usage);
+        when(getAllCategoriesQuery.execute(null)).thenThrow(new UserDoesNotExistException("Authenticated user not found: john"));
+
+        assertThatThrownBy(() -> query(5_000).execute(null))
+            .isInstanceOf(UserDoesNotExistException.class);
+    }
+}
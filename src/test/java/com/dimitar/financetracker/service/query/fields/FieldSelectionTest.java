@@ -0,0 +1,47 @@
+package com.dimitar.financetracker.service.query.fields;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("Should keep the requested order and drop duplicates and blanks")
+    void parse_keepsOrderWithoutDuplicates() {
+        List<TransactionField> fields = FieldSelection.parse(" transactionDate, amount,,transactionDate ", TransactionField.class);
+
+        assertThat(fields).containsExactly(TransactionField.TRANSACTION_DATE, TransactionField.AMOUNT);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field and list the allowed ones")
+    void parse_unknownField_throws() {
+        assertThatThrownBy(() -> FieldSelection.parse("amount,password", TransactionField.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown field 'password'")
+            .hasMessageContaining("transactionDate");
+    }
+
+    @Test
+    @DisplayName("Should be case sensitive like the JSON property names")
+    void parse_wrongCase_throws() {
+        assertThatThrownBy(() -> FieldSelection.parse("Amount", BudgetField.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown field 'Amount'");
+    }
+
+    @Test
+    @DisplayName("Should reject a selection without any field")
+    void parse_empty_throws() {
+        assertThatThrownBy(() -> FieldSelection.parse(" , ", CategoryField.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at least one field");
+        assertThatThrownBy(() -> FieldSelection.parse(null, CategoryField.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
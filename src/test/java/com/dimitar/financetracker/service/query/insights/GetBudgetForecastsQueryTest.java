@@ -0,0 +1,163 @@
+package com.dimitar.financetracker.service.query.insights;
+
+import com.dimitar.financetracker.dto.response.insights.BudgetForecastResponse;
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.SpendingForecastState;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.ConversionTarget;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.SpendingForecastStateRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.ExchangeRateRow;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.currency.ExchangeRateSnapshot;
+import com.dimitar.financetracker.service.forecast.SpendingForecastEngine;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetBudgetForecastsQueryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private BudgetRepository budgetRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private SpendingForecastStateRepository stateRepository;
+    @Mock
+    private ColumnarAnalyticsStore columnarAnalyticsStore;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private final SpendingForecastEngine engine = new SpendingForecastEngine(0.3, 0.05, 0.1, "none");
+
+    private GetBudgetForecastsQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new GetBudgetForecastsQuery(authenticationFacade, budgetRepository, transactionRepository,
+                stateRepository, columnarAnalyticsStore, engine, exchangeRateService);
+    }
+
+    private Budget activeBudget(LocalDate start, LocalDate end) {
+        return Budget.builder()
+                .id(1L)
+                .user(User.builder().id(7L).build())
+                .category(Category.builder().id(10L).name("Food").build())
+                .amount(new BigDecimal("300.00"))
+                .currency("EUR")
+                .startDate(start)
+                .endDate(end)
+                .period(BudgetPeriod.CUSTOM)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void execute_projectsRemainingDaysFromSmoothedState() {
+        LocalDate today = LocalDate.now();
+        Budget budget = activeBudget(today.minusDays(9), today.plusDays(10));
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(7L);
+        when(budgetRepository.findByUserIdAndIsActiveTrue(7L)).thenReturn(List.of(budget));
+
+        SpendingForecastState state = engine.newState(7L, 10L, today.minusDays(30).toEpochDay());
+        for (long day = today.minusDays(30).toEpochDay(); day < today.toEpochDay(); day++) {
+            engine.observe(state, day, 1000, today.toEpochDay());
+        }
+        when(stateRepository.findByUserId(7L)).thenReturn(List.of(state));
+        when(exchangeRateService.baseCurrencyOf(7L)).thenReturn("EUR");
+        when(exchangeRateService.targetFor("EUR")).thenReturn(EUR);
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(7L, 10L, budget.getStartDate(), today, EUR))
+                .thenReturn(new BigDecimal("100.00"));
+
+        List<BudgetForecastResponse> result = query.execute(null);
+
+        assertEquals(1, result.size());
+        BudgetForecastResponse forecast = result.get(0);
+        assertEquals(new BigDecimal("100.00"), forecast.getSpentToDate());
+        assertEquals(100.0, forecast.getProjectedRemaining().doubleValue(), 1.0);
+        assertEquals(200.0, forecast.getProjectedTotal().doubleValue(), 1.0);
+        assertFalse(forecast.getProjectedOverBudget());
+    }
+
+    @Test
+    void execute_convertsProjectionFromBaseCurrencyToBudgetCurrency() {
+        LocalDate today = LocalDate.now();
+        Budget budget = activeBudget(today.minusDays(9), today.plusDays(10));
+        budget.setCurrency("USD");
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(7L);
+        when(budgetRepository.findByUserIdAndIsActiveTrue(7L)).thenReturn(List.of(budget));
+
+        SpendingForecastState state = engine.newState(7L, 10L, today.minusDays(30).toEpochDay());
+        for (long day = today.minusDays(30).toEpochDay(); day < today.toEpochDay(); day++) {
+            engine.observe(state, day, 1000, today.toEpochDay());
+        }
+        when(stateRepository.findByUserId(7L)).thenReturn(List.of(state));
+        ConversionTarget usd = new ConversionTarget("USD", today, today);
+        when(exchangeRateService.baseCurrencyOf(7L)).thenReturn("EUR");
+        when(exchangeRateService.targetFor("USD")).thenReturn(usd);
+        when(exchangeRateService.snapshot()).thenReturn(ExchangeRateSnapshot.of("EUR",
+                List.of(new ExchangeRateRow("USD", today, new BigDecimal("2")))));
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(7L, 10L, budget.getStartDate(), today, usd))
+                .thenReturn(new BigDecimal("50.00"));
+
+        BudgetForecastResponse forecast = query.execute(null).get(0);
+
+        assertEquals("USD", forecast.getCurrency());
+        assertEquals(new BigDecimal("50.00"), forecast.getSpentToDate());
+        assertEquals(200.0, forecast.getProjectedRemaining().doubleValue(), 2.0);
+    }
+
+    @Test
+    void execute_projectsNothingWhileUserHasNoStateYet() {
+        LocalDate today = LocalDate.now();
+        Budget budget = activeBudget(today.minusDays(1), today.plusDays(1));
+        budget.setAmount(new BigDecimal("10.00"));
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(7L);
+        when(budgetRepository.findByUserIdAndIsActiveTrue(7L)).thenReturn(List.of(budget));
+        when(stateRepository.findByUserId(7L)).thenReturn(List.of());
+        when(exchangeRateService.baseCurrencyOf(7L)).thenReturn("EUR");
+        when(exchangeRateService.targetFor("EUR")).thenReturn(EUR);
+        when(transactionRepository.sumAmountByUserAndCategoryAndDateRange(7L, 10L, budget.getStartDate(), today, EUR))
+                .thenReturn(new BigDecimal("12.00"));
+
+        List<BudgetForecastResponse> result = query.execute(null);
+
+        verify(stateRepository, times(1)).findByUserId(7L);
+        verify(stateRepository, never()).deleteByUserId(any());
+        assertEquals(new BigDecimal("0.00"), result.get(0).getProjectedRemaining());
+        assertTrue(result.get(0).getProjectedOverBudget());
+        assertEquals(new BigDecimal("120.00"), result.get(0).getProjectedPercentUsed());
+    }
+
+    @Test
+    void execute_skipsBudgetsOutsideTheirPeriod() {
+        LocalDate today = LocalDate.now();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(7L);
+        when(budgetRepository.findByUserIdAndIsActiveTrue(7L))
+                .thenReturn(List.of(activeBudget(today.minusDays(40), today.minusDays(10))));
+
+        assertTrue(query.execute(null).isEmpty());
+        verifyNoInteractions(stateRepository, transactionRepository);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dimitar.financetracker.service.query.recurring;
+
+import com.dimitar.financetracker.dto.mapper.RecurringTransactionMapper;
+import com.dimitar.financetracker.dto.response.recurring.RecurringTransactionResponse;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetRecurringTransactionsQueryTest {
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+    @Mock
+    private RecurringTransactionMapper recurringTransactionMapper;
+
+    private GetRecurringTransactionsQuery query;
+
+    @BeforeEach
+    void setUp() {
+        query = new GetRecurringTransactionsQuery(authenticationFacade, recurringTransactionRepository, recurringTransactionMapper);
+    }
+
+    @Test
+    void execute_mapsRulesOfAuthenticatedUser() {
+        RecurringTransaction rent = RecurringTransaction.builder().id(1L).build();
+        RecurringTransaction salary = RecurringTransaction.builder().id(2L).build();
+        RecurringTransactionResponse rentResponse = RecurringTransactionResponse.builder().id(1L).build();
+        RecurringTransactionResponse salaryResponse = RecurringTransactionResponse.builder().id(2L).build();
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(9L);
+        when(recurringTransactionRepository.findByUserIdOrderByNextRunDateAsc(9L)).thenReturn(List.of(rent, salary));
+        when(recurringTransactionMapper.toResponse(rent)).thenReturn(rentResponse);
+        when(recurringTransactionMapper.toResponse(salary)).thenReturn(salaryResponse);
+
+        assertEquals(List.of(rentResponse, salaryResponse), query.execute(null));
+    }
+}
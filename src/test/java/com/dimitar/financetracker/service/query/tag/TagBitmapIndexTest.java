@@ -0,0 +1,180 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.entity.Tag;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionTagsChangedEvent;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.TagRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagBitmapIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+    private static final Tag TRAVEL = Tag.builder().id(10L).name("travel").build();
+    private static final Tag FOOD = Tag.builder().id(11L).name("food").build();
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TagBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagBitmapIndex(tagRepository, transactionRepository, 1 << 20);
+        // Transactions 1..4: 1 travel, 2 travel+food, 3 food, 4 untagged
+        lenient().when(transactionRepository.findIdsByUserId(anyLong())).thenReturn(List.of(1L, 2L, 3L, 4L));
+        lenient().when(tagRepository.findMembershipsByUserId(anyLong())).thenReturn(List.of(
+                new TagMembershipRow(10L, 1L), new TagMembershipRow(10L, 2L),
+                new TagMembershipRow(11L, 2L), new TagMembershipRow(11L, 3L)));
+        lenient().when(tagRepository.findByUserIdAndNameIn(anyLong(), any())).thenReturn(List.of(TRAVEL, FOOD));
+    }
+
+    private static List<Long> ids(Roaring64Bitmap bitmap) {
+        List<Long> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+
+    private static TransactionSnapshot snapshot(long id) {
+        return new TransactionSnapshot(id, 1L, CategoryType.EXPENSE, BigDecimal.ONE, DAY, "EUR");
+    }
+
+    @Test
+    void matching_resolvesNormalizedNames() {
+        assertEquals(List.of(2L), ids(index.matching(1L, TagFilter.of(List.of(" Travel", "FOOD"), null, null))));
+        assertEquals(List.of(1L), ids(index.matching(1L, TagFilter.of(List.of("travel"), null, List.of("food")))));
+        assertEquals(List.of(1L, 2L, 3L), ids(index.matching(1L, TagFilter.of(null, List.of("travel", "food"), null))));
+        verify(tagRepository, times(3)).findByUserIdAndNameIn(eq(1L), eq(Set.of("travel", "food")));
+    }
+
+    @Test
+    void matching_emptyFilter_returnsEveryTransactionWithoutResolvingNames() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.matching(1L, TagFilter.of(null, null, null))));
+        verify(tagRepository, never()).findByUserIdAndNameIn(anyLong(), any());
+    }
+
+    @Test
+    void matching_unknownNameInAll_matchesNothing() {
+        assertTrue(index.matching(1L, TagFilter.of(List.of("travel", "unknown"), null, null)).isEmpty());
+        assertTrue(index.matching(1L, TagFilter.of(null, List.of("unknown"), null)).isEmpty());
+        verify(transactionRepository, never()).findIdsByUserId(anyLong());
+    }
+
+    @Test
+    void matching_unknownNameInNone_isIgnored() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.matching(1L, TagFilter.of(null, null, List.of("unknown")))));
+    }
+
+    @Test
+    void bitmapsFor_loadsOnce() {
+        index.bitmapsFor(1L);
+        index.bitmapsFor(1L);
+
+        assertTrue(index.isLoaded(1L));
+        assertTrue(index.usedBytes() > 0);
+        verify(transactionRepository, times(1)).findIdsByUserId(1L);
+        verify(tagRepository, times(1)).findMembershipsByUserId(1L);
+    }
+
+    @Test
+    void onTransactionsChanged_addsAndRemovesTransactionsInPlace() {
+        index.bitmapsFor(1L);
+
+        index.onTransactionsChanged(TransactionsChangedEvent.created(1L, snapshot(5L)));
+        index.onTransactionsChanged(TransactionsChangedEvent.deleted(1L, snapshot(2L)));
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), ids(index.matching(1L, TagFilter.of(null, null, null))));
+        assertEquals(List.of(1L), ids(index.matching(1L, TagFilter.of(List.of("travel"), null, null))));
+        verify(transactionRepository, times(1)).findIdsByUserId(1L);
+    }
+
+    @Test
+    void onTransactionsChanged_bulkEventDropsUser() {
+        index.bitmapsFor(1L);
+
+        index.onTransactionsChanged(new TransactionsChangedEvent(1L));
+
+        assertFalse(index.isLoaded(1L));
+        assertEquals(0L, index.usedBytes());
+    }
+
+    @Test
+    void onTransactionTagsChanged_retagsTransaction() {
+        index.bitmapsFor(1L);
+
+        index.onTransactionTagsChanged(new TransactionTagsChangedEvent(1L, 4L, Set.of(), Set.of(10L)));
+        index.onTransactionTagsChanged(new TransactionTagsChangedEvent(1L, 2L, Set.of(10L), Set.of()));
+
+        assertEquals(List.of(1L, 4L), ids(index.matching(1L, TagFilter.of(List.of("travel"), null, null))));
+        assertEquals(2L, index.bitmapsFor(1L).count(10L));
+    }
+
+    @Test
+    void onTransactionTagsChanged_tagDeletionDropsTag() {
+        index.bitmapsFor(1L);
+
+        index.onTransactionTagsChanged(TransactionTagsChangedEvent.tagsDeleted(1L, Set.of(11L)));
+
+        assertEquals(0L, index.bitmapsFor(1L).count(11L));
+        assertEquals(2L, index.bitmapsFor(1L).count(10L));
+    }
+
+    @Test
+    void events_forUnloadedUser_areIgnored() {
+        index.onTransactionsChanged(TransactionsChangedEvent.created(2L, snapshot(5L)));
+        index.onTransactionTagsChanged(new TransactionTagsChangedEvent(2L, 5L, Set.of(), Set.of(10L)));
+
+        assertFalse(index.isLoaded(2L));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void bitmapsFor_userOverMemoryCap_isAnsweredWithoutCaching() {
+        TagBitmapIndex small = new TagBitmapIndex(tagRepository, transactionRepository, 8);
+
+        assertEquals(2L, small.bitmapsFor(1L).count(10L));
+        assertFalse(small.isLoaded(1L));
+        assertEquals(0L, small.usedBytes());
+    }
+
+    @Test
+    void bitmapsFor_evictsLeastRecentlyUsedUserOverMemoryCap() {
+        long perUser = index.bitmapsFor(9L).estimatedBytes();
+        TagBitmapIndex capped = new TagBitmapIndex(tagRepository, transactionRepository, 2 * perUser);
+
+        capped.bitmapsFor(1L);
+        capped.bitmapsFor(2L);
+        capped.bitmapsFor(1L);
+        capped.bitmapsFor(3L);
+
+        assertTrue(capped.isLoaded(1L));
+        assertFalse(capped.isLoaded(2L));
+        assertTrue(capped.isLoaded(3L));
+        assertEquals(2 * perUser, capped.usedBytes());
+    }
+}
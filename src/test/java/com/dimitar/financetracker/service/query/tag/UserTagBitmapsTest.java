@@ -0,0 +1,181 @@
+package com.dimitar.financetracker.service.query.tag;
+
+import com.dimitar.financetracker.repository.projection.TagMembershipRow;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserTagBitmapsTest {
+    private static final long TRAVEL = 1L;
+    private static final long FOOD = 2L;
+    private static final long REFUNDED = 3L;
+
+    // Transactions 1..6: 1 travel+food, 2 travel, 3 food, 4 travel+refunded, 5 untagged, 6 food+refunded.
+    private static UserTagBitmaps sample() {
+        return UserTagBitmaps.of(List.of(1L, 2L, 3L, 4L, 5L, 6L), List.of(
+            new TagMembershipRow(TRAVEL, 1L), new TagMembershipRow(FOOD, 1L),
+            new TagMembershipRow(TRAVEL, 2L),
+            new TagMembershipRow(FOOD, 3L),
+            new TagMembershipRow(TRAVEL, 4L), new TagMembershipRow(REFUNDED, 4L),
+            new TagMembershipRow(FOOD, 6L), new TagMembershipRow(REFUNDED, 6L)));
+    }
+
+    private static List<Long> ids(Roaring64Bitmap bitmap) {
+        List<Long> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+
+    @Test
+    void match_withEmptyFilter_returnsEveryTransaction() {
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), ids(sample().match(Set.of(), Set.of(), Set.of())));
+    }
+
+    @Test
+    void match_all_intersectsTags() {
+        UserTagBitmaps bitmaps = sample();
+
+        assertEquals(List.of(1L, 2L, 4L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of())));
+        assertEquals(List.of(1L), ids(bitmaps.match(Set.of(TRAVEL, FOOD), Set.of(), Set.of())));
+    }
+
+    @Test
+    void match_any_unitesTags() {
+        assertEquals(List.of(1L, 2L, 4L, 6L), ids(sample().match(Set.of(), Set.of(TRAVEL, REFUNDED), Set.of())));
+    }
+
+    @Test
+    void match_none_excludesTags() {
+        UserTagBitmaps bitmaps = sample();
+
+        assertEquals(List.of(1L, 2L, 3L, 5L), ids(bitmaps.match(Set.of(), Set.of(), Set.of(REFUNDED))));
+        assertEquals(List.of(1L, 2L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of(REFUNDED))));
+        assertEquals(List.of(2L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of(REFUNDED, FOOD))));
+    }
+
+    @Test
+    void match_combinesAllAnyAndNone() {
+        assertEquals(List.of(1L), ids(sample().match(Set.of(FOOD), Set.of(TRAVEL, REFUNDED), Set.of(REFUNDED))));
+    }
+
+    @Test
+    void match_tagWithoutTransactions_inAllMatchesNothing_inNoneIsIgnored() {
+        UserTagBitmaps bitmaps = sample();
+
+        assertTrue(bitmaps.match(Set.of(TRAVEL, 99L), Set.of(), Set.of()).isEmpty());
+        assertEquals(List.of(1L, 2L, 4L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of(99L))));
+    }
+
+    @Test
+    void match_returnsCopy() {
+        UserTagBitmaps bitmaps = sample();
+
+        bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of()).removeLong(1L);
+        bitmaps.match(Set.of(), Set.of(), Set.of()).removeLong(5L);
+
+        assertEquals(List.of(1L, 2L, 4L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of())));
+        assertEquals(6, bitmaps.match(Set.of(), Set.of(), Set.of()).getLongCardinality());
+    }
+
+    @Test
+    void count_returnsTransactionsPerTag() {
+        UserTagBitmaps bitmaps = sample();
+
+        assertEquals(3, bitmaps.count(TRAVEL));
+        assertEquals(2, bitmaps.count(REFUNDED));
+        assertEquals(0, bitmaps.count(99L));
+    }
+
+    @Test
+    void retag_movesTransactionBetweenTags() {
+        UserTagBitmaps bitmaps = sample();
+
+        bitmaps.retag(2L, Set.of(TRAVEL), Set.of(FOOD, 7L));
+
+        assertEquals(List.of(1L, 4L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of())));
+        assertEquals(List.of(1L, 2L, 3L, 6L), ids(bitmaps.match(Set.of(FOOD), Set.of(), Set.of())));
+        assertEquals(List.of(2L), ids(bitmaps.match(Set.of(7L), Set.of(), Set.of())));
+    }
+
+    @Test
+    void addAndRemoveTransaction_updateUniverseAndTags() {
+        UserTagBitmaps bitmaps = sample();
+
+        bitmaps.addTransaction(7L);
+        bitmaps.removeTransaction(1L);
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), ids(bitmaps.match(Set.of(), Set.of(), Set.of())));
+        assertEquals(List.of(2L, 4L), ids(bitmaps.match(Set.of(TRAVEL), Set.of(), Set.of())));
+        assertEquals(List.of(3L, 6L), ids(bitmaps.match(Set.of(FOOD), Set.of(), Set.of())));
+    }
+
+    @Test
+    void removeTags_dropsTagsButKeepsTransactions() {
+        UserTagBitmaps bitmaps = sample();
+
+        bitmaps.removeTags(Set.of(REFUNDED));
+
+        assertEquals(0, bitmaps.count(REFUNDED));
+        assertEquals(6, bitmaps.match(Set.of(), Set.of(), Set.of(REFUNDED)).getLongCardinality());
+    }
+
+    @Test
+    void match_agreesWithSetOperationsOnRandomMemberships() {
+        Random random = new Random(42);
+        int tags = 8;
+        List<Long> transactionIds = new ArrayList<>();
+        List<TagMembershipRow> memberships = new ArrayList<>();
+        Map<Long, Set<Long>> tagsByTransaction = new HashMap<>();
+        for (long id = 1; id <= 20_000; id++) {
+            // Ids with gaps, so both dense and sparse containers are exercised.
+            long transactionId = id * (1 + random.nextInt(3));
+            if (!tagsByTransaction.containsKey(transactionId)) {
+                transactionIds.add(transactionId);
+                Set<Long> tagged = new HashSet<>();
+                for (long tag = 1; tag <= tags; tag++) {
+                    if (random.nextInt((int) tag + 1) == 0) {
+                        tagged.add(tag);
+                        memberships.add(new TagMembershipRow(tag, transactionId));
+                    }
+                }
+                tagsByTransaction.put(transactionId, tagged);
+            }
+        }
+        UserTagBitmaps bitmaps = UserTagBitmaps.of(transactionIds, memberships);
+
+        for (int round = 0; round < 50; round++) {
+            Set<Long> all = randomTags(random, tags);
+            Set<Long> any = randomTags(random, tags);
+            Set<Long> none = randomTags(random, tags);
+            List<Long> expected = transactionIds.stream()
+                .filter(id -> {
+                    Set<Long> tagged = tagsByTransaction.get(id);
+                    return tagged.containsAll(all)
+                        && (any.isEmpty() || any.stream().anyMatch(tagged::contains))
+                        && none.stream().noneMatch(tagged::contains);
+                })
+                .sorted()
+                .toList();
+            assertEquals(expected, ids(bitmaps.match(all, any, none)));
+        }
+    }
+
+    private static Set<Long> randomTags(Random random, int tags) {
+        Set<Long> picked = new HashSet<>();
+        int count = random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            picked.add(1L + random.nextInt(tags));
+        }
+        return picked;
+    }
+}
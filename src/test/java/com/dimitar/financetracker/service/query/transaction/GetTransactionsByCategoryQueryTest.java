@@ -1,48 +1,48 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetTransactionsByCategoryQueryTest {
 
-    @Mock private AuthenticationFacade authenticationFacade;
-    @Mock private TransactionRepository transactionRepository;
-    @Mock private TransactionMapper transactionMapper;
+    @Mock private QueryTransactionsQuery queryTransactionsQuery;
 
     private GetTransactionsByCategoryQuery query;
 
     @BeforeEach
-    void setUp() { query = new GetTransactionsByCategoryQuery(authenticationFacade, transactionRepository, transactionMapper); }
+    void setUp() { query = new GetTransactionsByCategoryQuery(queryTransactionsQuery); }
 
     @Test
-    void execute_returnsMapped_forGivenCategory() {
-        Long userId = 3L; Long categoryId = 7L;
-        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
-
-        Transaction t1 = Transaction.builder().id(1L).build();
-        when(transactionRepository.findByUserIdAndCategoryId(userId, categoryId)).thenReturn(List.of(t1));
-
-        TransactionResponse r1 = TransactionResponse.builder().id(1L).build();
-        when(transactionMapper.toResponse(t1)).thenReturn(r1);
-
-        List<TransactionResponse> result = query.execute(categoryId);
-        assertEquals(List.of(r1), result);
-        verify(transactionRepository).findByUserIdAndCategoryId(userId, categoryId);
-        verify(transactionMapper).toResponse(t1);
+    void execute_readsOnePageOfTheCategory() {
+        Long categoryId = 7L;
+        CursorPagedResponse<TransactionResponse> page = CursorPagedResponse.<TransactionResponse>builder()
+                .content(List.of(TransactionResponse.builder().id(1L).build())).limit(20).build();
+        when(queryTransactionsQuery.execute(any(TransactionQueryRequest.class))).thenReturn(page);
+
+        CursorPagedResponse<TransactionResponse> result = query.execute(
+                new GetTransactionsByCategoryQuery.ByCategory(categoryId, CursorPageRequest.builder().build()));
+        assertSame(page, result);
+
+        ArgumentCaptor<TransactionQueryRequest> captor = ArgumentCaptor.forClass(TransactionQueryRequest.class);
+        verify(queryTransactionsQuery).execute(captor.capture());
+        assertEquals(List.of(categoryId), captor.getValue().getCategoryIds());
+        assertNull(captor.getValue().getCursor());
+        assertEquals(20, captor.getValue().getLimit());
     }
 }
-
@@ -1,10 +1,9 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,41 +20,41 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class GetTransactionsInDateRangeQueryTest {
 
-    @Mock private AuthenticationFacade authenticationFacade;
-    @Mock private TransactionRepository transactionRepository;
-    @Mock private TransactionMapper transactionMapper;
+    @Mock private QueryTransactionsQuery queryTransactionsQuery;
 
     private GetTransactionsInDateRangeQuery query;
 
     @BeforeEach
-    void setUp() { query = new GetTransactionsInDateRangeQuery(authenticationFacade, transactionRepository, transactionMapper); }
+    void setUp() { query = new GetTransactionsInDateRangeQuery(queryTransactionsQuery); }
 
     @Test
-    void execute_returnsMapped_andSwapsDatesWhenStartAfterEnd() {
-        Long userId = 10L; when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+    void execute_readsOnePageOfTheRange() {
         LocalDate start = LocalDate.of(2025, 3, 10);
-        LocalDate end = LocalDate.of(2025, 3, 1); // start > end
-
-        Transaction t = Transaction.builder().id(1L).build();
-        when(transactionRepository.findByUserIdAndTransactionDateBetween(eq(userId), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(List.of(t));
-        when(transactionMapper.toResponse(t)).thenReturn(TransactionResponse.builder().id(1L).build());
-
-        List<TransactionResponse> result = query.execute(new GetTransactionsInDateRangeQuery.DateRange(start, end));
-        assertEquals(1, result.size());
-
-        ArgumentCaptor<LocalDate> startCap = ArgumentCaptor.forClass(LocalDate.class);
-        ArgumentCaptor<LocalDate> endCap = ArgumentCaptor.forClass(LocalDate.class);
-        verify(transactionRepository).findByUserIdAndTransactionDateBetween(eq(userId), startCap.capture(), endCap.capture());
-        assertEquals(LocalDate.of(2025, 3, 1), startCap.getValue());
-        assertEquals(LocalDate.of(2025, 3, 10), endCap.getValue());
+        LocalDate end = LocalDate.of(2025, 3, 1); // start > end, swapped by the criteria
+        CursorPagedResponse<TransactionResponse> page = CursorPagedResponse.<TransactionResponse>builder()
+                .content(List.of(TransactionResponse.builder().id(1L).build())).limit(5).build();
+        when(queryTransactionsQuery.execute(any(TransactionQueryRequest.class))).thenReturn(page);
+
+        CursorPagedResponse<TransactionResponse> result = query.execute(new GetTransactionsInDateRangeQuery.DateRange(
+                start, end, CursorPageRequest.builder().cursor("abc").limit(5).build()));
+        assertSame(page, result);
+
+        ArgumentCaptor<TransactionQueryRequest> captor = ArgumentCaptor.forClass(TransactionQueryRequest.class);
+        verify(queryTransactionsQuery).execute(captor.capture());
+        TransactionQueryRequest request = captor.getValue();
+        assertEquals(start, request.getStartDate());
+        assertEquals(end, request.getEndDate());
+        assertEquals("abc", request.getCursor());
+        assertEquals(5, request.getLimit());
+        assertEquals("transactionDate", request.getSortBy());
+        assertEquals("DESC", request.getSortDirection());
     }
 
     @Test
     void execute_throwsWhenDatesMissing() {
-        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(1L);
-        assertThrows(IllegalArgumentException.class, () -> query.execute(new GetTransactionsInDateRangeQuery.DateRange(null, LocalDate.now())));
-        assertThrows(IllegalArgumentException.class, () -> query.execute(new GetTransactionsInDateRangeQuery.DateRange(LocalDate.now(), null)));
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        assertThrows(IllegalArgumentException.class, () -> query.execute(new GetTransactionsInDateRangeQuery.DateRange(null, LocalDate.now(), page)));
+        assertThrows(IllegalArgumentException.class, () -> query.execute(new GetTransactionsInDateRangeQuery.DateRange(LocalDate.now(), null, page)));
+        verifyNoInteractions(queryTransactionsQuery);
     }
 }
-
@@ -0,0 +1,74 @@
+package com.dimitar.financetracker.service.query.transaction;
+
+import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.query.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueryTransactionsQueryTest {
+
+    @Mock private AuthenticationFacade authenticationFacade;
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private TransactionMapper transactionMapper;
+
+    private QueryTransactionsQuery query;
+
+    @BeforeEach
+    void setUp() { query = new QueryTransactionsQuery(authenticationFacade, transactionRepository, transactionMapper); }
+
+    @Test
+    void execute_throwsWhenLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> query.execute(TransactionQueryRequest.builder().limit(0).build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> query.execute(TransactionQueryRequest.builder().limit(CursorPageRequest.MAX_LIMIT + 1).build()));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void execute_throwsOnUnknownSortBy() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> query.execute(TransactionQueryRequest.builder().sortBy("description").build()));
+        assertTrue(ex.getMessage().contains("description"));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void execute_throwsOnMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> query.execute(TransactionQueryRequest.builder().cursor("%%%").build()));
+        String badDate = new KeysetCursor("transactionDate", Sort.Direction.DESC, "yesterday", 1L).encode();
+        assertThrows(IllegalArgumentException.class, () -> query.execute(TransactionQueryRequest.builder().cursor(badDate).build()));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void execute_throwsOnCursorFromDifferentSort() {
+        String byAmount = new KeysetCursor("amount", Sort.Direction.DESC, "10.00", 1L).encode();
+        String ascending = new KeysetCursor("transactionDate", Sort.Direction.ASC, "2026-01-01", 1L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> query.execute(TransactionQueryRequest.builder().cursor(byAmount).build()));
+        assertThrows(IllegalArgumentException.class, () -> query.execute(TransactionQueryRequest.builder().cursor(ascending).build()));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void cursor_roundTripsThroughEncoding() {
+        KeysetCursor cursor = new KeysetCursor("amount", Sort.Direction.ASC, "12.50", 42L);
+
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("=") || encoded.contains("+") || encoded.contains("/"));
+        assertEquals(cursor, KeysetCursor.decode(encoded));
+    }
+}
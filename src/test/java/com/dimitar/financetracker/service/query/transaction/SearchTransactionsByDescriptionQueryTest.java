@@ -1,10 +1,9 @@
 package com.dimitar.financetracker.service.query.transaction;
 
-import com.dimitar.financetracker.dto.mapper.TransactionMapper;
+import com.dimitar.financetracker.dto.request.CursorPageRequest;
+import com.dimitar.financetracker.dto.request.transaction.TransactionQueryRequest;
+import com.dimitar.financetracker.dto.response.CursorPagedResponse;
 import com.dimitar.financetracker.dto.response.transaction.TransactionResponse;
-import com.dimitar.financetracker.entity.Transaction;
-import com.dimitar.financetracker.repository.TransactionRepository;
-import com.dimitar.financetracker.service.AuthenticationFacade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,46 +14,43 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SearchTransactionsByDescriptionQueryTest {
 
-    @Mock private AuthenticationFacade authenticationFacade;
-    @Mock private TransactionRepository transactionRepository;
-    @Mock private TransactionMapper transactionMapper;
+    @Mock private QueryTransactionsQuery queryTransactionsQuery;
 
     private SearchTransactionsByDescriptionQuery query;
 
     @BeforeEach
     void setUp() {
-        query = new SearchTransactionsByDescriptionQuery(authenticationFacade, transactionRepository, transactionMapper);
+        query = new SearchTransactionsByDescriptionQuery(queryTransactionsQuery);
     }
 
     @Test
     void execute_trimsAndQueries_whenValidTerm() {
-        Long userId = 6L;
-        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        CursorPagedResponse<TransactionResponse> page = CursorPagedResponse.<TransactionResponse>builder()
+                .content(List.of(TransactionResponse.builder().id(1L).build())).limit(20).build();
+        when(queryTransactionsQuery.execute(any(TransactionQueryRequest.class))).thenReturn(page);
 
-        Transaction t = Transaction.builder().id(1L).build();
-        when(transactionRepository.findByUserIdAndDescriptionContainingIgnoreCase(eq(userId), anyString()))
-                .thenReturn(List.of(t));
-        when(transactionMapper.toResponse(t)).thenReturn(TransactionResponse.builder().id(1L).build());
+        CursorPagedResponse<TransactionResponse> result = query.execute(
+                new SearchTransactionsByDescriptionQuery.Search("  milk  ", CursorPageRequest.builder().build()));
+        assertSame(page, result);
 
-        List<TransactionResponse> result = query.execute("  milk  ");
-        assertEquals(1, result.size());
-
-        ArgumentCaptor<String> termCap = ArgumentCaptor.forClass(String.class);
-        verify(transactionRepository).findByUserIdAndDescriptionContainingIgnoreCase(eq(userId), termCap.capture());
-        assertEquals("milk", termCap.getValue());
+        ArgumentCaptor<TransactionQueryRequest> captor = ArgumentCaptor.forClass(TransactionQueryRequest.class);
+        verify(queryTransactionsQuery).execute(captor.capture());
+        assertEquals("milk", captor.getValue().getQ());
     }
 
     @Test
     void execute_throwsWhenTermBlankOrNull() {
-        assertThrows(IllegalArgumentException.class, () -> query.execute("   "));
-        assertThrows(IllegalArgumentException.class, () -> query.execute(null));
+        CursorPageRequest page = CursorPageRequest.builder().build();
+        assertThrows(IllegalArgumentException.class, () -> query.execute(new SearchTransactionsByDescriptionQuery.Search("   ", page)));
+        assertThrows(IllegalArgumentException.class, () -> query.execute(new SearchTransactionsByDescriptionQuery.Search(null, page)));
+        verifyNoInteractions(queryTransactionsQuery);
     }
 }
@@ -2,18 +2,25 @@ package com.dimitar.financetracker.service.query.user;
 
 import com.dimitar.financetracker.dto.response.user.UserStatisticsResponse;
 import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.ConversionTarget;
 import com.dimitar.financetracker.repository.TransactionRepository;
+import com.dimitar.financetracker.repository.projection.TransactionFactRow;
+import com.dimitar.financetracker.repository.projection.TypeTotalsRow;
 import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import com.dimitar.financetracker.service.query.analytics.ColumnarAnalyticsStore;
+import com.dimitar.financetracker.service.query.analytics.UserTransactionColumns;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
@@ -21,108 +28,116 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetUserStatisticsQueryTest {
+    private static final ConversionTarget EUR = new ConversionTarget("EUR", LocalDate.EPOCH, LocalDate.EPOCH);
 
     @Mock
     private AuthenticationFacade authenticationFacade;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private ColumnarAnalyticsStore columnarAnalyticsStore;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
 
     private GetUserStatisticsQuery query;
 
     @BeforeEach
     void setUp() {
-        query = new GetUserStatisticsQuery(authenticationFacade, transactionRepository);
+        query = new GetUserStatisticsQuery(authenticationFacade, transactionRepository, columnarAnalyticsStore, exchangeRateService);
     }
 
     @Test
     void execute_returnsComputedStatistics_withValues() {
         Long userId = 42L;
         when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        when(exchangeRateService.baseTargetOf(userId)).thenReturn(EUR);
 
-        when(transactionRepository.sumAmountByUserAndType(userId, CategoryType.INCOME))
-                .thenReturn(new BigDecimal("1000"));
-        when(transactionRepository.sumAmountByUserAndType(userId, CategoryType.EXPENSE))
-                .thenReturn(new BigDecimal("400"));
-
-        when(transactionRepository.countByUser(userId)).thenReturn(10L);
-        when(transactionRepository.countByUserAndType(userId, CategoryType.INCOME)).thenReturn(4L);
-        when(transactionRepository.countByUserAndType(userId, CategoryType.EXPENSE)).thenReturn(6L);
-
-        when(transactionRepository.avgAmountByUserAndType(userId, CategoryType.INCOME))
-                .thenReturn(new BigDecimal("250.123")); // rounds to 250.12
-        when(transactionRepository.avgAmountByUserAndType(userId, CategoryType.EXPENSE))
-                .thenReturn(new BigDecimal("66.665")); // rounds to 66.67
-
-        // Monthly stats for current month range
         YearMonth now = YearMonth.now();
         LocalDate start = now.atDay(1);
         LocalDate end = now.atEndOfMonth();
 
-        when(transactionRepository.sumAmountByUserAndTypeAndDateRange(eq(userId), eq(CategoryType.INCOME), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(new BigDecimal("300"));
-        when(transactionRepository.sumAmountByUserAndTypeAndDateRange(eq(userId), eq(CategoryType.EXPENSE), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(new BigDecimal("120"));
-
-        ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-        ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
+        when(transactionRepository.sumByType(userId, start, end, EUR)).thenReturn(List.of(
+                new TypeTotalsRow(CategoryType.INCOME, 4L, new BigDecimal("1000"), new BigDecimal("300")),
+                new TypeTotalsRow(CategoryType.EXPENSE, 6L, new BigDecimal("400"), new BigDecimal("120"))));
 
         UserStatisticsResponse resp = query.execute(null);
 
-        assertEquals(new BigDecimal("1000"), resp.getTotalIncome());
-        assertEquals(new BigDecimal("400"), resp.getTotalExpenses());
-        assertEquals(new BigDecimal("600"), resp.getNetBalance());
+        assertEquals("EUR", resp.getCurrency());
+        assertEquals(new BigDecimal("1000.00"), resp.getTotalIncome());
+        assertEquals(new BigDecimal("400.00"), resp.getTotalExpenses());
+        assertEquals(new BigDecimal("600.00"), resp.getNetBalance());
 
         assertEquals(10L, resp.getTotalTransactions());
         assertEquals(4L, resp.getTotalIncomeTransactions());
         assertEquals(6L, resp.getTotalExpenseTransactions());
 
-        assertEquals(new BigDecimal("250.12"), resp.getAverageIncomePerTransaction());
-        assertEquals(new BigDecimal("66.67"), resp.getAverageExpensePerTransaction());
-
-        verify(transactionRepository).sumAmountByUserAndTypeAndDateRange(eq(userId), eq(CategoryType.INCOME), startCaptor.capture(), endCaptor.capture());
-        LocalDate capturedStart = startCaptor.getValue();
-        LocalDate capturedEnd = endCaptor.getValue();
-        assertEquals(start, capturedStart);
-        assertEquals(end, capturedEnd);
+        assertEquals(new BigDecimal("250.00"), resp.getAverageIncomePerTransaction());
+        assertEquals(new BigDecimal("66.67"), resp.getAverageExpensePerTransaction()); // 400 / 6 rounds half up
 
-        assertEquals(new BigDecimal("300"), resp.getMonthlyIncome());
-        assertEquals(new BigDecimal("120"), resp.getMonthlyExpenses());
-        assertEquals(new BigDecimal("180"), resp.getMonthlyNetBalance());
+        assertEquals(new BigDecimal("300.00"), resp.getMonthlyIncome());
+        assertEquals(new BigDecimal("120.00"), resp.getMonthlyExpenses());
+        assertEquals(new BigDecimal("180.00"), resp.getMonthlyNetBalance());
+        verify(transactionRepository).sumByType(userId, start, end, EUR);
     }
 
     @Test
-    void execute_handlesNullsGracefully() {
+    void execute_handlesMissingTypesGracefully() {
         Long userId = 101L;
         when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+        when(exchangeRateService.baseTargetOf(userId)).thenReturn(EUR);
 
-        // Return nulls for monetary aggregates
-        when(transactionRepository.sumAmountByUserAndType(eq(userId), any(CategoryType.class)))
-                .thenReturn(null);
-        when(transactionRepository.avgAmountByUserAndType(eq(userId), any(CategoryType.class)))
-                .thenReturn(null);
-        when(transactionRepository.sumAmountByUserAndTypeAndDateRange(eq(userId), any(CategoryType.class), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(null);
-
-        // Reasonable defaults for counts
-        when(transactionRepository.countByUser(userId)).thenReturn(0L);
-        when(transactionRepository.countByUserAndType(eq(userId), any(CategoryType.class))).thenReturn(0L);
+        // No rows for a user without transactions
+        when(transactionRepository.sumByType(eq(userId), any(LocalDate.class), any(LocalDate.class), eq(EUR)))
+                .thenReturn(List.of());
 
         UserStatisticsResponse resp = query.execute(null);
 
-        // All monetary fields should be zero
-        assertEquals(BigDecimal.ZERO, resp.getTotalIncome());
-        assertEquals(BigDecimal.ZERO, resp.getTotalExpenses());
-        assertEquals(BigDecimal.ZERO, resp.getNetBalance());
-        assertEquals(BigDecimal.ZERO, resp.getAverageIncomePerTransaction());
-        assertEquals(BigDecimal.ZERO, resp.getAverageExpensePerTransaction());
-        assertEquals(BigDecimal.ZERO, resp.getMonthlyIncome());
-        assertEquals(BigDecimal.ZERO, resp.getMonthlyExpenses());
-        assertEquals(BigDecimal.ZERO, resp.getMonthlyNetBalance());
-
-        // Counts should reflect stubbed values
+        // All monetary fields should be zero, at the amount scale
+        BigDecimal zero = new BigDecimal("0.00");
+        assertEquals(zero, resp.getTotalIncome());
+        assertEquals(zero, resp.getTotalExpenses());
+        assertEquals(zero, resp.getNetBalance());
+        assertEquals(zero, resp.getAverageIncomePerTransaction());
+        assertEquals(zero, resp.getAverageExpensePerTransaction());
+        assertEquals(zero, resp.getMonthlyIncome());
+        assertEquals(zero, resp.getMonthlyExpenses());
+        assertEquals(zero, resp.getMonthlyNetBalance());
+
         assertEquals(0L, resp.getTotalTransactions());
         assertEquals(0L, resp.getTotalIncomeTransactions());
         assertEquals(0L, resp.getTotalExpenseTransactions());
     }
-}
 
+    @Test
+    void execute_usesColumnarStore_whenUserColumnsAreAvailable() {
+        Long userId = 7L;
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(userId);
+
+        LocalDate today = LocalDate.now();
+        LocalDate lastYear = today.minusYears(1);
+        UserTransactionColumns columns = UserTransactionColumns.of(List.of(
+            new TransactionFactRow(1L, 10L, CategoryType.INCOME, new BigDecimal("1000.00"), lastYear),
+            new TransactionFactRow(2L, 20L, CategoryType.EXPENSE, new BigDecimal("40.00"), lastYear),
+            new TransactionFactRow(3L, 10L, CategoryType.INCOME, new BigDecimal("500.00"), today),
+            new TransactionFactRow(4L, 20L, CategoryType.EXPENSE, new BigDecimal("20.01"), today)
+        ), "EUR");
+        when(columnarAnalyticsStore.columnsFor(userId)).thenReturn(Optional.of(columns));
+
+        UserStatisticsResponse resp = query.execute(null);
+
+        assertEquals(new BigDecimal("1500.00"), resp.getTotalIncome());
+        assertEquals(new BigDecimal("60.01"), resp.getTotalExpenses());
+        assertEquals(new BigDecimal("1439.99"), resp.getNetBalance());
+        assertEquals(4L, resp.getTotalTransactions());
+        assertEquals(2L, resp.getTotalIncomeTransactions());
+        assertEquals(2L, resp.getTotalExpenseTransactions());
+        assertEquals(new BigDecimal("750.00"), resp.getAverageIncomePerTransaction());
+        assertEquals(new BigDecimal("30.01"), resp.getAverageExpensePerTransaction());
+        assertEquals(new BigDecimal("500.00"), resp.getMonthlyIncome());
+        assertEquals(new BigDecimal("20.01"), resp.getMonthlyExpenses());
+        assertEquals(new BigDecimal("479.99"), resp.getMonthlyNetBalance());
+        assertEquals("EUR", resp.getCurrency());
+        verifyNoInteractions(transactionRepository);
+    }
+}
@@ -0,0 +1,147 @@
+package com.dimitar.financetracker.service.recurring;
+
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.RecurringTransaction;
+import com.dimitar.financetracker.entity.Transaction;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.RecurrenceFrequency;
+import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.repository.RecurringTransactionRepository;
+import com.dimitar.financetracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+class RecurringTransactionMaterializerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(User.builder()
+                .username("renter")
+                .email("renter@example.com")
+                .password("password123")
+                .build());
+        category = entityManager.persistAndFlush(Category.builder()
+                .user(user)
+                .name("Housing")
+                .type(CategoryType.EXPENSE)
+                .color("#FF0000")
+                .build());
+    }
+
+    private RecurringTransaction persistRule(RecurrenceFrequency frequency, LocalDate start) {
+        return entityManager.persistAndFlush(RecurringTransaction.builder()
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal("950.00"))
+                .description("Rent")
+                .frequency(frequency)
+                .startDate(start)
+                .isActive(true)
+                .build());
+    }
+
+    private RecurringTransactionJob job(int chunkSize, int maxOccurrencesPerRule) {
+        return new RecurringTransactionJob(new RecurringTransactionMaterializer(recurringTransactionRepository,
+                categoryRepository, jdbcTemplate, eventPublisher, chunkSize, maxOccurrencesPerRule));
+    }
+
+    private List<Transaction> postedTransactions() {
+        entityManager.clear();
+        return transactionRepository.findAll().stream()
+                .sorted(Comparator.comparing(Transaction::getTransactionDate))
+                .toList();
+    }
+
+    @Test
+    void run_postsEveryDueOccurrenceAndAdvancesRule() {
+        RecurringTransaction rule = persistRule(RecurrenceFrequency.MONTHLY, LocalDate.of(2025, 3, 1));
+
+        job(10, 31).run(TODAY);
+
+        List<Transaction> posted = postedTransactions();
+        assertThat(posted).extracting(Transaction::getTransactionDate).containsExactly(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 1));
+        assertThat(posted).allSatisfy(t -> {
+            assertThat(t.getRecurringTransactionId()).isEqualTo(rule.getId());
+            assertThat(t.getAmount()).isEqualByComparingTo("950.00");
+            assertThat(t.getDescription()).isEqualTo("Rent");
+        });
+        assertThat(recurringTransactionRepository.findById(rule.getId()).orElseThrow().getNextRunDate())
+                .isEqualTo(LocalDate.of(2025, 7, 1));
+
+        ArgumentCaptor<TransactionsChangedEvent> events = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues()).hasSize(4).allSatisfy(e -> {
+            assertThat(e.userId()).isEqualTo(user.getId());
+            assertThat(e.after().id()).isNotNull();
+            assertThat(e.after().type()).isEqualTo(CategoryType.EXPENSE);
+        });
+    }
+
+    @Test
+    void run_backfillsInBoundedChunks() {
+        persistRule(RecurrenceFrequency.DAILY, LocalDate.of(2025, 6, 1));
+        persistRule(RecurrenceFrequency.WEEKLY, LocalDate.of(2025, 5, 20));
+
+        int chunks = job(1, 3).run(TODAY);
+
+        assertThat(postedTransactions()).hasSize(10 + 4);
+        // Ten daily occurrences at three per claim take four claims; the weekly rule takes two.
+        assertThat(chunks).isEqualTo(6);
+    }
+
+    @Test
+    void run_treatsNonPositiveLimitsAsOne() {
+        persistRule(RecurrenceFrequency.WEEKLY, LocalDate.of(2025, 5, 20));
+
+        int chunks = job(0, 0).run(TODAY);
+
+        assertThat(postedTransactions()).hasSize(4);
+        assertThat(chunks).isEqualTo(4);
+    }
+
+    @Test
+    void run_isANoOpWhenNothingIsDue() {
+        persistRule(RecurrenceFrequency.MONTHLY, TODAY.plusDays(1));
+
+        assertThat(job(10, 31).run(TODAY)).isZero();
+        assertThat(postedTransactions()).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.dimitar.financetracker.service.rollover;
+
+import com.dimitar.financetracker.entity.Budget;
+import com.dimitar.financetracker.entity.Category;
+import com.dimitar.financetracker.entity.User;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.model.BudgetPeriod;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.repository.BudgetRepository;
+import com.dimitar.financetracker.repository.CategoryRepository;
+import com.dimitar.financetracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// Chunks are written from worker threads in their own transactions, so the test data is committed.
+@DataJpaTest
+@Import(BudgetRolloverWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BudgetRolloverJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BudgetRolloverWriter budgetRolloverWriter;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private User user;
+    private Category category;
+    private BudgetRolloverJob job;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("roller")
+                .email("roller@example.com")
+                .password("password123")
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .user(user)
+                .name("Food")
+                .type(CategoryType.EXPENSE)
+                .color("#FF0000")
+                .build());
+        job = new BudgetRolloverJob(budgetRepository, budgetRolloverWriter, eventPublisher, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        budgetRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Budget saveBudget(BudgetPeriod period, LocalDate start, LocalDate end, boolean recurring) {
+        return budgetRepository.save(Budget.builder()
+                .user(user)
+                .category(category)
+                .amount(new BigDecimal("250.00"))
+                .period(period)
+                .startDate(start)
+                .endDate(end)
+                .isActive(true)
+                .isRecurring(recurring)
+                .build());
+    }
+
+    private List<Budget> budgetsByStart() {
+        return budgetRepository.findAll().stream()
+                .sorted(Comparator.comparing(Budget::getStartDate).thenComparing(Budget::getId))
+                .toList();
+    }
+
+    @Test
+    void rollover_createsNextPeriodForEndedRecurringBudgets() {
+        Budget ended = saveBudget(BudgetPeriod.MONTHLY, LocalDate.of(2025, 5, 10), LocalDate.of(2025, 6, 10), true);
+        saveBudget(BudgetPeriod.MONTHLY, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 1), true);
+        saveBudget(BudgetPeriod.MONTHLY, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 1), false);
+        saveBudget(BudgetPeriod.CUSTOM, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 20), true);
+
+        int created = job.rollover(TODAY);
+
+        assertThat(created).isEqualTo(1);
+        Budget next = budgetRepository.findAll().stream()
+                .filter(b -> ended.getId().equals(b.getSourceBudgetId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(next.getStartDate()).isEqualTo(LocalDate.of(2025, 6, 10));
+        assertThat(next.getEndDate()).isEqualTo(LocalDate.of(2025, 7, 10));
+        assertThat(next.getAmount()).isEqualByComparingTo("250.00");
+        assertThat(next.getPeriod()).isEqualTo(BudgetPeriod.MONTHLY);
+        assertThat(next.getIsRecurring()).isTrue();
+        assertThat(next.getIsActive()).isTrue();
+        verify(eventPublisher).publishEvent(new BudgetsChangedEvent(user.getId()));
+    }
+
+    @Test
+    void rollover_catchesUpMissedPeriodsAcrossChunks() {
+        saveBudget(BudgetPeriod.WEEKLY, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 8), true);
+        saveBudget(BudgetPeriod.WEEKLY, LocalDate.of(2025, 4, 2), LocalDate.of(2025, 4, 9), true);
+        saveBudget(BudgetPeriod.WEEKLY, LocalDate.of(2025, 4, 3), LocalDate.of(2025, 4, 10), true);
+
+        int created = job.rollover(TODAY);
+
+        // Each chain advances a week per pass until its end date is after TODAY; the first one ends
+        // exactly on TODAY after nine weeks and so needs a tenth period.
+        assertThat(created).isEqualTo(10 + 9 + 9);
+        assertThat(budgetsByStart()).filteredOn(b -> b.getEndDate().isAfter(TODAY)).hasSize(3);
+        assertThat(budgetsByStart()).allSatisfy(b ->
+                assertThat(b.getEndDate()).isEqualTo(b.getStartDate().plusWeeks(1)));
+    }
+
+    @Test
+    void rollover_isIdempotentWhenRunAgain() {
+        saveBudget(BudgetPeriod.MONTHLY, LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 1), true);
+
+        assertThat(job.rollover(TODAY)).isEqualTo(1);
+        assertThat(job.rollover(TODAY)).isZero();
+        assertThat(budgetRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,159 @@
+package com.dimitar.financetracker.service.stream;
+
+import com.dimitar.financetracker.controller.StreamController;
+import com.dimitar.financetracker.dto.response.stream.UpdateDeltaResponse;
+import com.dimitar.financetracker.model.UpdateScope;
+import com.dimitar.financetracker.service.AuthenticationFacade;
+import com.dimitar.financetracker.service.StreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Drives the broker through the real controller so events are written to an actual async response.
+@ExtendWith(MockitoExtension.class)
+class UpdateStreamBrokerTest {
+
+    private static final Pattern CONNECTED_ID = Pattern.compile("id:([^\\n]+)\\n");
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+
+    private UpdateStreamBroker broker;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Drains run on the calling thread so each test can read what was written right away.
+        useBroker(new UpdateStreamBroker(60_000L, 2, 0L, 3000L, 8, Runnable::run));
+    }
+
+    private void useBroker(UpdateStreamBroker broker) {
+        this.broker = broker;
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(new StreamService(authenticationFacade, broker)))
+                .setMessageConverters(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter(new ObjectMapper()))
+                .build();
+    }
+
+    private MvcResult open(String lastEventId) throws Exception {
+        when(authenticationFacade.getAuthenticatedUserId()).thenReturn(1L);
+        var request = get("/api/stream/updates");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String body(MvcResult result) throws Exception {
+        return result.getResponse().getContentAsString();
+    }
+
+    private static String connectedId(MvcResult result) throws Exception {
+        Matcher matcher = CONNECTED_ID.matcher(body(result));
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static UpdateDeltaResponse refreshOf(UpdateScope scope) {
+        return UpdateDeltaResponse.builder().scope(scope).refresh(true).build();
+    }
+
+    @Test
+    void subscribe_sendsResumePointAndThenPublishedUpdates() throws Exception {
+        MvcResult stream = open(null);
+        String connected = connectedId(stream);
+        String epoch = connected.substring(0, connected.indexOf(':'));
+
+        assertThat(connected).endsWith(":0");
+        assertThat(body(stream)).contains("retry:3000").contains(":connected");
+        assertThat(stream.getResponse().getHeader("Cache-Control")).isEqualTo("no-store");
+        assertThat(stream.getResponse().getHeader("X-Accel-Buffering")).isEqualTo("no");
+
+        broker.publish(1L, refreshOf(UpdateScope.BUDGETS));
+
+        assertThat(body(stream))
+            .contains("id:" + epoch + ":1\nevent:update\n")
+            .contains("\"scope\":\"BUDGETS\"");
+        assertThat(broker.connectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconnectWithLastEventId_replaysOnlyMissedEvents() throws Exception {
+        String epoch = connectedId(open(null)).split(":")[0];
+        broker.publish(1L, refreshOf(UpdateScope.BUDGETS));
+        broker.publish(1L, refreshOf(UpdateScope.CATEGORIES));
+
+        MvcResult resumed = open(epoch + ":1");
+
+        assertThat(body(resumed))
+            .doesNotContain("\"BUDGETS\"")
+            .contains("id:" + epoch + ":2\nevent:update\n")
+            .contains("\"CATEGORIES\"");
+    }
+
+    @Test
+    void reconnectBehindReplayBufferOrFromOtherEpoch_getsResync() throws Exception {
+        String epoch = connectedId(open(null)).split(":")[0];
+        for (int i = 0; i < 4; i++) {
+            broker.publish(1L, refreshOf(UpdateScope.BUDGETS));
+        }
+
+        // Buffer holds only events 3 and 4, so resuming after 1 would silently lose event 2.
+        assertThat(body(open(epoch + ":1"))).contains("\"RESYNC\"");
+        assertThat(body(open(epoch + ":2"))).doesNotContain("\"RESYNC\"").contains("id:" + epoch + ":4");
+        assertThat(body(open("previous-run:3"))).contains("\"RESYNC\"");
+    }
+
+    @Test
+    void heartbeat_writesCommentToOpenStreams() throws Exception {
+        MvcResult stream = open(null);
+
+        broker.heartbeat();
+
+        assertThat(body(stream)).contains(":heartbeat");
+    }
+
+    @Test
+    void publish_forUserWithoutSubscription_isDropped() {
+        broker.publish(99L, refreshOf(UpdateScope.BUDGETS));
+
+        assertThat(broker.connectionCount()).isZero();
+    }
+
+    @Test
+    void publish_queuesWithoutWritingAndClosesConsumerThatFallsBehind() throws Exception {
+        List<Runnable> drains = new ArrayList<>();
+        useBroker(new UpdateStreamBroker(60_000L, 16, 0L, 3000L, 2, drains::add));
+        MvcResult stream = open(null);
+
+        broker.publish(1L, refreshOf(UpdateScope.BUDGETS));
+        assertThat(body(stream)).doesNotContain(":connected").doesNotContain("BUDGETS");
+        assertThat(broker.connectionCount()).isEqualTo(1);
+
+        // The resume point and one update fill the queue of two; the next update overflows it.
+        broker.publish(1L, refreshOf(UpdateScope.CATEGORIES));
+        assertThat(broker.connectionCount()).isZero();
+
+        drains.forEach(Runnable::run);
+        assertThat(body(stream)).doesNotContain("CATEGORIES");
+        // Completed by the drain, so the async request has a result instead of waiting for one.
+        stream.getAsyncResult(1000);
+    }
+}
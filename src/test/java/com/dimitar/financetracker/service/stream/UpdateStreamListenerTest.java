@@ -0,0 +1,137 @@
+package com.dimitar.financetracker.service.stream;
+
+import com.dimitar.financetracker.dto.response.stream.CategoryAmountDeltaResponse;
+import com.dimitar.financetracker.dto.response.stream.UpdateDeltaResponse;
+import com.dimitar.financetracker.event.BudgetsChangedEvent;
+import com.dimitar.financetracker.event.CategoriesChangedEvent;
+import com.dimitar.financetracker.event.TransactionSnapshot;
+import com.dimitar.financetracker.event.TransactionsChangedEvent;
+import com.dimitar.financetracker.model.CategoryType;
+import com.dimitar.financetracker.model.UpdateScope;
+import com.dimitar.financetracker.service.currency.ExchangeRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateStreamListenerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 11, 18);
+
+    @Mock
+    private UpdateStreamBroker updateStreamBroker;
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private UpdateStreamListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new UpdateStreamListener(updateStreamBroker, exchangeRateService);
+        lenient().when(exchangeRateService.baseCurrencyOf(any())).thenReturn("EUR");
+    }
+
+    private UpdateDeltaResponse published(Long userId) {
+        ArgumentCaptor<UpdateDeltaResponse> captor = ArgumentCaptor.forClass(UpdateDeltaResponse.class);
+        verify(updateStreamBroker).publish(eq(userId), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void createdExpense_pushesExactDelta() {
+        TransactionSnapshot coffee = new TransactionSnapshot(100L, 5L, CategoryType.EXPENSE, new BigDecimal("42.50"), DAY, "EUR");
+
+        listener.onTransactionsChanged(TransactionsChangedEvent.created(1L, coffee));
+
+        UpdateDeltaResponse delta = published(1L);
+        assertThat(delta.getScope()).isEqualTo(UpdateScope.TRANSACTIONS);
+        assertThat(delta.isRefresh()).isFalse();
+        assertThat(delta.getTransactionId()).isEqualTo(100L);
+        assertThat(delta.getTransactionCountDelta()).isEqualTo(1);
+        assertThat(delta.getIncomeDelta()).isEqualByComparingTo("0");
+        assertThat(delta.getExpenseDelta()).isEqualByComparingTo("42.50");
+        assertThat(delta.getBalanceDelta()).isEqualByComparingTo("-42.50");
+        assertThat(delta.getCategoryDeltas()).singleElement().satisfies(category -> {
+            assertThat(category.getCategoryId()).isEqualTo(5L);
+            assertThat(category.getTransactionDate()).isEqualTo(DAY);
+            assertThat(category.getAmountDelta()).isEqualByComparingTo("42.50");
+        });
+    }
+
+    @Test
+    void updateMovingIncomeToExpenseCategory_reversesOldAndAppliesNew() {
+        TransactionSnapshot before = new TransactionSnapshot(100L, 3L, CategoryType.INCOME, new BigDecimal("10.00"), DAY, "EUR");
+        TransactionSnapshot after = new TransactionSnapshot(100L, 5L, CategoryType.EXPENSE, new BigDecimal("12.00"), DAY.plusDays(1), "EUR");
+
+        listener.onTransactionsChanged(TransactionsChangedEvent.updated(1L, before, after));
+
+        UpdateDeltaResponse delta = published(1L);
+        assertThat(delta.getTransactionCountDelta()).isZero();
+        assertThat(delta.getIncomeDelta()).isEqualByComparingTo("-10.00");
+        assertThat(delta.getExpenseDelta()).isEqualByComparingTo("12.00");
+        assertThat(delta.getBalanceDelta()).isEqualByComparingTo("-22.00");
+        assertThat(delta.getCategoryDeltas())
+            .extracting(CategoryAmountDeltaResponse::getCategoryId, category -> category.getAmountDelta().toPlainString())
+            .containsExactly(
+                tuple(3L, "-10.00"),
+                tuple(5L, "12.00"));
+    }
+
+    @Test
+    void deletedIncome_pushesNegativeDelta() {
+        TransactionSnapshot salary = new TransactionSnapshot(7L, 3L, CategoryType.INCOME, new BigDecimal("2500.00"), DAY, "EUR");
+
+        listener.onTransactionsChanged(TransactionsChangedEvent.deleted(1L, salary));
+
+        UpdateDeltaResponse delta = published(1L);
+        assertThat(delta.getTransactionId()).isEqualTo(7L);
+        assertThat(delta.getTransactionCountDelta()).isEqualTo(-1);
+        assertThat(delta.getBalanceDelta()).isEqualByComparingTo("-2500.00");
+    }
+
+    @Test
+    void writeOutsideBaseCurrency_asksForRefresh() {
+        TransactionSnapshot trip = new TransactionSnapshot(8L, 5L, CategoryType.EXPENSE, new BigDecimal("30.00"), DAY, "USD");
+
+        listener.onTransactionsChanged(TransactionsChangedEvent.created(1L, trip));
+
+        UpdateDeltaResponse delta = published(1L);
+        assertThat(delta.getScope()).isEqualTo(UpdateScope.TRANSACTIONS);
+        assertThat(delta.isRefresh()).isTrue();
+    }
+
+    @Test
+    void bulkAndBudgetAndCategoryChanges_askForRefresh() {
+        listener.onTransactionsChanged(new TransactionsChangedEvent(1L));
+        UpdateDeltaResponse bulk = published(1L);
+        assertThat(bulk.getScope()).isEqualTo(UpdateScope.TRANSACTIONS);
+        assertThat(bulk.isRefresh()).isTrue();
+
+        listener.onBudgetsChanged(new BudgetsChangedEvent(2L));
+        assertThat(published(2L).getScope()).isEqualTo(UpdateScope.BUDGETS);
+
+        listener.onCategoriesChanged(new CategoriesChangedEvent(3L));
+        assertThat(published(3L).getScope()).isEqualTo(UpdateScope.CATEGORIES);
+    }
+
+    @Test
+    void eventWithoutUser_isIgnored() {
+        listener.onTransactionsChanged(new TransactionsChangedEvent(null));
+
+        verify(updateStreamBroker, never()).publish(any(), any());
+    }
+}